@@ -101,6 +101,11 @@ public class GameDelegateBridge implements IDelegateBridge {
     return m_bridge.getSoundChannelBroadcaster();
   }
 
+  @Override
+  public boolean hasObservers() {
+    return m_bridge.hasObservers();
+  }
+
   @Override
   public Properties getStepProperties() {
     return m_bridge.getStepProperties();
@@ -12,7 +12,7 @@ public class BombingUnitDamageChange extends Change {
   private final IntegerMap<Unit> m_hits;
   private final IntegerMap<Unit> m_undoHits;
 
-  private BombingUnitDamageChange(final IntegerMap<Unit> hits, final IntegerMap<Unit> undoHits) {
+  BombingUnitDamageChange(final IntegerMap<Unit> hits, final IntegerMap<Unit> undoHits) {
     m_hits = hits;
     m_undoHits = undoHits;
   }
@@ -21,6 +21,14 @@ public class BombingUnitDamageChange extends Change {
     return m_hits.keySet();
   }
 
+  IntegerMap<Unit> getHits() {
+    return m_hits;
+  }
+
+  IntegerMap<Unit> getUndoHits() {
+    return m_undoHits;
+  }
+
   BombingUnitDamageChange(final IntegerMap<Unit> hits) {
     for (final Unit u : hits.keySet()) {
       if (!(u instanceof TripleAUnit)) {
@@ -68,6 +68,9 @@ public class ChangeAttachmentChange extends Change {
   public void perform(final GameData data) {
     final IAttachment attachment = m_attachedTo.getAttachment(m_attachmentName);
     PropertyUtil.set(m_property, m_newValue, attachment, m_clearFirst);
+    if (m_attachedTo instanceof UnitType) {
+      ((UnitType) m_attachedTo).clearCapabilities();
+    }
   }
 
   @Override
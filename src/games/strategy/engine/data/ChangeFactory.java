@@ -194,7 +194,24 @@ public class ChangeFactory {
     return new GenericTechChange(attachment, value, property);
   }
 
+  /**
+   * The most frequently changed unit properties (movement, combat and transport state) get a compact change that
+   * stores primitives and sets the field directly. Every other property goes through the reflection based
+   * ObjectPropertyChange.
+   */
   public static Change unitPropertyChange(final Unit unit, final Object newValue, final String propertyName) {
+    final int intProperty = UnitIntPropertyChange.getPropertyIndex(unit, propertyName);
+    if (intProperty >= 0 && newValue instanceof Integer) {
+      return new UnitIntPropertyChange(unit, intProperty, ((Integer) newValue).intValue());
+    }
+    final int booleanProperty = UnitBooleanPropertyChange.getPropertyIndex(unit, propertyName);
+    if (booleanProperty >= 0 && newValue instanceof Boolean) {
+      return new UnitBooleanPropertyChange((TripleAUnit) unit, booleanProperty, ((Boolean) newValue).booleanValue());
+    }
+    if (TripleAUnit.TRANSPORTED_BY.equals(propertyName) && unit instanceof TripleAUnit
+        && (newValue == null || newValue instanceof TripleAUnit)) {
+      return new UnitTransportedByChange((TripleAUnit) unit, (TripleAUnit) newValue);
+    }
     return new ObjectPropertyChange(unit, propertyName, newValue);
   }
 
@@ -282,6 +299,9 @@ class AttachmentPropertyReset extends Change {
   public void perform(final GameData data) {
     final IAttachment attachment = m_attachedTo.getAttachment(m_attachmentName);
     PropertyUtil.reset(m_property, attachment);
+    if (m_attachedTo instanceof UnitType) {
+      ((UnitType) m_attachedTo).clearCapabilities();
+    }
   }
 
   @Override
@@ -324,6 +344,9 @@ class AttachmentPropertyResetUndo extends Change {
   public void perform(final GameData data) {
     final IAttachment attachment = m_attachedTo.getAttachment(m_attachmentName);
     PropertyUtil.set(m_property, m_newValue, attachment, false);
+    if (m_attachedTo instanceof UnitType) {
+      ((UnitType) m_attachedTo).clearCapabilities();
+    }
   }
 
   @Override
@@ -425,6 +448,18 @@ class AddUnits extends Change {
     holder.getUnits().addAllUnits(m_units);
   }
 
+  String getHolderName() {
+    return m_name;
+  }
+
+  String getHolderType() {
+    return m_type;
+  }
+
+  Collection<Unit> getUnits() {
+    return m_units;
+  }
+
   @Override
   public String toString() {
     return "Add unit change.  Add to:" + m_name + " units:" + m_units;
@@ -463,6 +498,18 @@ class RemoveUnits extends Change {
     holder.getUnits().removeAllUnits(m_units);
   }
 
+  String getHolderName() {
+    return m_name;
+  }
+
+  String getHolderType() {
+    return m_type;
+  }
+
+  Collection<Unit> getUnits() {
+    return m_units;
+  }
+
   @Override
   public String toString() {
     return "Remove unit change. Remove from:" + m_name + " units:" + m_units;
@@ -491,7 +538,7 @@ class OwnerChange extends Change {
     m_old = getName(territory.getOwner());
   }
 
-  private OwnerChange(final String name, final String newOwner, final String oldOwner) {
+  OwnerChange(final String name, final String newOwner, final String oldOwner) {
     m_territory = name;
     m_new = newOwner;
     m_old = oldOwner;
@@ -522,6 +569,18 @@ class OwnerChange extends Change {
     data.getMap().getTerritory(m_territory).setOwner(getPlayerID(m_new, data));
   }
 
+  String getTerritoryName() {
+    return m_territory;
+  }
+
+  String getNewOwnerName() {
+    return m_new;
+  }
+
+  String getOldOwnerName() {
+    return m_old;
+  }
+
   @Override
   public String toString() {
     return m_new + " takes " + m_territory + " from " + m_old;
@@ -576,6 +635,22 @@ class PlayerOwnerChange extends Change {
     data.getMap().getTerritory(m_location).notifyChanged();
   }
 
+  Collection<GUID> getUnitIds() {
+    return m_new.keySet();
+  }
+
+  Map<GUID, String> getNewOwnerNames() {
+    return m_new;
+  }
+
+  Map<GUID, String> getOldOwnerNames() {
+    return m_old;
+  }
+
+  String getLocationName() {
+    return m_location;
+  }
+
   @Override
   public String toString() {
     return "Some units change owners in territory " + m_location;
@@ -597,7 +672,7 @@ class ChangeResourceChange extends Change {
     m_quantity = quantity;
   }
 
-  private ChangeResourceChange(final String player, final String resource, final int quantity) {
+  ChangeResourceChange(final String player, final String resource, final int quantity) {
     m_player = player;
     m_resource = resource;
     m_quantity = quantity;
@@ -619,6 +694,18 @@ class ChangeResourceChange extends Change {
     }
   }
 
+  String getPlayerName() {
+    return m_player;
+  }
+
+  String getResourceName() {
+    return m_resource;
+  }
+
+  int getQuantity() {
+    return m_quantity;
+  }
+
   @Override
   public String toString() {
     return "Change resource.  Resource:" + m_resource + " quantity:" + m_quantity + " Player:" + m_player;
@@ -1071,6 +1158,22 @@ class ObjectPropertyChange extends Change {
     PropertyUtil.set(m_property, m_newValue, m_object);
   }
 
+  Object getObject() {
+    return m_object;
+  }
+
+  String getProperty() {
+    return m_property;
+  }
+
+  Object getNewValue() {
+    return m_newValue;
+  }
+
+  Object getOldValue() {
+    return m_oldValue;
+  }
+
   @Override
   public String toString() {
     return "Property change, unit:" + m_object + " property:" + m_property + " newValue:" + m_newValue + " oldValue:"
@@ -1079,6 +1182,300 @@ class ObjectPropertyChange extends Change {
 }
 
 
+/**
+ * Sets one of the hot integer unit properties without reflection or boxing.
+ * Old saves still contain ObjectPropertyChange, which is left untouched so they keep loading.
+ */
+class UnitIntPropertyChange extends Change {
+  private static final long serialVersionUID = -3460468347426418474L;
+  static final int HITS = 0;
+  static final int ALREADY_MOVED = 1;
+  static final int BONUS_MOVEMENT = 2;
+  static final int LAUNCHED = 3;
+  private static final String[] PROPERTY_NAMES =
+      {"hits", TripleAUnit.ALREADY_MOVED, TripleAUnit.BONUS_MOVEMENT, TripleAUnit.LAUNCHED};
+  private final Unit m_unit;
+  private final int m_property;
+  private final int m_newValue;
+  private final int m_oldValue;
+
+  UnitIntPropertyChange(final Unit unit, final int property, final int newValue) {
+    this(unit, property, newValue, getValue(unit, property));
+  }
+
+  UnitIntPropertyChange(final Unit unit, final int property, final int newValue, final int oldValue) {
+    m_unit = unit;
+    m_property = property;
+    m_newValue = newValue;
+    m_oldValue = oldValue;
+  }
+
+  /**
+   * Returns -1 if the property is not handled by this change.
+   */
+  static int getPropertyIndex(final Unit unit, final String property) {
+    if ("hits".equals(property)) {
+      return HITS;
+    }
+    if (!(unit instanceof TripleAUnit)) {
+      return -1;
+    }
+    switch (property) {
+      case TripleAUnit.ALREADY_MOVED:
+        return ALREADY_MOVED;
+      case TripleAUnit.BONUS_MOVEMENT:
+        return BONUS_MOVEMENT;
+      case TripleAUnit.LAUNCHED:
+        return LAUNCHED;
+      default:
+        return -1;
+    }
+  }
+
+  private static int getValue(final Unit unit, final int property) {
+    switch (property) {
+      case HITS:
+        return unit.getHits();
+      case ALREADY_MOVED:
+        return ((TripleAUnit) unit).getAlreadyMoved();
+      case BONUS_MOVEMENT:
+        return ((TripleAUnit) unit).getBonusMovement();
+      case LAUNCHED:
+        return ((TripleAUnit) unit).getLaunched();
+      default:
+        throw new IllegalStateException("Unknown unit property: " + property);
+    }
+  }
+
+  @Override
+  protected void perform(final GameData data) {
+    switch (m_property) {
+      case HITS:
+        m_unit.setHits(m_newValue);
+        break;
+      case ALREADY_MOVED:
+        ((TripleAUnit) m_unit).setAlreadyMoved(m_newValue);
+        break;
+      case BONUS_MOVEMENT:
+        ((TripleAUnit) m_unit).setBonusMovement(m_newValue);
+        break;
+      case LAUNCHED:
+        ((TripleAUnit) m_unit).setLaunched(m_newValue);
+        break;
+      default:
+        throw new IllegalStateException("Unknown unit property: " + m_property);
+    }
+  }
+
+  @Override
+  public Change invert() {
+    return new UnitIntPropertyChange(m_unit, m_property, m_oldValue, m_newValue);
+  }
+
+  Unit getUnit() {
+    return m_unit;
+  }
+
+  int getProperty() {
+    return m_property;
+  }
+
+  int getNewValue() {
+    return m_newValue;
+  }
+
+  int getOldValue() {
+    return m_oldValue;
+  }
+
+  @Override
+  public String toString() {
+    return "Property change, unit:" + m_unit + " property:" + PROPERTY_NAMES[m_property] + " newValue:" + m_newValue
+        + " oldValue:" + m_oldValue;
+  }
+}
+
+
+/**
+ * Sets one of the hot boolean unit properties without reflection or boxing.
+ */
+class UnitBooleanPropertyChange extends Change {
+  private static final long serialVersionUID = 6417529262530437829L;
+  static final int SUBMERGED = 0;
+  static final int WAS_IN_COMBAT = 1;
+  static final int AIRBORNE = 2;
+  static final int LOADED_THIS_TURN = 3;
+  static final int UNLOADED_IN_COMBAT_PHASE = 4;
+  static final int UNLOADED_AMPHIBIOUS = 5;
+  private static final String[] PROPERTY_NAMES = {TripleAUnit.SUBMERGED, TripleAUnit.WAS_IN_COMBAT,
+      TripleAUnit.AIRBORNE, TripleAUnit.LOADED_THIS_TURN, TripleAUnit.UNLOADED_IN_COMBAT_PHASE,
+      TripleAUnit.UNLOADED_AMPHIBIOUS};
+  private final TripleAUnit m_unit;
+  private final int m_property;
+  private final boolean m_newValue;
+  private final boolean m_oldValue;
+
+  UnitBooleanPropertyChange(final TripleAUnit unit, final int property, final boolean newValue) {
+    this(unit, property, newValue, getValue(unit, property));
+  }
+
+  UnitBooleanPropertyChange(final TripleAUnit unit, final int property, final boolean newValue,
+      final boolean oldValue) {
+    m_unit = unit;
+    m_property = property;
+    m_newValue = newValue;
+    m_oldValue = oldValue;
+  }
+
+  /**
+   * Returns -1 if the property is not handled by this change.
+   */
+  static int getPropertyIndex(final Unit unit, final String property) {
+    if (!(unit instanceof TripleAUnit)) {
+      return -1;
+    }
+    switch (property) {
+      case TripleAUnit.SUBMERGED:
+        return SUBMERGED;
+      case TripleAUnit.WAS_IN_COMBAT:
+        return WAS_IN_COMBAT;
+      case TripleAUnit.AIRBORNE:
+        return AIRBORNE;
+      case TripleAUnit.LOADED_THIS_TURN:
+        return LOADED_THIS_TURN;
+      case TripleAUnit.UNLOADED_IN_COMBAT_PHASE:
+        return UNLOADED_IN_COMBAT_PHASE;
+      case TripleAUnit.UNLOADED_AMPHIBIOUS:
+        return UNLOADED_AMPHIBIOUS;
+      default:
+        return -1;
+    }
+  }
+
+  private static boolean getValue(final TripleAUnit unit, final int property) {
+    switch (property) {
+      case SUBMERGED:
+        return unit.getSubmerged();
+      case WAS_IN_COMBAT:
+        return unit.getWasInCombat();
+      case AIRBORNE:
+        return unit.getAirborne();
+      case LOADED_THIS_TURN:
+        return unit.getWasLoadedThisTurn();
+      case UNLOADED_IN_COMBAT_PHASE:
+        return unit.getWasUnloadedInCombatPhase();
+      case UNLOADED_AMPHIBIOUS:
+        return unit.getWasAmphibious();
+      default:
+        throw new IllegalStateException("Unknown unit property: " + property);
+    }
+  }
+
+  @Override
+  protected void perform(final GameData data) {
+    final Boolean value = Boolean.valueOf(m_newValue);
+    switch (m_property) {
+      case SUBMERGED:
+        m_unit.setSubmerged(m_newValue);
+        break;
+      case WAS_IN_COMBAT:
+        m_unit.setWasInCombat(value);
+        break;
+      case AIRBORNE:
+        m_unit.setAirborne(value);
+        break;
+      case LOADED_THIS_TURN:
+        m_unit.setWasLoadedThisTurn(value);
+        break;
+      case UNLOADED_IN_COMBAT_PHASE:
+        m_unit.setWasUnloadedInCombatPhase(value);
+        break;
+      case UNLOADED_AMPHIBIOUS:
+        m_unit.setWasAmphibious(value);
+        break;
+      default:
+        throw new IllegalStateException("Unknown unit property: " + m_property);
+    }
+  }
+
+  @Override
+  public Change invert() {
+    return new UnitBooleanPropertyChange(m_unit, m_property, m_oldValue, m_newValue);
+  }
+
+  TripleAUnit getUnit() {
+    return m_unit;
+  }
+
+  int getProperty() {
+    return m_property;
+  }
+
+  boolean getNewValue() {
+    return m_newValue;
+  }
+
+  boolean getOldValue() {
+    return m_oldValue;
+  }
+
+  @Override
+  public String toString() {
+    return "Property change, unit:" + m_unit + " property:" + PROPERTY_NAMES[m_property] + " newValue:" + m_newValue
+        + " oldValue:" + m_oldValue;
+  }
+}
+
+
+/**
+ * Sets the transport that is carrying a unit (or null when unloaded) without reflection.
+ */
+class UnitTransportedByChange extends Change {
+  private static final long serialVersionUID = 3958206131806208338L;
+  private final TripleAUnit m_unit;
+  private final TripleAUnit m_newTransport;
+  private final TripleAUnit m_oldTransport;
+
+  UnitTransportedByChange(final TripleAUnit unit, final TripleAUnit newTransport) {
+    this(unit, newTransport, (TripleAUnit) unit.getTransportedBy());
+  }
+
+  UnitTransportedByChange(final TripleAUnit unit, final TripleAUnit newTransport,
+      final TripleAUnit oldTransport) {
+    m_unit = unit;
+    m_newTransport = newTransport;
+    m_oldTransport = oldTransport;
+  }
+
+  @Override
+  protected void perform(final GameData data) {
+    m_unit.setTransportedBy(m_newTransport);
+  }
+
+  @Override
+  public Change invert() {
+    return new UnitTransportedByChange(m_unit, m_oldTransport, m_newTransport);
+  }
+
+  TripleAUnit getUnit() {
+    return m_unit;
+  }
+
+  TripleAUnit getNewTransport() {
+    return m_newTransport;
+  }
+
+  TripleAUnit getOldTransport() {
+    return m_oldTransport;
+  }
+
+  @Override
+  public String toString() {
+    return "Property change, unit:" + m_unit + " property:" + TripleAUnit.TRANSPORTED_BY + " newValue:"
+        + m_newTransport + " oldValue:" + m_oldTransport;
+  }
+}
+
 class GenericTechChange extends Change {
   private static final long serialVersionUID = -2439447526511535571L;
   private final Attachable m_attachedTo;
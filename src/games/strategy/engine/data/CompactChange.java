@@ -0,0 +1,408 @@
+package games.strategy.engine.data;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import games.strategy.net.GUID;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.util.IntegerMap;
+
+/**
+ * Writes the common changes in a compact binary form, instead of the default serialized form with a class
+ * description for each change class and each of its fields.
+ * GameObjectOutputStream replaces the changes it can write with an instance of this class, and the instance is replaced
+ * by the change again when it is read by a GameObjectInputStream.
+ * Names are written as strings, which the object stream only writes once, later uses are references to the first.
+ * Units that the change adds are written in full, all other units are written as their id and looked up in the game
+ * data of the GameObjectInputStream, as the reader must already have them.
+ * Changes of other types, including those inside a composite change, are written as before.
+ * Saved games do not use a GameObjectOutputStream, so this does not change the save game format.
+ */
+// the change classes it writes are declared in ChangeFactory.java
+@SuppressWarnings("auxiliaryclass")
+public class CompactChange implements Externalizable {
+  private static final long serialVersionUID = -2419003475493417829L;
+  // increase when the format changes
+  private static final byte VERSION = 1;
+  private static final byte OTHER = -1;
+  private static final byte COMPOSITE = 0;
+  private static final byte ADD_UNITS = 1;
+  private static final byte REMOVE_UNITS = 2;
+  private static final byte TERRITORY_OWNER = 3;
+  private static final byte UNIT_OWNER = 4;
+  private static final byte RESOURCE = 5;
+  private static final byte UNIT_HITS = 6;
+  private static final byte BOMBING_UNIT_DAMAGE = 7;
+  private static final byte UNIT_INT_PROPERTY = 8;
+  private static final byte UNIT_BOOLEAN_PROPERTY = 9;
+  private static final byte UNIT_TRANSPORTED_BY = 10;
+  private static final byte OBJECT_PROPERTY = 11;
+  // how the values of an object property change are written
+  private static final byte VALUE_NULL = 0;
+  private static final byte VALUE_FALSE = 1;
+  private static final byte VALUE_TRUE = 2;
+  private static final byte VALUE_INT = 3;
+  private static final byte VALUE_STRING = 4;
+  private static final byte VALUE_UNIT = 5;
+  private static final byte VALUE_OBJECT = 6;
+  // how units are written
+  private static final byte UNIT_NULL = 0;
+  private static final byte UNIT_ID = 1;
+  private static final byte UNIT_FULL = 2;
+  private static final Set<Class<?>> WRITABLE = new HashSet<Class<?>>(Arrays.<Class<?>>asList(CompositeChange.class,
+      AddUnits.class, RemoveUnits.class, OwnerChange.class, PlayerOwnerChange.class, ChangeResourceChange.class,
+      UnitHitsChange.class, BombingUnitDamageChange.class, UnitIntPropertyChange.class, UnitBooleanPropertyChange.class,
+      UnitTransportedByChange.class, ObjectPropertyChange.class));
+  private Change m_change;
+
+  public CompactChange() {}
+
+  CompactChange(final Change change) {
+    if (!canWrite(change)) {
+      throw new IllegalArgumentException("Can not write: " + change);
+    }
+    m_change = change;
+  }
+
+  static boolean canWrite(final Object change) {
+    return change != null && WRITABLE.contains(change.getClass());
+  }
+
+  Change getChange() {
+    return m_change;
+  }
+
+  private Object readResolve() throws ObjectStreamException {
+    return m_change;
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    out.writeByte(VERSION);
+    final Set<Unit> added = new HashSet<Unit>();
+    collectAddedUnits(m_change, added);
+    writeChange(m_change, added, out);
+  }
+
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte version = in.readByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported change format version: " + version);
+    }
+    m_change = readChange(in);
+  }
+
+  /**
+   * The units added by the change may be referenced by it before they are added, and must be written in full.
+   */
+  private static void collectAddedUnits(final Change change, final Set<Unit> added) {
+    if (change instanceof CompositeChange) {
+      for (final Change child : ((CompositeChange) change).getChanges()) {
+        collectAddedUnits(child, added);
+      }
+    } else if (change instanceof AddUnits) {
+      added.addAll(((AddUnits) change).getUnits());
+    }
+  }
+
+  private static void writeChange(final Change change, final Set<Unit> added, final ObjectOutput out)
+      throws IOException {
+    if (!canWrite(change)) {
+      out.writeByte(OTHER);
+      out.writeObject(change);
+    } else if (change instanceof CompositeChange) {
+      out.writeByte(COMPOSITE);
+      final List<Change> changes = ((CompositeChange) change).getChanges();
+      out.writeInt(changes.size());
+      for (final Change child : changes) {
+        writeChange(child, added, out);
+      }
+    } else if (change instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) change;
+      out.writeByte(ADD_UNITS);
+      out.writeObject(addUnits.getHolderName());
+      out.writeObject(addUnits.getHolderType());
+      out.writeInt(addUnits.getUnits().size());
+      for (final Unit unit : addUnits.getUnits()) {
+        out.writeObject(unit);
+      }
+    } else if (change instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) change;
+      out.writeByte(REMOVE_UNITS);
+      out.writeObject(removeUnits.getHolderName());
+      out.writeObject(removeUnits.getHolderType());
+      out.writeInt(removeUnits.getUnits().size());
+      for (final Unit unit : removeUnits.getUnits()) {
+        writeUnit(unit, added, out);
+      }
+    } else if (change instanceof OwnerChange) {
+      final OwnerChange ownerChange = (OwnerChange) change;
+      out.writeByte(TERRITORY_OWNER);
+      out.writeObject(ownerChange.getTerritoryName());
+      out.writeObject(ownerChange.getNewOwnerName());
+      out.writeObject(ownerChange.getOldOwnerName());
+    } else if (change instanceof PlayerOwnerChange) {
+      final PlayerOwnerChange ownerChange = (PlayerOwnerChange) change;
+      out.writeByte(UNIT_OWNER);
+      out.writeObject(ownerChange.getLocationName());
+      out.writeInt(ownerChange.getNewOwnerNames().size());
+      for (final Entry<GUID, String> entry : ownerChange.getNewOwnerNames().entrySet()) {
+        out.writeObject(entry.getKey());
+        out.writeObject(entry.getValue());
+        out.writeObject(ownerChange.getOldOwnerNames().get(entry.getKey()));
+      }
+    } else if (change instanceof ChangeResourceChange) {
+      final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+      out.writeByte(RESOURCE);
+      out.writeObject(resourceChange.getPlayerName());
+      out.writeObject(resourceChange.getResourceName());
+      out.writeInt(resourceChange.getQuantity());
+    } else if (change instanceof UnitHitsChange) {
+      final UnitHitsChange hitsChange = (UnitHitsChange) change;
+      out.writeByte(UNIT_HITS);
+      writeHits(hitsChange.getHits(), hitsChange.getUndoHits(), added, out);
+    } else if (change instanceof BombingUnitDamageChange) {
+      final BombingUnitDamageChange damageChange = (BombingUnitDamageChange) change;
+      out.writeByte(BOMBING_UNIT_DAMAGE);
+      writeHits(damageChange.getHits(), damageChange.getUndoHits(), added, out);
+    } else if (change instanceof UnitIntPropertyChange) {
+      final UnitIntPropertyChange propertyChange = (UnitIntPropertyChange) change;
+      out.writeByte(UNIT_INT_PROPERTY);
+      writeUnit(propertyChange.getUnit(), added, out);
+      out.writeByte(propertyChange.getProperty());
+      out.writeInt(propertyChange.getNewValue());
+      out.writeInt(propertyChange.getOldValue());
+    } else if (change instanceof UnitBooleanPropertyChange) {
+      final UnitBooleanPropertyChange propertyChange = (UnitBooleanPropertyChange) change;
+      out.writeByte(UNIT_BOOLEAN_PROPERTY);
+      writeUnit(propertyChange.getUnit(), added, out);
+      out.writeByte(propertyChange.getProperty());
+      out.writeBoolean(propertyChange.getNewValue());
+      out.writeBoolean(propertyChange.getOldValue());
+    } else if (change instanceof UnitTransportedByChange) {
+      final UnitTransportedByChange transportChange = (UnitTransportedByChange) change;
+      out.writeByte(UNIT_TRANSPORTED_BY);
+      writeUnit(transportChange.getUnit(), added, out);
+      writeUnit(transportChange.getNewTransport(), added, out);
+      writeUnit(transportChange.getOldTransport(), added, out);
+    } else if (change instanceof ObjectPropertyChange) {
+      final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+      out.writeByte(OBJECT_PROPERTY);
+      writeValue(propertyChange.getObject(), added, out);
+      out.writeObject(propertyChange.getProperty());
+      writeValue(propertyChange.getNewValue(), added, out);
+      writeValue(propertyChange.getOldValue(), added, out);
+    }
+  }
+
+  private static Change readChange(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte type = in.readByte();
+    switch (type) {
+      case OTHER:
+        return (Change) in.readObject();
+      case COMPOSITE: {
+        final int size = in.readInt();
+        final List<Change> changes = new ArrayList<Change>(size);
+        for (int i = 0; i < size; i++) {
+          changes.add(readChange(in));
+        }
+        return new CompositeChange(changes);
+      }
+      case ADD_UNITS: {
+        final String name = (String) in.readObject();
+        final String holderType = (String) in.readObject();
+        final int size = in.readInt();
+        final List<Unit> units = new ArrayList<Unit>(size);
+        for (int i = 0; i < size; i++) {
+          units.add((Unit) in.readObject());
+        }
+        return new AddUnits(name, holderType, units);
+      }
+      case REMOVE_UNITS: {
+        final String name = (String) in.readObject();
+        final String holderType = (String) in.readObject();
+        final int size = in.readInt();
+        final List<Unit> units = new ArrayList<Unit>(size);
+        for (int i = 0; i < size; i++) {
+          units.add(readUnit(in));
+        }
+        return new RemoveUnits(name, holderType, units);
+      }
+      case TERRITORY_OWNER: {
+        final String territory = (String) in.readObject();
+        final String newOwner = (String) in.readObject();
+        return new OwnerChange(territory, newOwner, (String) in.readObject());
+      }
+      case UNIT_OWNER: {
+        final String location = (String) in.readObject();
+        final int size = in.readInt();
+        final Map<GUID, String> newOwners = new HashMap<GUID, String>();
+        final Map<GUID, String> oldOwners = new HashMap<GUID, String>();
+        for (int i = 0; i < size; i++) {
+          final GUID id = (GUID) in.readObject();
+          newOwners.put(id, (String) in.readObject());
+          oldOwners.put(id, (String) in.readObject());
+        }
+        return new PlayerOwnerChange(newOwners, oldOwners, location);
+      }
+      case RESOURCE: {
+        final String player = (String) in.readObject();
+        final String resource = (String) in.readObject();
+        return new ChangeResourceChange(player, resource, in.readInt());
+      }
+      case UNIT_HITS: {
+        final IntegerMap<Unit> hits = new IntegerMap<Unit>();
+        final IntegerMap<Unit> undoHits = new IntegerMap<Unit>();
+        readHits(hits, undoHits, in);
+        return new UnitHitsChange(hits, undoHits);
+      }
+      case BOMBING_UNIT_DAMAGE: {
+        final IntegerMap<Unit> hits = new IntegerMap<Unit>();
+        final IntegerMap<Unit> undoHits = new IntegerMap<Unit>();
+        readHits(hits, undoHits, in);
+        return new BombingUnitDamageChange(hits, undoHits);
+      }
+      case UNIT_INT_PROPERTY: {
+        final Unit unit = readUnit(in);
+        final int property = in.readByte();
+        final int newValue = in.readInt();
+        return new UnitIntPropertyChange(unit, property, newValue, in.readInt());
+      }
+      case UNIT_BOOLEAN_PROPERTY: {
+        final TripleAUnit unit = (TripleAUnit) readUnit(in);
+        final int property = in.readByte();
+        final boolean newValue = in.readBoolean();
+        return new UnitBooleanPropertyChange(unit, property, newValue, in.readBoolean());
+      }
+      case UNIT_TRANSPORTED_BY: {
+        final TripleAUnit unit = (TripleAUnit) readUnit(in);
+        final TripleAUnit newTransport = (TripleAUnit) readUnit(in);
+        return new UnitTransportedByChange(unit, newTransport, (TripleAUnit) readUnit(in));
+      }
+      case OBJECT_PROPERTY: {
+        final Object object = readValue(in);
+        final String property = (String) in.readObject();
+        final Object newValue = readValue(in);
+        return new ObjectPropertyChange(object, property, newValue, readValue(in));
+      }
+      default:
+        throw new IOException("Unknown change type: " + type);
+    }
+  }
+
+  private static void writeHits(final IntegerMap<Unit> hits, final IntegerMap<Unit> undoHits, final Set<Unit> added,
+      final ObjectOutput out) throws IOException {
+    out.writeInt(hits.size());
+    for (final Unit unit : hits.keySet()) {
+      writeUnit(unit, added, out);
+      out.writeInt(hits.getInt(unit));
+      out.writeInt(undoHits.getInt(unit));
+    }
+  }
+
+  private static void readHits(final IntegerMap<Unit> hits, final IntegerMap<Unit> undoHits, final ObjectInput in)
+      throws IOException, ClassNotFoundException {
+    final int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      final Unit unit = readUnit(in);
+      hits.put(unit, in.readInt());
+      undoHits.put(unit, in.readInt());
+    }
+  }
+
+  private static void writeValue(final Object value, final Set<Unit> added, final ObjectOutput out)
+      throws IOException {
+    if (value == null) {
+      out.writeByte(VALUE_NULL);
+    } else if (value instanceof Boolean) {
+      out.writeByte(((Boolean) value).booleanValue() ? VALUE_TRUE : VALUE_FALSE);
+    } else if (value instanceof Integer) {
+      out.writeByte(VALUE_INT);
+      out.writeInt(((Integer) value).intValue());
+    } else if (value instanceof String) {
+      out.writeByte(VALUE_STRING);
+      out.writeObject(value);
+    } else if (value instanceof Unit) {
+      out.writeByte(VALUE_UNIT);
+      writeUnit((Unit) value, added, out);
+    } else {
+      out.writeByte(VALUE_OBJECT);
+      out.writeObject(value);
+    }
+  }
+
+  private static Object readValue(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte type = in.readByte();
+    switch (type) {
+      case VALUE_NULL:
+        return null;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_INT:
+        return Integer.valueOf(in.readInt());
+      case VALUE_STRING:
+        return in.readObject();
+      case VALUE_UNIT:
+        return readUnit(in);
+      case VALUE_OBJECT:
+        return in.readObject();
+      default:
+        throw new IOException("Unknown value type: " + type);
+    }
+  }
+
+  private static void writeUnit(final Unit unit, final Set<Unit> added, final ObjectOutput out) throws IOException {
+    if (unit == null) {
+      out.writeByte(UNIT_NULL);
+    } else if (added.contains(unit)) {
+      out.writeByte(UNIT_FULL);
+      out.writeObject(unit);
+    } else {
+      out.writeByte(UNIT_ID);
+      out.writeObject(unit.getID());
+    }
+  }
+
+  /**
+   * Units written by id are looked up in the game data being read into, which must already have them.
+   */
+  private static Unit readUnit(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final byte type = in.readByte();
+    if (type == UNIT_NULL) {
+      return null;
+    } else if (type == UNIT_FULL) {
+      return (Unit) in.readObject();
+    } else if (type != UNIT_ID) {
+      throw new IOException("Unknown unit type: " + type);
+    }
+    final GUID id = (GUID) in.readObject();
+    if (!(in instanceof GameObjectInputStream)) {
+      throw new IOException("Changes can only be read by a GameObjectInputStream");
+    }
+    final GameData data = ((GameObjectInputStream) in).getData();
+    data.acquireReadLock();
+    try {
+      final Unit unit = data.getUnits().get(id);
+      if (unit == null) {
+        throw new IOException("Unknown unit: " + id);
+      }
+      return unit;
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+}
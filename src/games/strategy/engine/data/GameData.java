@@ -60,6 +60,8 @@ public class GameData implements java.io.Serializable {
   public static final String GAME_UUID = "GAME_UUID";
   private final ReadWriteLock m_readWriteLock = new ReentrantReadWriteLock();
   private transient LockUtil m_lockUtil = new LockUtil();
+  private transient UnitLocationTracker m_unitLocationTracker = new UnitLocationTracker(this);
+  private transient PlayerStatsTracker m_playerStatsTracker = new PlayerStatsTracker(this);
   private volatile transient boolean m_forceInSwingEventThread = false;
   private String m_gameName;
   private Version m_gameVersion;
@@ -107,6 +109,8 @@ public class GameData implements java.io.Serializable {
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     m_lockUtil = new LockUtil();
+    m_unitLocationTracker = new UnitLocationTracker(this);
+    m_playerStatsTracker = new PlayerStatsTracker(this);
   }
 
   /**
@@ -143,6 +147,20 @@ public class GameData implements java.io.Serializable {
     return m_unitsList;
   }
 
+  /**
+   * @return a tracker which knows the territory of every unit on the map and what each transport is carrying.
+   */
+  public UnitLocationTracker getUnitLocationTracker() {
+    return m_unitLocationTracker;
+  }
+
+  /**
+   * @return a tracker which knows the units each player has on the map and the territories each player owns.
+   */
+  public PlayerStatsTracker getPlayerStatsTracker() {
+    return m_playerStatsTracker;
+  }
+
   /**
    * @return list of Players in the game
    */
@@ -366,6 +384,8 @@ public class GameData implements java.io.Serializable {
     m_territoryListeners = new ListenerList<TerritoryListener>();
     m_dataChangeListeners = new ListenerList<GameDataChangeListener>();
     m_gameMapListeners = new ListenerList<GameMapListener>();
+    // the tracker listens for changes
+    m_playerStatsTracker = new PlayerStatsTracker(this);
   }
 
   /**
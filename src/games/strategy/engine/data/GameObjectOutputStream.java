@@ -35,6 +35,8 @@ public class GameObjectOutputStream extends ObjectOutputStream {
       if (GameObjectStreamData.canSerialize(named)) {
         return new GameObjectStreamData(named);
       }
+    } else if (CompactChange.canWrite(obj)) {
+      return new CompactChange((Change) obj);
     }
     return obj;
   }
@@ -0,0 +1,187 @@
+package games.strategy.engine.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import games.strategy.engine.framework.GameObjectStreamFactory;
+
+/**
+ * Translates units, territories and other game data objects from one game data into another, the same way
+ * GameObjectOutputStream and GameObjectInputStream do, but without serializing them.
+ * Named game objects are looked up by name, and units by id, in the other game data. Lists, sets and maps of these
+ * are copied.
+ * Units that do not exist in the other game data are copied by serializing them (all together, so references between
+ * them are kept), and any object of another type is translated by serializing the whole object.
+ */
+public class GameObjectTranslator {
+  private final GameData m_data;
+  // units that are not in m_data -> their copy in m_data
+  private final Map<Unit, Unit> m_copies = new IdentityHashMap<Unit, Unit>();
+
+  private GameObjectTranslator(final GameData translateInto) {
+    m_data = translateInto;
+  }
+
+  public static Object translate(final Object object, final GameData translateInto) {
+    final GameObjectTranslator translator = new GameObjectTranslator(translateInto);
+    final List<Unit> missingUnits = new ArrayList<Unit>();
+    translateInto.acquireReadLock();
+    try {
+      if (!translator.canTranslate(object, missingUnits)) {
+        return translateBySerialization(object, translateInto);
+      }
+    } finally {
+      translateInto.releaseReadLock();
+    }
+    if (!missingUnits.isEmpty()) {
+      @SuppressWarnings("unchecked")
+      final List<Unit> copies = (List<Unit>) translateBySerialization(missingUnits, translateInto);
+      for (int i = 0; i < missingUnits.size(); i++) {
+        translator.m_copies.put(missingUnits.get(i), copies.get(i));
+      }
+    }
+    translateInto.acquireReadLock();
+    try {
+      return translator.translate(object);
+    } finally {
+      translateInto.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return false if the object (or something it contains) can not be translated without serializing it. Units that
+   *         are not in the game data are added to missingUnits.
+   */
+  private boolean canTranslate(final Object object, final List<Unit> missingUnits) {
+    if (object == null || isImmutable(object) || object instanceof GameData) {
+      return true;
+    } else if (object instanceof Unit) {
+      if (m_data.getUnits().get(((Unit) object).getID()) == null && !m_copies.containsKey(object)) {
+        m_copies.put((Unit) object, null);
+        missingUnits.add((Unit) object);
+      }
+      return true;
+    } else if (isNamed(object)) {
+      return true;
+    } else if (object instanceof TerritoryEffect) {
+      return m_data.getTerritoryEffectList().containsKey(((TerritoryEffect) object).getName());
+    } else if (isCopiedCollection(object)) {
+      for (final Object element : (Collection<?>) object) {
+        if (!canTranslate(element, missingUnits)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (isCopiedMap(object)) {
+      for (final Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+        if (!canTranslate(entry.getKey(), missingUnits) || !canTranslate(entry.getValue(), missingUnits)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object translate(final Object object) {
+    if (object == null || isImmutable(object)) {
+      return object;
+    } else if (object instanceof GameData) {
+      return m_data;
+    } else if (object instanceof Unit) {
+      final Unit local = m_data.getUnits().get(((Unit) object).getID());
+      return local != null ? local : m_copies.get(object);
+    } else if (isNamed(object)) {
+      return new GameObjectStreamData((Named) object).getReference(m_data);
+    } else if (object instanceof TerritoryEffect) {
+      return m_data.getTerritoryEffectList().get(((TerritoryEffect) object).getName());
+    } else if (isCopiedCollection(object)) {
+      final Collection source = (Collection) object;
+      final Collection rVal;
+      if (object instanceof LinkedList) {
+        rVal = new LinkedList();
+      } else if (object instanceof ArrayList) {
+        rVal = new ArrayList(source.size());
+      } else if (object instanceof LinkedHashSet) {
+        rVal = new LinkedHashSet(source.size());
+      } else {
+        rVal = new HashSet(source.size());
+      }
+      for (final Object element : source) {
+        rVal.add(translate(element));
+      }
+      return rVal;
+    } else {
+      final Map source = (Map) object;
+      final Map rVal = object instanceof LinkedHashMap ? new LinkedHashMap() : new HashMap();
+      for (final Object o : source.entrySet()) {
+        final Entry entry = (Entry) o;
+        rVal.put(translate(entry.getKey()), translate(entry.getValue()));
+      }
+      return rVal;
+    }
+  }
+
+  private static boolean isImmutable(final Object object) {
+    return object instanceof String || object instanceof Number || object instanceof Boolean
+        || object instanceof Character || object instanceof Enum;
+  }
+
+  /**
+   * The objects GameObjectOutputStream writes as references.
+   */
+  private static boolean isNamed(final Object object) {
+    return object instanceof PlayerID || object instanceof UnitType || object instanceof Territory
+        || object instanceof ProductionRule || object instanceof ProductionFrontier;
+  }
+
+  /**
+   * Only the standard collections are copied, subclasses may hold state of their own.
+   */
+  private static boolean isCopiedCollection(final Object object) {
+    final Class<?> type = object.getClass();
+    return type == ArrayList.class || type == LinkedList.class || type == HashSet.class
+        || type == LinkedHashSet.class;
+  }
+
+  private static boolean isCopiedMap(final Object object) {
+    final Class<?> type = object.getClass();
+    return type == HashMap.class || type == LinkedHashMap.class;
+  }
+
+  private static Object translateBySerialization(final Object object, final GameData translateInto) {
+    try {
+      ByteArrayOutputStream sink = new ByteArrayOutputStream(1024);
+      final GameObjectOutputStream out = new GameObjectOutputStream(sink);
+      out.writeObject(object);
+      out.flush();
+      out.close();
+      final ByteArrayInputStream source = new ByteArrayInputStream(sink.toByteArray());
+      sink = null;
+      final GameObjectStreamFactory factory = new GameObjectStreamFactory(translateInto);
+      final ObjectInputStream in = factory.create(source);
+      try {
+        return in.readObject();
+      } catch (final ClassNotFoundException ex) {
+        // should never happen
+        throw new RuntimeException(ex);
+      }
+    } catch (final IOException ioe) {
+      throw new RuntimeException(ioe);
+    }
+  }
+}
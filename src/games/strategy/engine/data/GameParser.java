@@ -1,5 +1,6 @@
 package games.strategy.engine.data;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -9,19 +10,32 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -53,9 +67,20 @@ import games.strategy.util.Tuple;
 import games.strategy.util.Version;
 
 public class GameParser {
+  private static final Logger s_logger = Logger.getLogger(GameParser.class.getName());
   private static final Class<?>[] SETTER_ARGS = {String.class};
+  // the sections of the game a delayed parse reads, the others are skipped while streaming
+  private static final Collection<String> DELAYED_SECTIONS =
+      new HashSet<String>(Arrays.asList("info", "triplea", "loader", "diceSides", "playerList", "propertyList"));
+  // the option setters of each attachment class, by option name, shared by all parsers
+  private static final Map<Class<?>, Map<String, Method>> s_setters =
+      new ConcurrentHashMap<Class<?>, Map<String, Method>>();
   private GameData data;
   private final Collection<SAXParseException> errorsSAX = new ArrayList<SAXParseException>();
+  // the section times of the parse running now, and of the last finished parse
+  private Map<String, Long> parseSectionTimes;
+  private volatile Map<String, Long> sectionTimes = Collections.emptyMap();
+  private long sectionStart;
   private static HashMap<String, String> newClassesForOldNames;
 
   public GameParser() {}
@@ -67,7 +92,8 @@ public class GameParser {
    * @param delayParsing
    *        Should we only parse the game name, notes, and playerlist? Normally this should be "false", except for the
    *        game chooser which
-   *        should use the user set preference.
+   *        should use the user set preference. A delayed parse streams the xml and only builds nodes for the sections
+   *        it reads, without validating against the dtd, which the full parse does.
    * @throws GameParseException
    * @throws SAXException
    * @throws EngineVersionException
@@ -78,14 +104,17 @@ public class GameParser {
     if (stream == null) {
       throw new IllegalArgumentException("Stream must be non null");
     }
+    parseSectionTimes = new LinkedHashMap<String, Long>();
+    sectionStart = System.nanoTime();
     Document doc = null;
     try {
-      doc = getDocument(stream);
+      doc = delayParsing ? getDelayedDocument(stream) : getDocument(stream);
     } catch (final IOException e) {
       throw new IllegalStateException(e);
     } catch (final ParserConfigurationException e) {
       throw new IllegalStateException(e);
     }
+    endSection("document");
     final Element root = doc.getDocumentElement();
     data = new GameData();
     // mandatory fields
@@ -115,11 +144,14 @@ public class GameParser {
     if (properties != null) {
       parseProperties(properties);
     }
+    endSection("players and properties");
     // everything until here is needed to select a game, the rest can be parsed when a game is selected
     if (delayParsing) {
+      publishSectionTimes();
       return data;
     }
     parseMap(getSingleChild("map", root));
+    endSection("map");
     final Element resourceList = getSingleChild("resourceList", root, true);
     if (resourceList != null) {
       parseResources(resourceList);
@@ -137,7 +169,9 @@ public class GameParser {
     if (territoryEffectList != null) {
       parseTerritoryEffects(territoryEffectList);
     }
+    endSection("units and relationships");
     parseGamePlay(getSingleChild("gamePlay", root));
+    endSection("game play");
     final Element production = getSingleChild("production", root, true);
     if (production != null) {
       parseProduction(production);
@@ -148,14 +182,17 @@ public class GameParser {
     } else {
       TechAdvance.createDefaultTechAdvances(data);
     }
+    endSection("production and technology");
     final Element attachmentList = getSingleChild("attatchmentList", root, true);
     if (attachmentList != null) {
       parseAttachments(attachmentList);
     }
+    endSection("attachments");
     final Node initialization = getSingleChild("initialize", root, true);
     if (initialization != null) {
       parseInitialization(initialization);
     }
+    endSection("initialization");
     // set & override default relationships
     // sets the relationship between all players and the NullPlayer to NullRelation
     // (with archeType War)
@@ -174,9 +211,31 @@ public class GameParser {
       e.printStackTrace();
       throw new GameParseException(e.getMessage());
     }
+    endSection("validation");
+    publishSectionTimes();
     return data;
   }
 
+  private void endSection(final String section) {
+    final long now = System.nanoTime();
+    parseSectionTimes.put(section, (now - sectionStart) / 1000000);
+    sectionStart = now;
+  }
+
+  private void publishSectionTimes() {
+    sectionTimes = Collections.unmodifiableMap(parseSectionTimes);
+    if (s_logger.isLoggable(Level.FINE)) {
+      s_logger.fine("Parsed " + data.getGameName() + ", milliseconds per section: " + sectionTimes);
+    }
+  }
+
+  /**
+   * @return how many milliseconds each section of the last parsed game took, in the order they were parsed.
+   */
+  public Map<String, Long> getSectionTimes() {
+    return new LinkedHashMap<String, Long>(sectionTimes);
+  }
+
   private void parseDiceSides(final Node diceSides) {
     if (diceSides == null) {
       data.setDiceSides(6);
@@ -275,6 +334,91 @@ public class GameParser {
     return builder.parse(input, system);
   }
 
+  /**
+   * Streams the xml and builds a document holding only the root and the sections a delayed parse reads. The map,
+   * attachments and other sections are read past without building nodes for them.
+   */
+  private Document getDelayedDocument(final InputStream input) throws SAXException, ParserConfigurationException {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+    // the dtd is not read, entities declared in the xml itself are still replaced
+    factory.setXMLResolver(new XMLResolver() {
+      @Override
+      public Object resolveEntity(final String publicID, final String systemID, final String baseURI,
+          final String namespace) {
+        return new ByteArrayInputStream(new byte[0]);
+      }
+    });
+    final Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    XMLStreamReader reader = null;
+    try {
+      reader = factory.createXMLStreamReader(input);
+      while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+        // past the prolog and doctype
+      }
+      final Element root = doc.createElement(reader.getLocalName());
+      doc.appendChild(root);
+      while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+        if (DELAYED_SECTIONS.contains(reader.getLocalName())) {
+          root.appendChild(readElement(reader, doc));
+        } else {
+          skipElement(reader);
+        }
+      }
+      return doc;
+    } catch (final XMLStreamException e) {
+      final Location location = e.getLocation();
+      throw new SAXParseException(e.getMessage(), null, null, location == null ? -1 : location.getLineNumber(),
+          location == null ? -1 : location.getColumnNumber(), e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (final XMLStreamException e) {
+          // the stream itself is closed by the caller
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds the element the reader is at, with its attributes, text and child elements, and leaves the reader at its
+   * end tag.
+   */
+  private static Element readElement(final XMLStreamReader reader, final Document doc) throws XMLStreamException {
+    final Element element = doc.createElement(reader.getLocalName());
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+    }
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        element.appendChild(readElement(reader, doc));
+      } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+          || event == XMLStreamConstants.SPACE) {
+        element.appendChild(doc.createTextNode(reader.getText()));
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        break;
+      }
+    }
+    return element;
+  }
+
+  /**
+   * Reads past the element the reader is at, leaving the reader at its end tag.
+   */
+  private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
   /**
    * If mustfind is true and cannot find the player an exception will be thrown.
    */
@@ -1318,6 +1462,10 @@ public class GameParser {
         final IAttachment attachment = (IAttachment) constructors.get(className).newInstance(name, attachable, data);
         attachable.addAttachment(name, attachment);
         final ArrayList<Tuple<String, String>> attachmentOptionValues = setValues(attachment, options);
+        if (attachable instanceof UnitType) {
+          // in case anything looked at the capabilities before the options were set
+          ((UnitType) attachable).clearCapabilities();
+        }
         // keep a list of attachment references in the order they were added
         data.addToAttachmentOrderAndValues(
             Tuple.of(attachment, attachmentOptionValues));
@@ -1366,6 +1514,23 @@ public class GameParser {
     return first + aString.substring(1);
   }
 
+  /**
+   * Finds the setter of an option, looking it up only the first time the option is set on an attachment class.
+   */
+  private static Method getSetter(final Class<?> attachmentClass, final String name) throws NoSuchMethodException {
+    Map<String, Method> setters = s_setters.get(attachmentClass);
+    if (setters == null) {
+      setters = new ConcurrentHashMap<String, Method>();
+      s_setters.put(attachmentClass, setters);
+    }
+    Method setter = setters.get(name);
+    if (setter == null) {
+      setter = attachmentClass.getMethod("set" + capitalizeFirstLetter(name), SETTER_ARGS);
+      setters.put(name, setter);
+    }
+    return setter;
+  }
+
   private static ArrayList<Tuple<String, String>> setValues(final IAttachment attachment, final List<Element> values)
       throws GameParseException {
     final ArrayList<Tuple<String, String>> options = new ArrayList<Tuple<String, String>>();
@@ -1378,7 +1543,7 @@ public class GameParser {
         if (name.length() == 0) {
           throw new GameParseException("Option name with 0 length");
         }
-        setter = attachment.getClass().getMethod("set" + capitalizeFirstLetter(name), SETTER_ARGS);
+        setter = getSetter(attachment.getClass(), name);
       } catch (final NoSuchMethodException nsme) {
         throw new GameParseException("The following option name of " + attachment.getName() + " of class "
             + attachment.getClass().getName().substring(attachment.getClass().getName().lastIndexOf('.') + 1)
@@ -0,0 +1,224 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.net.GUID;
+import games.strategy.util.IntegerMap;
+
+/**
+ * Keeps, for each player, the number of units of each type the player has on the map and the territories the player
+ * owns, so that stats do not need to search every territory for every player.
+ * Built from the map the first time it is used, and from then on kept up to date from the changes made to the game
+ * data, looking only at the units and territories each change touched.
+ * Not serialized, a deserialized or cloned GameData rebuilds it on first use.
+ */
+public class PlayerStatsTracker implements GameDataChangeListener {
+  private final GameData m_data;
+  private boolean m_built = false;
+  // unit on the map -> the player it is counted for
+  private final Map<Unit, PlayerID> m_unitOwners = new HashMap<Unit, PlayerID>();
+  private final Map<PlayerID, IntegerMap<UnitType>> m_unitTypes = new HashMap<PlayerID, IntegerMap<UnitType>>();
+  // territory -> the player it is counted for
+  private final Map<Territory, PlayerID> m_territoryOwners = new HashMap<Territory, PlayerID>();
+  private final Map<PlayerID, Set<Territory>> m_territories = new HashMap<PlayerID, Set<Territory>>();
+
+  PlayerStatsTracker(final GameData data) {
+    m_data = data;
+  }
+
+  /**
+   * @return the number of units of each type the player has on the map.
+   */
+  public IntegerMap<UnitType> getUnitTypes(final PlayerID player) {
+    m_data.acquireReadLock();
+    try {
+      synchronized (this) {
+        ensureBuilt();
+        final IntegerMap<UnitType> unitTypes = m_unitTypes.get(player);
+        return unitTypes == null ? new IntegerMap<UnitType>() : new IntegerMap<UnitType>(unitTypes);
+      }
+    } finally {
+      m_data.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return the number of units the player has on the map.
+   */
+  public int getUnitCount(final PlayerID player) {
+    m_data.acquireReadLock();
+    try {
+      synchronized (this) {
+        ensureBuilt();
+        final IntegerMap<UnitType> unitTypes = m_unitTypes.get(player);
+        return unitTypes == null ? 0 : unitTypes.totalValues();
+      }
+    } finally {
+      m_data.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return the number of units of the given type the player has on the map.
+   */
+  public int getUnitCount(final PlayerID player, final UnitType type) {
+    m_data.acquireReadLock();
+    try {
+      synchronized (this) {
+        ensureBuilt();
+        final IntegerMap<UnitType> unitTypes = m_unitTypes.get(player);
+        return unitTypes == null ? 0 : unitTypes.getInt(type);
+      }
+    } finally {
+      m_data.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return the territories the player owns.
+   */
+  public List<Territory> getTerritories(final PlayerID player) {
+    m_data.acquireReadLock();
+    try {
+      synchronized (this) {
+        ensureBuilt();
+        final Set<Territory> territories = m_territories.get(player);
+        return territories == null ? new ArrayList<Territory>() : new ArrayList<Territory>(territories);
+      }
+    } finally {
+      m_data.releaseReadLock();
+    }
+  }
+
+  @Override
+  public void gameDataChanged(final Change change) {
+    if (change == null) {
+      return;
+    }
+    // always take the read lock before locking this, a thread holding the read lock may be waiting on this
+    m_data.acquireReadLock();
+    try {
+      synchronized (this) {
+        if (!m_built) {
+          return;
+        }
+        final Set<Unit> units = new LinkedHashSet<Unit>();
+        final Set<Territory> territories = new LinkedHashSet<Territory>();
+        collectChanged(change, units, territories);
+        // compare with the current state, rather than replaying the change, since other changes may have been
+        // performed since
+        for (final Unit unit : units) {
+          updateUnit(unit);
+        }
+        for (final Territory territory : territories) {
+          updateTerritory(territory);
+        }
+      }
+    } finally {
+      m_data.releaseReadLock();
+    }
+  }
+
+  // the change classes are declared in ChangeFactory.java
+  @SuppressWarnings("auxiliaryclass")
+  private void collectChanged(final Change change, final Set<Unit> units, final Set<Territory> territories) {
+    if (change instanceof CompositeChange) {
+      for (final Change child : ((CompositeChange) change).getChanges()) {
+        collectChanged(child, units, territories);
+      }
+    } else if (change instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) change;
+      if (UnitHolder.TERRITORY.equals(addUnits.getHolderType())) {
+        units.addAll(addUnits.getUnits());
+      }
+    } else if (change instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) change;
+      if (UnitHolder.TERRITORY.equals(removeUnits.getHolderType())) {
+        units.addAll(removeUnits.getUnits());
+      }
+    } else if (change instanceof PlayerOwnerChange) {
+      for (final GUID id : ((PlayerOwnerChange) change).getUnitIds()) {
+        final Unit unit = m_data.getUnits().get(id);
+        if (unit != null) {
+          units.add(unit);
+        }
+      }
+    } else if (change instanceof OwnerChange) {
+      final Territory territory = m_data.getMap().getTerritory(((OwnerChange) change).getTerritoryName());
+      if (territory != null) {
+        territories.add(territory);
+      }
+    }
+  }
+
+  private void updateUnit(final Unit unit) {
+    final boolean counted = m_unitOwners.containsKey(unit);
+    final boolean onMap = m_data.getUnitLocationTracker().getTerritory(unit) != null;
+    if (counted && onMap && m_unitOwners.get(unit) == unit.getOwner()) {
+      return;
+    }
+    if (counted) {
+      m_unitTypes.get(m_unitOwners.remove(unit)).add(unit.getType(), -1);
+    }
+    if (onMap) {
+      addUnit(unit);
+    }
+  }
+
+  private void addUnit(final Unit unit) {
+    IntegerMap<UnitType> unitTypes = m_unitTypes.get(unit.getOwner());
+    if (unitTypes == null) {
+      unitTypes = new IntegerMap<UnitType>();
+      m_unitTypes.put(unit.getOwner(), unitTypes);
+    }
+    unitTypes.add(unit.getType(), 1);
+    m_unitOwners.put(unit, unit.getOwner());
+  }
+
+  private void updateTerritory(final Territory territory) {
+    final boolean counted = m_territoryOwners.containsKey(territory);
+    if (counted && m_territoryOwners.get(territory) == territory.getOwner()) {
+      return;
+    }
+    if (counted) {
+      m_territories.get(m_territoryOwners.get(territory)).remove(territory);
+    }
+    addTerritory(territory);
+  }
+
+  private void addTerritory(final Territory territory) {
+    Set<Territory> territories = m_territories.get(territory.getOwner());
+    if (territories == null) {
+      territories = new LinkedHashSet<Territory>();
+      m_territories.put(territory.getOwner(), territories);
+    }
+    territories.add(territory);
+    m_territoryOwners.put(territory, territory.getOwner());
+  }
+
+  /**
+   * Call with the read lock held.
+   */
+  private void ensureBuilt() {
+    if (m_built) {
+      return;
+    }
+    for (final Territory territory : m_data.getMap().getTerritories()) {
+      addTerritory(territory);
+      for (final Unit unit : territory.getUnits()) {
+        // a moving unit may be in two territories, count it once
+        if (!m_unitOwners.containsKey(unit)) {
+          addUnit(unit);
+        }
+      }
+    }
+    m_data.addDataChangeListener(this);
+    m_built = true;
+  }
+}
@@ -34,21 +34,29 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
 
   void addUnit(final Unit unit) {
     m_units.add(unit);
+    if (m_holder instanceof Territory) {
+      getData().getUnitLocationTracker().unitsAdded((Territory) m_holder, Collections.singleton(unit));
+    }
     m_holder.notifyChanged();
   }
 
   void addAllUnits(final UnitCollection collection) {
-    m_units.addAll(collection.m_units);
-    m_holder.notifyChanged();
+    addAllUnits(collection.m_units);
   }
 
   void addAllUnits(final Collection<Unit> units) {
     m_units.addAll(units);
+    if (m_holder instanceof Territory) {
+      getData().getUnitLocationTracker().unitsAdded((Territory) m_holder, units);
+    }
     m_holder.notifyChanged();
   }
 
   void removeAllUnits(final Collection<Unit> units) {
     m_units.removeAll(units);
+    if (m_holder instanceof Territory) {
+      getData().getUnitLocationTracker().unitsRemoved((Territory) m_holder, units);
+    }
     m_holder.notifyChanged();
   }
 
@@ -11,7 +11,7 @@ public class UnitHitsChange extends Change {
   private final IntegerMap<Unit> m_hits;
   private final IntegerMap<Unit> m_undoHits;
 
-  private UnitHitsChange(final IntegerMap<Unit> hits, final IntegerMap<Unit> undoHits) {
+  UnitHitsChange(final IntegerMap<Unit> hits, final IntegerMap<Unit> undoHits) {
     m_hits = hits;
     m_undoHits = undoHits;
   }
@@ -20,6 +20,14 @@ public class UnitHitsChange extends Change {
     return m_hits.keySet();
   }
 
+  IntegerMap<Unit> getHits() {
+    return m_hits;
+  }
+
+  IntegerMap<Unit> getUndoHits() {
+    return m_undoHits;
+  }
+
   UnitHitsChange(final IntegerMap<Unit> hits) {
     m_hits = hits.copy();
     m_undoHits = new IntegerMap<Unit>();
@@ -0,0 +1,134 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.triplea.TripleAUnit;
+
+/**
+ * Tracks which territory each unit is in, and which units each transport is carrying, so that neither requires
+ * searching every territory on the map.
+ * The indexes are built from the map the first time they are needed, and from then on are kept up to date by the
+ * unit collections of the territories (which only change through the add/remove unit changes) and by
+ * TripleAUnit.setTransportedBy.
+ * Not serialized, a deserialized or cloned GameData rebuilds them on first use.
+ */
+public class UnitLocationTracker {
+  private final GameData m_data;
+  // null until first used
+  private Map<Unit, Territory> m_locations = null;
+  // maps transport -> units whose transportedBy is that transport
+  private Map<Unit, Set<Unit>> m_cargo = null;
+
+  UnitLocationTracker(final GameData data) {
+    m_data = data;
+  }
+
+  /**
+   * @return the territory the unit is in, or null if it is not on the map.
+   */
+  public synchronized Territory getTerritory(final Unit unit) {
+    ensureBuilt();
+    return m_locations.get(unit);
+  }
+
+  /**
+   * @return the units being transported by the given transport in the territory the transport is in.
+   */
+  public synchronized List<Unit> getTransporting(final Unit transport) {
+    ensureBuilt();
+    final Territory territory = m_locations.get(transport);
+    final Set<Unit> cargo = m_cargo.get(transport);
+    if (territory == null || cargo == null) {
+      return Collections.emptyList();
+    }
+    final List<Unit> rVal = new ArrayList<Unit>(cargo.size());
+    for (final Unit u : cargo) {
+      if (m_locations.get(u) == territory) {
+        rVal.add(u);
+      }
+    }
+    return rVal;
+  }
+
+  synchronized void unitsAdded(final Territory territory, final Collection<Unit> units) {
+    if (m_locations == null) {
+      return;
+    }
+    for (final Unit u : units) {
+      m_locations.put(u, territory);
+      // units from another game data may arrive already loaded
+      addCargo(u, getTransportedBy(u));
+    }
+  }
+
+  synchronized void unitsRemoved(final Territory territory, final Collection<Unit> units) {
+    if (m_locations == null) {
+      return;
+    }
+    for (final Unit u : units) {
+      // a moving unit may have already been added to its new territory
+      if (m_locations.get(u) == territory) {
+        m_locations.remove(u);
+      }
+    }
+  }
+
+  public synchronized void transportedByChanged(final Unit unit, final Unit oldTransport, final Unit newTransport) {
+    if (m_cargo == null) {
+      return;
+    }
+    if (oldTransport != null) {
+      final Set<Unit> cargo = m_cargo.get(oldTransport);
+      if (cargo != null) {
+        cargo.remove(unit);
+        if (cargo.isEmpty()) {
+          m_cargo.remove(oldTransport);
+        }
+      }
+    }
+    addCargo(unit, newTransport);
+  }
+
+  private void addCargo(final Unit unit, final Unit transport) {
+    if (transport == null) {
+      return;
+    }
+    Set<Unit> cargo = m_cargo.get(transport);
+    if (cargo == null) {
+      cargo = new LinkedHashSet<Unit>();
+      m_cargo.put(transport, cargo);
+    }
+    cargo.add(unit);
+  }
+
+  private static Unit getTransportedBy(final Unit unit) {
+    if (unit instanceof TripleAUnit) {
+      return ((TripleAUnit) unit).getTransportedBy();
+    }
+    return null;
+  }
+
+  private void ensureBuilt() {
+    if (m_locations != null) {
+      return;
+    }
+    m_locations = new HashMap<Unit, Territory>();
+    m_cargo = new HashMap<Unit, Set<Unit>>();
+    for (final Territory t : m_data.getMap().getTerritories()) {
+      for (final Unit u : t.getUnits()) {
+        // keep the first territory found, as the old map search did
+        if (!m_locations.containsKey(u)) {
+          m_locations.put(u, t);
+        }
+        addCargo(u, getTransportedBy(u));
+      }
+    }
+  }
+}
@@ -22,11 +22,46 @@ import games.strategy.util.LocalizeHTML;
  */
 public class UnitType extends NamedAttachable implements Serializable {
   private static final long serialVersionUID = 4885339076798905247L;
+  // UnitAttachment capability bits plus CAPABILITIES_COMPUTED, or 0 if they must be (re)computed
+  private transient volatile int m_capabilities = 0;
+  private static final int CAPABILITIES_COMPUTED = 1 << 31;
 
   public UnitType(final String name, final GameData data) {
     super(name, data);
   }
 
+  /**
+   * Returns true if the unit attachment of this type has any of the given UnitAttachment.CAPABILITY_* flags.
+   * The flags are cached, so this avoids looking up the attachment for every check.
+   */
+  public boolean hasCapability(final int capability) {
+    int capabilities = m_capabilities;
+    if (capabilities == 0) {
+      capabilities = UnitAttachment.get(this).getCapabilities() | CAPABILITIES_COMPUTED;
+      m_capabilities = capabilities;
+    }
+    return (capabilities & capability) != 0;
+  }
+
+  /**
+   * Must be called whenever the attachments of this type change, so the cached capabilities are recomputed.
+   */
+  public void clearCapabilities() {
+    m_capabilities = 0;
+  }
+
+  @Override
+  public void addAttachment(final String key, final IAttachment value) {
+    super.addAttachment(key, value);
+    clearCapabilities();
+  }
+
+  @Override
+  public void removeAttachment(final String keyString) {
+    super.removeAttachment(keyString);
+    clearCapabilities();
+  }
+
   public List<Unit> create(final int quantity, final PlayerID owner) {
     return create(quantity, owner, false);
   }
@@ -137,6 +137,11 @@ public class DefaultDelegateBridge implements IDelegateBridge {
     return (ISound) getOutbound(implementor);
   }
 
+  @Override
+  public boolean hasObservers() {
+    return true;
+  }
+
   @Override
   public Properties getStepProperties() {
     return m_data.getSequence().getStep().getProperties();
@@ -36,6 +36,7 @@ public class DelegateExecutionManager {
   private final ReentrantReadWriteLock m_readWriteLock = new ReentrantReadWriteLock();
   private final ThreadLocal<Boolean> m_currentThreadHasReadLock = new ThreadLocal<Boolean>();
   private volatile boolean m_isGameOver = false;
+  private volatile Runnable m_beforeLeaveDelegateExecution;
 
   public void setGameOver() {
     m_isGameOver = true;
@@ -92,6 +93,18 @@ public class DelegateExecutionManager {
     return m_currentThreadHasReadLock.get() == Boolean.TRUE;
   }
 
+  public boolean isCurrentThreadInDelegateExecution() {
+    return currentThreadHasReadLock();
+  }
+
+  /**
+   * Sets something to run each time a thread is about to leave delegate execution, either because the delegate is
+   * done or because it calls out of the delegates.
+   */
+  public void setBeforeLeaveDelegateExecution(final Runnable beforeLeave) {
+    m_beforeLeaveDelegateExecution = beforeLeave;
+  }
+
   /**
    * Used to create an object the exits delegate execution.
    * <p>
@@ -167,8 +180,15 @@ public class DelegateExecutionManager {
     if (sm_logger.isLoggable(Level.FINE)) {
       sm_logger.fine(Thread.currentThread().getName() + " leaves delegate execution.");
     }
-    m_readWriteLock.readLock().unlock();
-    m_currentThreadHasReadLock.set(null);
+    try {
+      final Runnable beforeLeave = m_beforeLeaveDelegateExecution;
+      if (beforeLeave != null) {
+        beforeLeave.run();
+      }
+    } finally {
+      m_readWriteLock.readLock().unlock();
+      m_currentThreadHasReadLock.set(null);
+    }
   }
 
   public void enterDelegateExecution() {
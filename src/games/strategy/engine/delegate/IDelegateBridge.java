@@ -93,6 +93,12 @@ public interface IDelegateBridge {
    */
   public ISound getSoundChannelBroadcaster();
 
+  /**
+   * @return false if nothing will see the history, display or sound output of this bridge, such as when battles are
+   *         only being simulated, so callers can skip preparing that output.
+   */
+  public boolean hasObservers();
+
   /**
    * @return the propertie for this step.
    *         <p>
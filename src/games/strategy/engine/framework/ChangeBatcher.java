@@ -0,0 +1,153 @@
+package games.strategy.engine.framework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangePerformer;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+
+/**
+ * Sends the changes the server makes to the game data to the other nodes in batches.
+ * <p>
+ * A delegate adds many changes in a single call, and each used to be its own message to every client, which each
+ * performed and repainted it separately. The changes are still performed on the server as soon as they are added,
+ * since delegates look at the game data right after changing it, but are only broadcast, as one CompositeChange, when
+ * the batch is flushed.
+ * <p>
+ * The batch is flushed before anything else is broadcast on the game modified channel, so the clients see everything in
+ * the same order as before, and by the server game whenever a thread leaves delegate execution, so the clients are up
+ * to date before a delegate calls out to a player or a display, and before a call to a delegate returns.
+ */
+class ChangeBatcher implements IGameModifiedChannel {
+  private static final Logger s_logger = Logger.getLogger(ChangeBatcher.class.getName());
+  private final GameData m_data;
+  private final ChangePerformer m_changePerformer;
+  private final IGameModifiedChannel m_broadcaster;
+  private final Object m_mutex = new Object();
+  private final ThreadLocal<Boolean> m_sending = new ThreadLocal<Boolean>();
+  private final List<Change> m_pending = new ArrayList<Change>();
+  private long m_firstPendingTime;
+  // statistics
+  private final long m_startTime = System.nanoTime();
+  private long m_changeCount = 0;
+  private long m_messageCount = 0;
+  private long m_totalDelay = 0;
+  private long m_maxDelay = 0;
+
+  ChangeBatcher(final GameData data, final ChangePerformer changePerformer, final IGameModifiedChannel broadcaster) {
+    m_data = data;
+    m_changePerformer = changePerformer;
+    m_broadcaster = broadcaster;
+  }
+
+  /**
+   * @return true if the current thread is broadcasting a batch, whose changes have already been performed locally.
+   */
+  boolean isSending() {
+    return m_sending.get() == Boolean.TRUE;
+  }
+
+  /**
+   * Performs the change, and adds it to the batch to send.
+   */
+  @Override
+  public void gameDataChanged(final Change change) {
+    synchronized (m_mutex) {
+      m_changePerformer.perform(change);
+      m_data.getHistory().getHistoryWriter().addChange(change);
+      if (m_pending.isEmpty()) {
+        m_firstPendingTime = System.nanoTime();
+      }
+      m_pending.add(change);
+      m_changeCount++;
+    }
+  }
+
+  /**
+   * Broadcasts the changes added since the last flush, if there are any.
+   */
+  void flush() {
+    synchronized (m_mutex) {
+      if (m_pending.isEmpty()) {
+        return;
+      }
+      final Change batch = m_pending.size() == 1 ? m_pending.get(0) : new CompositeChange(m_pending);
+      m_pending.clear();
+      m_sending.set(Boolean.TRUE);
+      try {
+        m_broadcaster.gameDataChanged(batch);
+      } finally {
+        m_sending.remove();
+      }
+      final long delay = System.nanoTime() - m_firstPendingTime;
+      m_messageCount++;
+      m_totalDelay += delay;
+      m_maxDelay = Math.max(m_maxDelay, delay);
+    }
+  }
+
+  @Override
+  public void startHistoryEvent(final String event, final Object renderingData) {
+    flush();
+    m_broadcaster.startHistoryEvent(event, renderingData);
+  }
+
+  @Override
+  public void startHistoryEvent(final String event) {
+    flush();
+    m_broadcaster.startHistoryEvent(event);
+  }
+
+  @Override
+  public void addChildToEvent(final String text, final Object renderingData) {
+    flush();
+    m_broadcaster.addChildToEvent(text, renderingData);
+  }
+
+  @Override
+  public void stepChanged(final String stepName, final String delegateName, final PlayerID player, final int round,
+      final String displayName, final boolean loadedFromSavedGame) {
+    flush();
+    m_broadcaster.stepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame);
+  }
+
+  @Override
+  public void shutDown() {
+    flush();
+    m_broadcaster.shutDown();
+    if (s_logger.isLoggable(Level.FINE)) {
+      s_logger.fine(getStatistics());
+    }
+  }
+
+  long getChangeCount() {
+    synchronized (m_mutex) {
+      return m_changeCount;
+    }
+  }
+
+  long getMessageCount() {
+    synchronized (m_mutex) {
+      return m_messageCount;
+    }
+  }
+
+  /**
+   * @return the changes added, the messages sent for them, and how long changes waited to be sent.
+   */
+  String getStatistics() {
+    synchronized (m_mutex) {
+      final double seconds = Math.max(1, System.nanoTime() - m_startTime) / 1000000000.0;
+      final double averageDelay = m_messageCount == 0 ? 0 : m_totalDelay / 1000000.0 / m_messageCount;
+      return String.format("Changes: %d, messages: %d (%.2f/s), changes per message: %.1f, "
+          + "delay before sending: average %.2f ms, max %.2f ms", m_changeCount, m_messageCount,
+          m_messageCount / seconds, m_messageCount == 0 ? 0 : (double) m_changeCount / m_messageCount, averageDelay,
+          m_maxDelay / 1000000.0);
+    }
+  }
+}
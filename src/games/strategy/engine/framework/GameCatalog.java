@@ -0,0 +1,166 @@
+package games.strategy.engine.framework;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.EngineVersion;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.triplea.Constants;
+
+/**
+ * What we learnt from parsing each installed game xml, kept on disk so the next start does not parse them all again.
+ * <p>
+ * An entry is found by the uri of the game xml, and is only used while the file holding the xml, the xml itself or
+ * the zip it is in, has the same size and modification time as when the entry was made. The whole catalog is thrown
+ * away when a different engine version reads it, as that version may not accept the same games.
+ * <p>
+ * Entries are looked up and added by several threads at once. Entries not looked up or added since the catalog was
+ * read are left out when it is written, so games that were removed do not stay in the catalog.
+ */
+public class GameCatalog {
+  private static final String FILE_NAME = "games.cache";
+  private static GameCatalog s_instance;
+  private final File m_file;
+  private final Map<String, Game> m_games = new ConcurrentHashMap<String, Game>();
+  private final Set<String> m_used = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+  private volatile boolean m_changed = false;
+
+  /**
+   * What the catalog knows about one game xml.
+   * <p>
+   * The game notes are not kept. They are the notes property of the game xml, so the uri of the entry is already where
+   * they are, and they are only shown once a game is selected, which parses the whole xml anyway.
+   */
+  public static class Game implements Serializable {
+    private static final long serialVersionUID = 6502316727470522473L;
+    private final String m_stamp;
+    private final String m_gameName;
+    private final String m_mapName;
+    private final List<String> m_playerNames;
+
+    Game(final String stamp, final GameData data) {
+      m_stamp = stamp;
+      m_gameName = data.getGameName();
+      m_mapName = data.getProperties().get(Constants.MAP_NAME, "");
+      m_playerNames = new ArrayList<String>();
+      for (final PlayerID player : data.getPlayerList().getPlayers()) {
+        m_playerNames.add(player.getName());
+      }
+    }
+
+    public String getGameName() {
+      return m_gameName;
+    }
+
+    /**
+     * @return the map name property of the game, or an empty string if it has none.
+     */
+    public String getMapName() {
+      return m_mapName;
+    }
+
+    public List<String> getPlayerNames() {
+      return new ArrayList<String>(m_playerNames);
+    }
+  }
+
+  public static synchronized GameCatalog getInstance() {
+    if (s_instance == null) {
+      s_instance = new GameCatalog(new File(GameRunner2.getUserRootFolder(), FILE_NAME));
+    }
+    return s_instance;
+  }
+
+  public GameCatalog(final File file) {
+    m_file = file;
+    load();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void load() {
+    if (!m_file.exists()) {
+      return;
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(m_file))) {
+      final String version = (String) in.readObject();
+      if (!EngineVersion.VERSION.toString().equals(version)) {
+        return;
+      }
+      m_games.putAll((Map<String, Game>) in.readObject());
+    } catch (final Exception e) {
+      // a catalog we can not read is as good as none, the games are parsed again
+      ClientLogger.logQuietly("Game catalog invalid, all games will be parsed", e);
+      m_games.clear();
+    }
+  }
+
+  /**
+   * @param container
+   *        the file holding the game xml, either the xml itself or the zip it is in.
+   * @return what is known about the game, or null if the game has not been seen or its file has changed since.
+   */
+  public Game get(final URI uri, final File container) {
+    final String key = uri.toString();
+    final Game game = m_games.get(key);
+    if (game == null || !game.m_stamp.equals(getStamp(container))) {
+      return null;
+    }
+    m_used.add(key);
+    return game;
+  }
+
+  /**
+   * Records a game that was parsed without errors.
+   *
+   * @param container
+   *        the file holding the game xml, either the xml itself or the zip it is in.
+   */
+  public void put(final URI uri, final File container, final GameData data) {
+    final String key = uri.toString();
+    m_games.put(key, new Game(getStamp(container), data));
+    m_used.add(key);
+    m_changed = true;
+  }
+
+  private static String getStamp(final File container) {
+    return container.length() + ":" + container.lastModified();
+  }
+
+  /**
+   * Writes the catalog, if anything was added or any game was not looked up since it was read.
+   */
+  public synchronized void writeToDisk() {
+    final Map<String, Game> games = new HashMap<String, Game>(m_games);
+    games.keySet().retainAll(m_used);
+    if (!m_changed && games.size() == m_games.size()) {
+      return;
+    }
+    final File parent = m_file.getParentFile();
+    if (parent != null && !parent.exists()) {
+      parent.mkdirs();
+    }
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(m_file, false))) {
+      out.writeObject(EngineVersion.VERSION.toString());
+      out.writeObject(games);
+      m_games.keySet().retainAll(games.keySet());
+      m_changed = false;
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Could not write game catalog", e);
+    }
+  }
+}
@@ -3,10 +3,9 @@ package games.strategy.engine.framework;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 
 import games.strategy.engine.data.GameData;
-import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GameObjectTranslator;
 
 public class GameDataUtils {
   public static GameData cloneGameData(final GameData data) {
@@ -37,24 +36,6 @@ public class GameDataUtils {
    * game data into another.
    */
   public static Object translateIntoOtherGameData(final Object object, final GameData translateInto) {
-    try {
-      ByteArrayOutputStream sink = new ByteArrayOutputStream(1024);
-      final GameObjectOutputStream out = new GameObjectOutputStream(sink);
-      out.writeObject(object);
-      out.flush();
-      out.close();
-      final ByteArrayInputStream source = new ByteArrayInputStream(sink.toByteArray());
-      sink = null;
-      final GameObjectStreamFactory factory = new GameObjectStreamFactory(translateInto);
-      final ObjectInputStream in = factory.create(source);
-      try {
-        return in.readObject();
-      } catch (final ClassNotFoundException ex) {
-        // should never happen
-        throw new RuntimeException(ex);
-      }
-    } catch (final IOException ioe) {
-      throw new RuntimeException(ioe);
-    }
+    return GameObjectTranslator.translate(object, translateInto);
   }
 }
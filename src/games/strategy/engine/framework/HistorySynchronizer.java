@@ -1,5 +1,9 @@
 package games.strategy.engine.framework;
 
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.swing.SwingUtilities;
 
 import games.strategy.engine.data.Change;
@@ -11,17 +15,26 @@ import games.strategy.engine.history.EventChild;
  * Synchronizes a GameData by listening on the history channel for messages.
  * All modifications to the History are done in the SwingEventThread, so
  * this class can be used to display a history tree to the user.
+ * <p>
+ * While nobody looks at the data, the synchronizer can be paused. It then only keeps the messages, and the data is
+ * only softly referenced, so it can be reclaimed if memory runs short. Resuming applies the kept messages, which is
+ * much quicker than making a new copy of the game data, unless many messages were kept.
  */
 public class HistorySynchronizer {
+  // past this many messages kept while paused, a new copy of the data is likely quicker than applying them
+  private static final int MAX_PAUSED_MESSAGES = 20000;
   // Note the GameData here and the game are not the same
   // we are keeping m_data in synch with the history of the game by listening
   // for changes
   // we do this because our data can change depending where in the history we
   // are
   // we want to be able to do this without changing the data for the game
-  private final GameData m_data;
+  private GameData m_data;
   private int m_currentRound;
   private final IGame m_game;
+  // only used in the swing event thread, set while paused
+  private SoftReference<GameData> m_pausedData;
+  private List<Runnable> m_pausedMessages;
 
   public HistorySynchronizer(final GameData data, final IGame game) {
     // this is not the way to use this.
@@ -45,7 +58,7 @@ public class HistorySynchronizer {
   private final IGameModifiedChannel m_gameModifiedChannelListener = new IGameModifiedChannel() {
     @Override
     public void gameDataChanged(final Change aChange) {
-      SwingUtilities.invokeLater(new Runnable() {
+      post(new Runnable() {
         @Override
         public void run() {
           final Change localizedChange = (Change) translateIntoMyData(aChange);
@@ -64,7 +77,7 @@ public class HistorySynchronizer {
 
     @Override
     public void startHistoryEvent(final String event) {
-      SwingUtilities.invokeLater(new Runnable() {
+      post(new Runnable() {
         @Override
         public void run() {
           m_data.getHistory().getHistoryWriter().startEvent(event);
@@ -74,7 +87,7 @@ public class HistorySynchronizer {
 
     @Override
     public void addChildToEvent(final String text, final Object renderingData) {
-      SwingUtilities.invokeLater(new Runnable() {
+      post(new Runnable() {
         @Override
         public void run() {
           final Object translatedRenderingData = translateIntoMyData(renderingData);
@@ -84,7 +97,7 @@ public class HistorySynchronizer {
     }
 
     protected void setRenderingData(final Object renderingData) {
-      SwingUtilities.invokeLater(new Runnable() {
+      post(new Runnable() {
         @Override
         public void run() {
           final Object translatedRenderingData = translateIntoMyData(renderingData);
@@ -100,7 +113,7 @@ public class HistorySynchronizer {
       if (loadedFromSavedGame) {
         return;
       }
-      SwingUtilities.invokeLater(new Runnable() {
+      post(new Runnable() {
         @Override
         public void run() {
           if (m_currentRound != round) {
@@ -116,13 +129,76 @@ public class HistorySynchronizer {
     public void shutDown() {}
   };
 
+  /**
+   * Runs a message in the swing event thread, or keeps it for later if paused by then.
+   */
+  private void post(final Runnable message) {
+    SwingUtilities.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        if (m_pausedMessages == null) {
+          message.run();
+        } else if (m_pausedMessages.size() < MAX_PAUSED_MESSAGES) {
+          m_pausedMessages.add(message);
+        } else {
+          // resuming would take longer than a new copy, give up on this data
+          deactivate();
+        }
+      }
+    });
+  }
+
+  /**
+   * Stops applying messages to the data until resume is called, leaving the data at the end of its history. Must be
+   * called in the swing event thread.
+   */
+  public void pause() {
+    if (m_pausedMessages != null) {
+      return;
+    }
+    m_data.getHistory().gotoNode(m_data.getHistory().getLastNode());
+    m_pausedData = new SoftReference<GameData>(m_data);
+    m_pausedMessages = new ArrayList<Runnable>();
+    m_data = null;
+  }
+
+  /**
+   * Applies the messages kept while paused, and applies new ones as they come again. Must be called in the swing event
+   * thread.
+   *
+   * @return the data, up to date with the game, or null if it was reclaimed or too many messages came while paused,
+   *         in which case this synchronizer is deactivated.
+   */
+  public GameData resume() {
+    if (m_pausedMessages == null) {
+      return m_data;
+    }
+    final GameData data = m_pausedData == null ? null : m_pausedData.get();
+    if (data == null) {
+      deactivate();
+      return null;
+    }
+    final List<Runnable> messages = m_pausedMessages;
+    m_pausedData = null;
+    m_pausedMessages = null;
+    m_data = data;
+    for (final Runnable message : messages) {
+      message.run();
+    }
+    return data;
+  }
+
   public void deactivate() {
     m_game.getChannelMessenger().unregisterChannelSubscriber(m_gameModifiedChannelListener,
         IGame.GAME_MODIFICATION_CHANNEL);
+    m_pausedData = null;
+    if (m_pausedMessages != null) {
+      m_pausedMessages.clear();
+    }
   }
 
   /**
-   * Serializes the object and then deserializes it, resolving object
+   * Translates the object, resolving object
    * references into m_data. Note the the history we are synching may refer to
    * a different game data than the GaneData held by the IGame. A clone is
    * made so that we can walk up and down the history without changing the
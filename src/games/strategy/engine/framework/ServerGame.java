@@ -62,6 +62,7 @@ public class ServerGame extends AbstractGame {
   private IRandomSource m_randomSource = new PlainRandomSource();
   private IRandomSource m_delegateRandomSource;
   private final DelegateExecutionManager m_delegateExecutionManager = new DelegateExecutionManager();
+  private final ChangeBatcher m_changeBatcher;
   private InGameLobbyWatcherWrapper m_inGameLobbyWatcher;
   private boolean m_needToInitialize = true;
   /**
@@ -73,6 +74,11 @@ public class ServerGame extends AbstractGame {
    * Has the delegate signaled that delegate execution should stop.
    */
   private volatile boolean m_delegateExecutionStopped = false;
+  /**
+   * If set, startGame returns once the delegates stop the game sequence, instead of waiting for stopGame.
+   */
+  private volatile boolean m_returnWhenGameSequenceStops = false;
+  private volatile boolean m_autoSaveEnabled = true;
   private final IServerRemote m_serverRemote = new IServerRemote() {
     @Override
     public byte[] getSavedGame() {
@@ -104,6 +110,10 @@ public class ServerGame extends AbstractGame {
       @Override
       public void gameDataChanged(final Change aChange) {
         assertCorrectCaller();
+        // the changes of a batch were performed when they were added to it
+        if (m_changeBatcher.isSending()) {
+          return;
+        }
         m_changePerformer.perform(aChange);
         m_data.getHistory().getHistoryWriter().addChange(aChange);
       }
@@ -154,6 +164,14 @@ public class ServerGame extends AbstractGame {
       public void shutDown() {}
     };
     m_channelMessenger.registerChannelSubscriber(m_gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
+    m_changeBatcher = new ChangeBatcher(m_data, m_changePerformer,
+        (IGameModifiedChannel) m_channelMessenger.getChannelBroadcastor(IGame.GAME_MODIFICATION_CHANNEL));
+    m_delegateExecutionManager.setBeforeLeaveDelegateExecution(new Runnable() {
+      @Override
+      public void run() {
+        m_changeBatcher.flush();
+      }
+    });
     setupDelegateMessaging(data);
     m_randomStats = new RandomStats(m_remoteMessenger);
     m_remoteMessenger.registerRemote(m_serverRemote, SERVER_REMOTE);
@@ -269,6 +287,9 @@ public class ServerGame extends AbstractGame {
       }
       while (!m_isGameOver) {
         if (m_delegateExecutionStopped) {
+          if (m_returnWhenGameSequenceStops) {
+            return;
+          }
           // the delegate has told us to stop stepping through game steps
           try {
             // dont let this method return, as this method returning signals
@@ -358,6 +379,9 @@ public class ServerGame extends AbstractGame {
   }
 
   private void autoSave() {
+    if (!m_autoSaveEnabled) {
+      return;
+    }
     SaveGameFileChooser.ensureDefaultDirExists();
     final File f1 = new File(SaveGameFileChooser.DEFAULT_DIRECTORY, SaveGameFileChooser.getAutoSaveFileName());
     final File f2 = new File(SaveGameFileChooser.DEFAULT_DIRECTORY, SaveGameFileChooser.getAutoSave2FileName());
@@ -376,6 +400,9 @@ public class ServerGame extends AbstractGame {
   }
 
   private void autoSaveRound() {
+    if (!m_autoSaveEnabled) {
+      return;
+    }
     SaveGameFileChooser.ensureDefaultDirExists();
     final File autosaveFile;
     if (m_data.getSequence().getRound() % 2 == 0) {
@@ -473,7 +500,7 @@ public class ServerGame extends AbstractGame {
         continue;
       }
       final DefaultDelegateBridge bridge = new DefaultDelegateBridge(m_data, this,
-          new DelegateHistoryWriter(m_channelMessenger), m_randomStats, m_delegateExecutionManager);
+          new DelegateHistoryWriter(m_changeBatcher), m_randomStats, m_delegateExecutionManager);
       if (m_delegateRandomSource == null) {
         m_delegateRandomSource = (IRandomSource) m_delegateExecutionManager.createOutboundImplementation(m_randomSource,
             new Class[] {IRandomSource.class});
@@ -499,7 +526,7 @@ public class ServerGame extends AbstractGame {
       }
     }
     final DefaultDelegateBridge bridge = new DefaultDelegateBridge(m_data, this,
-        new DelegateHistoryWriter(m_channelMessenger), m_randomStats, m_delegateExecutionManager);
+        new DelegateHistoryWriter(m_changeBatcher), m_randomStats, m_delegateExecutionManager);
     if (m_delegateRandomSource == null) {
       m_delegateRandomSource = (IRandomSource) m_delegateExecutionManager.createOutboundImplementation(m_randomSource,
           new Class[] {IRandomSource.class});
@@ -610,14 +637,16 @@ public class ServerGame extends AbstractGame {
   }
 
   private IGameModifiedChannel getGameModifiedBroadcaster() {
-    return (IGameModifiedChannel) m_channelMessenger.getChannelBroadcastor(IGame.GAME_MODIFICATION_CHANNEL);
+    return m_changeBatcher;
   }
 
   @Override
   public void addChange(final Change aChange) {
     getGameModifiedBroadcaster().gameDataChanged(aChange);
-    // let our channel subscribor do the change,
-    // that way all changes will happen in the same thread
+    // changes made in a delegate are sent when the delegate is left, others right away
+    if (!m_delegateExecutionManager.isCurrentThreadInDelegateExecution()) {
+      m_changeBatcher.flush();
+    }
   }
 
   @Override
@@ -650,6 +679,21 @@ public class ServerGame extends AbstractGame {
   public boolean isGameSequenceRunning() {
     return !m_delegateExecutionStopped;
   }
+
+  /**
+   * Make startGame return as soon as the game sequence is stopped (ie: the game is won), rather than blocking until
+   * stopGame is called. Used when there is nobody to ask whether to continue the game.
+   */
+  public void setReturnWhenGameSequenceStops(final boolean returnWhenGameSequenceStops) {
+    m_returnWhenGameSequenceStops = returnWhenGameSequenceStops;
+  }
+
+  /**
+   * Turn the autosaves written at the end of steps and rounds on or off.
+   */
+  public void setAutoSaveEnabled(final boolean autoSaveEnabled) {
+    m_autoSaveEnabled = autoSaveEnabled;
+  }
 }
 
 
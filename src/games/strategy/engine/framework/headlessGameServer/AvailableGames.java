@@ -22,6 +22,7 @@ import java.util.zip.ZipInputStream;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameCatalog;
 import games.strategy.engine.framework.GameRunner2;
 import games.strategy.engine.framework.ui.NewGameChooserModel;
 import games.strategy.triplea.Constants;
@@ -29,6 +30,7 @@ import games.strategy.util.ClassLoaderUtil;
 
 /**
  * A list of all available games. We make sure we can parse them all, but we don't keep them in memory.
+ * Games the game catalog already knows, from a file that has not changed, are not parsed again.
  */
 public class AvailableGames {
   private static final boolean s_delayedParsing = false;
@@ -78,6 +80,7 @@ public class AvailableGames {
         populateFromZip(map, availableGames, availableMapFolderOrZipNames, mapNamePropertyList);
       }
     }
+    GameCatalog.getInstance().writeToDisk();
     System.out.println("Finished parsing all available game xmls. ");
   }
 
@@ -106,7 +109,7 @@ public class AvailableGames {
     }
     for (final File game : games.listFiles()) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        final boolean added = addToAvailableGames(game.toURI(), availableGames, mapNamePropertyList);
+        final boolean added = addToAvailableGames(game.toURI(), game, availableGames, mapNamePropertyList);
         if (added) {
           availableMapFolderOrZipNames.add(mapDir.getName());
         }
@@ -126,8 +129,8 @@ public class AvailableGames {
           final URL url = loader.getResource(entry.getName());
           // we have to close the loader to allow files to be deleted on windows
           try {
-            final boolean added = addToAvailableGames(new URI(url.toString().replace(" ", "%20")), availableGames,
-                mapNamePropertyList);
+            final boolean added = addToAvailableGames(new URI(url.toString().replace(" ", "%20")), map,
+                availableGames, mapNamePropertyList);
             if (added && map.getName().length() > 4) {
               availableMapFolderOrZipNames
                   .add(map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()));
@@ -144,26 +147,24 @@ public class AvailableGames {
     }
   }
 
-  private static boolean addToAvailableGames(final URI uri, final Map<String, URI> availableGames,
-      final Set<String> mapNamePropertyList) {
+  private static boolean addToAvailableGames(final URI uri, final File container,
+      final Map<String, URI> availableGames, final Set<String> mapNamePropertyList) {
     if (uri == null) {
       return false;
     }
+    final GameCatalog.Game game = GameCatalog.getInstance().get(uri, container);
+    if (game != null) {
+      return addToAvailableGames(uri, game.getGameName(), game.getMapName(), availableGames, mapNamePropertyList);
+    }
     InputStream input = null;
     final AtomicReference<String> gameName = new AtomicReference<String>();
     try {
       input = uri.toURL().openStream();
       try {
         final GameData data = new GameParser().parse(input, gameName, s_delayedParsing);
-        final String name = data.getGameName();
-        final String mapName = data.getProperties().get(Constants.MAP_NAME, "");
-        if (!availableGames.containsKey(name)) {
-          availableGames.put(name, uri);
-          if (mapName.length() > 0) {
-            mapNamePropertyList.add(mapName);
-          }
-          return true;
-        }
+        GameCatalog.getInstance().put(uri, container, data);
+        return addToAvailableGames(uri, data.getGameName(), data.getProperties().get(Constants.MAP_NAME, ""),
+            availableGames, mapNamePropertyList);
       } catch (final Exception e2) {// ignore
         System.err.println("Exception while parsing: " + uri.toString() + " : "
             + (gameName.get() != null ? gameName.get() + " : " : "") + e2.getMessage());
@@ -181,6 +182,18 @@ public class AvailableGames {
     return false;
   }
 
+  private static boolean addToAvailableGames(final URI uri, final String name, final String mapName,
+      final Map<String, URI> availableGames, final Set<String> mapNamePropertyList) {
+    if (availableGames.containsKey(name)) {
+      return false;
+    }
+    availableGames.put(name, uri);
+    if (mapName.length() > 0) {
+      mapNamePropertyList.add(mapName);
+    }
+    return true;
+  }
+
   private static String getGameXMLLocation(final URI uri) {
     if (uri == null) {
       return null;
@@ -15,6 +15,7 @@ import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameCatalog;
 import games.strategy.engine.framework.GameRunner2;
 import games.strategy.triplea.Constants;
 
@@ -22,6 +23,7 @@ public class NewGameChooserEntry {
   private final URI m_url;
   private GameData m_data;
   private boolean m_gameDataFullyLoaded = false;
+  private final String m_gameName;
   private final String m_gameNameAndMapNameProperty;
 
 
@@ -32,7 +34,7 @@ public class NewGameChooserEntry {
         return getLowerCaseComparable(o1).compareTo(getLowerCaseComparable(o2));
       }
       private String getLowerCaseComparable(NewGameChooserEntry newGameChooserEntry) {
-        return newGameChooserEntry.getGameData().getGameName().toLowerCase();
+        return newGameChooserEntry.getGameName().toLowerCase();
       }
     };
   }
@@ -46,10 +48,23 @@ public class NewGameChooserEntry {
       final boolean delayParsing = GameRunner2.getDelayedParsing();
       m_data = new GameParser().parse(input, gameName, delayParsing);
       m_gameDataFullyLoaded = !delayParsing;
+      m_gameName = m_data.getGameName();
       m_gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
     }
   }
 
+  /**
+   * An entry for a game the game catalog already knows, the game is only parsed when its game data is needed.
+   */
+  public NewGameChooserEntry(final URI uri, final GameCatalog.Game game) {
+    m_url = uri;
+    m_gameName = game.getGameName();
+    if (game.getMapName().trim().length() == 0) {
+      throw new IllegalStateException("Map name property not set on game");
+    }
+    m_gameNameAndMapNameProperty = m_gameName + ":" + game.getMapName();
+  }
+
   public void fullyParseGameData() throws GameParseException {
     m_data = null;
 
@@ -107,7 +122,7 @@ public class NewGameChooserEntry {
   }
 
   public String getGameName() {
-    return m_data.getGameName();
+    return m_gameName;
   }
 
   // the user may have selected a map skin instead of this map folder, so don't use this for anything except our
@@ -129,7 +144,13 @@ public class NewGameChooserEntry {
     return getGameName();
   }
 
+  /**
+   * @return the game data, parsed now if the entry came from the game catalog and has not been parsed yet.
+   */
   public GameData getGameData() {
+    if (m_data == null) {
+      delayParseGameData();
+    }
     return m_data;
   }
 
@@ -166,15 +187,7 @@ public class NewGameChooserEntry {
       return false;
     }
     final NewGameChooserEntry other = (NewGameChooserEntry) obj;
-    if (m_data == null) {
-      if (other.m_data != null) {
-        return false;
-      }
-    } else {
-      if (other.m_data == null) {
-        return false;
-      }
-    }
+    // entries from the game catalog have no game data until it is needed, so only compare the names
     return this.getGameNameAndMapNameProperty().equals(other.getGameNameAndMapNameProperty());
   }
 }
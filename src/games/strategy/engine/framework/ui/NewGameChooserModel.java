@@ -35,6 +35,7 @@ import com.google.common.collect.Sets;
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameParseException;
+import games.strategy.engine.framework.GameCatalog;
 import games.strategy.engine.framework.GameRunner2;
 import games.strategy.engine.framework.startup.ui.MainFrame;
 import games.strategy.util.ClassLoaderUtil;
@@ -98,7 +99,7 @@ public class NewGameChooserModel extends DefaultListModel {
     Collections.newSetFromMap(new ConcurrentHashMap(allMapFiles.size()));
 
     // Half the total number of cores being used as a generic sweet spot. @DanVanAtta found with 6 cores that 2 to 4 threads were best.
-    final int halfCoreCount = (int) Math.ceil(Runtime.getRuntime().availableProcessors()/2);
+    final int halfCoreCount = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
     final ExecutorService threadPool = Executors.newFixedThreadPool(halfCoreCount);
 
     for (final File map : allMapFiles) {
@@ -123,7 +124,10 @@ public class NewGameChooserModel extends DefaultListModel {
     }
     try {
       threadPool.shutdown();
-      threadPool.awaitTermination(5,TimeUnit.MINUTES);
+      // only when every map was looked at, as the catalog leaves out the games that were not
+      if (threadPool.awaitTermination(5,TimeUnit.MINUTES)) {
+        GameCatalog.getInstance().writeToDisk();
+      }
     } catch (InterruptedException e) {
       ClientLogger.logQuietly(e);
     }
@@ -142,7 +146,7 @@ public class NewGameChooserModel extends DefaultListModel {
       while (zipEntryEnumeration.hasMoreElements()) {
         ZipEntry entry = zipEntryEnumeration.nextElement();
         if (entry.getName().startsWith("games/") && entry.getName().toLowerCase().endsWith(".xml")) {
-          ZipProcessingResult result = processZipEntry(loader, entry, entries);
+          ZipProcessingResult result = processZipEntry(map, loader, entry, entries);
           if (result == ZipProcessingResult.ERROR) {
             badMapZip = true;
             break;
@@ -159,15 +163,15 @@ public class NewGameChooserModel extends DefaultListModel {
     return entries;
   }
 
-  private static ZipProcessingResult processZipEntry(final URLClassLoader loader, final ZipEntry entry,
-      final List<NewGameChooserEntry> entries) {
+  private static ZipProcessingResult processZipEntry(final File map, final URLClassLoader loader,
+      final ZipEntry entry, final List<NewGameChooserEntry> entries) {
     final URL url = loader.getResource(entry.getName());
     if (url == null) {
       // not loading the URL means the XML is truncated or otherwise in bad shape
       return ZipProcessingResult.ERROR;
     }
     try {
-      addNewGameChooserEntry(entries, new URI(url.toString().replace(" ", "%20")));
+      addNewGameChooserEntry(entries, new URI(url.toString().replace(" ", "%20")), map);
     } catch (final URISyntaxException e) {
       // only happens when URI couldn't be build and therefore no entry was added. That's fine ..
     }
@@ -221,10 +225,13 @@ public class NewGameChooserModel extends DefaultListModel {
    *        list of entries where to add the new entry
    * @param uri
    *        URI of the new entry
+   * @param container
+   *        the file holding the game xml, either the xml itself or the map zip
    */
-  private static void addNewGameChooserEntry(final List<NewGameChooserEntry> entries, final URI uri) {
+  private static void addNewGameChooserEntry(final List<NewGameChooserEntry> entries, final URI uri,
+      final File container) {
     try {
-      final NewGameChooserEntry newEntry = createEntry(uri);
+      final NewGameChooserEntry newEntry = createEntry(uri, container);
       if (newEntry != null && !entries.contains(newEntry)) {
         entries.add(newEntry);
       }
@@ -242,16 +249,26 @@ public class NewGameChooserModel extends DefaultListModel {
 
   public NewGameChooserEntry findByName(final String name) {
     for (int i = 0; i < size(); i++) {
-      if (get(i).getGameData().getGameName().equals(name)) {
+      if (get(i).getGameName().equals(name)) {
         return get(i);
       }
     }
     return null;
   }
 
-  private static NewGameChooserEntry createEntry(final URI uri)
+  /**
+   * Only parses the game if the game catalog does not know it, or its file has changed.
+   */
+  private static NewGameChooserEntry createEntry(final URI uri, final File container)
       throws IOException, GameParseException, SAXException, EngineVersionException {
-    return new NewGameChooserEntry(uri);
+    final GameCatalog catalog = GameCatalog.getInstance();
+    final GameCatalog.Game game = catalog.get(uri, container);
+    if (game != null) {
+      return new NewGameChooserEntry(uri, game);
+    }
+    final NewGameChooserEntry entry = new NewGameChooserEntry(uri);
+    catalog.put(uri, container, entry.getGameData());
+    return entry;
   }
 
   private static List<NewGameChooserEntry> populateFromDirectory(final File mapDir) {
@@ -264,7 +281,7 @@ public class NewGameChooserModel extends DefaultListModel {
     }
     for (final File game : games.listFiles()) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        addNewGameChooserEntry(entries, game.toURI());
+        addNewGameChooserEntry(entries, game.toURI(), game);
       }
     }
     return entries;
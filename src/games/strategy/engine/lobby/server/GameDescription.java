@@ -55,7 +55,7 @@ public class GameDescription implements Externalizable, Cloneable {
   private String m_botSupportEmail =
       HeadlessGameServer.getInstance() != null ? System.getProperty(GameRunner2.LOBBY_GAME_SUPPORT_EMAIL, "") : "";
 
-  // if you add a field, add it to write/read object as well for Externalizable
+  // if you add a field, add it to write/read object as well for Externalizable, and to isSameAs
   public GameDescription() {}
 
   public GameDescription(final INode hostedBy, final int port, final Date startDateTime, final String gameName,
@@ -204,6 +204,22 @@ public class GameDescription implements Externalizable, Cloneable {
     m_comment = comment;
   }
 
+  /**
+   * @return true if the other description shows the same game the same way, only its version may differ.
+   */
+  public boolean isSameAs(final GameDescription other) {
+    return m_port == other.m_port && m_playerCount == other.m_playerCount && m_passworded == other.m_passworded
+        && m_status == other.m_status && isSame(m_hostedBy, other.m_hostedBy)
+        && isSame(m_startDateTime, other.m_startDateTime) && isSame(m_gameName, other.m_gameName)
+        && isSame(m_round, other.m_round) && isSame(m_hostName, other.m_hostName)
+        && isSame(m_comment, other.m_comment) && isSame(m_engineVersion, other.m_engineVersion)
+        && isSame(m_gameVersion, other.m_gameVersion) && isSame(m_botSupportEmail, other.m_botSupportEmail);
+  }
+
+  private static boolean isSame(final Object value, final Object otherValue) {
+    return value == null ? otherValue == null : value.equals(otherValue);
+  }
+
   @Override
   public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
     m_hostedBy = new Node();
@@ -3,11 +3,13 @@ package games.strategy.engine.lobby.server;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,14 +21,49 @@ import games.strategy.net.IMessenger;
 import games.strategy.net.INode;
 import games.strategy.net.IServerMessenger;
 
+/**
+ * Keeps the games hosted through the lobby, and tells the lobby clients about them.
+ * <p>
+ * Hosts, bots most of all, update their game often. An update is not broadcast at once, the latest description of
+ * each game is broadcast once the update window after its first pending update has passed, and only if it differs
+ * from the description broadcast last. New and removed games are broadcast at once.
+ * <p>
+ * The games are guarded by a lock per stripe of game ids, so hosts of different games do not wait on each other. A
+ * game is only broadcast while holding its lock, so clients hear of each game in order, and never of an update after
+ * the game was removed.
+ */
 public class LobbyGameController implements ILobbyGameController {
   private final static Logger s_logger = Logger.getLogger(LobbyGameController.class.getName());
-  private final Object m_mutex = new Object();
-  private final Map<GUID, GameDescription> m_allGames = new HashMap<GUID, GameDescription>();
+  private static final long UPDATE_WINDOW_MILLIS = 500;
+  private static final int LOCK_STRIPES = 16;
+  private final Object[] m_locks = new Object[LOCK_STRIPES];
+  private final Map<GUID, GameDescription> m_allGames = new ConcurrentHashMap<GUID, GameDescription>();
+  // the latest description of each game not yet broadcast, and the description broadcast last
+  private final Map<GUID, GameDescription> m_pending = new ConcurrentHashMap<GUID, GameDescription>();
+  private final Map<GUID, GameDescription> m_broadcast = new ConcurrentHashMap<GUID, GameDescription>();
+  private final ScheduledExecutorService m_broadcastThread =
+      Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(final Runnable r) {
+          final Thread thread = new Thread(r, "Lobby game broadcaster");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+  private final long m_updateWindowMillis;
   private final ILobbyGameBroadcaster m_broadcaster;
   private final IMessenger m_messenger;
 
   public LobbyGameController(final ILobbyGameBroadcaster broadcaster, final IMessenger messenger) {
+    this(broadcaster, messenger, UPDATE_WINDOW_MILLIS);
+  }
+
+  LobbyGameController(final ILobbyGameBroadcaster broadcaster, final IMessenger messenger,
+      final long updateWindowMillis) {
+    for (int i = 0; i < m_locks.length; i++) {
+      m_locks[i] = new Object();
+    }
+    m_updateWindowMillis = updateWindowMillis;
     m_broadcaster = broadcaster;
     m_messenger = messenger;
     ((IServerMessenger) m_messenger).addConnectionChangeListener(new IConnectionChangeListener() {
@@ -40,22 +77,25 @@ public class LobbyGameController implements ILobbyGameController {
     });
   }
 
+  private Object getLock(final GUID gameID) {
+    return m_locks[(gameID.hashCode() & Integer.MAX_VALUE) % m_locks.length];
+  }
+
   private void connectionLost(final INode to) {
-    final List<GUID> removed = new ArrayList<GUID>();
-    synchronized (m_mutex) {
-      final Iterator<GUID> keys = m_allGames.keySet().iterator();
-      while (keys.hasNext()) {
-        final GUID key = keys.next();
-        final GameDescription game = m_allGames.get(key);
-        if (game.getHostedBy().equals(to)) {
-          keys.remove();
-          removed.add(key);
+    for (final Map.Entry<GUID, GameDescription> game : m_allGames.entrySet()) {
+      if (!game.getValue().getHostedBy().equals(to)) {
+        continue;
+      }
+      final GUID gameID = game.getKey();
+      synchronized (getLock(gameID)) {
+        if (m_allGames.remove(gameID) == null) {
+          continue;
         }
+        m_pending.remove(gameID);
+        m_broadcast.remove(gameID);
+        m_broadcaster.gameRemoved(gameID);
       }
     }
-    for (final GUID guid : removed) {
-      m_broadcaster.gameRemoved(guid);
-    }
   }
 
   @Override
@@ -63,10 +103,12 @@ public class LobbyGameController implements ILobbyGameController {
     final INode from = MessageContext.getSender();
     assertCorrectHost(description, from);
     s_logger.info("Game added:" + description);
-    synchronized (m_mutex) {
+    synchronized (getLock(gameID)) {
       m_allGames.put(gameID, description);
+      m_pending.remove(gameID);
+      m_broadcast.put(gameID, description);
+      m_broadcaster.gameUpdated(gameID, description);
     }
-    m_broadcaster.gameUpdated(gameID, description);
   }
 
   private static void assertCorrectHost(final GameDescription description, final INode from) {
@@ -83,8 +125,11 @@ public class LobbyGameController implements ILobbyGameController {
     if (s_logger.isLoggable(Level.FINE)) {
       s_logger.fine("Game updated:" + description);
     }
-    synchronized (m_mutex) {
+    synchronized (getLock(gameID)) {
       final GameDescription oldDescription = m_allGames.get(gameID);
+      if (oldDescription == null) {
+        throw new IllegalStateException("No such game:" + gameID);
+      }
       // out of order updates
       // ignore, we already have the latest
       if (oldDescription.getVersion() > description.getVersion()) {
@@ -94,16 +139,37 @@ public class LobbyGameController implements ILobbyGameController {
         throw new IllegalStateException("Game modified by wrong host");
       }
       m_allGames.put(gameID, description);
+      final GameDescription broadcast = m_broadcast.get(gameID);
+      if (broadcast != null && broadcast.isSameAs(description)) {
+        // the clients already show the game like this
+        m_pending.remove(gameID);
+        return;
+      }
+      if (m_pending.put(gameID, description) == null) {
+        m_broadcastThread.schedule(new Runnable() {
+          @Override
+          public void run() {
+            broadcastPending(gameID);
+          }
+        }, m_updateWindowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void broadcastPending(final GUID gameID) {
+    synchronized (getLock(gameID)) {
+      final GameDescription description = m_pending.remove(gameID);
+      if (description == null || !m_allGames.containsKey(gameID)) {
+        return;
+      }
+      m_broadcast.put(gameID, description);
+      m_broadcaster.gameUpdated(gameID, description);
     }
-    m_broadcaster.gameUpdated(gameID, description);
   }
 
   @Override
   public Map<GUID, GameDescription> listGames() {
-    synchronized (m_mutex) {
-      final Map<GUID, GameDescription> rVal = new HashMap<GUID, GameDescription>(m_allGames);
-      return rVal;
-    }
+    return new HashMap<GUID, GameDescription>(m_allGames);
   }
 
   public void register(final IRemoteMessenger remote) {
@@ -112,10 +178,7 @@ public class LobbyGameController implements ILobbyGameController {
 
   @Override
   public String testGame(final GUID gameID) {
-    GameDescription description;
-    synchronized (m_mutex) {
-      description = m_allGames.get(gameID);
-    }
+    final GameDescription description = m_allGames.get(gameID);
     if (description == null) {
       return "No such game found";
     }
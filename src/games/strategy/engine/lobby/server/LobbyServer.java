@@ -14,6 +14,8 @@ import games.strategy.engine.lobby.server.headless.HeadlessLobbyConsole;
 import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
 import games.strategy.engine.lobby.server.ui.LobbyAdminConsole;
 import games.strategy.engine.lobby.server.userDB.Database;
+import games.strategy.engine.lobby.server.userDB.ModerationCache;
+import games.strategy.net.DefaultObjectStreamFactory;
 import games.strategy.net.IServerMessenger;
 import games.strategy.net.Messengers;
 import games.strategy.net.ServerMessenger;
@@ -34,6 +36,12 @@ public class LobbyServer {
   // should the lobby take commands from stdin,
   // set to true to enable
   private static final String TRIPLEA_LOBBY_CONSOLE_PROPERTY = "triplea.lobby.console";
+  // how many threads read and write the sockets of the clients, defaults to the number of processors
+  private static final String TRIPLEA_LOBBY_SELECTOR_THREADS_PROPERTY = "triplea.lobby.selectorThreads";
+  // how many threads decode messages and check logins, defaults to the number of processors
+  private static final String TRIPLEA_LOBBY_DECODER_THREADS_PROPERTY = "triplea.lobby.decoderThreads";
+  // how many clients can be waiting to connect
+  private static final int CONNECTION_BACKLOG = 256;
   public static final String ADMIN_USERNAME = "Admin";
   private final static Logger s_logger = Logger.getLogger(LobbyServer.class.getName());
   public static final String LOBBY_CHAT = "_LOBBY_CHAT";
@@ -41,14 +49,17 @@ public class LobbyServer {
   private final Messengers m_messengers;
 
   public static String[] getProperties() {
-    return new String[] {TRIPLEA_LOBBY_PORT_PROPERTY, TRIPLEA_LOBBY_CONSOLE_PROPERTY, TRIPLEA_LOBBY_UI_PROPERTY};
+    return new String[] {TRIPLEA_LOBBY_PORT_PROPERTY, TRIPLEA_LOBBY_CONSOLE_PROPERTY, TRIPLEA_LOBBY_UI_PROPERTY,
+        TRIPLEA_LOBBY_SELECTOR_THREADS_PROPERTY, TRIPLEA_LOBBY_DECODER_THREADS_PROPERTY};
   }
 
   /** Creates a new instance of LobbyServer */
   public LobbyServer(final int port) {
     IServerMessenger server;
     try {
-      server = new ServerMessenger(ADMIN_USERNAME, port);
+      server = new ServerMessenger(ADMIN_USERNAME, port, new DefaultObjectStreamFactory(),
+          getThreadCount(TRIPLEA_LOBBY_SELECTOR_THREADS_PROPERTY),
+          getThreadCount(TRIPLEA_LOBBY_DECODER_THREADS_PROPERTY), CONNECTION_BACKLOG);
     } catch (final IOException ex) {
       s_logger.log(Level.SEVERE, ex.toString());
       throw new IllegalStateException(ex.getMessage());
@@ -71,6 +82,16 @@ public class LobbyServer {
     server.setAcceptNewConnections(true);
   }
 
+  private static int getThreadCount(final String property) {
+    final int processors = Runtime.getRuntime().availableProcessors();
+    try {
+      return Math.max(1, Integer.parseInt(System.getProperty(property, String.valueOf(processors))));
+    } catch (final NumberFormatException e) {
+      s_logger.warning("Invalid " + property + ", using " + processors);
+      return processors;
+    }
+  }
+
   private static void setUpLogging() {
     // setup logging to read our logging.properties
     try {
@@ -102,6 +123,8 @@ public class LobbyServer {
       System.out.println("Starting database");
       // initialize the database
       Database.getConnection().close();
+      // read the bans, mutes and bad words, so logins do not have to
+      ModerationCache.getInstance().load();
       s_logger.info("Lobby started");
       if (startUI) {
         startUI(server);
@@ -178,6 +201,8 @@ public class LobbyServer {
 
   private static void usage() {
     System.out.println("Arguments\n" + "   " + TRIPLEA_LOBBY_PORT_PROPERTY + "=<port number (ex: 3303)>\n" + "   "
-        + TRIPLEA_LOBBY_UI_PROPERTY + "=<true/false>\n" + "   " + TRIPLEA_LOBBY_CONSOLE_PROPERTY + "=<true/false>\n");
+        + TRIPLEA_LOBBY_UI_PROPERTY + "=<true/false>\n" + "   " + TRIPLEA_LOBBY_CONSOLE_PROPERTY + "=<true/false>\n"
+        + "   " + TRIPLEA_LOBBY_SELECTOR_THREADS_PROPERTY + "=<threads reading and writing sockets>\n" + "   "
+        + TRIPLEA_LOBBY_DECODER_THREADS_PROPERTY + "=<threads decoding messages>\n");
   }
 }
@@ -15,8 +15,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import games.strategy.debug.DebugUtils;
 import games.strategy.engine.lobby.server.LobbyServer;
+import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
 import games.strategy.engine.lobby.server.ui.DBExplorerPanel;
 import games.strategy.engine.lobby.server.userDB.Database;
+import games.strategy.engine.lobby.server.userDB.ModerationCache;
 import games.strategy.net.IConnectionChangeListener;
 import games.strategy.net.INode;
 
@@ -134,6 +136,8 @@ public class HeadlessLobbyConsole {
       if (DBExplorerPanel.isNotQuery(sql)) {
         final int rs = ps.executeUpdate(sql);
         out.println("Update count:" + rs);
+        // the sql may have changed bans, mutes or bad words
+        ModerationCache.getInstance().load();
       } else {
         final ResultSet rs = ps.executeQuery(sql);
         print(rs);
@@ -181,6 +185,8 @@ public class HeadlessLobbyConsole {
         "port:%s\n" + "up since:%s\n" + "total logins:%s\n" + "current connections:%s\n"
             + "max concurrent connections:%s\n",
         port, startDate, totalLogins.get(), currentConnections.get(), maxConcurrentLogins));
+    out.println(LobbyLoginValidator.getLoginStatistics());
+    out.println(Database.getStatistics());
   }
 
   private void showHelp() {
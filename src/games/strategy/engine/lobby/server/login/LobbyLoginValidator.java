@@ -4,18 +4,19 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.sql.Timestamp;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import games.strategy.engine.framework.startup.ui.InGameLobbyWatcher;
 import games.strategy.engine.lobby.server.LobbyServer;
-import games.strategy.engine.lobby.server.userDB.BadWordController;
 import games.strategy.engine.lobby.server.userDB.BannedIpController;
 import games.strategy.engine.lobby.server.userDB.BannedMacController;
 import games.strategy.engine.lobby.server.userDB.BannedUsernameController;
 import games.strategy.engine.lobby.server.userDB.DBUserController;
+import games.strategy.engine.lobby.server.userDB.ModerationCache;
 import games.strategy.net.ILoginValidator;
 import games.strategy.util.MD5Crypt;
 import games.strategy.util.Tuple;
@@ -36,6 +37,10 @@ public class LobbyLoginValidator implements ILoginValidator {
   public static final String HASHED_PASSWORD_KEY = "HASHEDPWD";
   public static final String EMAIL_KEY = "EMAIL";
   public static final String SALT_KEY = "SALT";
+  // how long checking logins takes
+  private static final AtomicLong s_loginCount = new AtomicLong();
+  private static final AtomicLong s_loginNanos = new AtomicLong();
+  private static final AtomicLong s_maxLoginNanos = new AtomicLong();
 
   public LobbyLoginValidator() {}
 
@@ -54,7 +59,9 @@ public class LobbyLoginValidator implements ILoginValidator {
   public String verifyConnection(final Map<String, String> propertiesSentToClient,
       final Map<String, String> propertiesReadFromClient, final String clientName, final String clientMac,
       final SocketAddress remoteAddress) {
+    final long start = System.nanoTime();
     final String error = verifyConnectionInternal(propertiesReadFromClient, clientName, clientMac, remoteAddress);
+    recordLoginTime(System.nanoTime() - start);
     if (error != null) {
       s_logger.info("Bad login attemp from " + remoteAddress + " for user " + clientName + " error:" + error);
       AccessLog.failedLogin(clientName, ((InetSocketAddress) remoteAddress).getAddress(), error);
@@ -65,6 +72,27 @@ public class LobbyLoginValidator implements ILoginValidator {
     return error;
   }
 
+  private static void recordLoginTime(final long nanos) {
+    s_loginCount.incrementAndGet();
+    s_loginNanos.addAndGet(nanos);
+    long max = s_maxLoginNanos.get();
+    while (nanos > max && !s_maxLoginNanos.compareAndSet(max, nanos)) {
+      max = s_maxLoginNanos.get();
+    }
+    if (s_logger.isLoggable(Level.FINE)) {
+      s_logger.fine("Login checked in " + nanos / 1000000.0 + " ms");
+    }
+  }
+
+  /**
+   * @return how many logins have been checked, and how long checking them took.
+   */
+  public static String getLoginStatistics() {
+    final long count = s_loginCount.get();
+    return String.format("Logins checked: %d, average %.2f ms, max %.2f ms", count,
+        count == 0 ? 0 : s_loginNanos.get() / 1000000.0 / count, s_maxLoginNanos.get() / 1000000.0);
+  }
+
   private String verifyConnectionInternal(final Map<String, String> propertiesReadFromClient, final String clientName,
       final String hashedMac, final SocketAddress remoteAddress) {
     if (propertiesReadFromClient == null) {
@@ -79,10 +107,8 @@ public class LobbyLoginValidator implements ILoginValidator {
       return "Wrong version, we require" + LobbyServer.LOBBY_VERSION.toString() + " but trying to log in with "
           + clientVersionString;
     }
-    for (final String s : getBadWords()) {
-      if (clientName.toLowerCase().contains(s.toLowerCase())) {
-        return THATS_NOT_A_NICE_NAME;
-      }
+    if (ModerationCache.getInstance().containsBadWord(clientName)) {
+      return THATS_NOT_A_NICE_NAME;
     }
     final String remoteIp = ((InetSocketAddress) remoteAddress).getAddress().getHostAddress();
     final Tuple<Boolean, Timestamp> ipBanned = new BannedIpController().isIpBanned(remoteIp);
@@ -153,10 +179,6 @@ public class LobbyLoginValidator implements ILoginValidator {
     return (sb.toString());
   }
 
-  private List<String> getBadWords() {
-    return new BadWordController().list();
-  }
-
   private static String validatePassword(final Map<String, String> propertiesReadFromClient, final String clientName) {
     final DBUserController userController = new DBUserController();
     if (!userController.login(clientName, propertiesReadFromClient.get(HASHED_PASSWORD_KEY))) {
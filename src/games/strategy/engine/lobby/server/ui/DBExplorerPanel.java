@@ -19,6 +19,7 @@ import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import games.strategy.engine.lobby.server.userDB.Database;
+import games.strategy.engine.lobby.server.userDB.ModerationCache;
 
 public class DBExplorerPanel extends JPanel {
   private static final long serialVersionUID = 7259741539317170247L;
@@ -75,6 +76,8 @@ public class DBExplorerPanel extends JPanel {
       final Statement ps = con.createStatement();
       if (isNotQuery(sql)) {
         final int rs = ps.executeUpdate(sql);
+        // the sql may have changed bans, mutes or bad words
+        ModerationCache.getInstance().load();
         final DefaultTableModel model = new DefaultTableModel();
         model.addColumn("COUNT");
         model.addRow(new Object[] {rs});
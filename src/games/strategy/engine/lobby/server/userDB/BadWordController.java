@@ -24,6 +24,7 @@ public class BadWordController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().addBadWord(word);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -47,6 +48,7 @@ public class BadWordController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().removeBadWord(word);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned word:" + word, sqle);
       throw new IllegalStateException(sqle.getMessage());
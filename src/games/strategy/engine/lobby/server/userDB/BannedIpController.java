@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -46,6 +45,7 @@ public class BannedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getBannedIps().put(ip, banTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +69,7 @@ public class BannedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getBannedIps().remove(ip);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned ip:" + ip, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -82,36 +83,17 @@ public class BannedIpController {
    * database any ip's whose ban has expired
    */
   public Tuple<Boolean, Timestamp> isIpBanned(final String ip) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select ip, ban_till from banned_ips where ip = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, ip);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // if the ban has expird, allow the ip
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + ip);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned ip existence:" + ip + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final ModerationCache.ExpiringSet banned = ModerationCache.getInstance().getBannedIps();
+    if (banned.getTill(ip) == null) {
+      return Tuple.of(false, null);
     }
-    if (expired) {
+    final Timestamp banTill = banned.getTillTimestamp(ip);
+    // if the ban has expired, allow the ip
+    if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
+      s_logger.fine("Ban expired for:" + ip);
       removeBannedIp(ip);
       return Tuple.of(false, banTill);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, banTill);
   }
 }
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -46,6 +45,7 @@ public class BannedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getBannedMacs().put(mac, banTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +69,7 @@ public class BannedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getBannedMacs().remove(mac);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned mac:" + mac, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -82,36 +83,17 @@ public class BannedMacController {
    * database any mac's whose ban has expired
    */
   public Tuple<Boolean, Timestamp> isMacBanned(final String mac) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select mac, ban_till from banned_macs where mac = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, mac);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // If the ban has expired, allow the mac
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + mac);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned mac existence:" + mac + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final ModerationCache.ExpiringSet banned = ModerationCache.getInstance().getBannedMacs();
+    if (banned.getTill(mac) == null) {
+      return Tuple.of(false, null);
     }
-    if (expired) {
+    final Timestamp banTill = banned.getTillTimestamp(mac);
+    // if the ban has expired, allow the mac
+    if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
+      s_logger.fine("Ban expired for:" + mac);
       removeBannedMac(mac);
       return Tuple.of(false, banTill);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, banTill);
   }
 }
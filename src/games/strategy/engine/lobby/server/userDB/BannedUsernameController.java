@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -47,6 +46,7 @@ public class BannedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getBannedUsernames().put(username, banTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -70,6 +70,7 @@ public class BannedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getBannedUsernames().remove(username);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned username:" + username, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -83,36 +84,17 @@ public class BannedUsernameController {
    * database any username's whose ban has expired
    */
   public Tuple<Boolean, Timestamp> isUsernameBanned(final String username) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select username, ban_till from banned_usernames where username = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, username);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // If the ban has expired, allow the username
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + username);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned username existence:" + username + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final ModerationCache.ExpiringSet banned = ModerationCache.getInstance().getBannedUsernames();
+    if (banned.getTill(username) == null) {
+      return Tuple.of(false, null);
     }
-    if (expired) {
+    final Timestamp banTill = banned.getTillTimestamp(username);
+    // if the ban has expired, allow the username
+    if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
+      s_logger.fine("Ban expired for:" + username);
       removeBannedUsername(username);
       return Tuple.of(false, banTill);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, banTill);
   }
 }
@@ -0,0 +1,338 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A bounded pool of database connections.
+ * <p>
+ * Closing a connection from the pool returns it to the pool. Statements prepared with prepareStatement(String) are
+ * kept with their connection, and preparing the same sql again on it returns the same statement, closing such a
+ * statement only clears its parameters. Other statements are closed when the connection is returned.
+ * <p>
+ * At most maxConnections connections are handed out at once. When all are in use, getConnection waits for one to be
+ * returned, and if none is returned in time, opens a connection outside the pool, so a thread that needs a second
+ * connection while holding one can not deadlock.
+ */
+class ConnectionPool {
+  private static final Logger s_logger = Logger.getLogger(ConnectionPool.class.getName());
+  // how many statements each connection keeps prepared
+  static final int MAX_CACHED_STATEMENTS = 64;
+
+  /**
+   * Opens the real connections.
+   */
+  interface IConnectionFactory {
+    Connection create() throws SQLException;
+  }
+
+  private final IConnectionFactory m_factory;
+  private final long m_maxWaitMillis;
+  private final Semaphore m_permits;
+  private final LinkedBlockingQueue<PooledConnection> m_idle = new LinkedBlockingQueue<PooledConnection>();
+  // statistics
+  private final AtomicLong m_connectionsOpened = new AtomicLong();
+  private final AtomicLong m_connectionsHandedOut = new AtomicLong();
+  private final AtomicLong m_waits = new AtomicLong();
+  private final AtomicLong m_waitNanos = new AtomicLong();
+  private final AtomicLong m_overflows = new AtomicLong();
+  private final AtomicLong m_statementsPrepared = new AtomicLong();
+  private final AtomicLong m_statementsReused = new AtomicLong();
+
+  ConnectionPool(final IConnectionFactory factory, final int maxConnections, final long maxWaitMillis) {
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("Need at least one connection, not:" + maxConnections);
+    }
+    m_factory = factory;
+    m_maxWaitMillis = maxWaitMillis;
+    m_permits = new Semaphore(maxConnections, true);
+  }
+
+  Connection getConnection() throws SQLException {
+    boolean permit = m_permits.tryAcquire();
+    if (!permit) {
+      final long start = System.nanoTime();
+      m_waits.incrementAndGet();
+      try {
+        permit = m_permits.tryAcquire(m_maxWaitMillis, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      m_waitNanos.addAndGet(System.nanoTime() - start);
+    }
+    m_connectionsHandedOut.incrementAndGet();
+    if (!permit) {
+      m_overflows.incrementAndGet();
+      s_logger.warning("All database connections in use, opening one outside the pool");
+      return new PooledConnection(openConnection(), false).getProxy();
+    }
+    try {
+      PooledConnection connection;
+      while ((connection = m_idle.poll()) != null) {
+        if (!connection.m_connection.isClosed()) {
+          return connection.getProxy();
+        }
+      }
+      return new PooledConnection(openConnection(), true).getProxy();
+    } catch (final SQLException | RuntimeException e) {
+      m_permits.release();
+      throw e;
+    }
+  }
+
+  private Connection openConnection() throws SQLException {
+    final Connection connection = m_factory.create();
+    m_connectionsOpened.incrementAndGet();
+    return connection;
+  }
+
+  /**
+   * Closes the connections that are not in use.
+   */
+  void closeIdle() {
+    PooledConnection connection;
+    while ((connection = m_idle.poll()) != null) {
+      connection.closeConnection();
+    }
+  }
+
+  int getIdleCount() {
+    return m_idle.size();
+  }
+
+  /**
+   * @return how many connections were opened, handed out, and waited for, and how many statements were reused.
+   */
+  String getStatistics() {
+    final long waits = m_waits.get();
+    return String.format("Connections opened: %d, handed out: %d, idle: %d, waits: %d (average %.2f ms), "
+        + "opened outside pool: %d, statements prepared: %d, reused: %d", m_connectionsOpened.get(),
+        m_connectionsHandedOut.get(), m_idle.size(), waits, waits == 0 ? 0 : m_waitNanos.get() / 1000000.0 / waits,
+        m_overflows.get(), m_statementsPrepared.get(), m_statementsReused.get());
+  }
+
+  private void returnConnection(final PooledConnection connection) {
+    try {
+      if (connection.m_pooled && !connection.m_connection.isClosed()) {
+        m_idle.offer(connection);
+      } else {
+        connection.closeConnection();
+      }
+    } catch (final SQLException e) {
+      s_logger.log(Level.FINE, "Could not check connection", e);
+    } finally {
+      if (connection.m_pooled) {
+        m_permits.release();
+      }
+    }
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * A real connection, and the statements prepared on it.
+   */
+  private final class PooledConnection {
+    private final Connection m_connection;
+    private final boolean m_pooled;
+    private final Map<String, CachedStatement> m_statements = new HashMap<String, CachedStatement>();
+    // statements to close when the connection is returned
+    private final List<Statement> m_openStatements = new ArrayList<Statement>();
+
+    PooledConnection(final Connection connection, final boolean pooled) {
+      m_connection = connection;
+      m_pooled = pooled;
+    }
+
+    /**
+     * @return a new handle to this connection, closing the handle returns the connection.
+     */
+    Connection getProxy() {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+          new ConnectionHandler(this));
+    }
+
+    PreparedStatement prepareStatement(final String sql, final Connection proxy) throws SQLException {
+      CachedStatement cached = m_statements.get(sql);
+      if (cached != null && cached.m_statement.isClosed()) {
+        m_statements.remove(sql);
+        cached = null;
+      }
+      if (cached != null && !cached.m_inUse) {
+        m_statementsReused.incrementAndGet();
+        cached.m_inUse = true;
+        return cached.getProxy(proxy);
+      }
+      final PreparedStatement statement = m_connection.prepareStatement(sql);
+      m_statementsPrepared.incrementAndGet();
+      if (cached != null || m_statements.size() >= MAX_CACHED_STATEMENTS) {
+        // the cached one is being used, or there is no more room
+        m_openStatements.add(statement);
+        return statement;
+      }
+      final CachedStatement newCached = new CachedStatement(statement);
+      m_statements.put(sql, newCached);
+      newCached.m_inUse = true;
+      return newCached.getProxy(proxy);
+    }
+
+    /**
+     * Gets the connection ready for the next user.
+     */
+    void reset() {
+      for (final Statement statement : m_openStatements) {
+        try {
+          statement.close();
+        } catch (final SQLException e) {
+          s_logger.log(Level.FINE, "Could not close statement", e);
+        }
+      }
+      m_openStatements.clear();
+      for (final CachedStatement cached : m_statements.values()) {
+        cached.free();
+      }
+      try {
+        if (!m_connection.isClosed() && !m_connection.getAutoCommit()) {
+          m_connection.rollback();
+          m_connection.setAutoCommit(true);
+        }
+      } catch (final SQLException e) {
+        s_logger.log(Level.WARNING, "Could not reset connection", e);
+        closeConnection();
+      }
+    }
+
+    void closeConnection() {
+      try {
+        m_connection.close();
+      } catch (final SQLException e) {
+        s_logger.log(Level.FINE, "Could not close connection", e);
+      }
+    }
+  }
+
+  /**
+   * A handle to a pooled connection, given to one user of the pool.
+   */
+  private final class ConnectionHandler implements InvocationHandler {
+    private final PooledConnection m_pooledConnection;
+    private boolean m_closed = false;
+
+    ConnectionHandler(final PooledConnection pooledConnection) {
+      m_pooledConnection = pooledConnection;
+    }
+
+    @Override
+    public synchronized Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+      final String name = method.getName();
+      if (name.equals("close")) {
+        if (!m_closed) {
+          m_closed = true;
+          m_pooledConnection.reset();
+          returnConnection(m_pooledConnection);
+        }
+        return null;
+      } else if (name.equals("isClosed")) {
+        return m_closed || m_pooledConnection.m_connection.isClosed();
+      } else if (name.equals("equals")) {
+        return proxy == args[0];
+      } else if (name.equals("hashCode")) {
+        return System.identityHashCode(proxy);
+      } else if (name.equals("toString")) {
+        return "Pooled " + m_pooledConnection.m_connection;
+      }
+      if (m_closed) {
+        throw new SQLException("Connection is closed");
+      }
+      if (name.equals("prepareStatement") && args.length == 1) {
+        return m_pooledConnection.prepareStatement((String) args[0], (Connection) proxy);
+      }
+      final Object rVal = ConnectionPool.invoke(m_pooledConnection.m_connection, method, args);
+      if (rVal instanceof Statement) {
+        m_pooledConnection.m_openStatements.add((Statement) rVal);
+      }
+      return rVal;
+    }
+  }
+
+  /**
+   * A statement kept prepared on its connection.
+   */
+  private static final class CachedStatement {
+    private final PreparedStatement m_statement;
+    private boolean m_inUse = false;
+    // changes each time the statement is freed, so an old handle can not free it again
+    private int m_handle = 0;
+
+    CachedStatement(final PreparedStatement statement) {
+      m_statement = statement;
+    }
+
+    void free() {
+      if (!m_inUse) {
+        return;
+      }
+      m_inUse = false;
+      m_handle++;
+      try {
+        m_statement.clearParameters();
+      } catch (final SQLException e) {
+        s_logger.log(Level.FINE, "Could not clear statement", e);
+      }
+    }
+
+    PreparedStatement getProxy(final Connection connection) {
+      final int handle = m_handle;
+      return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+          new Class<?>[] {PreparedStatement.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+              final String name = method.getName();
+              final boolean closed = handle != m_handle;
+              if (name.equals("close")) {
+                if (!closed) {
+                  free();
+                }
+                return null;
+              } else if (name.equals("isClosed")) {
+                return closed;
+              } else if (name.equals("getConnection")) {
+                return connection;
+              } else if (name.equals("equals")) {
+                return proxy == args[0];
+              } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+              } else if (name.equals("toString")) {
+                return "Cached " + m_statement;
+              }
+              if (closed) {
+                throw new SQLException("Statement is closed");
+              }
+              return ConnectionPool.invoke(m_statement, method, args);
+            }
+          });
+    }
+  }
+}
@@ -31,12 +31,19 @@ import games.strategy.engine.framework.startup.launcher.ServerLauncher;
  * <p>
  * Getting a connection will also schedule backups at regular intervals.
  * <p>
+ * Connections come from a pool, closing a connection returns it to the pool. The pool size can be set with the
+ * triplea.lobby.db.connections system property.
  */
 public class Database {
   private final static Logger s_logger = Logger.getLogger(Database.class.getName());
   private static final Object s_dbSetupLock = new Object();
   private static boolean s_isDbSetup = false;
   private static boolean s_areDBTablesCreated = false;
+  private static final String DB_CONNECTIONS_PROPERTY = "triplea.lobby.db.connections";
+  private static final int DEFAULT_DB_CONNECTIONS = 8;
+  // how long to wait for a connection from the pool, before opening one outside it
+  private static final long MAX_CONNECTION_WAIT_MILLIS = 5000;
+  private static ConnectionPool s_pool;
 
   private static File getCurrentDataBaseDir() {
     final File dbRootDir = getDBRoot();
@@ -64,8 +71,19 @@ public class Database {
   }
 
   public static Connection getConnection() {
-    ensureDbIsSetup();
+    final ConnectionPool pool = ensureDbIsSetup();
     Connection conn = null;
+    try {
+      conn = pool.getConnection();
+    } catch (final SQLException e) {
+      s_logger.log(Level.SEVERE, e.getMessage(), e);
+      throw new IllegalStateException("Could not create db connection");
+    }
+    ensureDbTablesAreCreated(conn);
+    return conn;
+  }
+
+  private static Connection createConnection() throws SQLException {
     final Properties props = getDbProps();
     /*
      * The connection specifies create=true to cause
@@ -77,14 +95,19 @@ public class Database {
      * directory if derby.system.home is not set.
      */
     final String url = "jdbc:derby:ta_users;create=true";
-    try {
-      conn = DriverManager.getConnection(url, props);
-    } catch (final SQLException e) {
-      s_logger.log(Level.SEVERE, e.getMessage(), e);
-      throw new IllegalStateException("Could not create db connection");
+    return DriverManager.getConnection(url, props);
+  }
+
+  /**
+   * @return how the connections to the database have been used.
+   */
+  public static String getStatistics() {
+    synchronized (s_dbSetupLock) {
+      if (s_pool == null) {
+        return "Database not started";
+      }
+      return s_pool.getStatistics();
     }
-    ensureDbTablesAreCreated(conn);
-    return conn;
   }
 
   /**
@@ -165,11 +188,13 @@ public class Database {
 
   /**
    * Set up folders and environment variables for database
+   *
+   * @return the pool to get connections from
    */
-  private static void ensureDbIsSetup() {
+  private static ConnectionPool ensureDbIsSetup() {
     synchronized (s_dbSetupLock) {
       if (s_isDbSetup) {
-        return;
+        return s_pool;
       }
       // setup the derby location
       System.getProperties().setProperty("derby.system.home", getCurrentDataBaseDir().getAbsolutePath());
@@ -188,6 +213,12 @@ public class Database {
           shutDownDB();
         }
       }));
+      s_pool = new ConnectionPool(new ConnectionPool.IConnectionFactory() {
+        @Override
+        public Connection create() throws SQLException {
+          return createConnection();
+        }
+      }, getConnectionCount(), MAX_CONNECTION_WAIT_MILLIS);
       s_isDbSetup = true;
     }
     // we want to backup the database on occassion
@@ -207,6 +238,17 @@ public class Database {
     }, "TripleA Database Backup Thread");
     backupThread.setDaemon(true);
     backupThread.start();
+    return s_pool;
+  }
+
+  private static int getConnectionCount() {
+    try {
+      return Math.max(1, Integer.parseInt(
+          System.getProperty(DB_CONNECTIONS_PROPERTY, String.valueOf(DEFAULT_DB_CONNECTIONS))));
+    } catch (final NumberFormatException e) {
+      s_logger.warning("Invalid " + DB_CONNECTIONS_PROPERTY + ", using " + DEFAULT_DB_CONNECTIONS);
+      return DEFAULT_DB_CONNECTIONS;
+    }
   }
 
   /**
@@ -259,6 +301,7 @@ public class Database {
   }
 
   private static void shutDownDB() {
+    s_pool.closeIdle();
     try {
       DriverManager.getConnection("jdbc:derby:ta_users;shutdown=true");
     } catch (final SQLException se) {
@@ -0,0 +1,239 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import games.strategy.util.MultiStringMatcher;
+
+/**
+ * The bans, mutes and bad words of the lobby, kept in memory so checking a login or a chat message does not read the
+ * database.
+ * <p>
+ * Everything is read from the database the first time it is needed, or when load() is called. After that the ban,
+ * mute and bad word controllers update the cache each time they change the database. Changes made to the database
+ * some other way, such as with sql from the admin console, are only seen after calling load() again.
+ */
+public class ModerationCache {
+  private static final Logger s_logger = Logger.getLogger(ModerationCache.class.getName());
+  private static final ModerationCache s_instance = new ModerationCache();
+  // loading and changing the cache synchronize on this, reading does not
+  private final Object m_lock = new Object();
+  private volatile boolean m_loaded = false;
+  private final ExpiringSet m_bannedIps = new ExpiringSet("banned_ips", "ip", "ban_till");
+  private final ExpiringSet m_bannedMacs = new ExpiringSet("banned_macs", "mac", "ban_till");
+  private final ExpiringSet m_bannedUsernames = new ExpiringSet("banned_usernames", "username", "ban_till");
+  private final ExpiringSet m_mutedIps = new ExpiringSet("muted_ips", "ip", "mute_till");
+  private final ExpiringSet m_mutedMacs = new ExpiringSet("muted_macs", "mac", "mute_till");
+  private final ExpiringSet m_mutedUsernames = new ExpiringSet("muted_usernames", "username", "mute_till");
+  private final Set<String> m_badWords = new HashSet<String>();
+  private volatile MultiStringMatcher m_badWordMatcher = new MultiStringMatcher(Collections.<String>emptySet());
+
+  public static ModerationCache getInstance() {
+    return s_instance;
+  }
+
+  private ModerationCache() {}
+
+  /**
+   * Reads the bans, mutes and bad words from the database, replacing what was cached.
+   */
+  public void load() {
+    final long start = System.nanoTime();
+    synchronized (m_lock) {
+      final Connection con = Database.getConnection();
+      try {
+        for (final ExpiringSet set : new ExpiringSet[] {m_bannedIps, m_bannedMacs, m_bannedUsernames, m_mutedIps,
+            m_mutedMacs, m_mutedUsernames}) {
+          set.load(con);
+        }
+        m_badWords.clear();
+        final PreparedStatement ps = con.prepareStatement("select word from bad_words");
+        final ResultSet rs = ps.executeQuery();
+        while (rs.next()) {
+          m_badWords.add(rs.getString(1).toLowerCase());
+        }
+        rs.close();
+        ps.close();
+        m_badWordMatcher = new MultiStringMatcher(m_badWords);
+        m_loaded = true;
+      } catch (final SQLException sqle) {
+        s_logger.log(Level.SEVERE, "Error loading bans, mutes and bad words", sqle);
+        throw new IllegalStateException(sqle.getMessage());
+      } finally {
+        DbUtil.closeConnection(con);
+      }
+    }
+    s_logger.info(String.format("Loaded %d bans, %d mutes and %d bad words in %.1f ms",
+        m_bannedIps.size() + m_bannedMacs.size() + m_bannedUsernames.size(),
+        m_mutedIps.size() + m_mutedMacs.size() + m_mutedUsernames.size(), m_badWords.size(),
+        (System.nanoTime() - start) / 1000000.0));
+  }
+
+  private void ensureLoaded() {
+    if (m_loaded) {
+      return;
+    }
+    synchronized (m_lock) {
+      if (!m_loaded) {
+        load();
+      }
+    }
+  }
+
+  /**
+   * @return true if the name contains a bad word, ignoring case.
+   */
+  public boolean containsBadWord(final String name) {
+    ensureLoaded();
+    return m_badWordMatcher.containsAny(name.toLowerCase());
+  }
+
+  void addBadWord(final String word) {
+    synchronized (m_lock) {
+      if (m_badWords.add(word.toLowerCase())) {
+        m_badWordMatcher = new MultiStringMatcher(m_badWords);
+      }
+    }
+  }
+
+  void removeBadWord(final String word) {
+    synchronized (m_lock) {
+      if (m_badWords.remove(word.toLowerCase())) {
+        m_badWordMatcher = new MultiStringMatcher(m_badWords);
+      }
+    }
+  }
+
+  public boolean isUsernameMuted(final String username) {
+    return getMutedUsernames().isActive(username);
+  }
+
+  public boolean isIpMuted(final String ip) {
+    return getMutedIps().isActive(ip);
+  }
+
+  public boolean isMacMuted(final String mac) {
+    return getMutedMacs().isActive(mac);
+  }
+
+  ExpiringSet getBannedIps() {
+    ensureLoaded();
+    return m_bannedIps;
+  }
+
+  ExpiringSet getBannedMacs() {
+    ensureLoaded();
+    return m_bannedMacs;
+  }
+
+  ExpiringSet getBannedUsernames() {
+    ensureLoaded();
+    return m_bannedUsernames;
+  }
+
+  ExpiringSet getMutedIps() {
+    ensureLoaded();
+    return m_mutedIps;
+  }
+
+  ExpiringSet getMutedMacs() {
+    ensureLoaded();
+    return m_mutedMacs;
+  }
+
+  ExpiringSet getMutedUsernames() {
+    ensureLoaded();
+    return m_mutedUsernames;
+  }
+
+  /**
+   * The contents of a ban or mute table, each key with the time it expires.
+   */
+  final class ExpiringSet {
+    // the expiry time of a key that never expires
+    static final long FOREVER = Long.MAX_VALUE;
+    private final String m_table;
+    private final String m_keyColumn;
+    private final String m_tillColumn;
+    private final Map<String, Long> m_till = new ConcurrentHashMap<String, Long>();
+
+    ExpiringSet(final String table, final String keyColumn, final String tillColumn) {
+      m_table = table;
+      m_keyColumn = keyColumn;
+      m_tillColumn = tillColumn;
+    }
+
+    private void load(final Connection con) throws SQLException {
+      final Map<String, Long> loaded = new HashMap<String, Long>();
+      final PreparedStatement ps =
+          con.prepareStatement("select " + m_keyColumn + ", " + m_tillColumn + " from " + m_table);
+      final ResultSet rs = ps.executeQuery();
+      while (rs.next()) {
+        loaded.put(rs.getString(1), toTill(rs.getTimestamp(2)));
+      }
+      rs.close();
+      ps.close();
+      // replace the contents without emptying the set first, as other threads may be reading it
+      m_till.keySet().retainAll(loaded.keySet());
+      m_till.putAll(loaded);
+    }
+
+    private long toTill(final Timestamp till) {
+      return till == null ? FOREVER : till.getTime();
+    }
+
+    /**
+     * @param till
+     *        null if it never expires
+     */
+    void put(final String key, final Timestamp till) {
+      synchronized (m_lock) {
+        m_till.put(key, toTill(till));
+      }
+    }
+
+    void remove(final String key) {
+      synchronized (m_lock) {
+        m_till.remove(key);
+      }
+    }
+
+    /**
+     * @return when the key expires, FOREVER if it never does, or null if the key is not in the set.
+     */
+    Long getTill(final String key) {
+      return key == null ? null : m_till.get(key);
+    }
+
+    /**
+     * @return null if it never expires.
+     */
+    Timestamp getTillTimestamp(final String key) {
+      final Long till = getTill(key);
+      return till == null || till == FOREVER ? null : new Timestamp(till);
+    }
+
+    /**
+     * @return true if the key is in the set, and has not expired.
+     */
+    boolean isActive(final String key) {
+      final Long till = getTill(key);
+      return till != null && till > System.currentTimeMillis();
+    }
+
+    int size() {
+      return m_till.size();
+    }
+  }
+}
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -46,6 +45,7 @@ public class MutedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getMutedIps().put(ip, muteTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +69,7 @@ public class MutedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getMutedIps().remove(ip);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted ip:" + ip, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -87,73 +88,26 @@ public class MutedIpController {
   }
 
   public long getIpUnmuteTime(final String ip) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select ip, mute_till from muted_ips where ip = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, ip);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + ip);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted ip existence:" + ip + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final Long muteTill = ModerationCache.getInstance().getMutedIps().getTill(ip);
+    if (muteTill == null) {
+      return -1;
     }
     // If the mute has expired, allow the ip
-    if (expired) {
+    if (muteTill < System.currentTimeMillis()) {
+      s_logger.fine("Mute expired for:" + ip);
       removeMutedIp(ip);
       // Signal as not-muted
-      result = -1;
+      return -1;
     }
-    return result;
+    return muteTill;
   }
 
   public List<String> getIPsThatAreStillMuted(final List<String> ips) {
     final List<String> results = new ArrayList<String>();
-    final String sql = "select ip, mute_till from muted_ips where ip = ?";
-    final Connection con = Database.getConnection();
-    try {
-      for (final String ip : ips) {
-        boolean found = false;
-        boolean expired = false;
-        final PreparedStatement ps = con.prepareStatement(sql);
-        ps.setString(1, ip);
-        final ResultSet rs = ps.executeQuery();
-        found = rs.next();
-        // If the mute has expired, allow the ip
-        if (found) {
-          final Timestamp muteTill = rs.getTimestamp(2);
-          if (muteTill != null && muteTill.getTime() < System.currentTimeMillis()) {
-            s_logger.fine("Mute expired for: " + ip);
-            expired = true;
-          }
-        }
-        rs.close();
-        ps.close();
-        if (found && !expired) {
-          results.add(ip);
-        }
+    for (final String ip : ips) {
+      if (getIpUnmuteTime(ip) != -1) {
+        results.add(ip);
       }
-    } catch (final SQLException sqle) {
-      s_logger.info("Error testing whether ips were muted: " + ips);
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
     }
     return results;
   }
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -46,6 +45,7 @@ public class MutedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getMutedMacs().put(mac, muteTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +69,7 @@ public class MutedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getMutedMacs().remove(mac);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted mac:" + mac, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -87,73 +88,26 @@ public class MutedMacController {
   }
 
   public long getMacUnmuteTime(final String mac) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select mac, mute_till from muted_macs where mac = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, mac);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + mac);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted mac existence:" + mac + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final Long muteTill = ModerationCache.getInstance().getMutedMacs().getTill(mac);
+    if (muteTill == null) {
+      return -1;
     }
     // If the mute has expired, allow the mac
-    if (expired) {
+    if (muteTill < System.currentTimeMillis()) {
+      s_logger.fine("Mute expired for:" + mac);
       removeMutedMac(mac);
       // Signal as not-muted
-      result = -1;
+      return -1;
     }
-    return result;
+    return muteTill;
   }
 
   public List<String> getMacsThatAreStillMuted(final List<String> macs) {
     final List<String> results = new ArrayList<String>();
-    final String sql = "select mac, mute_till from muted_macs where mac = ?";
-    final Connection con = Database.getConnection();
-    try {
-      for (final String mac : macs) {
-        boolean found = false;
-        boolean expired = false;
-        final PreparedStatement ps = con.prepareStatement(sql);
-        ps.setString(1, mac);
-        final ResultSet rs = ps.executeQuery();
-        found = rs.next();
-        // If the mute has expired, allow the mac
-        if (found) {
-          final Timestamp muteTill = rs.getTimestamp(2);
-          if (muteTill != null && muteTill.getTime() < System.currentTimeMillis()) {
-            s_logger.fine("Mute expired for: " + mac);
-            expired = true;
-          }
-        }
-        rs.close();
-        ps.close();
-        if (found && !expired) {
-          results.add(mac);
-        }
+    for (final String mac : macs) {
+      if (getMacUnmuteTime(mac) != -1) {
+        results.add(mac);
       }
-    } catch (final SQLException sqle) {
-      s_logger.info("Error testing whether macs were muted: " + macs);
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
     }
     return results;
   }
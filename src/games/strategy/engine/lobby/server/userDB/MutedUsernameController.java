@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -47,6 +46,7 @@ public class MutedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getMutedUsernames().put(username, muteTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -70,6 +70,7 @@ public class MutedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      ModerationCache.getInstance().getMutedUsernames().remove(username);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted username:" + username, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -88,73 +89,26 @@ public class MutedUsernameController {
   }
 
   public long getUsernameUnmuteTime(final String username) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select username, mute_till from muted_usernames where username = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, username);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + username);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted username existence:" + username + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
+    final Long muteTill = ModerationCache.getInstance().getMutedUsernames().getTill(username);
+    if (muteTill == null) {
+      return -1;
     }
     // If the mute has expired, allow the username
-    if (expired) {
+    if (muteTill < System.currentTimeMillis()) {
+      s_logger.fine("Mute expired for:" + username);
       removeMutedUsername(username);
       // Signal as not-muted
-      result = -1;
+      return -1;
     }
-    return result;
+    return muteTill;
   }
 
   public List<String> getUsernamesThatAreStillMuted(final List<String> usernames) {
     final List<String> results = new ArrayList<String>();
-    final String sql = "select username, mute_till from muted_usernames where username = ?";
-    final Connection con = Database.getConnection();
-    try {
-      for (final String username : usernames) {
-        boolean found = false;
-        boolean expired = false;
-        final PreparedStatement ps = con.prepareStatement(sql);
-        ps.setString(1, username);
-        final ResultSet rs = ps.executeQuery();
-        found = rs.next();
-        // If the mute has expired, allow the username
-        if (found) {
-          final Timestamp muteTill = rs.getTimestamp(2);
-          if (muteTill != null && muteTill.getTime() < System.currentTimeMillis()) {
-            s_logger.fine("Mute expired for: " + username);
-            expired = true;
-          }
-        }
-        rs.close();
-        ps.close();
-        if (found && !expired) {
-          results.add(username);
-        }
+    for (final String username : usernames) {
+      if (getUsernameUnmuteTime(username) != -1) {
+        results.add(username);
       }
-    } catch (final SQLException sqle) {
-      s_logger.info("Error testing whether usernames were muted: " + usernames);
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
     }
     return results;
   }
@@ -65,6 +65,14 @@ public interface IRemoteMessenger {
    */
   public IRemote getRemote(RemoteName name, boolean ignoreResults);
 
+  /**
+   * @param name
+   *        the name the remote is registered under.
+   * @return a remote reference whose calls do not wait for the results, get them with RemoteFuture.of(...) or
+   *         RemoteFuture.last() after each call.
+   */
+  public IRemote getRemoteAsync(RemoteName name);
+
   /**
    * @param remoteInterface
    *        - the remote interface that implementor implements,
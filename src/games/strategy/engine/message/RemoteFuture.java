@@ -0,0 +1,142 @@
+package games.strategy.engine.message;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The result of a call on a remote reference from IRemoteMessenger.getRemoteAsync(...).
+ * <p>
+ * Calls on an async remote reference send the call and return right away, with null, false or 0, and the future for
+ * the call is then taken with of(...) or last(). This lets a caller make several calls, to one or more remotes, and
+ * only then wait for the results, paying one round trip for all of them rather than one each.
+ *
+ * <pre>
+ * IFoo asyncFoo = (IFoo) aRemoteMessenger.getRemoteAsync(FOO);
+ * Future&lt;Boolean&gt; fee = RemoteFuture.of(asyncFoo.fee());
+ * Future&lt;String&gt; fi = RemoteFuture.of(asyncFoo.fi());
+ * if (fee.get(10, TimeUnit.SECONDS))
+ *   ...
+ * </pre>
+ *
+ * If the remote method throws, get() throws an ExecutionException with it as the cause.
+ * Cancelling stops waiting for the results, it does not stop the remote method from running.
+ * Calls on a remote implemented in this vm are run before the call returns, and their future is already done.
+ */
+public class RemoteFuture<T> implements Future<T> {
+  private static final ThreadLocal<RemoteFuture<?>> s_last = new ThreadLocal<RemoteFuture<?>>();
+  private final CountDownLatch m_done = new CountDownLatch(1);
+  private final Runnable m_onCancel;
+  private volatile RemoteMethodCallResults m_results;
+  private volatile boolean m_cancelled = false;
+
+  /**
+   * @param onCancel
+   *        run if the future is cancelled before it is done, may be null
+   */
+  RemoteFuture(final Runnable onCancel) {
+    m_onCancel = onCancel;
+  }
+
+  /**
+   * @param ignored
+   *        the value returned by a call on an async remote reference
+   * @return the future for the last call made on an async remote reference by this thread.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Future<T> of(final T ignored) {
+    return (Future<T>) last();
+  }
+
+  /**
+   * @return the future for the last call made on an async remote reference by this thread, use for void methods.
+   */
+  public static Future<?> last() {
+    final RemoteFuture<?> last = s_last.get();
+    if (last == null) {
+      throw new IllegalStateException("No call has been made on an async remote");
+    }
+    s_last.remove();
+    return last;
+  }
+
+  static void setLast(final RemoteFuture<?> future) {
+    s_last.set(future);
+  }
+
+  /**
+   * @return false if it was already done or cancelled.
+   */
+  boolean setResults(final RemoteMethodCallResults results) {
+    synchronized (m_done) {
+      if (isDone()) {
+        return false;
+      }
+      m_results = results;
+      m_done.countDown();
+      return true;
+    }
+  }
+
+  /**
+   * Waits for the results, for synchronous calls.
+   */
+  RemoteMethodCallResults awaitResults() throws InterruptedException {
+    m_done.await();
+    return m_results;
+  }
+
+  @Override
+  public boolean cancel(final boolean mayInterruptIfRunning) {
+    synchronized (m_done) {
+      if (isDone()) {
+        return false;
+      }
+      m_cancelled = true;
+      m_done.countDown();
+    }
+    if (m_onCancel != null) {
+      m_onCancel.run();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return m_cancelled;
+  }
+
+  @Override
+  public boolean isDone() {
+    return m_done.getCount() == 0;
+  }
+
+  @Override
+  public T get() throws InterruptedException, ExecutionException {
+    m_done.await();
+    return getResult();
+  }
+
+  @Override
+  public T get(final long timeout, final TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    if (!m_done.await(timeout, unit)) {
+      throw new TimeoutException("No results after " + timeout + " " + unit);
+    }
+    return getResult();
+  }
+
+  @SuppressWarnings("unchecked")
+  private T getResult() throws ExecutionException {
+    if (m_cancelled) {
+      throw new CancellationException();
+    }
+    if (m_results.getException() != null) {
+      throw new ExecutionException(m_results.getException());
+    }
+    return (T) m_results.getRVal();
+  }
+}
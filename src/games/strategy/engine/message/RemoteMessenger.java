@@ -27,6 +27,14 @@ public class RemoteMessenger implements IRemoteMessenger {
     return rVal;
   }
 
+  @Override
+  public IRemote getRemoteAsync(final RemoteName remoteName) {
+    final InvocationHandler ih =
+        new UnifiedInvocationHandler(m_unifiedMessenger, remoteName.getName(), false, true, remoteName.getClazz());
+    return (IRemote) Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
+        new Class<?>[] {remoteName.getClazz()}, ih);
+  }
+
   @Override
   public void registerRemote(final Object implementor, final RemoteName name) {
     m_unifiedMessenger.addImplementor(name, implementor, false);
@@ -15,15 +15,26 @@ class UnifiedInvocationHandler extends WrappedInvocationHandler {
   private final UnifiedMessenger m_messenger;
   private final String m_endPointName;
   private final boolean m_ignoreResults;
+  private final boolean m_async;
   private final Class<?> m_remoteType;
 
   public UnifiedInvocationHandler(final UnifiedMessenger messenger, final String endPointName,
       final boolean ignoreResults, final Class<?> remoteType) {
+    this(messenger, endPointName, ignoreResults, false, remoteType);
+  }
+
+  /**
+   * @param async
+   *        if true, calls return right away, and their results are in the RemoteFuture for the call
+   */
+  public UnifiedInvocationHandler(final UnifiedMessenger messenger, final String endPointName,
+      final boolean ignoreResults, final boolean async, final Class<?> remoteType) {
     // equality and hash code are bassed on end point name
     super(endPointName);
     m_messenger = messenger;
     m_endPointName = endPointName;
     m_ignoreResults = ignoreResults;
+    m_async = async;
     m_remoteType = remoteType;
   }
 
@@ -45,6 +56,9 @@ class UnifiedInvocationHandler extends WrappedInvocationHandler {
     if (m_ignoreResults) {
       m_messenger.invoke(m_endPointName, remoteMethodMsg);
       return null;
+    } else if (m_async) {
+      RemoteFuture.setLast(m_messenger.invokeAsync(m_endPointName, remoteMethodMsg));
+      return getDefaultValue(method.getReturnType());
     } else {
       final RemoteMethodCallResults response = m_messenger.invokeAndWait(m_endPointName, remoteMethodMsg);
       if (response.getException() != null) {
@@ -80,4 +94,29 @@ class UnifiedInvocationHandler extends WrappedInvocationHandler {
       return response.getRVal();
     }
   }
+
+  /**
+   * @return the value a call on an async remote returns, which must not be null for primitive types.
+   */
+  private static Object getDefaultValue(final Class<?> type) {
+    if (!type.isPrimitive() || type == void.class) {
+      return null;
+    } else if (type == boolean.class) {
+      return Boolean.FALSE;
+    } else if (type == char.class) {
+      return Character.valueOf((char) 0);
+    } else if (type == byte.class) {
+      return Byte.valueOf((byte) 0);
+    } else if (type == short.class) {
+      return Short.valueOf((short) 0);
+    } else if (type == int.class) {
+      return Integer.valueOf(0);
+    } else if (type == long.class) {
+      return Long.valueOf(0);
+    } else if (type == float.class) {
+      return Float.valueOf(0);
+    } else {
+      return Double.valueOf(0);
+    }
+  }
 }
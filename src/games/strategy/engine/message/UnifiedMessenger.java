@@ -10,11 +10,13 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
+import java.util.Queue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -33,7 +35,28 @@ import games.strategy.thread.ThreadPool;
 public class UnifiedMessenger {
   private final static Logger s_logger = Logger.getLogger(UnifiedMessenger.class.getName());
 
-  private static final ExecutorService threadPool = Executors.newFixedThreadPool(15);
+  /**
+   * System property choosing what runs the invocations from remote nodes.
+   * "fixed", the default, runs them on a pool with a fixed number of threads, set by POOL_SIZE_PROPERTY.
+   * "unbounded" starts a new thread whenever none are free, so invocations never wait for a thread while the pool is
+   * full of threads blocked waiting for results from other nodes.
+   */
+  public static final String EXECUTOR_PROPERTY = "triplea.messenger.executor";
+  public static final String POOL_SIZE_PROPERTY = "triplea.messenger.poolSize";
+  private static final int DEFAULT_POOL_SIZE = 15;
+  private static Executor s_defaultExecutor;
+  private final Executor m_executor;
+  // statistics
+  // invocations from remote nodes waiting to run
+  private final AtomicInteger m_queuedInvocations = new AtomicInteger();
+  private final AtomicInteger m_maxQueuedInvocations = new AtomicInteger();
+  // threads waiting for remote nodes to return results
+  private final AtomicInteger m_blockedCallers = new AtomicInteger();
+  private final AtomicInteger m_maxBlockedCallers = new AtomicInteger();
+  private final AtomicLong m_invocationCount = new AtomicLong();
+  // from the invocation being received to it being done
+  private final AtomicLong m_totalInvocationNanos = new AtomicLong();
+  private final AtomicLong m_maxInvocationNanos = new AtomicLong();
   // the messenger we are based on
   private final IMessenger m_messenger;
   // lock on this for modifications to create or remove local end points
@@ -43,14 +66,11 @@ public class UnifiedMessenger {
   // have local implementors
   private final Map<String, EndPoint> m_localEndPoints = new HashMap<String, EndPoint>();
   private final Object m_pendingLock = new Object();
-  // threads wait on these latches for the hub to return invocations
-  // the latch should be removed from the map when you countdown the last result
+  // the futures waiting for the hub to return invocations
+  // the future should be removed from the map when it is given its results
   // access should be synchronized on m_pendingLock
   // TODO: how do these get shutdown when we exit a game or close triplea?
-  private final Map<GUID, CountDownLatch> m_pendingInvocations = new HashMap<GUID, CountDownLatch>();
-  // after the remote has invoked, the results are placed here
-  // access should be synchronized on m_pendingLock
-  private final Map<GUID, RemoteMethodCallResults> m_results = new HashMap<GUID, RemoteMethodCallResults>();
+  private final Map<GUID, RemoteFuture<?>> m_pendingInvocations = new HashMap<GUID, RemoteFuture<?>>();
   // only non null for the server
   private UnifiedMessengerHub m_hub;
   private final IMessengerErrorListener m_messengerErrorListener = new IMessengerErrorListener() {
@@ -64,6 +84,15 @@ public class UnifiedMessenger {
    * @param messenger
    */
   public UnifiedMessenger(final IMessenger messenger) {
+    this(messenger, getDefaultExecutor());
+  }
+
+  /**
+   * @param executor
+   *        runs the invocations from remote nodes
+   */
+  public UnifiedMessenger(final IMessenger messenger, final Executor executor) {
+    m_executor = executor;
     m_messenger = messenger;
     m_messenger.addMessageListener(m_messageListener);
     m_messenger.addErrorListener(m_messengerErrorListener);
@@ -72,17 +101,36 @@ public class UnifiedMessenger {
     }
   }
 
+  /**
+   * @return the executor chosen by EXECUTOR_PROPERTY, shared by all messengers that are not given their own.
+   */
+  static synchronized Executor getDefaultExecutor() {
+    if (s_defaultExecutor == null) {
+      if ("unbounded".equals(System.getProperty(EXECUTOR_PROPERTY))) {
+        s_defaultExecutor = Executors.newCachedThreadPool();
+      } else {
+        int poolSize = DEFAULT_POOL_SIZE;
+        try {
+          poolSize = Integer.parseInt(System.getProperty(POOL_SIZE_PROPERTY, String.valueOf(DEFAULT_POOL_SIZE)));
+        } catch (final NumberFormatException e) {
+          s_logger.log(Level.WARNING, "Invalid " + POOL_SIZE_PROPERTY + ", using " + DEFAULT_POOL_SIZE);
+        }
+        s_defaultExecutor = Executors.newFixedThreadPool(Math.max(1, poolSize));
+      }
+    }
+    return s_defaultExecutor;
+  }
+
   UnifiedMessengerHub getHub() {
     return m_hub;
   }
 
   private void messengerInvalid() {
     synchronized (m_pendingLock) {
-      for (final GUID id : m_pendingInvocations.keySet()) {
-        final CountDownLatch latch = m_pendingInvocations.remove(id);
-        latch.countDown();
-        m_results.put(id, new RemoteMethodCallResults(new ConnectionLostException("Connection Lost")));
+      for (final RemoteFuture<?> future : m_pendingInvocations.values()) {
+        future.setResults(new RemoteMethodCallResults(new ConnectionLostException("Connection Lost")));
       }
+      m_pendingInvocations.clear();
     }
   }
 
@@ -111,12 +159,61 @@ public class UnifiedMessenger {
   }
 
   private RemoteMethodCallResults invokeAndWaitRemote(final RemoteMethodCall remoteCall) {
+    final RemoteFuture<?> future = invokeRemote(remoteCall);
+    updateMax(m_maxBlockedCallers, m_blockedCallers.incrementAndGet());
+    RemoteMethodCallResults results = null;
+    try {
+      results = future.awaitResults();
+    } catch (final InterruptedException e) {
+      s_logger.log(Level.WARNING, e.getMessage());
+    } finally {
+      m_blockedCallers.decrementAndGet();
+    }
+    if (s_logger.isLoggable(Level.FINER)) {
+      s_logger.log(Level.FINER, "Method returned:" + remoteCall.getMethodName() + " for remote name:"
+          + remoteCall.getRemoteName());
+    }
+    if (results == null) {
+      throw new IllegalStateException("No results");
+    }
+    return results;
+  }
+
+  /**
+   * Invoke without waiting for the implementor to finish executing.
+   * The future is done when the results come back, or right away if the implementor is in this vm.
+   */
+  public <T> RemoteFuture<T> invokeAsync(final String endPointName, final RemoteMethodCall remoteCall) {
+    EndPoint local;
+    synchronized (m_endPointMutex) {
+      local = m_localEndPoints.get(endPointName);
+    }
+    if (local == null) {
+      return invokeRemote(remoteCall);
+    }
+    final RemoteFuture<T> future = new RemoteFuture<T>(null);
+    future.setResults(invokeAndWait(endPointName, remoteCall));
+    return future;
+  }
+
+  /**
+   * Sends the invocation to the hub, the returned future is given the results when they come back.
+   */
+  private <T> RemoteFuture<T> invokeRemote(final RemoteMethodCall remoteCall) {
     // prepatory to anything else...
     // generate a unique id
     final GUID methodCallID = new GUID();
-    final CountDownLatch latch = new CountDownLatch(1);
+    final RemoteFuture<T> future = new RemoteFuture<T>(new Runnable() {
+      @Override
+      public void run() {
+        // stop waiting, the results will be dropped when they come in
+        synchronized (m_pendingLock) {
+          m_pendingInvocations.remove(methodCallID);
+        }
+      }
+    });
     synchronized (m_pendingLock) {
-      m_pendingInvocations.put(methodCallID, latch);
+      m_pendingInvocations.put(methodCallID, future);
     }
     // invoke remotely
     final Invoke invoke = new HubInvoke(methodCallID, true, remoteCall);
@@ -125,24 +222,7 @@ public class UnifiedMessenger {
       s_logger.log(Level.FINER, "Waiting for method:" + remoteCall.getMethodName() + " for remote name:"
           + remoteCall.getRemoteName() + " with id:" + methodCallID);
     }
-    try {
-      latch.await();
-    } catch (final InterruptedException e) {
-      s_logger.log(Level.WARNING, e.getMessage());
-    }
-    if (s_logger.isLoggable(Level.FINER)) {
-      s_logger.log(Level.FINER, "Method returned:" + remoteCall.getMethodName() + " for remote name:"
-          + remoteCall.getRemoteName() + " with id:" + methodCallID);
-    }
-    RemoteMethodCallResults results;
-    // the countdownlatch map will be cleared when the results come in
-    synchronized (m_pendingLock) {
-      results = m_results.remove(methodCallID);
-      if (results == null) {
-        throw new IllegalStateException("No results");
-      }
-    }
-    return results;
+    return future;
   }
 
   /**
@@ -309,20 +389,26 @@ public class UnifiedMessenger {
       // very important
       // we are guaranteed that here messages will be
       // read in the same order that they are sent from the client
-      // however, once we delegate to the thread pool, there is no
-      // guarantee that the thread pool task will run before
+      // however, once we delegate to the executor, there is no
+      // guarantee that the task will run before
       // we get the next message notification
-      // get the number for the invocation here
-      final long methodRunNumber = local.takeANumber();
+      // so the end point gives the invocation its number here
       // we dont want to block the message thread, only one thread is
       // reading messages
-      // per connection, so run with out thread pool
+      // per connection, so run with the executor
       final EndPoint localFinal = local;
-      final Runnable task = new Runnable() {
+      final long received = System.nanoTime();
+      updateMax(m_maxQueuedInvocations, m_queuedInvocations.incrementAndGet());
+      local.execute(m_executor, new EndPoint.Invocation() {
         @Override
-        public void run() {
+        public void run(final long methodRunNumber) {
+          m_queuedInvocations.decrementAndGet();
           final List<RemoteMethodCallResults> results =
               localFinal.invokeLocal(invoke.call, methodRunNumber, invoke.getInvoker());
+          final long time = System.nanoTime() - received;
+          m_invocationCount.incrementAndGet();
+          m_totalInvocationNanos.addAndGet(time);
+          updateMax(m_maxInvocationNanos, time);
           if (invoke.needReturnValues) {
             RemoteMethodCallResults result = null;
             if (results.size() == 1) {
@@ -334,8 +420,7 @@ public class UnifiedMessenger {
             send(new HubInvocationResults(result, invoke.methodCallID), from);
           }
         }
-      };
-      threadPool.execute(task);
+      });
     }
     // a remote machine is returning results
     else if (msg instanceof SpokeInvocationResults) {
@@ -347,19 +432,63 @@ public class UnifiedMessenger {
       // both of these should already be populated
       // this list should be a synchronized list so we can do the add
       // all
+      final RemoteFuture<?> future;
       synchronized (m_pendingLock) {
-        m_results.put(methodID, results.results);
-        m_pendingInvocations.remove(methodID).countDown();
+        future = m_pendingInvocations.remove(methodID);
+      }
+      // null if cancelled
+      if (future != null) {
+        future.setResults(results.results);
       }
     }
   }
 
+  private static void updateMax(final AtomicInteger max, final int value) {
+    int current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  private static void updateMax(final AtomicLong max, final long value) {
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  /**
+   * @return the number of invocations from remote nodes waiting to run.
+   */
+  public int getQueuedInvocationCount() {
+    return m_queuedInvocations.get();
+  }
+
+  /**
+   * @return the number of threads waiting for remote nodes to return results.
+   */
+  public int getBlockedCallerCount() {
+    return m_blockedCallers.get();
+  }
+
+  /**
+   * @return the queue depth, blocked callers and invocation latency, now and at their highest.
+   */
+  public String getStatistics() {
+    final long count = m_invocationCount.get();
+    final double averageMillis = count == 0 ? 0 : m_totalInvocationNanos.get() / 1000000.0 / count;
+    return String.format("Queued invocations: %d (max %d), blocked callers: %d (max %d), invocations: %d, "
+        + "latency: average %.2f ms, max %.2f ms", m_queuedInvocations.get(), m_maxQueuedInvocations.get(),
+        m_blockedCallers.get(), m_maxBlockedCallers.get(), count, averageMillis,
+        m_maxInvocationNanos.get() / 1000000.0);
+  }
+
   public void dumpState(final PrintStream stream) {
+    stream.println(getStatistics());
     synchronized (m_endPointMutex) {
       stream.println("Local Endpoints:" + m_localEndPoints);
     }
     synchronized (m_endPointMutex) {
-      stream.println("Remote nodes with implementors:" + m_results);
       stream.println("Remote nodes with implementors:" + m_pendingInvocations);
     }
   }
@@ -378,8 +507,19 @@ public class UnifiedMessenger {
  * You can invoke the method and get the results for all the implementors.
  */
 class EndPoint {
+  /**
+   * An invocation, run with the number it was given.
+   */
+  interface Invocation {
+    void run(long number);
+  }
+
   // the next number we are going to give
   private final AtomicLong m_nextGivenNumber = new AtomicLong();
+  // invocations waiting to run with their numbers, in order, only used when single threaded
+  private final Queue<Runnable> m_queue = new LinkedList<Runnable>();
+  // is there a task running the queued invocations
+  private boolean m_draining = false;
   // the next number we can run
   private long m_currentRunnableNumber = 0;
   private final Object m_numberMutext = new Object();
@@ -408,6 +548,59 @@ class EndPoint {
     return m_nextGivenNumber.getAndIncrement();
   }
 
+  /**
+   * Gives the invocation its number, and runs it with the executor.
+   * <p>
+   * If single threaded, the invocations are queued, and run one after another by a single task, rather than each
+   * taking a thread from the executor only to wait for its number to come up.
+   */
+  public void execute(final Executor executor, final Invocation invocation) {
+    if (!m_singleThreaded) {
+      final long number = takeANumber();
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          invocation.run(number);
+        }
+      });
+      return;
+    }
+    synchronized (m_queue) {
+      // take the number and queue in one step, so the queue is in number order
+      final long number = takeANumber();
+      m_queue.add(new Runnable() {
+        @Override
+        public void run() {
+          invocation.run(number);
+        }
+      });
+      if (m_draining) {
+        return;
+      }
+      m_draining = true;
+    }
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        while (true) {
+          final Runnable next;
+          synchronized (m_queue) {
+            next = m_queue.poll();
+            if (next == null) {
+              m_draining = false;
+              return;
+            }
+          }
+          try {
+            next.run();
+          } catch (final RuntimeException e) {
+            Logger.getLogger(EndPoint.class.getName()).log(Level.SEVERE, "Error in invocation", e);
+          }
+        }
+      }
+    });
+  }
+
   private void waitTillCanBeRun(final long aNumber) {
     synchronized (m_numberMutext) {
       while (aNumber > m_currentRunnableNumber) {
@@ -0,0 +1,100 @@
+package games.strategy.engine.random;
+
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+/**
+ * A fast random source for simulations, such as the battle calculator and the AI, where many threads roll dice at
+ * once.
+ * <p>
+ * Unlike PlainRandomSource, which all threads share through synchronized methods, each instance is meant to be used
+ * by one thread only, and is not synchronized. A thread that needs its own source gets one with split(), the new
+ * source is independent of the one it was split from.
+ * <p>
+ * The sources returned by newSimulationSource() are all split from one master source. The master is seeded from the
+ * triplea.simulation.seed system property when it is set, so a simulation can be repeated, as long as its threads
+ * ask for their sources in the same order. Not for dice in real games, use the existing sources for those.
+ */
+public class SplittableRandomSource implements IRandomSource {
+  private static final Logger s_logger = Logger.getLogger(SplittableRandomSource.class.getName());
+  public static final String SEED_PROPERTY = "triplea.simulation.seed";
+  private static SplittableRandomSource s_master;
+  private final SplittableRandom m_random;
+
+  public SplittableRandomSource() {
+    this(new SplittableRandom());
+  }
+
+  public SplittableRandomSource(final long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private SplittableRandomSource(final SplittableRandom random) {
+    m_random = random;
+  }
+
+  /**
+   * @return a new source, for one thread of a simulation.
+   */
+  public static synchronized SplittableRandomSource newSimulationSource() {
+    if (s_master == null) {
+      s_master = createMaster(System.getProperty(SEED_PROPERTY));
+    }
+    return s_master.split();
+  }
+
+  /**
+   * @param seed
+   *        the seed, or null for a random seed. A seed that is not a number is ignored with a warning.
+   */
+  static SplittableRandomSource createMaster(final String seed) {
+    if (seed == null) {
+      return new SplittableRandomSource();
+    }
+    try {
+      return new SplittableRandomSource(Long.parseLong(seed.trim()));
+    } catch (final NumberFormatException e) {
+      s_logger.warning("Not a number: " + SEED_PROPERTY + "=" + seed + ", using a random seed instead");
+      return new SplittableRandomSource();
+    }
+  }
+
+  /**
+   * @return a new source, independent of this one.
+   */
+  public SplittableRandomSource split() {
+    return new SplittableRandomSource(m_random.split());
+  }
+
+  @Override
+  public int getRandom(final int max, final String annotation) throws IllegalArgumentException {
+    if (max <= 0) {
+      throw new IllegalArgumentException("max must be > 0, annotation:" + annotation);
+    }
+    return m_random.nextInt(max);
+  }
+
+  @Override
+  public int[] getRandom(final int max, final int count, final String annotation) throws IllegalArgumentException {
+    if (count <= 0) {
+      throw new IllegalArgumentException("count must be > 0, annotation:" + annotation);
+    }
+    return getRandom(max, new int[count], annotation);
+  }
+
+  /**
+   * Fills the given array with random numbers, so a caller rolling many times can reuse one array.
+   *
+   * @return the array that was passed in.
+   */
+  public int[] getRandom(final int max, final int[] numbers, final String annotation)
+      throws IllegalArgumentException {
+    if (max <= 0) {
+      throw new IllegalArgumentException("max must be > 0, annotation:" + annotation);
+    }
+    for (int i = 0; i < numbers.length; i++) {
+      numbers[i] = m_random.nextInt(max);
+    }
+    return numbers;
+  }
+}
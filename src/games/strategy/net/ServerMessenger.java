@@ -26,9 +26,7 @@ import java.util.logging.Logger;
 import games.strategy.engine.chat.ChatController;
 import games.strategy.engine.chat.IChatChannel;
 import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
-import games.strategy.engine.lobby.server.userDB.MutedIpController;
-import games.strategy.engine.lobby.server.userDB.MutedMacController;
-import games.strategy.engine.lobby.server.userDB.MutedUsernameController;
+import games.strategy.engine.lobby.server.userDB.ModerationCache;
 import games.strategy.engine.message.HubInvoke;
 import games.strategy.engine.message.RemoteMethodCall;
 import games.strategy.engine.message.RemoteName;
@@ -58,15 +56,33 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   // all our nodes
   private final ConcurrentHashMap<INode, SocketChannel> m_nodeToChannel = new ConcurrentHashMap<INode, SocketChannel>();
   private final ConcurrentHashMap<SocketChannel, INode> m_channelToNode = new ConcurrentHashMap<SocketChannel, INode>();
+  // the names given to nodes that are logging in, but are not yet in our nodes
+  private final ConcurrentHashMap<SocketChannel, String> m_loggingInNames =
+      new ConcurrentHashMap<SocketChannel, String>();
 
   // A hack, till I think of something better
   public ServerMessenger(final String name, final int portNumber, final IObjectStreamFactory streamFactory)
       throws IOException {
+    this(name, portNumber, streamFactory, 1, 1, 10);
+  }
+
+  /**
+   * A server for many clients, which reads and decodes their messages with more than one thread.
+   *
+   * @param selectorThreads
+   *        how many threads read the sockets, and how many write them
+   * @param decoderThreads
+   *        how many threads decode messages, logins are also checked by these threads
+   * @param backlog
+   *        how many connections can wait to be accepted
+   */
+  public ServerMessenger(final String name, final int portNumber, final IObjectStreamFactory streamFactory,
+      final int selectorThreads, final int decoderThreads, final int backlog) throws IOException {
     m_socketChannel = ServerSocketChannel.open();
     m_socketChannel.configureBlocking(false);
     m_socketChannel.socket().setReuseAddress(true);
-    m_socketChannel.socket().bind(new InetSocketAddress(portNumber), 10);
-    m_nioSocket = new NIOSocket(streamFactory, this, "Server");
+    m_socketChannel.socket().bind(new InetSocketAddress(portNumber), backlog);
+    m_nioSocket = new NIOSocket(streamFactory, this, "Server", selectorThreads, decoderThreads);
     m_acceptorSelector = Selector.open();
     if (IPFinder.findInetAddress() != null) {
       m_node = new Node(name, IPFinder.findInetAddress(), portNumber);
@@ -192,12 +208,14 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     }
   }
 
-  // We need to cache whether players are muted, because otherwise the database would have to be accessed each time a
-  // message was sent,
-  // which can be very slow
+  // The players muted in a hosted game. The lobby keeps its mutes in the ModerationCache, which the controllers that
+  // mute players update, so the database is not accessed each time a message is sent.
   private final List<String> m_liveMutedUsernames = new ArrayList<String>();
 
   public boolean IsUsernameMuted(final String username) {
+    if (isLobby()) {
+      return ModerationCache.getInstance().isUsernameMuted(username);
+    }
     synchronized (m_cachedListLock) {
       return m_liveMutedUsernames.contains(username);
     }
@@ -205,6 +223,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
 
   @Override
   public void NotifyUsernameMutingOfPlayer(final String username, final Date muteExpires) {
+    if (isLobby()) {
+      // already in the moderation cache
+      return;
+    }
     synchronized (m_cachedListLock) {
       if (!m_liveMutedUsernames.contains(username)) {
         m_liveMutedUsernames.add(username);
@@ -218,6 +240,9 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   private final List<String> m_liveMutedIpAddresses = new ArrayList<String>();
 
   public boolean IsIpMuted(final String ip) {
+    if (isLobby()) {
+      return ModerationCache.getInstance().isIpMuted(ip);
+    }
     synchronized (m_cachedListLock) {
       return m_liveMutedIpAddresses.contains(ip);
     }
@@ -225,6 +250,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
 
   @Override
   public void NotifyIPMutingOfPlayer(final String ip, final Date muteExpires) {
+    if (isLobby()) {
+      // already in the moderation cache
+      return;
+    }
     synchronized (m_cachedListLock) {
       if (!m_liveMutedIpAddresses.contains(ip)) {
         m_liveMutedIpAddresses.add(ip);
@@ -238,6 +267,9 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   private final List<String> m_liveMutedMacAddresses = new ArrayList<String>();
 
   public boolean IsMacMuted(final String mac) {
+    if (isLobby()) {
+      return ModerationCache.getInstance().isMacMuted(mac);
+    }
     synchronized (m_cachedListLock) {
       return m_liveMutedMacAddresses.contains(mac);
     }
@@ -245,6 +277,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
 
   @Override
   public void NotifyMacMutingOfPlayer(final String mac, final Date muteExpires) {
+    if (isLobby()) {
+      // already in the moderation cache
+      return;
+    }
     synchronized (m_cachedListLock) {
       if (!m_liveMutedMacAddresses.contains(mac)) {
         m_liveMutedMacAddresses.add(mac);
@@ -273,33 +309,6 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   public void NotifyPlayerLogin(final String uniquePlayerName, final String ip, final String mac) {
     synchronized (m_cachedListLock) {
       m_cachedMacAddresses.put(uniquePlayerName, mac);
-      if (isLobby()) {
-        final String realName = uniquePlayerName.split(" ")[0];
-        if (!m_liveMutedUsernames.contains(realName)) {
-          final long muteTill = new MutedUsernameController().getUsernameUnmuteTime(realName);
-          if (muteTill != -1 && muteTill <= System.currentTimeMillis()) {
-            // Signal the player as muted
-            m_liveMutedUsernames.add(realName);
-            ScheduleUsernameUnmuteAt(realName, muteTill);
-          }
-        }
-        if (!m_liveMutedIpAddresses.contains(ip)) {
-          final long muteTill = new MutedIpController().getIpUnmuteTime(ip);
-          if (muteTill != -1 && muteTill <= System.currentTimeMillis()) {
-            // Signal the player as muted
-            m_liveMutedIpAddresses.add(ip);
-            ScheduleIpUnmuteAt(ip, muteTill);
-          }
-        }
-        if (!m_liveMutedMacAddresses.contains(mac)) {
-          final long muteTill = new MutedMacController().getMacUnmuteTime(mac);
-          if (muteTill != -1 && muteTill <= System.currentTimeMillis()) {
-            // Signal the player as muted
-            m_liveMutedMacAddresses.add(mac);
-            ScheduleMacUnmuteAt(mac, muteTill);
-          }
-        }
-      }
     }
   }
 
@@ -512,9 +521,26 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
         return true;
       }
     }
+    for (final String loggingInName : m_loggingInNames.values()) {
+      if (loggingInName.equalsIgnoreCase(nodeName)) {
+        return true;
+      }
+    }
     return false;
   }
 
+  /**
+   * Gets a unique name for a node logging in on the channel, and keeps it for the channel until the node is added or
+   * the channel is closed, so two nodes logging in at the same time do not get the same name.
+   */
+  public String getUniqueName(final String currentName, final SocketChannel channel) {
+    synchronized (m_node) {
+      final String name = getUniqueName(currentName);
+      m_loggingInNames.put(channel, name);
+      return name;
+    }
+  }
+
   public String getUniqueName(String currentName) {
     if (currentName.length() > 50) {
       currentName = currentName.substring(0, 50);
@@ -664,16 +690,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   private TimerTask GetUsernameUnmuteTask(final String username) {
     return new TimerTask() {
       @Override
-      public void run() { // lobby has a database we need to check, normal hosted games do not
-        if ((isLobby() && new MutedUsernameController().getUsernameUnmuteTime(username) == -1) || (isGame())) // If the
-                                                                                                              // mute
-                                                                                                              // has
-                                                                                                              // expired
-        {
-          synchronized (m_cachedListLock) {
-            // Remove the username from the list of live username's muted
-            m_liveMutedUsernames.remove(username);
-          }
+      public void run() {
+        synchronized (m_cachedListLock) {
+          // Remove the username from the list of live username's muted
+          m_liveMutedUsernames.remove(username);
         }
       }
     };
@@ -682,13 +702,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   private TimerTask GetIpUnmuteTask(final String ip) {
     return new TimerTask() {
       @Override
-      public void run() { // lobby has a database we need to check, normal hosted games do not
-        if ((isLobby() && new MutedIpController().getIpUnmuteTime(ip) == -1) || (isGame())) // If the mute has expired
-        {
-          synchronized (m_cachedListLock) {
-            // Remove the ip from the list of live ip's muted
-            m_liveMutedIpAddresses.remove(ip);
-          }
+      public void run() {
+        synchronized (m_cachedListLock) {
+          // Remove the ip from the list of live ip's muted
+          m_liveMutedIpAddresses.remove(ip);
         }
       }
     };
@@ -697,14 +714,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   private TimerTask GetMacUnmuteTask(final String mac) {
     return new TimerTask() {
       @Override
-      public void run() { // lobby has a database we need to check, normal hosted games do not
-        if ((isLobby() && new MutedMacController().getMacUnmuteTime(mac) == -1) || (isGame())) // If the mute has
-                                                                                               // expired
-        {
-          synchronized (m_cachedListLock) {
-            // Remove the mac from the list of live mac's muted
-            m_liveMutedMacAddresses.remove(mac);
-          }
+      public void run() {
+        synchronized (m_cachedListLock) {
+          // Remove the mac from the list of live mac's muted
+          m_liveMutedMacAddresses.remove(mac);
         }
       }
     };
@@ -742,6 +755,7 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     if (channel == null) {
       throw new IllegalArgumentException("Null channel");
     }
+    m_loggingInNames.remove(channel);
     // already closed, dont report it again
     final INode node = m_channelToNode.get(channel);
     if (node != null) {
@@ -758,6 +772,7 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     }
     m_nodeToChannel.put(remote, channel);
     m_channelToNode.put(channel, remote);
+    m_loggingInNames.remove(channel);
     notifyConnectionsChanged(true, remote);
     s_logger.info("Connection added to:" + remote);
   }
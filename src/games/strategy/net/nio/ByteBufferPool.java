@@ -0,0 +1,93 @@
+package games.strategy.net.nio;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct byte buffers, shared by the readers and writers, so reading and writing a message does not allocate
+ * new buffers each time.
+ * <p>
+ * Buffers come in sizes that are powers of 2, from MIN_SIZE to MAX_SIZE, and at most MAX_PER_SIZE of each size are
+ * kept. Larger buffers are allocated on the heap each time, and are not pooled.
+ * <p>
+ * A buffer must not be used after it is released. A buffer that is never released, for example because its channel
+ * closed, is left to the garbage collector.
+ */
+class ByteBufferPool {
+  static final int MIN_SIZE = 4;
+  static final int MAX_SIZE = 64 * 1024;
+  static final int MAX_PER_SIZE = 32;
+  private static final ByteBufferPool s_instance = new ByteBufferPool();
+  // index i holds buffers with a capacity of MIN_SIZE << i
+  private final ConcurrentLinkedQueue<ByteBuffer>[] m_pools;
+  private final AtomicInteger[] m_pooledCounts;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  ByteBufferPool() {
+    final int sizes = Integer.numberOfTrailingZeros(MAX_SIZE / MIN_SIZE) + 1;
+    m_pools = new ConcurrentLinkedQueue[sizes];
+    m_pooledCounts = new AtomicInteger[sizes];
+    for (int i = 0; i < sizes; i++) {
+      m_pools[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+      m_pooledCounts[i] = new AtomicInteger();
+    }
+  }
+
+  static ByteBufferPool getInstance() {
+    return s_instance;
+  }
+
+  /**
+   * @return a buffer with its position at 0 and its limit at size, its capacity may be larger.
+   */
+  ByteBuffer acquire(final int size) {
+    if (size > MAX_SIZE) {
+      return ByteBuffer.allocate(size);
+    }
+    final int index = getIndex(size);
+    ByteBuffer buffer = m_pools[index].poll();
+    if (buffer == null) {
+      buffer = ByteBuffer.allocateDirect(MIN_SIZE << index);
+    } else {
+      m_pooledCounts[index].decrementAndGet();
+    }
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  /**
+   * Returns a buffer from acquire(...) to the pool.
+   */
+  void release(final ByteBuffer buffer) {
+    if (buffer == null || !buffer.isDirect()) {
+      return;
+    }
+    final int capacity = buffer.capacity();
+    if (capacity < MIN_SIZE || capacity > MAX_SIZE || Integer.bitCount(capacity) != 1) {
+      return;
+    }
+    final int index = getIndex(capacity);
+    if (m_pooledCounts[index].incrementAndGet() > MAX_PER_SIZE) {
+      m_pooledCounts[index].decrementAndGet();
+      return;
+    }
+    m_pools[index].offer(buffer);
+  }
+
+  /**
+   * @return the number of buffers of the given size waiting to be reused.
+   */
+  int getPooledCount(final int size) {
+    return m_pooledCounts[getIndex(size)].get();
+  }
+
+  // the index of the smallest size that can hold size bytes
+  private static int getIndex(final int size) {
+    if (size <= MIN_SIZE) {
+      return 0;
+    }
+    return 32 - Integer.numberOfLeadingZeros((size - 1) / MIN_SIZE);
+  }
+}
@@ -1,6 +1,5 @@
 package games.strategy.net.nio;
 
-import java.io.ByteArrayInputStream;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -8,6 +7,13 @@ import java.io.Serializable;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,11 +29,15 @@ import games.strategy.net.Node;
 import games.strategy.net.nio.QuarantineConversation.ACTION;
 
 /**
- * A thread to Decode messages from a reader.
+ * Decodes messages read by the readers.<br>
+ * Packets are decoded by a pool of threads. Packets from the same channel are decoded one at a time, in the order they
+ * were read, so messages from a channel are received in order, but packets from different channels may be decoded at
+ * the same time.
  */
 public class Decoder {
   private static final Logger s_logger = Logger.getLogger(Decoder.class.getName());
-  private final NIOReader m_reader;
+  // how many packets a thread decodes from one channel, before letting the other channels have a turn
+  private static final int MAX_PACKETS_PER_TURN = 16;
   private volatile boolean m_running = true;
   private final IErrorReporter m_errorReporter;
   private final IObjectStreamFactory m_objectStreamFactory;
@@ -38,81 +48,157 @@ public class Decoder {
    */
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> m_quarantine =
       new ConcurrentHashMap<SocketChannel, QuarantineConversation>();
-  private final Thread m_thread;
+  private final ConcurrentHashMap<SocketChannel, ChannelQueue> m_queues =
+      new ConcurrentHashMap<SocketChannel, ChannelQueue>();
+  private final ExecutorService m_executor;
 
-  public Decoder(final NIOSocket nioSocket, final NIOReader reader, final IErrorReporter reporter,
-      final IObjectStreamFactory objectStreamFactory, final String threadSuffix) {
-    m_reader = reader;
+  /**
+   * @param threads
+   *        how many threads decode packets
+   */
+  public Decoder(final NIOSocket nioSocket, final IErrorReporter reporter,
+      final IObjectStreamFactory objectStreamFactory, final String threadSuffix, final int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Need at least one thread, not:" + threads);
+    }
     m_errorReporter = reporter;
     m_objectStreamFactory = objectStreamFactory;
     m_nioSocket = nioSocket;
-    m_thread = new Thread(new Runnable() {
+    m_executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      private final AtomicInteger m_count = new AtomicInteger();
+
       @Override
-      public void run() {
-        loop();
+      public Thread newThread(final Runnable r) {
+        final String name = threads == 1 ? threadSuffix : threadSuffix + " " + m_count.incrementAndGet();
+        return new Thread(r, "Decoder -" + name);
       }
-    }, "Decoder -" + threadSuffix);
-    m_thread.start();
+    });
   }
 
   public void shutDown() {
     m_running = false;
-    m_thread.interrupt();
+    m_executor.shutdownNow();
   }
 
-  private void loop() {
-    while (m_running) {
+  /**
+   * Queues a packet to be decoded, after the packets read from its channel before it.
+   */
+  public void decode(final SocketReadData packet) {
+    if (!m_running) {
+      packet.release();
+      return;
+    }
+    ChannelQueue queue = m_queues.get(packet.getChannel());
+    if (queue == null) {
+      final ChannelQueue newQueue = new ChannelQueue(packet.getChannel());
+      queue = m_queues.putIfAbsent(packet.getChannel(), newQueue);
+      if (queue == null) {
+        queue = newQueue;
+      }
+    }
+    queue.add(packet);
+  }
+
+  /**
+   * The packets read from a channel, waiting to be decoded.
+   * At most one thread at a time runs a queue.
+   */
+  private final class ChannelQueue implements Runnable {
+    private final SocketChannel m_channel;
+    private final ConcurrentLinkedQueue<SocketReadData> m_packets = new ConcurrentLinkedQueue<SocketReadData>();
+    private final AtomicBoolean m_scheduled = new AtomicBoolean(false);
+
+    ChannelQueue(final SocketChannel channel) {
+      m_channel = channel;
+    }
+
+    void add(final SocketReadData packet) {
+      m_packets.offer(packet);
+      schedule();
+    }
+
+    private void schedule() {
+      if (!m_scheduled.compareAndSet(false, true)) {
+        // the thread running this queue will get to it
+        return;
+      }
       try {
-        SocketReadData data;
-        try {
-          data = m_reader.take();
-        } catch (final InterruptedException e) {
-          continue;
+        m_executor.execute(this);
+      } catch (final RejectedExecutionException e) {
+        // we have been shut down
+        m_scheduled.set(false);
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        for (int i = 0; i < MAX_PACKETS_PER_TURN && m_running; i++) {
+          final SocketReadData packet = m_packets.poll();
+          if (packet == null) {
+            break;
+          }
+          decodePacket(packet);
         }
-        if (data == null || !m_running) {
-          continue;
+      } finally {
+        m_scheduled.set(false);
+      }
+      if (!m_packets.isEmpty()) {
+        // more was added, or this channel used up its turn
+        schedule();
+      } else if (!m_channel.isOpen()) {
+        m_queues.remove(m_channel, this);
+      }
+    }
+  }
+
+  private void decodePacket(final SocketReadData data) {
+    try {
+      if (s_logger.isLoggable(Level.FINEST)) {
+        s_logger.finest("Decoding packet:" + data);
+      }
+      try {
+        final MessageHeader header;
+        try {
+          header = readMessageHeader(data.getChannel(), m_objectStreamFactory.create(data.getInputStream()));
+        } finally {
+          // the message has been read, so the buffer can be reused
+          data.release();
         }
         if (s_logger.isLoggable(Level.FINEST)) {
-          s_logger.finest("Decoding packet:" + data);
+          s_logger.log(Level.FINEST, "header decoded:" + header);
         }
-        final ByteArrayInputStream stream = new ByteArrayInputStream(data.getData());
-        try {
-          final MessageHeader header = readMessageHeader(data.getChannel(), m_objectStreamFactory.create(stream));
-          if (s_logger.isLoggable(Level.FINEST)) {
-            s_logger.log(Level.FINEST, "header decoded:" + header);
+        // make sure we are still open
+        final Socket s = data.getChannel().socket();
+        if (!m_running || s == null || s.isInputShutdown()) {
+          return;
+        }
+        final QuarantineConversation converstation = m_quarantine.get(data.getChannel());
+        if (converstation != null) {
+          sendQuarantine(data.getChannel(), converstation, header);
+        } else {
+          if (m_nioSocket.getLocalNode() == null) {
+            throw new IllegalStateException("we are writing messages, but no local node");
           }
-          // make sure we are still open
-          final Socket s = data.getChannel().socket();
-          if (!m_running || s == null || s.isInputShutdown()) {
-            continue;
+          if (header.getFrom() == null) {
+            throw new IllegalArgumentException("Null from:" + header);
           }
-          final QuarantineConversation converstation = m_quarantine.get(data.getChannel());
-          if (converstation != null) {
-            sendQuarantine(data.getChannel(), converstation, header);
-          } else {
-            if (m_nioSocket.getLocalNode() == null) {
-              throw new IllegalStateException("we are writing messages, but no local node");
-            }
-            if (header.getFrom() == null) {
-              throw new IllegalArgumentException("Null from:" + header);
-            }
-            if (s_logger.isLoggable(Level.FINER)) {
-              s_logger.log(Level.FINER, "decoded  msg:" + header.getMessage() + " size:" + data.size());
-            }
-            m_nioSocket.messageReceived(header, data.getChannel());
+          if (s_logger.isLoggable(Level.FINER)) {
+            s_logger.log(Level.FINER, "decoded  msg:" + header.getMessage() + " size:" + data.size());
           }
-        } catch (final Exception ioe) {
-          // we are reading from memory here
-          // there should be no network errors, something
-          // is odd
-          s_logger.log(Level.SEVERE, "error reading object", ioe);
-          m_errorReporter.error(data.getChannel(), ioe);
+          m_nioSocket.messageReceived(header, data.getChannel());
         }
-      } catch (final Exception e) {
-        // catch unhandles exceptions to that the decoder
-        // thread doesnt die
-        s_logger.log(Level.WARNING, "error in decoder", e);
+      } catch (final Exception ioe) {
+        // we are reading from memory here
+        // there should be no network errors, something
+        // is odd
+        s_logger.log(Level.SEVERE, "error reading object", ioe);
+        m_errorReporter.error(data.getChannel(), ioe);
       }
+    } catch (final Exception e) {
+      // catch unhandles exceptions to that the decoder
+      // thread doesnt die
+      s_logger.log(Level.WARNING, "error in decoder", e);
     }
   }
 
@@ -217,5 +303,13 @@ public class Decoder {
     if (conversation != null) {
       conversation.close();
     }
+    final ChannelQueue queue = m_queues.remove(channel);
+    if (queue != null) {
+      // the packets will not be decoded, let their buffers be reused
+      SocketReadData packet;
+      while ((packet = queue.m_packets.poll()) != null) {
+        packet.release();
+      }
+    }
   }
 }
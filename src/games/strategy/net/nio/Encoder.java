@@ -16,13 +16,14 @@ import games.strategy.net.Node;
  */
 public class Encoder {
   private static final Logger s_logger = Logger.getLogger(Encoder.class.getName());
-  private final NIOWriter m_writer;
   private final IObjectStreamFactory m_objectStreamFactory;
   private final NIOSocket m_nioSocket;
+  // reused by each thread, as long as it stays small
+  private static final ThreadLocal<ByteArrayOutputStream2> s_sinks = new ThreadLocal<ByteArrayOutputStream2>();
+  private static final int MAX_REUSED_SINK_SIZE = 64 * 1024;
 
-  public Encoder(final NIOSocket nioSocket, final NIOWriter writer, final IObjectStreamFactory objectStreamFactory) {
+  public Encoder(final NIOSocket nioSocket, final IObjectStreamFactory objectStreamFactory) {
     m_nioSocket = nioSocket;
-    m_writer = writer;
     m_objectStreamFactory = objectStreamFactory;
   }
 
@@ -36,7 +37,12 @@ public class Encoder {
     if (to == null) {
       throw new IllegalArgumentException("No to channel!");
     }
-    final ByteArrayOutputStream2 sink = new ByteArrayOutputStream2(512);
+    ByteArrayOutputStream2 sink = s_sinks.get();
+    if (sink == null) {
+      sink = new ByteArrayOutputStream2(512);
+    } else {
+      s_sinks.remove();
+    }
     SocketWriteData data;
     try {
       write(header, m_objectStreamFactory.create(sink), to);
@@ -46,11 +52,16 @@ public class Encoder {
       // so something is very wrong
       s_logger.log(Level.SEVERE, "Error writing object:" + header, e);
       return;
+    } finally {
+      if (sink.getBuffer().length <= MAX_REUSED_SINK_SIZE) {
+        sink.reset();
+        s_sinks.set(sink);
+      }
     }
     if (s_logger.isLoggable(Level.FINER)) {
       s_logger.log(Level.FINER, "encoded  msg:" + header.getMessage() + " size:" + data.size());
     }
-    m_writer.enque(data, to);
+    m_nioSocket.getWriter(to).enque(data, to);
   }
 
   private void write(final MessageHeader header, final ObjectOutputStream out, final SocketChannel remote)
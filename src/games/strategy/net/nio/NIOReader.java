@@ -14,28 +14,28 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A thread that reads socket data using NIO from a collection of sockets.<br>
- * Data is read in packets, and placed in the output queye.<br>
- * Packets are placed in the output queue in order they are read from the socket.
+ * Data is read in packets, and given to the decoder.<br>
+ * Packets are given to the decoder in the order they are read from the socket.
  */
 public class NIOReader {
   private static final Logger s_logger = Logger.getLogger(NIOReader.class.getName());
-  private final LinkedBlockingQueue<SocketReadData> m_outputQueue = new LinkedBlockingQueue<SocketReadData>();
   private volatile boolean m_running = true;
   private final Map<SocketChannel, SocketReadData> m_reading = new ConcurrentHashMap<SocketChannel, SocketReadData>();
   private final IErrorReporter m_errorReporter;
+  private final Decoder m_decoder;
   private final Selector m_selector;
   private final Object m_socketsToAddMutex = new Object();
   private final List<SocketChannel> m_socketsToAdd = new ArrayList<SocketChannel>();
   private long m_totalBytes;
 
-  public NIOReader(final IErrorReporter reporter, final String threadSuffix) {
+  public NIOReader(final IErrorReporter reporter, final Decoder decoder, final String threadSuffix) {
     m_errorReporter = reporter;
+    m_decoder = decoder;
     try {
       m_selector = Selector.open();
     } catch (final IOException e) {
@@ -81,7 +81,7 @@ public class NIOReader {
         channel.register(m_selector, SelectionKey.OP_READ);
       } catch (final ClosedChannelException e) {
         // this is ok, the channel is closed, so dont bother reading it
-        return;
+        continue;
       }
     }
   }
@@ -159,7 +159,7 @@ public class NIOReader {
 
   private void enque(final SocketReadData packet) {
     m_reading.remove(packet.getChannel());
-    m_outputQueue.offer(packet);
+    m_decoder.decode(packet);
   }
 
   private SocketReadData getReadData(final SocketChannel channel) {
@@ -171,10 +171,6 @@ public class NIOReader {
     return packet;
   }
 
-  public SocketReadData take() throws InterruptedException {
-    return m_outputQueue.take();
-  }
-
   public void closed(final SocketChannel channel) {
     m_reading.remove(channel);
   }
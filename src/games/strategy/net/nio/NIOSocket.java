@@ -12,26 +12,58 @@ import games.strategy.net.MessageHeader;
 
 /**
  * The threads needed for a group of sockets using NIO.
- * One thread reds socket data, one thread writes socket data
- * and one thread deserializes (decodes) packets read by the read
- * thread.
+ * Reader threads read socket data, writer threads write socket data
+ * and decoder threads deserialize (decode) packets read by the reader
+ * threads.
  * serializing (encoding) objects to be written across the network is done
  * by threads calling this object.
+ * <p>
+ * By default there is one thread of each kind. A server with many sockets can use more, each socket is then read
+ * and written by one of the readers and writers, and messages from a socket are still received in the order they
+ * were sent.
  */
 public class NIOSocket implements IErrorReporter {
   private static final Logger s_logger = Logger.getLogger(NIOSocket.class.getName());
   private final Encoder m_encoder;
   private final Decoder m_decoder;
-  private final NIOWriter m_writer;
-  private final NIOReader m_reader;
+  private final NIOWriter[] m_writers;
+  private final NIOReader[] m_readers;
   private final NIOSocketListener m_listener;
 
   public NIOSocket(final IObjectStreamFactory factory, final NIOSocketListener listener, final String name) {
+    this(factory, listener, name, 1, 1);
+  }
+
+  /**
+   * @param selectorThreads
+   *        how many threads read sockets, and how many write them
+   * @param decoderThreads
+   *        how many threads decode the packets read
+   */
+  public NIOSocket(final IObjectStreamFactory factory, final NIOSocketListener listener, final String name,
+      final int selectorThreads, final int decoderThreads) {
+    if (selectorThreads < 1) {
+      throw new IllegalArgumentException("Need at least one selector thread, not:" + selectorThreads);
+    }
     m_listener = listener;
-    m_writer = new NIOWriter(this, name);
-    m_reader = new NIOReader(this, name);
-    m_decoder = new Decoder(this, m_reader, this, factory, name);
-    m_encoder = new Encoder(this, m_writer, factory);
+    m_decoder = new Decoder(this, this, factory, name, decoderThreads);
+    m_writers = new NIOWriter[selectorThreads];
+    m_readers = new NIOReader[selectorThreads];
+    for (int i = 0; i < selectorThreads; i++) {
+      final String threadSuffix = selectorThreads == 1 ? name : name + " " + (i + 1);
+      m_writers[i] = new NIOWriter(this, threadSuffix);
+      m_readers[i] = new NIOReader(this, m_decoder, threadSuffix);
+    }
+    m_encoder = new Encoder(this, factory);
+  }
+
+  // the same channel always goes to the same reader and writer
+  private int getSelectorIndex(final SocketChannel channel) {
+    return (System.identityHashCode(channel) & Integer.MAX_VALUE) % m_readers.length;
+  }
+
+  NIOWriter getWriter(final SocketChannel channel) {
+    return m_writers[getSelectorIndex(channel)];
   }
 
   INode getLocalNode() {
@@ -47,8 +79,12 @@ public class NIOSocket implements IErrorReporter {
    * This does not close the sockets we are connected to.
    */
   public void shutDown() {
-    m_writer.shutDown();
-    m_reader.shutDown();
+    for (final NIOWriter writer : m_writers) {
+      writer.shutDown();
+    }
+    for (final NIOReader reader : m_readers) {
+      reader.shutDown();
+    }
     m_decoder.shutDown();
   }
 
@@ -72,7 +108,7 @@ public class NIOSocket implements IErrorReporter {
     }
     // add the decoder first, so it can quarantine the messages!
     m_decoder.add(channel, conversation);
-    m_reader.add(channel);
+    m_readers[getSelectorIndex(channel)].add(channel);
   }
 
   void unquarantine(final SocketChannel channel, final QuarantineConversation conversation) {
@@ -105,8 +141,8 @@ public class NIOSocket implements IErrorReporter {
       s_logger.log(Level.FINE, "error closing channel", e1);
     }
     m_decoder.closed(channel);
-    m_writer.closed(channel);
-    m_reader.closed(channel);
+    getWriter(channel).closed(channel);
+    m_readers[getSelectorIndex(channel)].closed(channel);
   }
 
   void messageReceived(final MessageHeader header, final SocketChannel channel) {
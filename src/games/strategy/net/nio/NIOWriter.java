@@ -131,6 +131,7 @@ public class NIOWriter {
                         + packet.getWriteCalls() + " total:" + m_totalBytes);
                   }
                   removeLast(channel);
+                  packet.release();
                 }
               } catch (final Exception e) {
                 s_logger.log(Level.FINER, "exception writing", e);
@@ -103,7 +103,7 @@ public class ServerQuarantineConversation extends QuarantineConversation {
             send(null);
           }
           // get a unique name
-          m_remoteName = m_serverMessenger.getUniqueName(m_remoteName);
+          m_remoteName = m_serverMessenger.getUniqueName(m_remoteName, m_channel);
           if (s_logger.isLoggable(Level.FINER)) {
             s_logger.log(Level.FINER, "Sending name:" + m_remoteName);
           }
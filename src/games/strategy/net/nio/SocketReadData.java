@@ -1,6 +1,7 @@
 package games.strategy.net.nio;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,6 +28,7 @@ class SocketReadData {
   // bytes to find out size
   private ByteBuffer m_sizeBuffer;
   // we read into here after knowing out size
+  // both buffers come from the pool
   private ByteBuffer m_contentBuffer;
   private final SocketChannel m_channel;
   private final int m_number = s_counter.incrementAndGet();
@@ -48,7 +50,7 @@ class SocketReadData {
       // our first read
       // find out how big this packet is
       if (m_sizeBuffer == null) {
-        m_sizeBuffer = ByteBuffer.allocate(4);
+        m_sizeBuffer = ByteBufferPool.getInstance().acquire(4);
       }
       final int size = channel.read(m_sizeBuffer);
       if (s_logger.isLoggable(Level.FINEST)) {
@@ -69,7 +71,8 @@ class SocketReadData {
         if (m_targetSize <= 0 || m_targetSize > MAX_MESSAGE_SIZE) {
           throw new IOException("Invalid triplea packet size:" + m_targetSize);
         }
-        m_contentBuffer = ByteBuffer.allocate(m_targetSize);
+        m_contentBuffer = ByteBufferPool.getInstance().acquire(m_targetSize);
+        ByteBufferPool.getInstance().release(m_sizeBuffer);
         m_sizeBuffer = null;
       } else {
         // we ddnt read all 4 bytes, return
@@ -92,15 +95,22 @@ class SocketReadData {
   }
 
   /**
-   * Get the data as a byte[].
-   * This method can only be called once.
+   * Get the data as a stream reading straight from the buffer.
+   * This method can only be called once, and the stream can only be used until release() is called.
    */
-  public byte[] getData() {
-    final byte[] rVal = new byte[m_contentBuffer.capacity()];
+  public InputStream getInputStream() {
     m_contentBuffer.flip();
-    m_contentBuffer.get(rVal);
+    return new ByteBufferInputStream(m_contentBuffer);
+  }
+
+  /**
+   * Returns the buffers to the pool, once the data has been read.
+   */
+  public void release() {
+    ByteBufferPool.getInstance().release(m_sizeBuffer);
+    m_sizeBuffer = null;
+    ByteBufferPool.getInstance().release(m_contentBuffer);
     m_contentBuffer = null;
-    return rVal;
   }
 
   public int size() {
@@ -17,27 +17,33 @@ import java.util.logging.Logger;
 public class SocketWriteData {
   private static final Logger s_logger = Logger.getLogger(SocketWriteData.class.getName());
   private static final AtomicInteger s_counter = new AtomicInteger();
-  private final ByteBuffer m_size;
-  private final ByteBuffer m_content;
+  // both buffers come from the pool
+  private ByteBuffer m_size;
+  private ByteBuffer m_content;
+  // the size and content, for gathering writes
+  private final ByteBuffer[] m_buffers;
+  private final int m_contentSize;
   private final int m_number = s_counter.incrementAndGet();
   // how many times we called write before we finished writing ourselves
   private int m_writeCalls = 0;
 
   public SocketWriteData(final byte[] data, int count) {
-    m_content = ByteBuffer.allocate(count);
-    m_content.put(data, 0, count);
-    m_size = ByteBuffer.allocate(4);
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
+    m_contentSize = count;
+    m_content = ByteBufferPool.getInstance().acquire(count);
+    m_content.put(data, 0, count);
+    m_size = ByteBufferPool.getInstance().acquire(4);
     count = count ^ SocketReadData.MAGIC;
     m_size.putInt(count);
     m_size.flip();
     m_content.flip();
+    m_buffers = new ByteBuffer[] {m_size, m_content};
   }
 
   public int size() {
-    return m_size.capacity() + m_content.capacity();
+    return 4 + m_contentSize;
   }
 
   public int getWriteCalls() {
@@ -49,31 +55,31 @@ public class SocketWriteData {
    */
   public boolean write(final SocketChannel channel) throws IOException {
     m_writeCalls++;
-    if (m_size.hasRemaining()) {
-      final int count = channel.write(m_size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      if (s_logger.isLoggable(Level.FINEST)) {
-        s_logger.finest("wrote size_buffer bytes:" + count);
-      }
-      // we could not write everything
-      if (m_size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(m_content);
+    // write the size and the content together
+    final long count = channel.write(m_buffers);
     if (count == -1) {
       throw new IOException("triplea: end of stream detected");
     }
     if (s_logger.isLoggable(Level.FINEST)) {
-      s_logger.finest("wrote content bytes:" + count);
+      s_logger.finest("wrote bytes:" + count);
     }
     return !m_content.hasRemaining();
   }
 
+  /**
+   * Returns the buffers to the pool, once the data has been written.
+   */
+  public void release() {
+    ByteBufferPool.getInstance().release(m_size);
+    m_size = null;
+    ByteBufferPool.getInstance().release(m_content);
+    m_content = null;
+    m_buffers[0] = null;
+    m_buffers[1] = null;
+  }
+
   @Override
   public String toString() {
-    return "<id:" + m_number + " size:" + m_content.capacity() + ">";
+    return "<id:" + m_number + " size:" + m_contentSize + ">";
   }
 }
@@ -103,27 +103,19 @@ public class TripleAUnit extends Unit {
 
   @GameProperty(xmlProperty = false, gameProperty = true, adds = false)
   public void setTransportedBy(final TripleAUnit transportedBy) {
+    final TripleAUnit oldTransportedBy = m_transportedBy;
     m_transportedBy = transportedBy;
+    if (oldTransportedBy != transportedBy) {
+      getData().getUnitLocationTracker().transportedByChanged(this, oldTransportedBy, transportedBy);
+    }
   }
 
   /**
-   * This is a very slow method because it checks all territories on the map. Try not to use this method if possible.
+   * The units in the same territory as this transport that are transported by it.
+   * Looked up through the game data's UnitLocationTracker rather than by searching the map.
    */
   public List<Unit> getTransporting() {
-    // we don't store the units we are transporting
-    // rather we look at the transported by property of units
-    for (final Territory t : getData().getMap()) {
-      // find the territory this transport is in
-      if (t.getUnits().getUnits().contains(this)) {
-        return t.getUnits().getMatches(new Match<Unit>() {
-          @Override
-          public boolean match(final Unit o) {
-            return TripleAUnit.get(o).getTransportedBy() == TripleAUnit.this;
-          }
-        });
-      }
-    }
-    return Collections.emptyList();
+    return getData().getUnitLocationTracker().getTransporting(this);
   }
 
   public List<Unit> getTransporting(final Collection<Unit> transportedUnitsPossible) {
@@ -62,6 +62,8 @@ public class ProAI extends AbstractAI {
 
   private final static Logger s_logger = Logger.getLogger(ProAI.class.getName());
 
+  private final ProData proData;
+
   // Phases
   private final ProCombatMoveAI combatMoveAI;
   private final ProNonCombatMoveAI nonCombatMoveAI;
@@ -79,12 +81,13 @@ public class ProAI extends AbstractAI {
 
   public ProAI(final String name, final String type) {
     super(name, type);
+    proData = new ProData();
     combatMoveAI = new ProCombatMoveAI(this);
-    nonCombatMoveAI = new ProNonCombatMoveAI();
-    purchaseAI = new ProPurchaseAI();
-    retreatAI = new ProRetreatAI();
-    scrambleAI = new ProScrambleAI();
-    politicsAI = new ProPoliticsAI();
+    nonCombatMoveAI = new ProNonCombatMoveAI(this);
+    purchaseAI = new ProPurchaseAI(this);
+    retreatAI = new ProRetreatAI(this);
+    scrambleAI = new ProScrambleAI(this);
+    politicsAI = new ProPoliticsAI(this);
     storedCombatMoveMap = null;
     storedFactoryMoveMap = null;
     storedPurchaseTerritories = null;
@@ -108,18 +111,22 @@ public class ProAI extends AbstractAI {
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    ProBattleUtils.clearData();
     ProLogUI.clearCachedInstances();
   }
 
   @Override
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
-    ProBattleUtils.cancelCalcs();
+    proData.cancelCalcs();
+    proData.shutdown();
+  }
+
+  public ProData getProData() {
+    return proData;
   }
 
   private void initializeData() {
-    ProData.initialize(this);
+    proData.initialize(this);
   }
 
   public void setStoredStrafingTerritories(final List<Territory> strafingTerritories) {
@@ -132,17 +139,21 @@ public class ProAI extends AbstractAI {
     BattleCalculator.clearOOLCache();
     ProLogUI.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
-    ProBattleUtils.setData(data);
-    if (nonCombat) {
-      nonCombatMoveAI.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
-      storedFactoryMoveMap = null;
-    } else {
-      if (storedCombatMoveMap == null) {
-        combatMoveAI.doCombatMove(moveDel);
+    proData.setCalcData(data);
+    try {
+      if (nonCombat) {
+        nonCombatMoveAI.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
+        storedFactoryMoveMap = null;
       } else {
-        combatMoveAI.doMove(storedCombatMoveMap, moveDel, data, player);
-        storedCombatMoveMap = null;
+        if (storedCombatMoveMap == null) {
+          combatMoveAI.doCombatMove(moveDel);
+        } else {
+          combatMoveAI.doMove(storedCombatMoveMap, moveDel, data, player);
+          storedCombatMoveMap = null;
+        }
       }
+    } finally {
+      proData.releaseCalcData();
     }
     ProLogger.info(player.getName() + " time for nonCombat=" + nonCombat + " time="
         + (System.currentTimeMillis() - start));
@@ -166,7 +177,8 @@ public class ProAI extends AbstractAI {
       PUsToSpend = purchaseAI.repair(PUsToSpend, purchaseDelegate, data, player);
 
       // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+      final Map<Territory,
+          ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(proData, player);
       final List<Territory> possibleFactoryTerritories =
           Match.getMatches(data.getMap().getTerritories(),
               ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
@@ -187,57 +199,61 @@ public class ProAI extends AbstractAI {
       } finally {
         data.releaseReadLock();
       }
-      ProBattleUtils.setData(dataCopy);
-      final PlayerID playerCopy = dataCopy.getPlayerList().getPlayerID(player.getName());
-      final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
-      final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
-      moveDel.setDelegateBridgeAndPlayer(bridge);
-
-      // Determine turn sequence
-      final List<GameStep> gameSteps = new ArrayList<GameStep>();
-      for (final GameStep gameStep : dataCopy.getSequence()) {
-        gameSteps.add(gameStep);
-      }
-
-      // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
-      final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
-      for (int i = nextStepIndex; i < gameSteps.size(); i++) {
-        final GameStep step = gameSteps.get(i);
-        if (!playerCopy.equals(step.getPlayerID())) {
-          continue;
+      proData.setCalcData(dataCopy);
+      try {
+        final PlayerID playerCopy = dataCopy.getPlayerList().getPlayerID(player.getName());
+        final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
+        final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
+        moveDel.setDelegateBridgeAndPlayer(bridge);
+
+        // Determine turn sequence
+        final List<GameStep> gameSteps = new ArrayList<GameStep>();
+        for (final GameStep gameStep : dataCopy.getSequence()) {
+          gameSteps.add(gameStep);
         }
-        dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
-            step.getPlayerID());
-        final String stepName = step.getName();
-        ProLogger.info("Simulating phase: " + stepName);
-        if (stepName.endsWith("NonCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAI.simulateNonCombatMove(moveDel);
-          if (storedFactoryMoveMap == null) {
-            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(factoryMoveMap, data, player);
-          }
-        } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> moveMap = combatMoveAI.doCombatMove(moveDel);
-          if (storedCombatMoveMap == null) {
-            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(moveMap, data, player);
+
+        // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
+        final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
+        for (int i = nextStepIndex; i < gameSteps.size(); i++) {
+          final GameStep step = gameSteps.get(i);
+          if (!playerCopy.equals(step.getPlayerID())) {
+            continue;
           }
-        } else if (stepName.endsWith("Battle")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge);
-        } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          storedPurchaseTerritories = purchaseAI.purchase(purchaseDelegate, data);
-          break;
-        } else if (stepName.endsWith("Politics")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
-          politicsDelegate.setDelegateBridgeAndPlayer(bridge);
-          final List<PoliticalActionAttachment> actions = politicsAI.politicalActions();
-          if (storedPoliticalActions == null) {
-            storedPoliticalActions = actions;
+          dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
+              step.getPlayerID());
+          final String stepName = step.getName();
+          ProLogger.info("Simulating phase: " + stepName);
+          if (stepName.endsWith("NonCombatMove")) {
+            proData.initializeSimulation(this, dataCopy, playerCopy);
+            final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAI.simulateNonCombatMove(moveDel);
+            if (storedFactoryMoveMap == null) {
+              storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, factoryMoveMap, data, player);
+            }
+          } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
+            proData.initializeSimulation(this, dataCopy, playerCopy);
+            final Map<Territory, ProTerritory> moveMap = combatMoveAI.doCombatMove(moveDel);
+            if (storedCombatMoveMap == null) {
+              storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, moveMap, data, player);
+            }
+          } else if (stepName.endsWith("Battle")) {
+            proData.initializeSimulation(this, dataCopy, playerCopy);
+            ProSimulateTurnUtils.simulateBattles(proData, dataCopy, playerCopy, bridge);
+          } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
+            proData.initializeSimulation(this, dataCopy, player);
+            storedPurchaseTerritories = purchaseAI.purchase(purchaseDelegate, data);
+            break;
+          } else if (stepName.endsWith("Politics")) {
+            proData.initializeSimulation(this, dataCopy, player);
+            final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
+            politicsDelegate.setDelegateBridgeAndPlayer(bridge);
+            final List<PoliticalActionAttachment> actions = politicsAI.politicalActions();
+            if (storedPoliticalActions == null) {
+              storedPoliticalActions = actions;
+            }
           }
         }
+      } finally {
+        proData.releaseCalcData();
       }
     }
     ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
@@ -253,7 +269,12 @@ public class ProAI extends AbstractAI {
     if (bid) {
       purchaseAI.bidPlace(placeDelegate, data, player);
     } else {
-      purchaseAI.place(storedPurchaseTerritories, placeDelegate);
+      proData.setCalcData(data);
+      try {
+        purchaseAI.place(storedPurchaseTerritories, placeDelegate);
+      } finally {
+        proData.releaseCalcData();
+      }
       storedPurchaseTerritories = null;
     }
     ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
@@ -321,7 +342,8 @@ public class ProAI extends AbstractAI {
     final boolean isAttacker = player.equals(battle.getAttacker());
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battleTerritory, attackers,
+        defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(player.getName() + " checking retreat from territory " + battleTerritory + ", attackers="
         + attackers.size() + ", defenders=" + defenders.size() + ", submerge=" + submerge + ", attacker=" + isAttacker
@@ -330,8 +352,12 @@ public class ProAI extends AbstractAI {
         && (battleTerritory.isWater() || Match.someMatch(attackers, Matches.UnitIsLand))) {
       return null;
     }
-    ProBattleUtils.setData(getGameData());
-    return retreatAI.retreatQuery(battleID, submerge, battleTerritory, possibleTerritories, message);
+    proData.setCalcData(getGameData());
+    try {
+      return retreatAI.retreatQuery(battleID, submerge, battleTerritory, possibleTerritories, message);
+    } finally {
+      proData.releaseCalcData();
+    }
   }
 
   @Override
@@ -369,7 +395,7 @@ public class ProAI extends AbstractAI {
     myCasualties.addToDamaged(defaultCasualties.getDamaged());
     final List<Unit> selectFromSorted = new ArrayList<Unit>(selectFrom);
     if (enemyUnits.isEmpty()) {
-      Collections.sort(selectFromSorted, ProPurchaseUtils.getCostComparator());
+      Collections.sort(selectFromSorted, ProPurchaseUtils.getCostComparator(proData));
     } else {
 
       // Get battle data
@@ -385,7 +411,8 @@ public class ProAI extends AbstractAI {
         final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
         final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
         defenders.removeAll(defaultCasualties.getKilled());
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battlesite, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battlesite, attackers,
+            defenders);
         int minStrengthDifference = 60;
         if (!games.strategy.triplea.Properties.getLow_Luck(data)) {
           minStrengthDifference = 55;
@@ -401,8 +428,10 @@ public class ProAI extends AbstractAI {
         for (int i = 0; i < selectFromSorted.size() - 1; i++) {
           final Unit unit1 = selectFromSorted.get(i);
           final Unit unit2 = selectFromSorted.get(i + 1);
-          final double unitCost1 = ProPurchaseUtils.getCost(unit1.getType(), unit1.getOwner(), unit1.getData());
-          final double unitCost2 = ProPurchaseUtils.getCost(unit2.getType(), unit2.getOwner(), unit2.getData());
+          final double unitCost1 = ProPurchaseUtils.getCost(proData, unit1.getType(), unit1.getOwner(),
+              unit1.getData());
+          final double unitCost2 = ProPurchaseUtils.getCost(proData, unit2.getType(), unit2.getOwner(),
+              unit2.getData());
           if (unitCost1 > 1.5 * unitCost2) {
             selectFromSorted.set(i, unit2);
             selectFromSorted.set(i + 1, unit1);
@@ -452,8 +481,12 @@ public class ProAI extends AbstractAI {
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
     ProLogger.info(player.getName() + " checking scramble to " + scrambleTo + ", attackers=" + attackers.size()
         + ", defenders=" + defenders.size() + ", possibleScramblers=" + possibleScramblers);
-    ProBattleUtils.setData(getGameData());
-    return scrambleAI.scrambleUnitsQuery(scrambleTo, possibleScramblers);
+    proData.setCalcData(getGameData());
+    try {
+      return scrambleAI.scrambleUnitsQuery(scrambleTo, possibleScramblers);
+    } finally {
+      proData.releaseCalcData();
+    }
   }
 
   @Override
@@ -474,11 +507,16 @@ public class ProAI extends AbstractAI {
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
     ProLogger.info(player.getName() + " checking sub attack in " + unitTerritory + ", attackers=" + attackers
         + ", defenders=" + defenders);
-    ProBattleUtils.setData(getGameData());
+    proData.setCalcData(getGameData());
 
     // Calculate battle results
-    final ProBattleResult result =
-        ProBattleUtils.calculateBattleResults(player, unitTerritory, attackers, defenders, new HashSet<Unit>(), true);
+    final ProBattleResult result;
+    try {
+      result = ProBattleUtils.calculateBattleResults(proData, player, unitTerritory, attackers, defenders,
+          new HashSet<Unit>(), true);
+    } finally {
+      proData.releaseCalcData();
+    }
     ProLogger.debug(player.getName() + " sub attack TUVSwing=" + result.getTUVSwing());
     if (result.getTUVSwing() > 0) {
       return true;
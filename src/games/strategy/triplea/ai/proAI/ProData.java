@@ -12,8 +12,11 @@ import games.strategy.triplea.ai.proAI.util.ProUtils;
 import games.strategy.triplea.attatchments.TerritoryAttachment;
 import games.strategy.triplea.delegate.BattleCalculator;
 import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.oddsCalculator.ta.ConcurrentOddsCalculator;
+import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.util.IntegerMap;
 import games.strategy.util.Match;
+import games.strategy.util.Tuple;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,40 +24,53 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * Pro AI data.
+ * Pro AI data. Each ProAI owns one instance, so several Pro AIs (in the same or in different games) can plan at the
+ * same time without sharing state.
+ * <p>
+ * The Pro AIs of one game take turns, so they share one battle calculator, and with it one set of game data copies.
+ * The copies are made when a phase sets the calculator data and dropped again when the phase ends.
  */
 public class ProData {
 
-  private static ProAI proAI;
-  private static GameData data;
-  private static PlayerID player;
+  // Battle calculator of each game, with the number of Pro AIs using it
+  private static final Map<GameData, Tuple<IOddsCalculator, Integer>> s_calcs =
+      new HashMap<GameData, Tuple<IOddsCalculator, Integer>>();
+
+  private ProAI proAI;
+  private GameData data;
+  private PlayerID player;
 
   // Default values
-  public static boolean isSimulation = false;
-  public static double winPercentage = 95;
-  public static double minWinPercentage = 75;
-  public static boolean areNeutralsPassableByAir = false;
-  public static Territory myCapital = null;
-  public static List<Territory> myUnitTerritories = new ArrayList<Territory>();
-  public static Map<Unit, Territory> unitTerritoryMap = new HashMap<Unit, Territory>();
-  public static IntegerMap<UnitType> unitValueMap = new IntegerMap<UnitType>();
-  public static ProPurchaseOptionMap purchaseOptions = null;
-  public static double minCostPerHitPoint = Double.MAX_VALUE;
-
-  public static void initialize(final ProAI proAI) {
+  private boolean isSimulation = false;
+  private double winPercentage = 95;
+  private double minWinPercentage = 75;
+  private boolean areNeutralsPassableByAir = false;
+  private Territory myCapital = null;
+  private List<Territory> myUnitTerritories = new ArrayList<Territory>();
+  private Map<Unit, Territory> unitTerritoryMap = new HashMap<Unit, Territory>();
+  private IntegerMap<UnitType> unitValueMap = new IntegerMap<UnitType>();
+  private ProPurchaseOptionMap purchaseOptions = null;
+  private double minCostPerHitPoint = Double.MAX_VALUE;
+
+  // Battle calculator of the game of this AI, shared with the other Pro AIs in it
+  private GameData calcGameData = null;
+  private IOddsCalculator calc = null;
+  private volatile boolean isCanceled = false;
+
+  public void initialize(final ProAI proAI) {
     hiddenInitialize(proAI, proAI.getGameData(), proAI.getPlayerID(), false);
   }
 
-  public static void initializeSimulation(final ProAI proAI, final GameData data, final PlayerID player) {
+  public void initializeSimulation(final ProAI proAI, final GameData data, final PlayerID player) {
     hiddenInitialize(proAI, data, player, true);
   }
 
-  private static void hiddenInitialize(final ProAI proAI, final GameData data, final PlayerID player,
+  private void hiddenInitialize(final ProAI proAI, final GameData data, final PlayerID player,
       final boolean isSimulation) {
-    ProData.proAI = proAI;
-    ProData.data = data;
-    ProData.player = player;
-    ProData.isSimulation = isSimulation;
+    this.proAI = proAI;
+    this.data = data;
+    this.player = player;
+    this.isSimulation = isSimulation;
 
     if (!games.strategy.triplea.Properties.getLow_Luck(data)) {
       winPercentage = 90;
@@ -63,24 +79,133 @@ public class ProData {
     areNeutralsPassableByAir = (Properties.getNeutralFlyoverAllowed(data) && !Properties.getNeutralsImpassable(data));
     myCapital = TerritoryAttachment.getFirstOwnedCapitalOrFirstUnownedCapital(player, data);
     myUnitTerritories = Match.getMatches(data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(player));
-    unitTerritoryMap = ProUtils.createUnitTerritoryMap();
+    unitTerritoryMap = ProUtils.createUnitTerritoryMap(this);
     unitValueMap = BattleCalculator.getCostsForTUV(player, data);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
     minCostPerHitPoint = getMinCostPerHitPoint(player, purchaseOptions.getLandOptions());
   }
 
-  public static ProAI getProAI() {
+  public ProAI getProAI() {
     return proAI;
   }
 
-  public static GameData getData() {
+  public GameData getData() {
     return data;
   }
 
-  public static PlayerID getPlayer() {
+  public PlayerID getPlayer() {
     return player;
   }
 
+  public boolean isSimulation() {
+    return isSimulation;
+  }
+
+  public double getWinPercentage() {
+    return winPercentage;
+  }
+
+  public double getMinWinPercentage() {
+    return minWinPercentage;
+  }
+
+  public boolean areNeutralsPassableByAir() {
+    return areNeutralsPassableByAir;
+  }
+
+  public Territory getMyCapital() {
+    return myCapital;
+  }
+
+  public List<Territory> getMyUnitTerritories() {
+    return myUnitTerritories;
+  }
+
+  public Map<Unit, Territory> getUnitTerritoryMap() {
+    return unitTerritoryMap;
+  }
+
+  public IntegerMap<UnitType> getUnitValueMap() {
+    return unitValueMap;
+  }
+
+  public ProPurchaseOptionMap getPurchaseOptions() {
+    return purchaseOptions;
+  }
+
+  public double getMinCostPerHitPoint() {
+    return minCostPerHitPoint;
+  }
+
+  /**
+   * @return the battle calculator of the game, or null once this data is shut down.
+   */
+  public synchronized IOddsCalculator getCalc() {
+    if (calc == null && !isCanceled) {
+      calcGameData = proAI.getGameData();
+      synchronized (s_calcs) {
+        final Tuple<IOddsCalculator, Integer> shared = s_calcs.get(calcGameData);
+        calc = shared == null ? new ConcurrentOddsCalculator("ProAI") : shared.getFirst();
+        s_calcs.put(calcGameData, Tuple.of(calc, shared == null ? 1 : shared.getSecond() + 1));
+      }
+    }
+    return calc;
+  }
+
+  public boolean isCanceled() {
+    return isCanceled;
+  }
+
+  /**
+   * Copies the data for the battle calculator, call releaseCalcData when done calculating with it.
+   */
+  public void setCalcData(final GameData data) {
+    final IOddsCalculator gameCalc = getCalc();
+    if (gameCalc != null) {
+      gameCalc.setGameData(data);
+    }
+  }
+
+  /**
+   * Drops the copies of the data the battle calculator made, until the data is set again.
+   */
+  public synchronized void releaseCalcData() {
+    if (calc != null) {
+      calc.setGameData(null);
+    }
+  }
+
+  /**
+   * Cancels what the battle calculator is calculating, and makes getCalc return null from now on.
+   */
+  public synchronized void cancelCalcs() {
+    if (calc != null) {
+      calc.cancel();
+    }
+    isCanceled = true;
+  }
+
+  /**
+   * Stops using the battle calculator of the game, and shuts it down if no other Pro AI uses it. This data can not be
+   * used afterwards.
+   */
+  public synchronized void shutdown() {
+    isCanceled = true;
+    if (calc == null) {
+      return;
+    }
+    synchronized (s_calcs) {
+      final Tuple<IOddsCalculator, Integer> shared = s_calcs.get(calcGameData);
+      if (shared == null || shared.getSecond() <= 1) {
+        s_calcs.remove(calcGameData);
+        calc.shutdown();
+      } else {
+        s_calcs.put(calcGameData, Tuple.of(calc, shared.getSecond() - 1));
+      }
+    }
+    calc = null;
+  }
+
   private static double getMinCostPerHitPoint(final PlayerID player, final List<ProPurchaseOption> landPurchaseOptions) {
     double minCostPerHitPoint = Double.MAX_VALUE;
     for (final ProPurchaseOption ppo : landPurchaseOptions) {
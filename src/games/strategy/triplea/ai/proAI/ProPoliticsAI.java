@@ -28,13 +28,19 @@ import java.util.Map;
  */
 public class ProPoliticsAI {
 
+  private final ProData proData;
+
+  public ProPoliticsAI(final ProAI ai) {
+    proData = ai.getProData();
+  }
+
   public List<PoliticalActionAttachment> politicalActions() {
 
-    final GameData data = ProData.getData();
-    final PlayerID player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerID player = proData.getPlayer();
     final float numPlayers = data.getPlayerList().getPlayers().size();
     final double round = data.getSequence().getRound();
-    final ProTerritoryManager territoryManager = new ProTerritoryManager();
+    final ProTerritoryManager territoryManager = new ProTerritoryManager(proData);
     final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(data);
     final List<PoliticalActionAttachment> results = new ArrayList<PoliticalActionAttachment>();
     ProLogger.info("Politics for " + player.getName());
@@ -73,7 +79,7 @@ public class ProPoliticsAI {
         }
       }
       if (!warPlayers.isEmpty()) {
-        if (ProUtils.isNeutralPlayer(warPlayers.get(0))) {
+        if (ProUtils.isNeutralPlayer(proData, warPlayers.get(0))) {
           neutralMap.put(action, warPlayers);
         } else {
           enemyMap.put(action, warPlayers);
@@ -167,7 +173,7 @@ public class ProPoliticsAI {
   }
 
   public void doActions(final List<PoliticalActionAttachment> actions) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(data);
     for (final PoliticalActionAttachment action : actions) {
       ProLogger.debug("Performing action: " + action);
@@ -43,12 +43,18 @@ import java.util.List;
  */
 public class ProRetreatAI {
 
+  private final ProData proData;
+
+  public ProRetreatAI(final ProAI ai) {
+    proData = ai.getProData();
+  }
+
   public Territory retreatQuery(final GUID battleID, final boolean submerge, final Territory battleTerritory,
       final Collection<Territory> possibleTerritories, final String message) {
 
     // Get battle data
-    final GameData data = ProData.getData();
-    final PlayerID player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerID player = proData.getPlayer();
     final BattleDelegate delegate = DelegateFinder.battleDelegate(data);
     final IBattle battle = delegate.getBattleTracker().getPendingBattle(battleID);
 
@@ -59,7 +65,8 @@ public class ProRetreatAI {
 
     // Calculate battle results
     final ProBattleResult result =
-        ProBattleUtils.calculateBattleResults(player, battleTerritory, attackers, defenders, new HashSet<Unit>(),
+        ProBattleUtils.calculateBattleResults(proData, player, battleTerritory, attackers, defenders,
+            new HashSet<Unit>(),
             isAttacker);
 
     // Determine if it has a factory
@@ -102,7 +109,8 @@ public class ProRetreatAI {
           break;
         }
         final double strength =
-            ProBattleUtils.estimateStrength(player, t, t.getUnits().getMatches(Matches.isUnitAllied(player, data)),
+            ProBattleUtils.estimateStrength(proData, player, t, t.getUnits().getMatches(Matches.isUnitAllied(player,
+                data)),
                 new ArrayList<Unit>(), false);
         if (strength > maxStrength) {
           retreatTerritory = t;
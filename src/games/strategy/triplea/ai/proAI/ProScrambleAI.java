@@ -30,12 +30,18 @@ import java.util.Set;
  */
 public class ProScrambleAI {
 
+  private final ProData proData;
+
+  public ProScrambleAI(final ProAI ai) {
+    proData = ai.getProData();
+  }
+
   public HashMap<Territory, Collection<Unit>> scrambleUnitsQuery(final Territory scrambleTo,
       final Map<Territory, Tuple<Collection<Unit>, Collection<Unit>>> possibleScramblers) {
 
     // Get battle data
-    final GameData data = ProData.getData();
-    final PlayerID player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerID player = proData.getPlayer();
     final BattleDelegate delegate = DelegateFinder.battleDelegate(data);
     final IBattle battle = delegate.getBattleTracker().getPendingBattle(scrambleTo, false, BattleType.NORMAL);
 
@@ -44,10 +50,11 @@ public class ProScrambleAI {
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
     final Set<Unit> bombardingUnits = new HashSet<Unit>(battle.getBombardingUnits());
     final ProBattleResult minResult =
-        ProBattleUtils.calculateBattleResults(player, scrambleTo, attackers, defenders, bombardingUnits, false);
+        ProBattleUtils.calculateBattleResults(proData, player, scrambleTo, attackers, defenders, bombardingUnits,
+            false);
     ProLogger.debug(scrambleTo + ", minTUVSwing=" + minResult.getTUVSwing() + ", minWin%="
         + minResult.getWinPercentage());
-    if (minResult.getTUVSwing() <= 0 && minResult.getWinPercentage() < (100 - ProData.minWinPercentage)) {
+    if (minResult.getTUVSwing() <= 0 && minResult.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
       return null;
     }
 
@@ -62,10 +69,10 @@ public class ProScrambleAI {
           @Override
           public int compare(final Unit o1, final Unit o2) {
             final double strength1 =
-                ProBattleUtils.estimateStrength(player, scrambleTo, Collections.singletonList(o1),
+                ProBattleUtils.estimateStrength(proData, player, scrambleTo, Collections.singletonList(o1),
                     new ArrayList<Unit>(), false);
             final double strength2 =
-                ProBattleUtils.estimateStrength(player, scrambleTo, Collections.singletonList(o2),
+                ProBattleUtils.estimateStrength(proData, player, scrambleTo, Collections.singletonList(o2),
                     new ArrayList<Unit>(), false);
             return Double.compare(strength2, strength1);
           }
@@ -77,7 +84,8 @@ public class ProScrambleAI {
     }
     defenders.addAll(allScramblers);
     final ProBattleResult maxResult =
-        ProBattleUtils.calculateBattleResults(player, scrambleTo, attackers, defenders, bombardingUnits, false);
+        ProBattleUtils.calculateBattleResults(proData, player, scrambleTo, attackers, defenders, bombardingUnits,
+            false);
     ProLogger.debug(scrambleTo + ", maxTUVSwing=" + maxResult.getTUVSwing() + ", maxWin%="
         + maxResult.getWinPercentage());
     if (maxResult.getTUVSwing() >= minResult.getTUVSwing()) {
@@ -105,7 +113,7 @@ public class ProScrambleAI {
 
     // Sort units by number of defend options and cost
     final Map<Unit, Set<Territory>> sortedUnitDefendOptions =
-        ProSortMoveOptionsUtils.sortUnitMoveOptions(player, unitDefendOptions);
+        ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, player, unitDefendOptions);
 
     // Add one scramble unit at a time and check if final result is better than min result
     final List<Unit> unitsToScramble = new ArrayList<Unit>();
@@ -114,12 +122,11 @@ public class ProScrambleAI {
       unitsToScramble.add(u);
       final List<Unit> currentDefenders = (List<Unit>) battle.getDefendingUnits();
       currentDefenders.addAll(unitsToScramble);
-      result =
-          ProBattleUtils
-              .calculateBattleResults(player, scrambleTo, attackers, currentDefenders, bombardingUnits, false);
+      result = ProBattleUtils.calculateBattleResults(proData, player, scrambleTo, attackers, currentDefenders,
+          bombardingUnits, false);
       ProLogger.debug(scrambleTo + ", TUVSwing=" + result.getTUVSwing() + ", Win%=" + result.getWinPercentage()
           + ", addedUnit=" + u);
-      if (result.getTUVSwing() <= 0 && result.getWinPercentage() < (100 - ProData.minWinPercentage)) {
+      if (result.getTUVSwing() <= 0 && result.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
         break;
       }
     }
@@ -3,6 +3,7 @@ package games.strategy.triplea.ai.proAI.data;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.proAI.ProData;
 import games.strategy.triplea.ai.proAI.util.ProBattleUtils;
 import games.strategy.triplea.ai.proAI.util.ProUtils;
 import games.strategy.triplea.delegate.Matches;
@@ -25,9 +26,9 @@ public class ProOtherMoveOptions {
     moveMaps = new HashMap<Territory, List<ProTerritory>>();
   }
 
-  public ProOtherMoveOptions(final List<Map<Territory, ProTerritory>> moveMapList, final PlayerID player,
-      final boolean isAttacker) {
-    maxMoveMap = createMaxMoveMap(moveMapList, player, isAttacker);
+  public ProOtherMoveOptions(final ProData proData, final List<Map<Territory, ProTerritory>> moveMapList,
+      final PlayerID player, final boolean isAttacker) {
+    maxMoveMap = createMaxMoveMap(proData, moveMapList, player, isAttacker);
     moveMaps = createMoveMaps(moveMapList);
   }
 
@@ -48,11 +49,12 @@ public class ProOtherMoveOptions {
     return maxMoveMap.toString();
   }
 
-  private static Map<Territory, ProTerritory> createMaxMoveMap(final List<Map<Territory, ProTerritory>> moveMaps,
+  private static Map<Territory, ProTerritory> createMaxMoveMap(final ProData proData,
+      final List<Map<Territory, ProTerritory>> moveMaps,
       final PlayerID player, final boolean isAttacker) {
 
     final Map<Territory, ProTerritory> result = new HashMap<Territory, ProTerritory>();
-    final List<PlayerID> players = ProUtils.getOtherPlayersInTurnOrder(player);
+    final List<PlayerID> players = ProUtils.getOtherPlayersInTurnOrder(proData, player);
     for (final Map<Territory, ProTerritory> moveMap : moveMaps) {
       for (final Territory t : moveMap.keySet()) {
 
@@ -80,11 +82,12 @@ public class ProOtherMoveOptions {
           double maxStrength = 0;
           if (!maxUnits.isEmpty()) {
             maxStrength =
-                ProBattleUtils.estimateStrength(maxUnits.iterator().next().getOwner(), t,
+                ProBattleUtils.estimateStrength(proData, maxUnits.iterator().next().getOwner(), t,
                     new ArrayList<Unit>(maxUnits), new ArrayList<Unit>(), isAttacker);
           }
           final double currentStrength =
-              ProBattleUtils.estimateStrength(currentUnits.iterator().next().getOwner(), t, new ArrayList<Unit>(
+              ProBattleUtils.estimateStrength(proData, currentUnits.iterator().next().getOwner(), t,
+                  new ArrayList<Unit>(
                   currentUnits), new ArrayList<Unit>(), isAttacker);
           final boolean currentHasLandUnits = Match.someMatch(currentUnits, Matches.UnitIsLand);
           final boolean maxHasLandUnits = Match.someMatch(maxUnits, Matches.UnitIsLand);
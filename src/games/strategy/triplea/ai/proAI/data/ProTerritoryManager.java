@@ -40,6 +40,7 @@ import java.util.Set;
  */
 public class ProTerritoryManager {
 
+  private final ProData proData;
   private final PlayerID player;
 
   private ProMyMoveOptions attackOptions;
@@ -49,8 +50,9 @@ public class ProTerritoryManager {
   private ProOtherMoveOptions enemyDefendOptions;
   private ProOtherMoveOptions enemyAttackOptions;
 
-  public ProTerritoryManager() {
-    player = ProData.getPlayer();
+  public ProTerritoryManager(final ProData proData) {
+    this.proData = proData;
+    player = proData.getPlayer();
     attackOptions = new ProMyMoveOptions();
     potentialAttackOptions = new ProMyMoveOptions();
     defendOptions = new ProMyMoveOptions();
@@ -60,7 +62,7 @@ public class ProTerritoryManager {
   }
 
   public ProTerritoryManager(final ProTerritoryManager territoryManager) {
-    this();
+    this(territoryManager.proData);
     attackOptions = new ProMyMoveOptions(territoryManager.attackOptions);
     potentialAttackOptions = new ProMyMoveOptions(territoryManager.potentialAttackOptions);
     defendOptions = new ProMyMoveOptions(territoryManager.defendOptions);
@@ -70,7 +72,7 @@ public class ProTerritoryManager {
   }
 
   public void populateAttackOptions() {
-    findAttackOptions(player, ProData.myUnitTerritories, attackOptions.getTerritoryMap(),
+    findAttackOptions(player, proData.getMyUnitTerritories(), attackOptions.getTerritoryMap(),
         attackOptions.getUnitMoveMap(), attackOptions.getTransportMoveMap(), attackOptions.getBombardMap(),
         attackOptions.getTransportList(), new ArrayList<Territory>(), new ArrayList<Territory>(),
         new ArrayList<Territory>(), false, false);
@@ -78,13 +80,13 @@ public class ProTerritoryManager {
   }
 
   public void populatePotentialAttackOptions() {
-    findPotentialAttackOptions(player, ProData.myUnitTerritories, potentialAttackOptions.getTerritoryMap(),
+    findPotentialAttackOptions(player, proData.getMyUnitTerritories(), potentialAttackOptions.getTerritoryMap(),
         potentialAttackOptions.getUnitMoveMap(), potentialAttackOptions.getTransportMoveMap(),
         potentialAttackOptions.getBombardMap(), potentialAttackOptions.getTransportList());
   }
 
   public void populateDefenseOptions(final List<Territory> clearedTerritories) {
-    findDefendOptions(player, ProData.myUnitTerritories, defendOptions.getTerritoryMap(),
+    findDefendOptions(player, proData.getMyUnitTerritories(), defendOptions.getTerritoryMap(),
         defendOptions.getUnitMoveMap(), defendOptions.getTransportMoveMap(), defendOptions.getTransportList(),
         clearedTerritories, false);
   }
@@ -169,7 +171,7 @@ public class ProTerritoryManager {
   }
 
   private void findScrambleOptions(final PlayerID player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     if (!Properties.getScramble_Rules_In_Effect(data)) {
       return;
@@ -234,10 +236,12 @@ public class ProTerritoryManager {
               @Override
               public int compare(final Unit o1, final Unit o2) {
                 final double strength1 =
-                    ProBattleUtils.estimateStrength(player, to, Collections.singletonList(o1), new ArrayList<Unit>(),
+                    ProBattleUtils.estimateStrength(proData, player, to, Collections.singletonList(o1),
+                        new ArrayList<Unit>(),
                         false);
                 final double strength2 =
-                    ProBattleUtils.estimateStrength(player, to, Collections.singletonList(o2), new ArrayList<Unit>(),
+                    ProBattleUtils.estimateStrength(proData, player, to, Collections.singletonList(o2),
+                        new ArrayList<Unit>(),
                         false);
                 return Double.compare(strength2, strength1);
               }
@@ -274,7 +278,7 @@ public class ProTerritoryManager {
       final List<ProTransport> transportMapList, final List<Territory> enemyTerritories,
       final List<Territory> alliedTerritories, final List<Territory> territoriesToCheck,
       final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<Territory, Set<Territory>>();
     final List<Territory> territoriesThatCantBeHeld = new ArrayList<Territory>(enemyTerritories);
@@ -295,10 +299,10 @@ public class ProTerritoryManager {
   }
 
   private ProOtherMoveOptions findAlliedAttackOptions(final PlayerID player) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerID> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(player);
+    final List<PlayerID> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> alliedAttackMaps = new ArrayList<Map<Territory, ProTerritory>>();
 
     // Loop through each enemy to determine the maximum number of enemy units that can attack each territory
@@ -315,15 +319,15 @@ public class ProTerritoryManager {
           transportMapList, new ArrayList<Territory>(), new ArrayList<Territory>(), new ArrayList<Territory>(), false,
           false);
     }
-    return new ProOtherMoveOptions(alliedAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, alliedAttackMaps, player, true);
   }
 
   private ProOtherMoveOptions findEnemyAttackOptions(final PlayerID player, final List<Territory> clearedTerritories,
       final List<Territory> territoriesToCheck) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> enemyAttackMaps = new ArrayList<Map<Territory, ProTerritory>>();
     final Set<Territory> alliedTerritories = new HashSet<Territory>();
     final List<Territory> enemyTerritories = new ArrayList<Territory>(clearedTerritories);
@@ -345,17 +349,17 @@ public class ProTerritoryManager {
       alliedTerritories.addAll(Match.getMatches(attackMap.keySet(), Matches.TerritoryIsLand));
       enemyTerritories.removeAll(alliedTerritories);
     }
-    return new ProOtherMoveOptions(enemyAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, enemyAttackMaps, player, true);
   }
 
   private void findPotentialAttackOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<Territory, Set<Territory>>();
-    final List<PlayerID> otherPlayers = ProUtils.getPotentialEnemyPlayers(player);
+    final List<PlayerID> otherPlayers = ProUtils.getPotentialEnemyPlayers(proData, player);
     findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
         ProMatches.territoryIsPotentialEnemyOrHasPotentialEnemyUnits(player, data, otherPlayers),
         new ArrayList<Territory>(), true, false);
@@ -374,7 +378,7 @@ public class ProTerritoryManager {
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final List<ProTransport> transportMapList,
       final List<Territory> clearedTerritories, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<Territory, Set<Territory>>();
     findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
@@ -391,10 +395,10 @@ public class ProTerritoryManager {
   }
 
   private ProOtherMoveOptions findEnemyDefendOptions(final PlayerID player) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerID> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(proData, player);
     final List<Map<Territory, ProTerritory>> enemyMoveMaps = new ArrayList<Map<Territory, ProTerritory>>();
     final List<Territory> clearedTerritories =
         Match.getMatches(data.getMap().getTerritories(), Matches.isTerritoryAllied(player, data));
@@ -412,14 +416,14 @@ public class ProTerritoryManager {
           clearedTerritories, true);
     }
 
-    return new ProOtherMoveOptions(enemyMoveMaps, player, false);
+    return new ProOtherMoveOptions(proData, enemyMoveMaps, player, false);
   }
 
   private void findNavalMoveOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Match<Territory> moveToTerritoryMatch,
       final List<Territory> clearedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -506,7 +510,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(mySeaUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(mySeaUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -539,7 +543,7 @@ public class ProTerritoryManager {
       final Map<Territory, Set<Territory>> landRoutesMap, final Match<Territory> moveToTerritoryMatch,
       final List<Territory> enemyTerritories, final List<Territory> clearedTerritories, final boolean isCombatMove,
       final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -549,7 +553,7 @@ public class ProTerritoryManager {
 
       // Check each land unit individually since they can have different ranges
       for (final Unit myLandUnit : myLandUnits) {
-        final Territory startTerritory = ProData.unitTerritoryMap.get(myLandUnit);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(myLandUnit);
         final int range = TripleAUnit.get(myLandUnit).getMovementLeft();
         Set<Territory> possibleMoveTerritories =
             data.getMap().getNeighbors(myUnitTerritory, range,
@@ -609,7 +613,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(myLandUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(myLandUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -632,7 +636,7 @@ public class ProTerritoryManager {
       final Match<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
       final List<Territory> alliedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
       final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // TODO: add carriers to landing possibilities for non-enemy attacks
     // Find possible carrier landing territories
@@ -728,7 +732,7 @@ public class ProTerritoryManager {
           if (moveMap.containsKey(potentialTerritory)) {
             moveMap.get(potentialTerritory).addMaxUnit(myAirUnit);
           } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
+            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
             moveTerritoryData.addMaxUnit(myAirUnit);
             moveMap.put(potentialTerritory, moveTerritoryData);
           }
@@ -751,7 +755,7 @@ public class ProTerritoryManager {
       final Map<Territory, Set<Territory>> landRoutesMap, final Match<Territory> moveAmphibToTerritoryMatch,
       final List<Territory> enemyTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
       final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
@@ -917,7 +921,7 @@ public class ProTerritoryManager {
         if (moveMap.containsKey(moveTerritory)) {
           moveMap.get(moveTerritory).addMaxAmphibUnits(amphibUnits);
         } else {
-          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory);
+          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory, proData);
           moveTerritoryData.addMaxAmphibUnits(amphibUnits);
           moveMap.put(moveTerritory, moveTerritoryData);
         }
@@ -928,7 +932,7 @@ public class ProTerritoryManager {
   private void findBombardOptions(final PlayerID player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all transport unload from and to territories
     final Set<Territory> unloadFromTerritories = new HashSet<Territory>();
@@ -1016,7 +1020,7 @@ public class ProTerritoryManager {
       final ProOtherMoveOptions enemyDefendOptions, final boolean isIgnoringRelationships) {
 
     ProLogger.info("Removing territories that can't be conquered");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Determine if territory can be successfully attacked with max possible attackers
     final List<Territory> territoriesToRemove = new ArrayList<Territory>();
@@ -1029,14 +1033,16 @@ public class ProTerritoryManager {
       if (isIgnoringRelationships) {
         defenders = new ArrayList<Unit>(t.getUnits().getUnits());
       }
-      patd.setMaxBattleResult(ProBattleUtils.estimateAttackBattleResults(player, t, patd.getMaxUnits(), defenders,
+      patd.setMaxBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, player, t, patd.getMaxUnits(),
+          defenders,
           new HashSet<Unit>()));
 
       // Add in amphib units if I can't win without them
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage && !patd.getMaxAmphibUnits().isEmpty()) {
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
+          && !patd.getMaxAmphibUnits().isEmpty()) {
         final Set<Unit> combinedUnits = new HashSet<Unit>(patd.getMaxUnits());
         combinedUnits.addAll(patd.getMaxAmphibUnits());
-        patd.setMaxBattleResult(ProBattleUtils.estimateAttackBattleResults(player, t,
+        patd.setMaxBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, player, t,
             new ArrayList<Unit>(combinedUnits), defenders, patd.getMaxBombardUnits()));
         patd.setNeedAmphibUnits(true);
       }
@@ -1048,7 +1054,7 @@ public class ProTerritoryManager {
           && ((ta != null && ta.isCapital()) || ProMatches.territoryHasInfraFactoryAndIsLand(player).match(t))) {
         isEnemyCapitalOrFactory = true;
       }
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage && isEnemyCapitalOrFactory
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage() && isEnemyCapitalOrFactory
           && alliedAttackOptions.getMax(t) != null) {
 
         // Check for allied attackers
@@ -1064,7 +1070,7 @@ public class ProTerritoryManager {
 
             // Get max enemy defenders
             final Set<Unit> additionalEnemyDefenders = new HashSet<Unit>();
-            final List<PlayerID> players = ProUtils.getOtherPlayersInTurnOrder(player);
+            final List<PlayerID> players = ProUtils.getOtherPlayersInTurnOrder(proData, player);
             for (final ProTerritory enemyDefendOption : enemyDefendOptions.getAll(t)) {
               final Set<Unit> enemyUnits = new HashSet<Unit>(enemyDefendOption.getMaxUnits());
               enemyUnits.addAll(enemyDefendOption.getMaxAmphibUnits());
@@ -1080,23 +1086,24 @@ public class ProTerritoryManager {
             final Set<Unit> enemyDefendersBeforeStrafe = new HashSet<Unit>(defenders);
             enemyDefendersBeforeStrafe.addAll(additionalEnemyDefenders);
             final ProBattleResult result =
-                ProBattleUtils.estimateAttackBattleResults(alliedPlayer, t, new ArrayList<Unit>(alliedUnits),
+                ProBattleUtils.estimateAttackBattleResults(proData, alliedPlayer, t, new ArrayList<Unit>(alliedUnits),
                     new ArrayList<Unit>(enemyDefendersBeforeStrafe), alliedAttack.getMaxBombardUnits());
-            if (result.getWinPercentage() < ProData.winPercentage) {
+            if (result.getWinPercentage() < proData.getWinPercentage()) {
               patd.setStrafing(true);
 
               // Try to strafe to allow allies to conquer territory
               final Set<Unit> combinedUnits = new HashSet<Unit>(patd.getMaxUnits());
               combinedUnits.addAll(patd.getMaxAmphibUnits());
               final ProBattleResult strafeResult =
-                  ProBattleUtils.callBattleCalculator(player, t, new ArrayList<Unit>(combinedUnits), defenders,
+                  ProBattleUtils.callBattleCalculator(proData, player, t, new ArrayList<Unit>(combinedUnits), defenders,
                       patd.getMaxBombardUnits(), true);
 
               // Check allied result with strafe
               final Set<Unit> enemyDefendersAfterStrafe =
                   new HashSet<Unit>(strafeResult.getAverageDefendersRemaining());
               enemyDefendersAfterStrafe.addAll(additionalEnemyDefenders);
-              patd.setMaxBattleResult(ProBattleUtils.estimateAttackBattleResults(alliedPlayer, t, new ArrayList<Unit>(
+              patd.setMaxBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, alliedPlayer, t,
+                  new ArrayList<Unit>(
                   alliedUnits), new ArrayList<Unit>(enemyDefendersAfterStrafe), alliedAttack.getMaxBombardUnits()));
 
 
@@ -1105,7 +1112,7 @@ public class ProTerritoryManager {
                   + patd.getMaxBattleResult().getWinPercentage() + ", maxAttackers=" + alliedUnits.size()
                   + ", maxDefenders=" + enemyDefendersAfterStrafe.size());
 
-              if (patd.getMaxBattleResult().getWinPercentage() >= ProData.winPercentage) {
+              if (patd.getMaxBattleResult().getWinPercentage() >= proData.getWinPercentage()) {
                 System.out.println(data.getSequence().getRound() + " - " + player.getName() + ". strafing territory: "
                     + t + ", alliedPlayer=" + alliedUnits.iterator().next().getOwner().getName() + ", maxWin%="
                     + patd.getMaxBattleResult().getWinPercentage() + ", maxAttackers=" + alliedUnits.size()
@@ -1116,8 +1123,8 @@ public class ProTerritoryManager {
         }
       }
 
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage
-          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage || !patd
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage()
+          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage() || !patd
               .getMaxBattleResult().isHasLandUnitRemaining()))) {
         territoriesToRemove.add(t);
       }
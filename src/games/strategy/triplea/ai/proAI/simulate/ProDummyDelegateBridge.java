@@ -1,5 +1,6 @@
 package games.strategy.triplea.ai.proAI.simulate;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import games.strategy.engine.data.Change;
@@ -7,21 +8,23 @@ import games.strategy.engine.data.ChangePerformer;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
-import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.engine.display.IDisplay;
 import games.strategy.engine.gamePlayer.IRemotePlayer;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SplittableRandomSource;
 import games.strategy.sound.DummySoundChannel;
 import games.strategy.sound.ISound;
 import games.strategy.triplea.ai.proAI.ProAI;
+import games.strategy.triplea.delegate.ISimulationDelegateBridge;
 import games.strategy.triplea.delegate.MustFightBattle;
 import games.strategy.triplea.ui.display.DummyTripleaDisplay;
 
-public class ProDummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource m_randomSource = new PlainRandomSource();
+public class ProDummyDelegateBridge implements ISimulationDelegateBridge {
+  private final SplittableRandomSource m_randomSource = SplittableRandomSource.newSimulationSource();
+  // the arrays dice are rolled into, by roll count
+  private int[][] m_dice = new int[0][];
   private final DummyTripleaDisplay m_display = new DummyTripleaDisplay();
   private final DummySoundChannel m_soundChannel = new DummySoundChannel();
   private final PlayerID m_player;
@@ -78,6 +81,18 @@ public class ProDummyDelegateBridge implements IDelegateBridge {
     return m_randomSource.getRandom(max, annotation);
   }
 
+  @Override
+  public int[] getRandomInto(final int max, final int count, final PlayerID player, final DiceType diceType,
+      final String annotation) {
+    if (count >= m_dice.length) {
+      m_dice = Arrays.copyOf(m_dice, count + 1);
+    }
+    if (m_dice[count] == null) {
+      m_dice[count] = new int[count];
+    }
+    return m_randomSource.getRandom(max, m_dice[count], annotation);
+  }
+
   @Override
   public PlayerID getPlayerID() {
     return m_player;
@@ -98,6 +113,11 @@ public class ProDummyDelegateBridge implements IDelegateBridge {
     return m_soundChannel;
   }
 
+  @Override
+  public boolean hasObservers() {
+    return false;
+  }
+
   @Override
   public void enterDelegateExecution() {}
 
@@ -19,8 +19,6 @@ import games.strategy.triplea.delegate.MoveValidator;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.delegate.UnitBattleComparator;
 import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
-import games.strategy.triplea.oddsCalculator.ta.ConcurrentOddsCalculator;
-import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.util.Match;
 
 import java.util.ArrayList;
@@ -38,32 +36,17 @@ public class ProBattleUtils {
   public final static int SHORT_RANGE = 2;
   public final static int MEDIUM_RANGE = 3;
 
-  private final static IOddsCalculator calc = new ConcurrentOddsCalculator("ProAI");
-  private static boolean isCanceled = false;
-
-  public static void setData(final GameData data) {
-    calc.setGameData(data);
-  }
-
-  public static void cancelCalcs() {
-    calc.cancel();
-    isCanceled = true;
-  }
-
-  public static void clearData() {
-    calc.setGameData(null);
-  }
-
-  public static boolean checkForOverwhelmingWin(final PlayerID player, final Territory t,
+  public static boolean checkForOverwhelmingWin(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     if (defendingUnits.isEmpty() && !attackingUnits.isEmpty()) {
       return true;
     }
 
     // Check that defender has at least 1 power
-    final double power = estimatePower(defendingUnits.get(0).getOwner(), t, defendingUnits, attackingUnits, false);
+    final double power = estimatePower(proData, defendingUnits.get(0).getOwner(), t, defendingUnits, attackingUnits,
+        false);
     if (power == 0 && !attackingUnits.isEmpty()) {
       return true;
     }
@@ -71,7 +54,8 @@ public class ProBattleUtils {
     // Determine if enough attack power to win in 1 round
     final List<Unit> sortedUnitsList = new ArrayList<Unit>(attackingUnits);
     Collections.sort(sortedUnitsList,
-        new UnitBattleComparator(false, ProData.unitValueMap, TerritoryEffectHelper.getEffects(t), data, false, false));
+        new UnitBattleComparator(false, proData.getUnitValueMap(), TerritoryEffectHelper.getEffects(t), data, false,
+            false));
     Collections.reverse(sortedUnitsList);
     final int attackPower =
         DiceRoll.getTotalPowerAndRolls(
@@ -82,7 +66,8 @@ public class ProBattleUtils {
     return ((attackPower / data.getDiceSides()) >= totalDefenderHitPoints);
   }
 
-  public static double estimateStrengthDifference(final Territory t, final List<Unit> attackingUnits,
+  public static double estimateStrengthDifference(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits,
       final List<Unit> defendingUnits) {
 
     if (attackingUnits.size() == 0) {
@@ -93,15 +78,16 @@ public class ProBattleUtils {
       return 100;
     }
     final double attackerStrength =
-        estimateStrength(attackingUnits.get(0).getOwner(), t, attackingUnits, actualDefenders, true);
+        estimateStrength(proData, attackingUnits.get(0).getOwner(), t, attackingUnits, actualDefenders, true);
     final double defenderStrength =
-        estimateStrength(actualDefenders.get(0).getOwner(), t, actualDefenders, attackingUnits, false);
+        estimateStrength(proData, actualDefenders.get(0).getOwner(), t, actualDefenders, attackingUnits, false);
     return ((attackerStrength - defenderStrength) / Math.pow(defenderStrength, 0.85) * 50 + 50);
   }
 
-  public static double estimateStrength(final PlayerID player, final Territory t, final List<Unit> myUnits,
+  public static double estimateStrength(final ProData proData, final PlayerID player, final Territory t,
+      final List<Unit> myUnits,
       final List<Unit> enemyUnits, final boolean attacking) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     List<Unit> unitsThatCanFight =
         Match.getMatches(myUnits, Matches.UnitCanBeInBattle(attacking, !t.isWater(), data, 1, false, true, true));
@@ -109,19 +95,21 @@ public class ProBattleUtils {
       unitsThatCanFight = Match.getMatches(unitsThatCanFight, Matches.UnitIsTransportButNotCombatTransport.invert());
     }
     final int myHP = BattleCalculator.getTotalHitpointsLeft(unitsThatCanFight);
-    final double myPower = estimatePower(player, t, myUnits, enemyUnits, attacking);
+    final double myPower = estimatePower(proData, player, t, myUnits, enemyUnits, attacking);
     return (2 * myHP) + myPower;
   }
 
-  private static double estimatePower(final PlayerID player, final Territory t, final List<Unit> myUnits,
+  private static double estimatePower(final ProData proData, final PlayerID player, final Territory t,
+      final List<Unit> myUnits,
       final List<Unit> enemyUnits, final boolean attacking) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Unit> unitsThatCanFight =
         Match.getMatches(myUnits, Matches.UnitCanBeInBattle(attacking, !t.isWater(), data, 1, false, true, true));
     final List<Unit> sortedUnitsList = new ArrayList<Unit>(unitsThatCanFight);
     Collections.sort(sortedUnitsList,
-        new UnitBattleComparator(!attacking, ProData.unitValueMap, TerritoryEffectHelper.getEffects(t), data, false,
+        new UnitBattleComparator(!attacking, proData.getUnitValueMap(), TerritoryEffectHelper.getEffects(t), data,
+            false,
             false));
     Collections.reverse(sortedUnitsList);
     final int myPower =
@@ -131,54 +119,57 @@ public class ProBattleUtils {
     return (myPower * 6.0 / data.getDiceSides());
   }
 
-  public static ProBattleResult estimateAttackBattleResults(final PlayerID player, final Territory t,
+  public static ProBattleResult estimateAttackBattleResults(final ProData proData, final PlayerID player,
+      final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
 
     // Determine if attackers have no chance
-    final double strengthDifference = estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = estimateStrengthDifference(proData, t, attackingUnits, defendingUnits);
     if (strengthDifference < 45) {
       return new ProBattleResult(0, -999, false, new ArrayList<Unit>(), defendingUnits, 1);
     }
-    return callBattleCalculator(player, t, attackingUnits, defendingUnits, bombardingUnits);
+    return callBattleCalculator(proData, player, t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  public static ProBattleResult estimateDefendBattleResults(final PlayerID player, final Territory t,
+  public static ProBattleResult estimateDefendBattleResults(final ProData proData, final PlayerID player,
+      final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
 
     // Determine if defenders have no chance
-    final double strengthDifference = estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = estimateStrengthDifference(proData, t, attackingUnits, defendingUnits);
     if (strengthDifference > 55) {
       final boolean isLandAndCanOnlyBeAttackedByAir = !t.isWater() && Match.allMatch(attackingUnits, Matches.UnitIsAir);
       return new ProBattleResult(100 + strengthDifference, 999 + strengthDifference, !isLandAndCanOnlyBeAttackedByAir,
           attackingUnits, new ArrayList<Unit>(), 1);
     }
-    return callBattleCalculator(player, t, attackingUnits, defendingUnits, bombardingUnits);
+    return callBattleCalculator(proData, player, t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  public static ProBattleResult calculateBattleResults(final PlayerID player, final Territory t,
+  public static ProBattleResult calculateBattleResults(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits,
       final boolean isAttacker) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
-    return callBattleCalculator(player, t, attackingUnits, defendingUnits, bombardingUnits);
+    return callBattleCalculator(proData, player, t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  private static ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
+  private static ProBattleResult checkIfNoAttackersOrDefenders(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits,
       final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final boolean hasNoDefenders = Match.noneMatch(defendingUnits, Matches.UnitIsNotInfrastructure);
     final boolean isLandAndCanOnlyBeAttackedByAir = !t.isWater() && Match.allMatch(attackingUnits, Matches.UnitIsAir);
@@ -196,17 +187,17 @@ public class ProBattleUtils {
   }
 
 
-  public static ProBattleResult callBattleCalculator(final PlayerID player, final Territory t,
+  public static ProBattleResult callBattleCalculator(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
-    return callBattleCalculator(player, t, attackingUnits, defendingUnits, bombardingUnits, false);
+    return callBattleCalculator(proData, player, t, attackingUnits, defendingUnits, bombardingUnits, false);
   }
 
-  public static ProBattleResult callBattleCalculator(final PlayerID player, final Territory t,
+  public static ProBattleResult callBattleCalculator(final ProData proData, final PlayerID player, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits,
       final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
-    if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
+    if (proData.isCanceled() || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
@@ -217,13 +208,14 @@ public class ProBattleUtils {
     final PlayerID attacker = attackingUnits.get(0).getOwner();
     final PlayerID defender = defendingUnits.get(0).getOwner();
     if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(true);
+      proData.getCalc().setRetreatWhenOnlyAirLeft(true);
     }
     results =
-        calc.setCalculateDataAndCalculate(attacker, defender, t, attackingUnits, defendingUnits, new ArrayList<Unit>(
+        proData.getCalc().setCalculateDataAndCalculate(attacker, defender, t, attackingUnits, defendingUnits,
+            new ArrayList<Unit>(
             bombardingUnits), TerritoryEffectHelper.getEffects(t), runCount);
     if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(false);
+      proData.getCalc().setRetreatWhenOnlyAirLeft(false);
     }
 
     // Find battle result statistics
@@ -237,15 +229,15 @@ public class ProBattleUtils {
     double TUVswing = results.getAverageTUVswing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
     if (Matches.TerritoryIsNeutralButNotWater.match(t)) // Set TUV swing for neutrals
     {
-      final double attackingUnitValue = BattleCalculator.getTUV(mainCombatAttackers, ProData.unitValueMap);
+      final double attackingUnitValue = BattleCalculator.getTUV(mainCombatAttackers, proData.getUnitValueMap());
       final double remainingUnitValue =
-          results.getAverageTUVofUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+          results.getAverageTUVofUnitsLeftOver(proData.getUnitValueMap(), proData.getUnitValueMap()).getFirst();
       TUVswing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits = Match.getMatches(defendingUnits, Matches.unitIsBeingTransported());
     if (t.isWater() && !defendingTransportedUnits.isEmpty()) // Add TUV swing for transported units
     {
-      final double transportedUnitValue = BattleCalculator.getTUV(defendingTransportedUnits, ProData.unitValueMap);
+      final double transportedUnitValue = BattleCalculator.getTUV(defendingTransportedUnits, proData.getUnitValueMap());
       TUVswing += transportedUnitValue * winPercentage / 100;
     }
 
@@ -262,14 +254,17 @@ public class ProBattleUtils {
     }
   }
 
-  public static boolean territoryHasLocalLandSuperiority(final Territory t, final int distance, final PlayerID player) {
-    return territoryHasLocalLandSuperiority(t, distance, player, new HashMap<Territory, ProPurchaseTerritory>());
+  public static boolean territoryHasLocalLandSuperiority(final ProData proData, final Territory t, final int distance,
+      final PlayerID player) {
+    return territoryHasLocalLandSuperiority(proData, t, distance, player, new HashMap<Territory,
+        ProPurchaseTerritory>());
   }
 
-  public static boolean territoryHasLocalLandSuperiority(final Territory t, final int distance, final PlayerID player,
+  public static boolean territoryHasLocalLandSuperiority(final ProData proData, final Territory t, final int distance,
+      final PlayerID player,
       final Map<Territory, ProPurchaseTerritory> purchaseTerritories) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     if (t == null) {
       return true;
     }
@@ -302,7 +297,7 @@ public class ProBattleUtils {
       }
 
       // Determine strength difference
-      final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
+      final double strengthDifference = estimateStrengthDifference(proData, t, enemyUnits, alliedUnits);
       ProLogger.trace(t + ", current enemy land strengthDifference=" + strengthDifference + ", distance=" + i
           + ", enemySize=" + enemyUnits.size() + ", alliedSize=" + alliedUnits.size());
       if (strengthDifference > 50) {
@@ -312,9 +307,10 @@ public class ProBattleUtils {
     return true;
   }
 
-  public static boolean territoryHasLocalLandSuperiorityAfterMoves(final Territory t, final int distance,
+  public static boolean territoryHasLocalLandSuperiorityAfterMoves(final ProData proData, final Territory t,
+      final int distance,
       final PlayerID player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find enemy strength
     final Set<Territory> nearbyTerritoriesForEnemy =
@@ -337,7 +333,7 @@ public class ProBattleUtils {
     }
 
     // Determine strength difference
-    final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
+    final double strengthDifference = estimateStrengthDifference(proData, t, enemyUnits, alliedUnits);
     ProLogger.trace(t + ", current enemy land strengthDifference=" + strengthDifference + ", enemySize="
         + enemyUnits.size() + ", alliedSize=" + alliedUnits.size());
     if (strengthDifference > 50) {
@@ -347,9 +343,10 @@ public class ProBattleUtils {
     }
   }
 
-  public static boolean territoryHasLocalNavalSuperiority(final Territory t, final PlayerID player,
+  public static boolean territoryHasLocalNavalSuperiority(final ProData proData, final Territory t,
+      final PlayerID player,
       final Map<Territory, ProPurchaseTerritory> purchaseTerritories, final List<Unit> unitsToPlace) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int landDistance = ProUtils.getClosestEnemyLandTerritoryDistanceOverWater(data, player, t);
     if (landDistance <= 0) {
@@ -408,14 +405,14 @@ public class ProBattleUtils {
     myUnits.addAll(alliedUnitsInSeaTerritories);
     final List<Unit> enemyAttackers = new ArrayList<Unit>(enemyUnitsInSeaTerritories);
     enemyAttackers.addAll(enemyUnitsInLandTerritories);
-    final double defenseStrengthDifference = estimateStrengthDifference(t, enemyAttackers, myUnits);
+    final double defenseStrengthDifference = estimateStrengthDifference(proData, t, enemyAttackers, myUnits);
     ProLogger.trace(t + ", current enemy naval attack strengthDifference=" + defenseStrengthDifference + ", enemySize="
         + enemyAttackers.size() + ", alliedSize=" + myUnits.size());
 
     // Find current naval attack strength
-    double attackStrengthDifference = estimateStrengthDifference(t, myUnits, enemyUnitsInSeaTerritories);
+    double attackStrengthDifference = estimateStrengthDifference(proData, t, myUnits, enemyUnitsInSeaTerritories);
     attackStrengthDifference +=
-        0.5 * estimateStrengthDifference(t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
+        0.5 * estimateStrengthDifference(proData, t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
     ProLogger.trace(t + ", current allied naval attack strengthDifference=" + attackStrengthDifference
         + ", alliedSize=" + myUnits.size() + ", enemySize=" + enemyUnitsInSeaTerritories.size());
 
@@ -41,31 +41,33 @@ import java.util.Map;
  */
 public class ProPurchaseUtils {
 
-  public static List<ProPurchaseOption> findPurchaseOptionsForTerritory(final PlayerID player,
+  public static List<ProPurchaseOption> findPurchaseOptionsForTerritory(final ProData proData, final PlayerID player,
       final List<ProPurchaseOption> purchaseOptions, final Territory t) {
     final List<ProPurchaseOption> result = new ArrayList<ProPurchaseOption>();
     for (final ProPurchaseOption ppo : purchaseOptions) {
-      if (canTerritoryUsePurchaseOption(player, ppo, t)) {
+      if (canTerritoryUsePurchaseOption(proData, player, ppo, t)) {
         result.add(ppo);
       }
     }
     return result;
   }
 
-  public static boolean canTerritoryUsePurchaseOption(final PlayerID player, final ProPurchaseOption ppo,
+  public static boolean canTerritoryUsePurchaseOption(final ProData proData, final PlayerID player,
+      final ProPurchaseOption ppo,
       final Territory t) {
     if (ppo == null) {
       return false;
     }
     final List<Unit> units = ppo.getUnitType().create(ppo.getQuantity(), player, true);
-    return canUnitsBePlaced(units, player, t);
+    return canUnitsBePlaced(proData, units, player, t);
   }
 
-  public static boolean canUnitsBePlaced(final List<Unit> units, final PlayerID player, final Territory t) {
-    final GameData data = ProData.getData();
+  public static boolean canUnitsBePlaced(final ProData proData, final List<Unit> units, final PlayerID player,
+      final Territory t) {
+    final GameData data = proData.getData();
 
     final AbstractPlaceDelegate placeDelegate = (AbstractPlaceDelegate) data.getDelegateList().getDelegate("place");
-    final IDelegateBridge bridge = new ProDummyDelegateBridge(ProData.getProAI(), player, data);
+    final IDelegateBridge bridge = new ProDummyDelegateBridge(proData.getProAI(), player, data);
     placeDelegate.setDelegateBridgeAndPlayer(bridge);
     final String s = placeDelegate.canUnitsBePlaced(t, units, player);
     if (s == null) {
@@ -144,17 +146,17 @@ public class ProPurchaseUtils {
     return purchasePercentages.keySet().iterator().next();
   }
 
-  public static List<Unit> findMaxPurchaseDefenders(final PlayerID player, final Territory t,
+  public static List<Unit> findMaxPurchaseDefenders(final ProData proData, final PlayerID player, final Territory t,
       final List<ProPurchaseOption> landPurchaseOptions) {
 
     ProLogger.info("Find max purchase defenders for " + t.getName());
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Determine most cost efficient defender that can be produced in this territory
     final Resource PUs = data.getResourceList().getResource(Constants.PUS);
     final int PUsRemaining = player.getResources().getQuantity(PUs);
     final List<ProPurchaseOption> purchaseOptionsForTerritory =
-        findPurchaseOptionsForTerritory(player, landPurchaseOptions, t);
+        findPurchaseOptionsForTerritory(proData, player, landPurchaseOptions, t);
     ProPurchaseOption bestDefenseOption = null;
     double maxDefenseEfficiency = 0;
     for (final ProPurchaseOption ppo : purchaseOptionsForTerritory) {
@@ -188,10 +190,11 @@ public class ProPurchaseUtils {
     return placeUnits;
   }
 
-  public static Map<Territory, ProPurchaseTerritory> findPurchaseTerritories(final PlayerID player) {
+  public static Map<Territory, ProPurchaseTerritory> findPurchaseTerritories(final ProData proData,
+      final PlayerID player) {
 
     ProLogger.info("Find all purchase territories");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all territories that I can place units on
     final RulesAttachment ra = (RulesAttachment) player.getAttachment(Constants.RULES_ATTACHMENT_NAME);
@@ -267,12 +270,12 @@ public class ProPurchaseUtils {
   /**
    * @return a comparator that sorts cheaper units before expensive ones
    */
-  public static Comparator<Unit> getCostComparator() {
+  public static Comparator<Unit> getCostComparator(final ProData proData) {
     return new Comparator<Unit>() {
       @Override
       public int compare(final Unit o1, final Unit o2) {
-        return Double.compare(getCost(o1.getType(), o1.getOwner(), o1.getData()),
-            getCost(o2.getType(), o2.getOwner(), o2.getData()));
+        return Double.compare(getCost(proData, o1.getType(), o1.getOwner(), o1.getData()),
+            getCost(proData, o2.getType(), o2.getOwner(), o2.getData()));
       }
     };
   }
@@ -283,7 +286,8 @@ public class ProPurchaseUtils {
    * If the player cannot produce the given unit, return Integer.MAX_VALUE
    * <p>
    */
-  public static double getCost(final UnitType unitType, final PlayerID player, final GameData data) {
+  public static double getCost(final ProData proData, final UnitType unitType, final PlayerID player,
+      final GameData data) {
     if (unitType == null) {
       throw new IllegalArgumentException("null unit type");
     }
@@ -293,7 +297,7 @@ public class ProPurchaseUtils {
     final Resource PUs = data.getResourceList().getResource(Constants.PUS);
     final ProductionRule rule = getProductionRule(unitType, player, data);
     if (rule == null) {
-      return ProData.unitValueMap.getInt(unitType);
+      return proData.getUnitValueMap().getInt(unitType);
     } else {
       return ((double) rule.getCosts().getInt(PUs)) / rule.getResults().totalValues();
     }
@@ -26,7 +26,7 @@ import java.util.Set;
  */
 public class ProSortMoveOptionsUtils {
 
-  public static Map<Unit, Set<Territory>> sortUnitMoveOptions(final PlayerID player,
+  public static Map<Unit, Set<Territory>> sortUnitMoveOptions(final ProData proData, final PlayerID player,
       final Map<Unit, Set<Territory>> unitAttackOptions) {
 
     final List<Map.Entry<Unit, Set<Territory>>> list =
@@ -38,9 +38,9 @@ public class ProSortMoveOptionsUtils {
         // Sort by number of move options then cost of unit then unit type
         if (o1.getValue().size() != o2.getValue().size()) {
           return (o1.getValue().size() - o2.getValue().size());
-        } else if (ProData.unitValueMap.getInt(o1.getKey().getType()) != ProData.unitValueMap.getInt(o2.getKey()
-            .getType())) {
-          return (ProData.unitValueMap.getInt(o1.getKey().getType()) - ProData.unitValueMap.getInt(o2.getKey()
+        } else if (proData.getUnitValueMap().getInt(o1.getKey().getType()) != proData.getUnitValueMap()
+            .getInt(o2.getKey().getType())) {
+          return (proData.getUnitValueMap().getInt(o1.getKey().getType()) - proData.getUnitValueMap().getInt(o2.getKey()
               .getType()));
         }
         return o1.getKey().getType().getName().compareTo(o2.getKey().getType().getName());
@@ -53,9 +53,9 @@ public class ProSortMoveOptionsUtils {
     return sortedUnitAttackOptions;
   }
 
-  public static Map<Unit, Set<Territory>> sortUnitNeededOptions(final PlayerID player,
+  public static Map<Unit, Set<Territory>> sortUnitNeededOptions(final ProData proData, final PlayerID player,
       final Map<Unit, Set<Territory>> unitAttackOptions, final Map<Territory, ProTerritory> attackMap) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Map.Entry<Unit, Set<Territory>>> list =
         new LinkedList<Map.Entry<Unit, Set<Territory>>>(unitAttackOptions.entrySet());
@@ -68,7 +68,7 @@ public class ProSortMoveOptionsUtils {
         for (final Territory t : o1.getValue()) {
           final ProTerritory patd = attackMap.get(t);
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(player, t, patd.getUnits(),
+            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, player, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           if (!patd.isCurrentlyWins()) {
@@ -79,7 +79,7 @@ public class ProSortMoveOptionsUtils {
         for (final Territory t : o2.getValue()) {
           final ProTerritory patd = attackMap.get(t);
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(player, t, patd.getUnits(),
+            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, player, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           if (!patd.isCurrentlyWins()) {
@@ -91,8 +91,9 @@ public class ProSortMoveOptionsUtils {
         if (numOptions1 != numOptions2) {
           return (numOptions1 - numOptions2);
         }
-        if (ProData.unitValueMap.getInt(o1.getKey().getType()) != ProData.unitValueMap.getInt(o2.getKey().getType())) {
-          return (ProData.unitValueMap.getInt(o1.getKey().getType()) - ProData.unitValueMap.getInt(o2.getKey()
+        if (proData.getUnitValueMap().getInt(o1.getKey().getType()) != proData.getUnitValueMap()
+            .getInt(o2.getKey().getType())) {
+          return (proData.getUnitValueMap().getInt(o1.getKey().getType()) - proData.getUnitValueMap().getInt(o2.getKey()
               .getType()));
         }
         return o1.getKey().getType().getName().compareTo(o2.getKey().getType().getName());
@@ -105,10 +106,10 @@ public class ProSortMoveOptionsUtils {
     return sortedUnitAttackOptions;
   }
 
-  public static Map<Unit, Set<Territory>> sortUnitNeededOptionsThenAttack(final PlayerID player,
+  public static Map<Unit, Set<Territory>> sortUnitNeededOptionsThenAttack(final ProData proData, final PlayerID player,
       final Map<Unit, Set<Territory>> unitAttackOptions, final Map<Territory, ProTerritory> attackMap,
       final Map<Unit, Territory> unitTerritoryMap) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Map.Entry<Unit, Set<Territory>>> list =
         new LinkedList<Map.Entry<Unit, Set<Territory>>>(unitAttackOptions.entrySet());
@@ -121,7 +122,7 @@ public class ProSortMoveOptionsUtils {
         for (final Territory t : o1.getValue()) {
           final ProTerritory patd = attackMap.get(t);
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(player, t, patd.getUnits(),
+            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, player, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           if (!patd.isCurrentlyWins()) {
@@ -132,7 +133,7 @@ public class ProSortMoveOptionsUtils {
         for (final Territory t : o2.getValue()) {
           final ProTerritory patd = attackMap.get(t);
           if (patd.getBattleResult() == null) {
-            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(player, t, patd.getUnits(),
+            patd.setBattleResult(ProBattleUtils.estimateAttackBattleResults(proData, player, t, patd.getUnits(),
                 patd.getMaxEnemyDefenders(player, data), patd.getBombardTerritoryMap().keySet()));
           }
           if (!patd.isCurrentlyWins()) {
@@ -152,7 +153,7 @@ public class ProSortMoveOptionsUtils {
           if (!attackMap.get(t).isCurrentlyWins()) {
             final List<Unit> defendingUnits = t.getUnits().getMatches(Matches.enemyUnit(player, data));
             final List<Unit> sortedUnitsList = new ArrayList<Unit>(attackMap.get(t).getUnits());
-            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
                 TerritoryEffectHelper.getEffects(t), data, false, false));
             Collections.reverse(sortedUnitsList);
             final int powerWithout =
@@ -161,7 +162,7 @@ public class ProSortMoveOptionsUtils {
                         false, false, player, data, t, TerritoryEffectHelper.getEffects(t), false, null), data)
                     .getFirst();
             sortedUnitsList.add(o1.getKey());
-            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
                 TerritoryEffectHelper.getEffects(t), data, false, false));
             Collections.reverse(sortedUnitsList);
             final int powerWith =
@@ -179,13 +180,13 @@ public class ProSortMoveOptionsUtils {
         if (ua1.getIsAir()) {
           minPower1 *= 10;
         }
-        final double attackEfficiency1 = (double) minPower1 / ProData.unitValueMap.getInt(o1.getKey().getType());
+        final double attackEfficiency1 = (double) minPower1 / proData.getUnitValueMap().getInt(o1.getKey().getType());
         int minPower2 = Integer.MAX_VALUE;
         for (final Territory t : o2.getValue()) {
           if (!attackMap.get(t).isCurrentlyWins()) {
             final List<Unit> defendingUnits = t.getUnits().getMatches(Matches.enemyUnit(player, data));
             final List<Unit> sortedUnitsList = new ArrayList<Unit>(attackMap.get(t).getUnits());
-            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
                 TerritoryEffectHelper.getEffects(t), data, false, false));
             Collections.reverse(sortedUnitsList);
             final int powerWithout =
@@ -194,7 +195,7 @@ public class ProSortMoveOptionsUtils {
                         false, false, player, data, t, TerritoryEffectHelper.getEffects(t), false, null), data)
                     .getFirst();
             sortedUnitsList.add(o2.getKey());
-            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, ProData.unitValueMap,
+            Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
                 TerritoryEffectHelper.getEffects(t), data, false, false));
             Collections.reverse(sortedUnitsList);
             final int powerWith =
@@ -212,7 +213,7 @@ public class ProSortMoveOptionsUtils {
         if (ua2.getIsAir()) {
           minPower2 *= 10;
         }
-        final double attackEfficiency2 = (double) minPower2 / ProData.unitValueMap.getInt(o2.getKey().getType());
+        final double attackEfficiency2 = (double) minPower2 / proData.getUnitValueMap().getInt(o2.getKey().getType());
         if (attackEfficiency1 != attackEfficiency2) {
           if (attackEfficiency1 < attackEfficiency2) {
             return 1;
@@ -27,9 +27,9 @@ import java.util.Set;
  */
 public class ProUtils {
 
-  public static Map<Unit, Territory> createUnitTerritoryMap() {
+  public static Map<Unit, Territory> createUnitTerritoryMap(final ProData proData) {
     final Map<Unit, Territory> unitTerritoryMap = new HashMap<Unit, Territory>();
-    for (final Territory t : ProData.getData().getMap().getTerritories()) {
+    for (final Territory t : proData.getData().getMap().getTerritories()) {
       for (final Unit u : t.getUnits().getUnits()) {
         unitTerritoryMap.put(u, t);
       }
@@ -37,8 +37,8 @@ public class ProUtils {
     return unitTerritoryMap;
   }
 
-  public static List<PlayerID> getOtherPlayersInTurnOrder(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerID> getOtherPlayersInTurnOrder(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> players = new ArrayList<PlayerID>();
     final GameSequence sequence = data.getSequence();
     final int startIndex = sequence.getStepIndex();
@@ -57,9 +57,9 @@ public class ProUtils {
     return players;
   }
 
-  public static List<PlayerID> getAlliedPlayersInTurnOrder(final PlayerID player) {
-    final GameData data = ProData.getData();
-    final List<PlayerID> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerID> getAlliedPlayersInTurnOrder(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
+    final List<PlayerID> players = getOtherPlayersInTurnOrder(proData, player);
     for (final Iterator<PlayerID> it = players.iterator(); it.hasNext();) {
       final PlayerID currentPlayer = it.next();
       if (!data.getRelationshipTracker().isAllied(player, currentPlayer)) {
@@ -69,9 +69,9 @@ public class ProUtils {
     return players;
   }
 
-  public static List<PlayerID> getEnemyPlayersInTurnOrder(final PlayerID player) {
-    final GameData data = ProData.getData();
-    final List<PlayerID> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerID> getEnemyPlayersInTurnOrder(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
+    final List<PlayerID> players = getOtherPlayersInTurnOrder(proData, player);
     for (final Iterator<PlayerID> it = players.iterator(); it.hasNext();) {
       final PlayerID currentPlayer = it.next();
       if (data.getRelationshipTracker().isAllied(player, currentPlayer)) {
@@ -93,8 +93,8 @@ public class ProUtils {
     return true;
   }
 
-  public static List<PlayerID> getEnemyPlayers(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerID> getEnemyPlayers(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> enemyPlayers = new ArrayList<PlayerID>();
     for (final PlayerID players : data.getPlayerList().getPlayers()) {
       if (!data.getRelationshipTracker().isAllied(player, players)) {
@@ -104,8 +104,8 @@ public class ProUtils {
     return enemyPlayers;
   }
 
-  public static List<PlayerID> getAlliedPlayers(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerID> getAlliedPlayers(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> alliedPlayers = new ArrayList<PlayerID>();
     for (final PlayerID players : data.getPlayerList().getPlayers()) {
       if (data.getRelationshipTracker().isAllied(player, players)) {
@@ -115,13 +115,13 @@ public class ProUtils {
     return alliedPlayers;
   }
 
-  public static List<PlayerID> getPotentialEnemyPlayers(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerID> getPotentialEnemyPlayers(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     final List<PlayerID> otherPlayers = data.getPlayerList().getPlayers();
     for (final Iterator<PlayerID> it = otherPlayers.iterator(); it.hasNext();) {
       final PlayerID otherPlayer = it.next();
       final RelationshipType relation = data.getRelationshipTracker().getRelationshipType(player, otherPlayer);
-      if (Matches.RelationshipTypeIsAllied.match(relation) || isNeutralPlayer(otherPlayer)) {
+      if (Matches.RelationshipTypeIsAllied.match(relation) || isNeutralPlayer(proData, otherPlayer)) {
         it.remove();
       }
     }
@@ -140,21 +140,23 @@ public class ProUtils {
     return rVal;
   }
 
-  public static List<Territory> getLiveEnemyCapitals(final GameData data, final PlayerID player) {
+  public static List<Territory> getLiveEnemyCapitals(final ProData proData, final GameData data,
+      final PlayerID player) {
     final List<Territory> enemyCapitals = new ArrayList<Territory>();
-    final List<PlayerID> ePlayers = getEnemyPlayers(player);
+    final List<PlayerID> ePlayers = getEnemyPlayers(proData, player);
     for (final PlayerID otherPlayer : ePlayers) {
       enemyCapitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(otherPlayer, data));
     }
     enemyCapitals.retainAll(Match.getMatches(enemyCapitals, Matches.TerritoryIsNotImpassableToLandUnits(player, data)));
     enemyCapitals.retainAll(Match.getMatches(enemyCapitals,
-        Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player))));
+        Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(proData, player))));
     return enemyCapitals;
   }
 
-  public static List<Territory> getLiveAlliedCapitals(final GameData data, final PlayerID player) {
+  public static List<Territory> getLiveAlliedCapitals(final ProData proData, final GameData data,
+      final PlayerID player) {
     final List<Territory> capitals = new ArrayList<Territory>();
-    final List<PlayerID> players = getAlliedPlayers(player);
+    final List<PlayerID> players = getAlliedPlayers(proData, player);
     for (final PlayerID alliedPlayer : players) {
       capitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(alliedPlayer, data));
     }
@@ -163,11 +165,12 @@ public class ProUtils {
     return capitals;
   }
 
-  public static int getClosestEnemyLandTerritoryDistance(final GameData data, final PlayerID player, final Territory t) {
+  public static int getClosestEnemyLandTerritoryDistance(final ProData proData, final GameData data,
+      final PlayerID player, final Territory t) {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data, true));
     final List<Territory> enemyLandTerritories =
-        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player)));
+        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(proData, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       final int distance =
@@ -184,12 +187,13 @@ public class ProUtils {
     }
   }
 
-  public static int getClosestEnemyOrNeutralLandTerritoryDistance(final GameData data, final PlayerID player,
+  public static int getClosestEnemyOrNeutralLandTerritoryDistance(final ProData proData, final GameData data,
+      final PlayerID player,
       final Territory t, final Map<Territory, Double> territoryValueMap) {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data, true));
     final List<Territory> enemyLandTerritories =
-        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(player)));
+        Match.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(proData, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       if (territoryValueMap.get(enemyLandTerritory) <= 0) {
@@ -247,8 +251,8 @@ public class ProUtils {
     return false;
   }
 
-  public static boolean isNeutralPlayer(final PlayerID player) {
-    final GameData data = ProData.getData();
+  public static boolean isNeutralPlayer(final ProData proData, final PlayerID player) {
+    final GameData data = proData.getData();
     for (final GameStep gameStep : data.getSequence()) {
       if (player.equals(gameStep.getPlayerID())) {
         return false;
@@ -42,6 +42,25 @@ import games.strategy.util.Tuple;
  */
 public class UnitAttachment extends DefaultAttachment {
   private static final long serialVersionUID = -2946748686268541820L;
+  // bits of the capability set that each UnitType caches from its unit attachment, see UnitType.hasCapability
+  public static final int CAPABILITY_AIR = 1;
+  public static final int CAPABILITY_SEA = 1 << 1;
+  public static final int CAPABILITY_SUB = 1 << 2;
+  public static final int CAPABILITY_DESTROYER = 1 << 3;
+  public static final int CAPABILITY_TRANSPORT = 1 << 4;
+  public static final int CAPABILITY_COMBAT_TRANSPORT = 1 << 5;
+  public static final int CAPABILITY_LAND_TRANSPORT = 1 << 6;
+  public static final int CAPABILITY_CARRIER = 1 << 7;
+  public static final int CAPABILITY_CAN_LAND_ON_CARRIER = 1 << 8;
+  public static final int CAPABILITY_INFRASTRUCTURE = 1 << 9;
+  public static final int CAPABILITY_STRATEGIC_BOMBER = 1 << 10;
+  public static final int CAPABILITY_AA_FOR_COMBAT = 1 << 11;
+  public static final int CAPABILITY_AA_FOR_BOMBING = 1 << 12;
+  public static final int CAPABILITY_AA_FOR_FLY_OVER = 1 << 13;
+  public static final int CAPABILITY_SUICIDE = 1 << 14;
+  public static final int CAPABILITY_KAMIKAZE = 1 << 15;
+  public static final int CAPABILITY_AA_FOR_ANYTHING =
+      CAPABILITY_AA_FOR_COMBAT | CAPABILITY_AA_FOR_BOMBING | CAPABILITY_AA_FOR_FLY_OVER;
 
   /**
    * Convenience method.
@@ -2621,6 +2640,63 @@ public class UnitAttachment extends DefaultAttachment {
     return Math.max(0, max - totalInTerritory);
   }
 
+  /**
+   * The player independent flags of this attachment as a bitset of the CAPABILITY_* constants.
+   * Use UnitType.hasCapability, which caches this, rather than calling it directly.
+   */
+  public int getCapabilities() {
+    int capabilities = 0;
+    if (m_isAir) {
+      capabilities |= CAPABILITY_AIR;
+    }
+    if (m_isSea) {
+      capabilities |= CAPABILITY_SEA;
+    }
+    if (m_isSub) {
+      capabilities |= CAPABILITY_SUB;
+    }
+    if (m_isDestroyer) {
+      capabilities |= CAPABILITY_DESTROYER;
+    }
+    if (m_transportCapacity != -1 && m_isSea) {
+      capabilities |= CAPABILITY_TRANSPORT;
+    }
+    if (m_isCombatTransport && m_isSea) {
+      capabilities |= CAPABILITY_COMBAT_TRANSPORT;
+    }
+    if (m_isLandTransport) {
+      capabilities |= CAPABILITY_LAND_TRANSPORT;
+    }
+    if (m_carrierCapacity != -1) {
+      capabilities |= CAPABILITY_CARRIER;
+    }
+    if (m_carrierCost != -1) {
+      capabilities |= CAPABILITY_CAN_LAND_ON_CARRIER;
+    }
+    if (m_isInfrastructure) {
+      capabilities |= CAPABILITY_INFRASTRUCTURE;
+    }
+    if (m_isStrategicBomber) {
+      capabilities |= CAPABILITY_STRATEGIC_BOMBER;
+    }
+    if (m_isAAforCombatOnly) {
+      capabilities |= CAPABILITY_AA_FOR_COMBAT;
+    }
+    if (m_isAAforBombingThisUnitOnly) {
+      capabilities |= CAPABILITY_AA_FOR_BOMBING;
+    }
+    if (m_isAAforFlyOverOnly) {
+      capabilities |= CAPABILITY_AA_FOR_FLY_OVER;
+    }
+    if (m_isSuicide) {
+      capabilities |= CAPABILITY_SUICIDE;
+    }
+    if (m_isKamikaze) {
+      capabilities |= CAPABILITY_KAMIKAZE;
+    }
+    return capabilities;
+  }
+
   @Override
   public void validate(final GameData data) throws GameParseException {
     if (m_isAir) {
@@ -59,6 +59,8 @@ abstract public class AbstractBattle implements IBattle, Serializable {
   protected WhoWon m_whoWon = WhoWon.NOTFINISHED;
   protected int m_attackerLostTUV = 0;
   protected int m_defenderLostTUV = 0;
+  // the unit values for this battle, if they are kept between rolls, such as by the battle calculator
+  protected transient BattlePowerTable m_powerTable = null;
 
   public AbstractBattle(final Territory battleSite, final PlayerID attacker, final BattleTracker battleTracker,
       final boolean isBombingRun, final BattleType battleType, final GameData data) {
@@ -196,6 +198,19 @@ abstract public class AbstractBattle implements IBattle, Serializable {
     return m_defender;
   }
 
+  @Override
+  public BattlePowerTable getPowerTable() {
+    return m_powerTable;
+  }
+
+  /**
+   * Sets the unit values to use, so battles fought over and over with the same units, such as in the battle
+   * calculator, can share one table.
+   */
+  public void setPowerTable(final BattlePowerTable powerTable) {
+    m_powerTable = powerTable;
+  }
+
   public void setHeadless(final boolean aBool) {
     m_headless = aBool;
   }
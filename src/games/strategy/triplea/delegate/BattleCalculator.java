@@ -179,18 +179,8 @@ public class BattleCalculator {
   private static CasualtyDetails getLowLuckAACasualties(final boolean defending, final Collection<Unit> planes,
       final Collection<Unit> defendingAA, final DiceRoll dice, final Territory location, final IDelegateBridge bridge,
       final boolean allowMultipleHitsPerUnit) {
-    {
-      final Set<Unit> duplicatesCheckSet1 = new HashSet<Unit>(planes);
-      if (planes.size() != duplicatesCheckSet1.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + planes + "  HashSet:" + duplicatesCheckSet1);
-      }
-      final Set<Unit> duplicatesCheckSet2 = new HashSet<Unit>(defendingAA);
-      if (defendingAA.size() != duplicatesCheckSet2.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + defendingAA + "  HashSet:" + duplicatesCheckSet2);
-      }
-    }
+    DiceRoll.checkForDuplicates(planes, bridge);
+    DiceRoll.checkForDuplicates(defendingAA, bridge);
     int hitsLeft = dice.getHits();
     if (hitsLeft <= 0) {
       return new CasualtyDetails();
@@ -351,13 +341,7 @@ public class BattleCalculator {
    */
   public static CasualtyDetails RandomAACasualties(final Collection<Unit> planes, final DiceRoll dice,
       final IDelegateBridge bridge, final boolean allowMultipleHitsPerUnit) {
-    {
-      final Set<Unit> duplicatesCheckSet1 = new HashSet<Unit>(planes);
-      if (planes.size() != duplicatesCheckSet1.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + planes + "  HashSet:" + duplicatesCheckSet1);
-      }
-    }
+    DiceRoll.checkForDuplicates(planes, bridge);
     final int hitsLeft = dice.getHits();
     if (hitsLeft <= 0) {
       return new CasualtyDetails();
@@ -771,18 +755,19 @@ public class BattleCalculator {
     }
     // System.out.println("Miss with cacheSize=" + oolCache.size() + ", key=" + key);
     // Sort enough units to kill off
+    final BattlePowerTable powerTable = new BattlePowerTable(data, territoryEffects);
     final List<Unit> sortedUnitsList = new ArrayList<Unit>(targetsToPickFrom);
-    Collections.sort(sortedUnitsList, new UnitBattleComparator(defending, costs, territoryEffects, data, bonus, false));
+    Collections.sort(sortedUnitsList, new UnitBattleComparator(defending, costs, data, bonus, false, powerTable));
     // Sort units starting with strongest so that support gets added to them first
     Collections.reverse(sortedUnitsList);
     final UnitBattleComparator unitComparatorWithoutPrimaryPower =
-        new UnitBattleComparator(defending, costs, territoryEffects, data, bonus, true);
+        new UnitBattleComparator(defending, costs, data, bonus, true, powerTable);
     final List<Unit> sortedWellEnoughUnitsList = new ArrayList<Unit>();
     final Map<Unit, IntegerMap<Unit>> unitSupportPowerMap = new HashMap<Unit, IntegerMap<Unit>>();
     final Map<Unit, IntegerMap<Unit>> unitSupportRollsMap = new HashMap<Unit, IntegerMap<Unit>>();
     final Map<Unit, Tuple<Integer, Integer>> unitPowerAndRollsMap = DiceRoll.getUnitPowerAndRollsForNormalBattles(
         sortedUnitsList, sortedUnitsList, new ArrayList<Unit>(enemyUnits), defending, false, player, data, battlesite,
-        territoryEffects, amphibious, amphibiousLandAttackers, unitSupportPowerMap, unitSupportRollsMap);
+        territoryEffects, amphibious, amphibiousLandAttackers, unitSupportPowerMap, unitSupportRollsMap, powerTable);
     // Sort units starting with weakest for finding the worst units
     Collections.reverse(sortedUnitsList);
     for (int i = 0; i < sortedUnitsList.size(); ++i) {
@@ -939,8 +924,9 @@ public class BattleCalculator {
       final Collection<Unit> amphibiousLandAttackers, final Territory battlesite, final IntegerMap<UnitType> costs,
       final Collection<TerritoryEffect> territoryEffects, final GameData data, final boolean allowMultipleHitsPerUnit,
       final boolean bonus) {
+    final BattlePowerTable powerTable = new BattlePowerTable(data, territoryEffects);
     final List<Unit> sortedUnitsList = new ArrayList<Unit>(targetsToPickFrom);
-    Collections.sort(sortedUnitsList, new UnitBattleComparator(defending, costs, territoryEffects, data, bonus, false));
+    Collections.sort(sortedUnitsList, new UnitBattleComparator(defending, costs, data, bonus, false, powerTable));
     // Select optimal units to kill
     int numberOfUnitsWeMustSort = hits;
     int extraHP = 0;
@@ -964,7 +950,7 @@ public class BattleCalculator {
       return sortedUnitsList;
     }
     final UnitBattleComparator unitComparatorWithoutPrimaryPower =
-        new UnitBattleComparator(defending, costs, territoryEffects, data, bonus, true);
+        new UnitBattleComparator(defending, costs, data, bonus, true, powerTable);
     final List<Unit> sortedWellEnoughUnitsList = new ArrayList<Unit>();
     for (int i = 0; i < numberOfUnitsWeMustSort; ++i) {
       // Loop through all target units to find the best unit to take as casualty
@@ -982,16 +968,17 @@ public class BattleCalculator {
         units.remove(u);
         final List<Unit> enemyUnitList = new ArrayList<Unit>(enemyUnits);
         Collections.reverse(units);
-        final int power = DiceRoll
-            .getTotalPowerAndRolls(DiceRoll.getUnitPowerAndRollsForNormalBattles(units, units, enemyUnitList, defending,
-                false, player, data, battlesite, territoryEffects, amphibious, amphibiousLandAttackers), data)
-            .getFirst();
+        final int power = DiceRoll.getTotalPowerAndRolls(DiceRoll.getUnitPowerAndRollsForNormalBattles(units, units,
+            enemyUnitList, defending, false, player, data, battlesite, territoryEffects, amphibious,
+            amphibiousLandAttackers, new HashMap<Unit, IntegerMap<Unit>>(), new HashMap<Unit, IntegerMap<Unit>>(),
+            powerTable), data).getFirst();
         // Find enemy power without current unit (need to consider this since supports can decrease enemy
         // attack/defense)
         final int enemyPower = DiceRoll
             .getTotalPowerAndRolls(
                 DiceRoll.getUnitPowerAndRollsForNormalBattles(enemyUnitList, enemyUnitList, units, !defending, false,
-                    enemyPlayer, data, battlesite, territoryEffects, amphibious, amphibiousLandAttackers),
+                    enemyPlayer, data, battlesite, territoryEffects, amphibious, amphibiousLandAttackers,
+                    new HashMap<Unit, IntegerMap<Unit>>(), new HashMap<Unit, IntegerMap<Unit>>(), powerTable),
                 data)
             .getFirst();
         // Check if unit has higher power
@@ -1453,51 +1440,4 @@ public class BattleCalculator {
 
   // nothing but static
   private BattleCalculator() {}
-
-  /**
-   * This returns the exact Power that a unit has according to what DiceRoll.rollDiceLowLuck() would give it.
-   * As such, it needs to exactly match DiceRoll, otherwise this method will become useless.
-   * It does NOT take into account SUPPORT.
-   * It DOES take into account ROLLS.
-   * It needs to be updated to take into account isMarine.
-   */
-  public static int getUnitPowerForSorting(final Unit current, final boolean defending, final GameData data,
-      final Collection<TerritoryEffect> territoryEffects) {
-    final boolean lhtrBombers = games.strategy.triplea.Properties.getLHTR_Heavy_Bombers(data);
-    final UnitAttachment ua = UnitAttachment.get(current.getType());
-    int rolls;
-    if (defending) {
-      rolls = ua.getDefenseRolls(current.getOwner());
-    } else {
-      rolls = ua.getAttackRolls(current.getOwner());
-    }
-    // int strength = 0;
-    int strengthWithoutSupport = 0;
-    // Find the strength the unit has without support
-    // lhtr heavy bombers take best of n dice for both attack and defense
-    if (rolls > 1 && (lhtrBombers || ua.getChooseBestRoll())) {
-      if (defending) {
-        strengthWithoutSupport = ua.getDefense(current.getOwner());
-      } else {
-        strengthWithoutSupport = ua.getAttack(current.getOwner());
-      }
-      strengthWithoutSupport +=
-          TerritoryEffectHelper.getTerritoryCombatBonus(current.getType(), territoryEffects, defending);
-      // just add one like LL if we are LHTR bombers
-      strengthWithoutSupport = Math.min(Math.max(strengthWithoutSupport + 1, 0), data.getDiceSides());
-    } else {
-      for (int i = 0; i < rolls; i++) {
-        int tempStrength;
-        if (defending) {
-          tempStrength = ua.getDefense(current.getOwner());
-        } else {
-          tempStrength = ua.getAttack(current.getOwner());
-        }
-        strengthWithoutSupport +=
-            TerritoryEffectHelper.getTerritoryCombatBonus(current.getType(), territoryEffects, defending);
-        strengthWithoutSupport += Math.min(Math.max(tempStrength, 0), data.getDiceSides());
-      }
-    }
-    return strengthWithoutSupport;
-  }
 }
@@ -0,0 +1,226 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.attatchments.UnitAttachment;
+import games.strategy.triplea.attatchments.UnitSupportAttachment;
+import games.strategy.util.IntegerMap;
+import games.strategy.util.LinkedIntegerMap;
+
+/**
+ * The combat values of the units in a battle, worked out once for each unit type and owner rather than for each roll.
+ * <p>
+ * Finding the attack, defense and rolls of a unit means looking up the technology of its owner, and finding the
+ * support rules means looking through every unit type of the game. A roll works these out once for all its units, and
+ * the battle calculator, which fights the same battle over and over, keeps one table for all its runs. Which support
+ * is given still depends on which units are alive, so it is handed out again on each roll, but from rules that were
+ * found and sorted only once.
+ * <p>
+ * A table is not synchronized, and is used by one thread at a time.
+ */
+public class BattlePowerTable {
+  private final GameData m_data;
+  private final Collection<TerritoryEffect> m_territoryEffects;
+  private final Map<PlayerID, Map<UnitType, UnitValues>> m_values = new HashMap<PlayerID, Map<UnitType, UnitValues>>();
+  private final Map<PlayerID, Boolean> m_firstTurnLimited = new HashMap<PlayerID, Boolean>();
+  private final Map<PlayerID, Boolean> m_improvedArtillery = new HashMap<PlayerID, Boolean>();
+  // the support rules for defence or offence, to allies or enemies, grouped by bonus type and sorted
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private final List<List<UnitSupportAttachment>>[] m_supportRules = new List[4];
+
+  /**
+   * @param territoryEffects
+   *        the effects of the territory the battle is in, may be null.
+   */
+  public BattlePowerTable(final GameData data, final Collection<TerritoryEffect> territoryEffects) {
+    m_data = data;
+    m_territoryEffects = territoryEffects;
+  }
+
+  /**
+   * The values of one unit type, for one owner.
+   */
+  private static final class UnitValues {
+    private final int m_attack;
+    private final int m_defense;
+    private final int m_attackRolls;
+    private final int m_defenseRolls;
+    private final int m_attackBonus;
+    private final int m_defenseBonus;
+
+    UnitValues(final UnitType type, final PlayerID owner, final Collection<TerritoryEffect> territoryEffects) {
+      final UnitAttachment ua = UnitAttachment.get(type);
+      m_attack = ua.getAttack(owner);
+      m_defense = ua.getDefense(owner);
+      m_attackRolls = ua.getAttackRolls(owner);
+      m_defenseRolls = ua.getDefenseRolls(owner);
+      m_attackBonus = TerritoryEffectHelper.getTerritoryCombatBonus(type, territoryEffects, false);
+      m_defenseBonus = TerritoryEffectHelper.getTerritoryCombatBonus(type, territoryEffects, true);
+    }
+  }
+
+  private UnitValues getValues(final Unit unit) {
+    Map<UnitType, UnitValues> forOwner = m_values.get(unit.getOwner());
+    if (forOwner == null) {
+      forOwner = new HashMap<UnitType, UnitValues>();
+      m_values.put(unit.getOwner(), forOwner);
+    }
+    UnitValues values = forOwner.get(unit.getType());
+    if (values == null) {
+      values = new UnitValues(unit.getType(), unit.getOwner(), m_territoryEffects);
+      forOwner.put(unit.getType(), values);
+    }
+    return values;
+  }
+
+  /**
+   * @return the attack or defense of the unit, without support or territory effects.
+   */
+  public int getStrength(final Unit unit, final boolean defending) {
+    final UnitValues values = getValues(unit);
+    return defending ? values.m_defense : values.m_attack;
+  }
+
+  /**
+   * @return the attack or defense rolls of the unit, without support.
+   */
+  public int getRolls(final Unit unit, final boolean defending) {
+    final UnitValues values = getValues(unit);
+    return defending ? values.m_defenseRolls : values.m_attackRolls;
+  }
+
+  /**
+   * @return the bonus the territory effects of the battle give the unit.
+   */
+  public int getTerritoryBonus(final Unit unit, final boolean defending) {
+    final UnitValues values = getValues(unit);
+    return defending ? values.m_defenseBonus : values.m_attackBonus;
+  }
+
+  /**
+   * @return true if the units of the player defend at no more than 1, as it is the first round of a game with a
+   *         dominating first round attack.
+   */
+  public boolean isFirstTurnLimitedRoll(final PlayerID player) {
+    Boolean limited = m_firstTurnLimited.get(player);
+    if (limited == null) {
+      limited = DiceRoll.isFirstTurnLimitedRoll(player, m_data);
+      m_firstTurnLimited.put(player, limited);
+    }
+    return limited;
+  }
+
+  private boolean hasImprovedArtillerySupport(final PlayerID player) {
+    Boolean improved = m_improvedArtillery.get(player);
+    if (improved == null) {
+      improved = TechTracker.hasImprovedArtillerySupport(player);
+      m_improvedArtillery.put(player, improved);
+    }
+    return improved;
+  }
+
+  /**
+   * This returns the exact Power that a unit has according to what DiceRoll.rollDiceLowLuck() would give it.
+   * As such, it needs to exactly match DiceRoll, otherwise this method will become useless.
+   * It does NOT take into account SUPPORT.
+   * It DOES take into account ROLLS.
+   * It needs to be updated to take into account isMarine.
+   */
+  public int getUnitPowerForSorting(final Unit unit, final boolean defending) {
+    final boolean lhtrBombers = games.strategy.triplea.Properties.getLHTR_Heavy_Bombers(m_data);
+    final int diceSides = m_data.getDiceSides();
+    final int rolls = getRolls(unit, defending);
+    final int strength = getStrength(unit, defending);
+    final int territoryBonus = getTerritoryBonus(unit, defending);
+    // lhtr heavy bombers take best of n dice for both attack and defense
+    if (rolls > 1 && (lhtrBombers || UnitAttachment.get(unit.getType()).getChooseBestRoll())) {
+      // just add one like LL if we are LHTR bombers
+      return Math.min(Math.max(strength + territoryBonus + 1, 0), diceSides);
+    }
+    int strengthWithoutSupport = 0;
+    for (int i = 0; i < rolls; i++) {
+      strengthWithoutSupport += territoryBonus;
+      strengthWithoutSupport += Math.min(Math.max(strength, 0), diceSides);
+    }
+    return strengthWithoutSupport;
+  }
+
+  /**
+   * Fills a set and maps with the support possibly given by these units, as DiceRoll.getSupport does.
+   */
+  public void getSupport(final List<Unit> unitsGivingTheSupport,
+      final Set<List<UnitSupportAttachment>> supportsAvailable, final IntegerMap<UnitSupportAttachment> supportLeft,
+      final Map<UnitSupportAttachment, LinkedIntegerMap<Unit>> supportUnitsLeft, final boolean defence,
+      final boolean allies) {
+    if (unitsGivingTheSupport == null || unitsGivingTheSupport.isEmpty()) {
+      return;
+    }
+    for (final List<UnitSupportAttachment> bonusType : getSupportRules(defence, allies)) {
+      final List<UnitSupportAttachment> available = new ArrayList<UnitSupportAttachment>();
+      for (final UnitSupportAttachment rule : bonusType) {
+        final List<Unit> supporters = new ArrayList<Unit>();
+        final List<Unit> impArtTechUnits = new ArrayList<Unit>();
+        for (final Unit unit : unitsGivingTheSupport) {
+          if (unit.getType().equals(rule.getAttachedTo()) && rule.getPlayers().contains(unit.getOwner())) {
+            supporters.add(unit);
+            if (rule.getImpArtTech() && hasImprovedArtillerySupport(unit.getOwner())) {
+              impArtTechUnits.add(unit);
+            }
+          }
+        }
+        if (supporters.isEmpty()) {
+          continue;
+        }
+        supportLeft.put(rule, (supporters.size() + impArtTechUnits.size()) * rule.getNumber());
+        final LinkedIntegerMap<Unit> unitsLeft = new LinkedIntegerMap<Unit>(supporters, rule.getNumber());
+        unitsLeft.addAll(impArtTechUnits, rule.getNumber());
+        supportUnitsLeft.put(rule, unitsLeft);
+        available.add(rule);
+      }
+      if (!available.isEmpty()) {
+        supportsAvailable.add(available);
+      }
+    }
+  }
+
+  private List<List<UnitSupportAttachment>> getSupportRules(final boolean defence, final boolean allies) {
+    final int index = (defence ? 2 : 0) + (allies ? 1 : 0);
+    if (m_supportRules[index] == null) {
+      final Map<String, List<UnitSupportAttachment>> byBonusType =
+          new LinkedHashMap<String, List<UnitSupportAttachment>>();
+      for (final UnitSupportAttachment rule : UnitSupportAttachment.get(m_data)) {
+        if (rule.getPlayers().isEmpty()) {
+          continue;
+        }
+        if (!((defence && rule.getDefence()) || (!defence && rule.getOffence()))) {
+          continue;
+        }
+        if (!((allies && rule.getAllied()) || (!allies && rule.getEnemy()))) {
+          continue;
+        }
+        List<UnitSupportAttachment> bonusType = byBonusType.get(rule.getBonusType());
+        if (bonusType == null) {
+          bonusType = new ArrayList<UnitSupportAttachment>();
+          byBonusType.put(rule.getBonusType(), bonusType);
+        }
+        bonusType.add(rule);
+      }
+      final List<List<UnitSupportAttachment>> rules = new ArrayList<List<UnitSupportAttachment>>(byBonusType.values());
+      // the sort is stable, so leaving out the rules without supporters later keeps the same order
+      DiceRoll.sortSupportRules(rules, defence, allies);
+      m_supportRules[index] = rules;
+    }
+    return m_supportRules[index];
+  }
+}
@@ -137,18 +137,8 @@ public class DiceRoll implements Externalizable {
   public static DiceRoll rollAA(final Collection<Unit> validAttackingUnitsForThisRoll,
       final Collection<Unit> defendingAAForThisRoll, final IDelegateBridge bridge, final Territory location,
       final boolean defending) {
-    {
-      final Set<Unit> duplicatesCheckSet1 = new HashSet<Unit>(validAttackingUnitsForThisRoll);
-      if (validAttackingUnitsForThisRoll.size() != duplicatesCheckSet1.size()) {
-        throw new IllegalStateException("Duplicate Units Detected: Original List:" + validAttackingUnitsForThisRoll
-            + "  HashSet:" + duplicatesCheckSet1);
-      }
-      final Set<Unit> duplicatesCheckSet2 = new HashSet<Unit>(defendingAAForThisRoll);
-      if (defendingAAForThisRoll.size() != duplicatesCheckSet2.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + defendingAAForThisRoll + "  HashSet:" + duplicatesCheckSet2);
-      }
-    }
+    checkForDuplicates(validAttackingUnitsForThisRoll, bridge);
+    checkForDuplicates(defendingAAForThisRoll, bridge);
     final List<Unit> defendingAA = Match.getMatches(defendingAAForThisRoll,
         (defending ? Matches.UnitAttackAAisGreaterThanZeroAndMaxAAattacksIsNotZero
             : Matches.UnitOffensiveAttackAAisGreaterThanZeroAndMaxAAattacksIsNotZero));
@@ -170,22 +160,24 @@ public class DiceRoll implements Externalizable {
     final String typeAA = UnitAttachment.get(defendingAA.get(0).getType()).getTypeAA();
     // LOW LUCK
     if (games.strategy.triplea.Properties.getLow_Luck(data) || games.strategy.triplea.Properties.getLL_AA_ONLY(data)) {
-      final String annotation = "Roll " + typeAA + " in " + location.getName();
+      final String annotation = bridge.hasObservers() ? "Roll " + typeAA + " in " + location.getName() : "";
       final Triple<Integer, Integer, Boolean> triple = getTotalAAPowerThenHitsAndFillSortedDiceThenIfAllUseSameAttack(
           null, null, defending, defendingAA, validAttackingUnitsForThisRoll, data, false);
       final int totalPower = triple.getFirst();
       hits += getLowLuckHits(bridge, sortedDice, totalPower, chosenDiceSizeForAll, defendingAA.get(0).getOwner(),
           annotation);
     } else {
-      final String annotation = "Roll " + typeAA + " in " + location.getName();
-      final int[] dice = bridge.getRandom(chosenDiceSizeForAll, totalAAattacksTotal, defendingAA.get(0).getOwner(),
+      final String annotation = bridge.hasObservers() ? "Roll " + typeAA + " in " + location.getName() : "";
+      final int[] dice = getRandom(bridge, chosenDiceSizeForAll, totalAAattacksTotal, defendingAA.get(0).getOwner(),
           DiceType.COMBAT, annotation);
       hits += getTotalAAPowerThenHitsAndFillSortedDiceThenIfAllUseSameAttack(dice, sortedDice, defending, defendingAA,
           validAttackingUnitsForThisRoll, data, true).getSecond();
     }
     final DiceRoll roll = new DiceRoll(sortedDice, hits);
-    final String annotation = typeAA + " fire in " + location + " : " + MyFormatter.asDice(roll);
-    bridge.getHistoryWriter().addChildToEvent(annotation, roll);
+    if (bridge.hasObservers()) {
+      final String annotation = typeAA + " fire in " + location + " : " + MyFormatter.asDice(roll);
+      bridge.getHistoryWriter().addChildToEvent(annotation, roll);
+    }
     return roll;
   }
 
@@ -290,7 +282,7 @@ public class DiceRoll implements Externalizable {
         if (recordSortedDice) {
           // dice are zero based
           final boolean hit = dice[i] < hitAt;
-          sortedDice.add(new Die(dice[i], hitAt, hit ? DieType.HIT : DieType.MISS));
+          sortedDice.add(Die.getDie(dice[i], hitAt, hit ? DieType.HIT : DieType.MISS));
           if (hit) {
             hits++;
           }
@@ -308,7 +300,7 @@ public class DiceRoll implements Externalizable {
       if (recordSortedDice) {
         // dice are zero based
         final boolean hit = dice[i] < hitAtForInfinite;
-        sortedDice.add(new Die(dice[i], hitAtForInfinite, hit ? DieType.HIT : DieType.MISS));
+        sortedDice.add(Die.getDie(dice[i], hitAtForInfinite, hit ? DieType.HIT : DieType.MISS));
         if (hit) {
           hits++;
         }
@@ -330,7 +322,7 @@ public class DiceRoll implements Externalizable {
         if (recordSortedDice) {
           // dice are zero based
           final boolean hit = dice[i] < hitAt;
-          sortedDice.add(new Die(dice[i], hitAt, hit ? DieType.HIT : DieType.MISS));
+          sortedDice.add(Die.getDie(dice[i], hitAt, hit ? DieType.HIT : DieType.MISS));
           if (hit) {
             hits++;
           }
@@ -349,12 +341,12 @@ public class DiceRoll implements Externalizable {
     int hits = totalPower / chosenDiceSize;
     final int hitsFractional = totalPower % chosenDiceSize;
     if (hitsFractional > 0) {
-      final int[] dice = bridge.getRandom(chosenDiceSize, 1, playerRolling, DiceType.COMBAT, annotation);
+      final int[] dice = getRandom(bridge, chosenDiceSize, 1, playerRolling, DiceType.COMBAT, annotation);
       final boolean hit = hitsFractional > dice[0];
       if (hit) {
         hits++;
       }
-      final Die die = new Die(dice[0], hitsFractional, hit ? DieType.HIT : DieType.MISS);
+      final Die die = Die.getDie(dice[0], hitsFractional, hit ? DieType.HIT : DieType.MISS);
       sortedDice.add(die);
     }
     return hits;
@@ -378,6 +370,18 @@ public class DiceRoll implements Externalizable {
     }
   }
 
+  /**
+   * Rolls dice that are turned into Die objects before the next roll, so a simulation bridge can roll them into an
+   * array it reuses.
+   */
+  private static int[] getRandom(final IDelegateBridge bridge, final int max, final int count, final PlayerID player,
+      final DiceType diceType, final String annotation) {
+    if (bridge instanceof ISimulationDelegateBridge) {
+      return ((ISimulationDelegateBridge) bridge).getRandomInto(max, count, player, diceType, annotation);
+    }
+    return bridge.getRandom(max, count, player, diceType, annotation);
+  }
+
   /**
    * Roll n-sided dice.
    *
@@ -390,11 +394,11 @@ public class DiceRoll implements Externalizable {
       return new DiceRoll(new ArrayList<Die>(), 0);
     }
     int[] random;
-    random = bridge.getRandom(sides, rollCount, playerRolling, diceType, annotation);
+    random = getRandom(bridge, sides, rollCount, playerRolling, diceType, annotation);
     final List<Die> dice = new ArrayList<Die>();
     int diceIndex = 0;
     for (int i = 0; i < rollCount; i++) {
-      dice.add(new Die(random[diceIndex], 1, DieType.IGNORED));
+      dice.add(Die.getDie(random[diceIndex], 1, DieType.IGNORED));
       diceIndex++;
     }
     final DiceRoll rVal = new DiceRoll(dice, rollCount);
@@ -450,6 +454,25 @@ public class DiceRoll implements Externalizable {
       final Collection<TerritoryEffect> territoryEffects, final boolean isAmphibiousBattle,
       final Collection<Unit> amphibiousLandAttackers, final Map<Unit, IntegerMap<Unit>> unitSupportPowerMap,
       final Map<Unit, IntegerMap<Unit>> unitSupportRollsMap) {
+    return getUnitPowerAndRollsForNormalBattles(unitsGettingPowerFor, allFriendlyUnitsAliveOrWaitingToDie,
+        allEnemyUnitsAliveOrWaitingToDie, defending, bombing, player, data, location, territoryEffects,
+        isAmphibiousBattle, amphibiousLandAttackers, unitSupportPowerMap, unitSupportRollsMap,
+        new BattlePowerTable(data, territoryEffects));
+  }
+
+  /**
+   * As above, taking the unit values from a table kept for the battle.
+   *
+   * @param powerTable
+   *        the values of the units in this battle, made with the same game data and territory effects
+   */
+  public static Map<Unit, Tuple<Integer, Integer>> getUnitPowerAndRollsForNormalBattles(
+      final List<Unit> unitsGettingPowerFor, final List<Unit> allFriendlyUnitsAliveOrWaitingToDie,
+      final List<Unit> allEnemyUnitsAliveOrWaitingToDie, final boolean defending, final boolean bombing,
+      final PlayerID player, final GameData data, final Territory location,
+      final Collection<TerritoryEffect> territoryEffects, final boolean isAmphibiousBattle,
+      final Collection<Unit> amphibiousLandAttackers, final Map<Unit, IntegerMap<Unit>> unitSupportPowerMap,
+      final Map<Unit, IntegerMap<Unit>> unitSupportRollsMap, final BattlePowerTable powerTable) {
     final Map<Unit, Tuple<Integer, Integer>> rVal = new HashMap<Unit, Tuple<Integer, Integer>>();
     if (unitsGettingPowerFor == null || unitsGettingPowerFor.isEmpty()) {
       return rVal;
@@ -459,13 +482,13 @@ public class DiceRoll implements Externalizable {
     final IntegerMap<UnitSupportAttachment> supportLeftFriendly = new IntegerMap<UnitSupportAttachment>();
     final Map<UnitSupportAttachment, LinkedIntegerMap<Unit>> supportUnitsLeftFriendly =
         new HashMap<UnitSupportAttachment, LinkedIntegerMap<Unit>>();
-    getSupport(allFriendlyUnitsAliveOrWaitingToDie, supportRulesFriendly, supportLeftFriendly, supportUnitsLeftFriendly,
-        data, defending, true);
+    powerTable.getSupport(allFriendlyUnitsAliveOrWaitingToDie, supportRulesFriendly, supportLeftFriendly,
+        supportUnitsLeftFriendly, defending, true);
     final Set<List<UnitSupportAttachment>> supportRulesEnemy = new HashSet<List<UnitSupportAttachment>>();
     final IntegerMap<UnitSupportAttachment> supportLeftEnemy = new IntegerMap<UnitSupportAttachment>();
     final Map<UnitSupportAttachment, LinkedIntegerMap<Unit>> supportUnitsLeftEnemy =
         new HashMap<UnitSupportAttachment, LinkedIntegerMap<Unit>>();
-    getSupport(allEnemyUnitsAliveOrWaitingToDie, supportRulesEnemy, supportLeftEnemy, supportUnitsLeftEnemy, data,
+    powerTable.getSupport(allEnemyUnitsAliveOrWaitingToDie, supportRulesEnemy, supportLeftEnemy, supportUnitsLeftEnemy,
         !defending, false);
     // copy for rolls
     final IntegerMap<UnitSupportAttachment> supportLeftFriendlyRolls =
@@ -488,8 +511,8 @@ public class DiceRoll implements Externalizable {
       int strength;
       final UnitAttachment ua = UnitAttachment.get(current.getType());
       if (defending) {
-        strength = ua.getDefense(current.getOwner());
-        if (isFirstTurnLimitedRoll(current.getOwner(), data)) {
+        strength = powerTable.getStrength(current, true);
+        if (powerTable.isFirstTurnLimitedRoll(current.getOwner())) {
           strength = Math.min(1, strength);
         } else {
           strength += getSupport(current, supportRulesFriendly, supportLeftFriendly, supportUnitsLeftFriendly,
@@ -498,7 +521,7 @@ public class DiceRoll implements Externalizable {
         strength += getSupport(current, supportRulesEnemy, supportLeftEnemy, supportUnitsLeftEnemy, unitSupportPowerMap,
             true, false);
       } else {
-        strength = ua.getAttack(current.getOwner());
+        strength = powerTable.getStrength(current, false);
         if (ua.getIsMarine() != 0 && isAmphibiousBattle) {
           if (amphibiousLandAttackers.contains(current)) {
             strength += ua.getIsMarine();
@@ -514,18 +537,14 @@ public class DiceRoll implements Externalizable {
         strength += getSupport(current, supportRulesEnemy, supportLeftEnemy, supportUnitsLeftEnemy, unitSupportPowerMap,
             true, false);
       }
-      strength += TerritoryEffectHelper.getTerritoryCombatBonus(current.getType(), territoryEffects, defending);
+      strength += powerTable.getTerritoryBonus(current, defending);
       strength = Math.min(Math.max(strength, 0), diceSides);
       // now determine our rolls
       int rolls;
       if (!bombing && strength == 0) {
         rolls = 0;
       } else {
-        if (defending) {
-          rolls = ua.getDefenseRolls(current.getOwner());
-        } else {
-          rolls = ua.getAttackRolls(current.getOwner());
-        }
+        rolls = powerTable.getRolls(current, defending);
         rolls += getSupport(current, supportRulesFriendly, supportLeftFriendlyRolls, supportUnitsLeftFriendlyRolls,
             unitSupportRollsMap, false, true);
         rolls += getSupport(current, supportRulesEnemy, supportLeftEnemyRolls, supportUnitsLeftEnemyRolls,
@@ -598,20 +617,16 @@ public class DiceRoll implements Externalizable {
       final IDelegateBridge bridge, final IBattle battle, final String annotation,
       final Collection<TerritoryEffect> territoryEffects, final List<Unit> allEnemyUnitsAliveOrWaitingToDie) {
     final List<Unit> units = new ArrayList<Unit>(unitsList);
-    {
-      final Set<Unit> duplicatesCheckSet = new HashSet<Unit>(unitsList);
-      if (units.size() != duplicatesCheckSet.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + units + "  HashSet:" + duplicatesCheckSet);
-      }
-    }
+    checkForDuplicates(unitsList, bridge);
     final GameData data = bridge.getData();
+    final BattlePowerTable powerTable = getPowerTable(battle, data, territoryEffects);
     final Territory location = battle.getTerritory();
     final boolean isAmphibiousBattle = battle.isAmphibious();
     final Collection<Unit> amphibiousLandAttackers = battle.getAmphibiousLandAttackers();
     final Map<Unit, Tuple<Integer, Integer>> unitPowerAndRollsMap =
         DiceRoll.getUnitPowerAndRollsForNormalBattles(units, units, allEnemyUnitsAliveOrWaitingToDie, defending, false,
-            player, data, location, territoryEffects, isAmphibiousBattle, amphibiousLandAttackers);
+            player, data, location, territoryEffects, isAmphibiousBattle, amphibiousLandAttackers,
+            new HashMap<Unit, IntegerMap<Unit>>(), new HashMap<Unit, IntegerMap<Unit>>(), powerTable);
     final Tuple<Integer, Integer> totalPowerAndRolls = getTotalPowerAndRolls(unitPowerAndRollsMap, data);
     final int power = totalPowerAndRolls.getFirst();
     if (power == 0) {
@@ -625,17 +640,19 @@ public class DiceRoll implements Externalizable {
     if (rollFor == 0) {
       random = new int[0];
     } else {
-      random = bridge.getRandom(data.getDiceSides(), 1, player, DiceType.COMBAT, annotation);
+      random = getRandom(bridge, data.getDiceSides(), 1, player, DiceType.COMBAT, annotation);
       // zero based
       final boolean hit = rollFor > random[0];
       if (hit) {
         hitCount++;
       }
-      dice.add(new Die(random[0], rollFor, hit ? DieType.HIT : DieType.MISS));
+      dice.add(Die.getDie(random[0], rollFor, hit ? DieType.HIT : DieType.MISS));
     }
     // Create DiceRoll object
     final DiceRoll rVal = new DiceRoll(dice, hitCount);
-    bridge.getHistoryWriter().addChildToEvent(annotation + " : " + MyFormatter.asDice(random), rVal);
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(annotation + " : " + MyFormatter.asDice(random), rVal);
+    }
     return rVal;
   }
 
@@ -659,54 +676,8 @@ public class DiceRoll implements Externalizable {
       final Set<List<UnitSupportAttachment>> supportsAvailable, final IntegerMap<UnitSupportAttachment> supportLeft,
       final Map<UnitSupportAttachment, LinkedIntegerMap<Unit>> supportUnitsLeft, final GameData data,
       final boolean defence, final boolean allies) {
-    if (unitsGivingTheSupport == null || unitsGivingTheSupport.isEmpty()) {
-      return;
-    }
-    for (final UnitSupportAttachment rule : UnitSupportAttachment.get(data)) {
-      if (rule.getPlayers().isEmpty()) {
-        continue;
-      }
-      if (!((defence && rule.getDefence()) || (!defence && rule.getOffence()))) {
-        continue;
-      }
-      if (!((allies && rule.getAllied()) || (!allies && rule.getEnemy()))) {
-        continue;
-      }
-      final CompositeMatchAnd<Unit> canSupport = new CompositeMatchAnd<Unit>(
-          Matches.unitIsOfType((UnitType) rule.getAttachedTo()), Matches.unitOwnedBy(rule.getPlayers()));
-      final List<Unit> supporters = Match.getMatches(unitsGivingTheSupport, canSupport);
-      int numSupport = supporters.size();
-      if (numSupport <= 0) {
-        continue;
-      }
-      final List<Unit> impArtTechUnits = new ArrayList<Unit>();
-      if (rule.getImpArtTech()) {
-        impArtTechUnits.addAll(Match.getMatches(supporters, Matches.unitOwnerHasImprovedArtillerySupportTech()));
-      }
-      numSupport += impArtTechUnits.size();
-      supportLeft.put(rule, numSupport * rule.getNumber());
-      supportUnitsLeft.put(rule, new LinkedIntegerMap<Unit>(supporters, rule.getNumber()));
-      supportUnitsLeft.get(rule).addAll(impArtTechUnits, rule.getNumber());
-      final Iterator<List<UnitSupportAttachment>> iter2 = supportsAvailable.iterator();
-      List<UnitSupportAttachment> ruleType = null;
-      boolean found = false;
-      final String bonusType = rule.getBonusType();
-      while (iter2.hasNext()) {
-        ruleType = iter2.next();
-        if (ruleType.get(0).getBonusType().equals(bonusType)) {
-          found = true;
-          break;
-        }
-      }
-      if (!found) {
-        ruleType = new ArrayList<UnitSupportAttachment>();
-        supportsAvailable.add(ruleType);
-      }
-      if (ruleType != null) {
-        ruleType.add(rule);
-      }
-    }
-    sortSupportRules(supportsAvailable, defence, allies);
+    new BattlePowerTable(data, null).getSupport(unitsGivingTheSupport, supportsAvailable, supportLeft,
+        supportUnitsLeft, defence, allies);
   }
 
   /**
@@ -758,6 +729,27 @@ public class DiceRoll implements Externalizable {
     return givenSupport;
   }
 
+  /**
+   * @return the unit values kept for the battle, or new ones if the battle does not keep them.
+   */
+  private static BattlePowerTable getPowerTable(final IBattle battle, final GameData data,
+      final Collection<TerritoryEffect> territoryEffects) {
+    final BattlePowerTable powerTable = battle.getPowerTable();
+    return powerTable == null ? new BattlePowerTable(data, territoryEffects) : powerTable;
+  }
+
+  /**
+   * Sorts the units from weakest to strongest, using the unit values kept for a battle.
+   */
+  static void sortByStrength(final List<Unit> units, final boolean defending, final BattlePowerTable powerTable) {
+    Collections.sort(units, new Comparator<Unit>() {
+      @Override
+      public int compare(final Unit u1, final Unit u2) {
+        return Integer.compare(powerTable.getStrength(u1, defending), powerTable.getStrength(u2, defending));
+      }
+    });
+  }
+
   public static void sortByStrength(final List<Unit> units, final boolean defending) {
     final Comparator<Unit> comp = new Comparator<Unit>() {
       @Override
@@ -776,7 +768,7 @@ public class DiceRoll implements Externalizable {
     Collections.sort(units, comp);
   }
 
-  private static void sortSupportRules(final Set<List<UnitSupportAttachment>> support, final boolean defense,
+  static void sortSupportRules(final Collection<List<UnitSupportAttachment>> support, final boolean defense,
       final boolean friendly) {
     // first, sort the lists inside each set
     final Comparator<UnitSupportAttachment> compList = new Comparator<UnitSupportAttachment>() {
@@ -877,13 +869,7 @@ public class DiceRoll implements Externalizable {
 
   public static DiceRoll airBattle(final List<Unit> unitsList, final boolean defending, final PlayerID player,
       final IDelegateBridge bridge, final String annotation) {
-    {
-      final Set<Unit> duplicatesCheckSet1 = new HashSet<Unit>(unitsList);
-      if (unitsList.size() != duplicatesCheckSet1.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + unitsList + "  HashSet:" + duplicatesCheckSet1);
-      }
-    }
+    checkForDuplicates(unitsList, bridge);
     final GameData data = bridge.getData();
     final boolean lhtrBombers = games.strategy.triplea.Properties.getLHTR_Heavy_Bombers(data);
     final List<Unit> units = new ArrayList<Unit>(unitsList);
@@ -925,15 +911,15 @@ public class DiceRoll implements Externalizable {
       // We need to roll dice for the fractional part of the dice.
       power = power % data.getDiceSides();
       if (power != 0) {
-        random = bridge.getRandom(data.getDiceSides(), 1, player, DiceType.COMBAT, annotation);
+        random = getRandom(bridge, data.getDiceSides(), 1, player, DiceType.COMBAT, annotation);
         final boolean hit = power > random[0];
         if (hit) {
           hitCount++;
         }
-        dice.add(new Die(random[0], power, hit ? DieType.HIT : DieType.MISS));
+        dice.add(Die.getDie(random[0], power, hit ? DieType.HIT : DieType.MISS));
       }
     } else {
-      random = bridge.getRandom(data.getDiceSides(), rollCount, player, DiceType.COMBAT, annotation);
+      random = getRandom(bridge, data.getDiceSides(), rollCount, player, DiceType.COMBAT, annotation);
       final Iterator<Unit> iter = units.iterator();
       int diceIndex = 0;
       while (iter.hasNext()) {
@@ -953,10 +939,10 @@ public class DiceRoll implements Externalizable {
             }
           }
           final boolean hit = strength > random[diceIndex + minIndex];
-          dice.add(new Die(random[diceIndex + minIndex], strength, hit ? DieType.HIT : DieType.MISS));
+          dice.add(Die.getDie(random[diceIndex + minIndex], strength, hit ? DieType.HIT : DieType.MISS));
           for (int i = 0; i < rolls; i++) {
             if (i != minIndex) {
-              dice.add(new Die(random[diceIndex + i], strength, DieType.IGNORED));
+              dice.add(Die.getDie(random[diceIndex + i], strength, DieType.IGNORED));
             }
           }
           if (hit) {
@@ -966,7 +952,7 @@ public class DiceRoll implements Externalizable {
         } else {
           for (int i = 0; i < rolls; i++) {
             final boolean hit = strength > random[diceIndex];
-            dice.add(new Die(random[diceIndex], strength, hit ? DieType.HIT : DieType.MISS));
+            dice.add(Die.getDie(random[diceIndex], strength, hit ? DieType.HIT : DieType.MISS));
             if (hit) {
               hitCount++;
             }
@@ -976,7 +962,9 @@ public class DiceRoll implements Externalizable {
       }
     }
     final DiceRoll rVal = new DiceRoll(dice, hitCount);
-    bridge.getHistoryWriter().addChildToEvent(annotation + " : " + MyFormatter.asDice(random), rVal);
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(annotation + " : " + MyFormatter.asDice(random), rVal);
+    }
     return rVal;
   }
 
@@ -987,27 +975,23 @@ public class DiceRoll implements Externalizable {
       final IDelegateBridge bridge, final IBattle battle, final String annotation,
       final Collection<TerritoryEffect> territoryEffects, final List<Unit> allEnemyUnitsAliveOrWaitingToDie) {
     final List<Unit> units = new ArrayList<Unit>(unitsList);
-    {
-      final Set<Unit> duplicatesCheckSet = new HashSet<Unit>(unitsList);
-      if (units.size() != duplicatesCheckSet.size()) {
-        throw new IllegalStateException(
-            "Duplicate Units Detected: Original List:" + units + "  HashSet:" + duplicatesCheckSet);
-      }
-    }
+    checkForDuplicates(unitsList, bridge);
     final GameData data = bridge.getData();
-    sortByStrength(units, defending);
+    final BattlePowerTable powerTable = getPowerTable(battle, data, territoryEffects);
+    sortByStrength(units, defending, powerTable);
     final Territory location = battle.getTerritory();
     final boolean isAmphibiousBattle = battle.isAmphibious();
     final Collection<Unit> amphibiousLandAttackers = battle.getAmphibiousLandAttackers();
     final Map<Unit, Tuple<Integer, Integer>> unitPowerAndRollsMap =
         DiceRoll.getUnitPowerAndRollsForNormalBattles(units, units, allEnemyUnitsAliveOrWaitingToDie, defending, false,
-            player, data, location, territoryEffects, isAmphibiousBattle, amphibiousLandAttackers);
+            player, data, location, territoryEffects, isAmphibiousBattle, amphibiousLandAttackers,
+            new HashMap<Unit, IntegerMap<Unit>>(), new HashMap<Unit, IntegerMap<Unit>>(), powerTable);
     final Tuple<Integer, Integer> totalPowerAndRolls = getTotalPowerAndRolls(unitPowerAndRollsMap, data);
     final int rollCount = totalPowerAndRolls.getSecond();
     if (rollCount == 0) {
       return new DiceRoll(new ArrayList<Die>(), 0);
     }
-    final int[] random = bridge.getRandom(data.getDiceSides(), rollCount, player, DiceType.COMBAT, annotation);
+    final int[] random = getRandom(bridge, data.getDiceSides(), rollCount, player, DiceType.COMBAT, annotation);
     final boolean lhtrBombers = games.strategy.triplea.Properties.getLHTR_Heavy_Bombers(data);
     final List<Die> dice = new ArrayList<Die>();
     int hitCount = 0;
@@ -1032,10 +1016,10 @@ public class DiceRoll implements Externalizable {
         }
         // zero based
         final boolean hit = strength > random[diceIndex + smallestDieIndex];
-        dice.add(new Die(random[diceIndex + smallestDieIndex], strength, hit ? DieType.HIT : DieType.MISS));
+        dice.add(Die.getDie(random[diceIndex + smallestDieIndex], strength, hit ? DieType.HIT : DieType.MISS));
         for (int i = 0; i < rolls; i++) {
           if (i != smallestDieIndex) {
-            dice.add(new Die(random[diceIndex + i], strength, DieType.IGNORED));
+            dice.add(Die.getDie(random[diceIndex + i], strength, DieType.IGNORED));
           }
         }
         if (hit) {
@@ -1046,7 +1030,7 @@ public class DiceRoll implements Externalizable {
         for (int i = 0; i < rolls; i++) {
           // zero based
           final boolean hit = strength > random[diceIndex];
-          dice.add(new Die(random[diceIndex], strength, hit ? DieType.HIT : DieType.MISS));
+          dice.add(Die.getDie(random[diceIndex], strength, hit ? DieType.HIT : DieType.MISS));
           if (hit) {
             hitCount++;
           }
@@ -1055,11 +1039,28 @@ public class DiceRoll implements Externalizable {
       }
     }
     final DiceRoll rVal = new DiceRoll(dice, hitCount);
-    bridge.getHistoryWriter().addChildToEvent(annotation + " : " + MyFormatter.asDice(random), rVal);
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(annotation + " : " + MyFormatter.asDice(random), rVal);
+    }
     return rVal;
   }
 
-  private static boolean isFirstTurnLimitedRoll(final PlayerID player, final GameData data) {
+  /**
+   * Makes sure no unit rolls twice. Skipped when nobody is watching the bridge, as the check is only there to catch
+   * bugs, and simulated battles roll many times.
+   */
+  static void checkForDuplicates(final Collection<Unit> units, final IDelegateBridge bridge) {
+    if (!bridge.hasObservers()) {
+      return;
+    }
+    final Set<Unit> duplicatesCheckSet = new HashSet<Unit>(units);
+    if (units.size() != duplicatesCheckSet.size()) {
+      throw new IllegalStateException(
+          "Duplicate Units Detected: Original List:" + units + "  HashSet:" + duplicatesCheckSet);
+    }
+  }
+
+  static boolean isFirstTurnLimitedRoll(final PlayerID player, final GameData data) {
     // If player is null, Round > 1, or player has negate rule set: return false
     if (player.isNull() || data.getSequence().getRound() != 1 || isNegateDominatingFirstRoundAttack(player)) {
       return false;
@@ -1129,7 +1130,7 @@ public class DiceRoll implements Externalizable {
       } else {
         hit = element <= rollAt;
       }
-      m_rolls.add(new Die(element, rollAt, hit ? DieType.HIT : DieType.MISS));
+      m_rolls.add(Die.getDie(element, rollAt, hit ? DieType.HIT : DieType.MISS));
     }
   }
 
@@ -10,12 +10,33 @@ public class Die implements java.io.Serializable {
     MISS, HIT, IGNORED
   }
 
+  // dice can not be changed, so the common ones are shared rather than created for each roll
+  private static final int CACHED_VALUES = 32;
+  private static final Die[] s_cache = new Die[DieType.values().length * CACHED_VALUES * (CACHED_VALUES + 1)];
+
   private final DieType m_type;
   // the value of the dice, 0 based
   private final int m_value;
   // this value is 1 based
   private final int m_rolledAt;
 
+  /**
+   * @return a die with the given value, shared with other rolls of the same die when possible.
+   */
+  public static Die getDie(final int value, final int rolledAt, final DieType type) {
+    if (value < 0 || value >= CACHED_VALUES || rolledAt < -1 || rolledAt >= CACHED_VALUES) {
+      return new Die(value, rolledAt, type);
+    }
+    final int index = (type.ordinal() * CACHED_VALUES + value) * (CACHED_VALUES + 1) + rolledAt + 1;
+    Die die = s_cache[index];
+    if (die == null) {
+      // threads racing here only create an extra die
+      die = new Die(value, rolledAt, type);
+      s_cache[index] = die;
+    }
+    return die;
+  }
+
   public Die(final int value) {
     this(value, -1, DieType.MISS);
   }
@@ -53,7 +74,7 @@ public class Die implements java.io.Serializable {
     final int rolledAt = (value & 0x0FF00) >> 8;
     final int roll = (value & 0x0FF0000) >> 16;
     final DieType type = DieType.values()[(value & 0x0F)];
-    return new Die(roll, rolledAt, type);
+    return getDie(roll, rolledAt, type);
   }
 
   @Override
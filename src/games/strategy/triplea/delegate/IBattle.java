@@ -185,4 +185,10 @@ public interface IBattle extends java.io.Serializable {
   public PlayerID getDefender();
 
   public GUID getBattleID();
+
+  /**
+   * @return the values of the units in this battle, if they are kept between rolls, or null if they are worked out
+   *         again for each roll.
+   */
+  public BattlePowerTable getPowerTable();
 }
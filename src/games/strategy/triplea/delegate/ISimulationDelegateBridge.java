@@ -0,0 +1,19 @@
+package games.strategy.triplea.delegate;
+
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.delegate.IDelegateBridge;
+import games.strategy.engine.random.IRandomStats.DiceType;
+
+/**
+ * A bridge for simulated battles, such as those of the battle calculator and the AI, which roll dice very many times.
+ */
+public interface ISimulationDelegateBridge extends IDelegateBridge {
+  /**
+   * Like getRandom(max, count, player, diceType, annotation), but the dice are rolled into an array the bridge keeps
+   * for rolls of this count, so rolling does not allocate a new array each time.
+   * <p>
+   * The array is overwritten by the next roll of the same count, so the caller must be done with the dice by then.
+   */
+  public int[] getRandomInto(final int max, final int count, final PlayerID player, final DiceType diceType,
+      final String annotation);
+}
@@ -101,23 +101,20 @@ public class Matches {
   public static final Match<Unit> UnitIsSea = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsSea();
+      return unit.getType().hasCapability(UnitAttachment.CAPABILITY_SEA);
     }
   };
   public static final Match<Unit> UnitIsSub = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsSub();
+      return unit.getType().hasCapability(UnitAttachment.CAPABILITY_SUB);
     }
   };
   public static final Match<Unit> UnitIsNotSub = new InverseMatch<Unit>(UnitIsSub);
   public static final Match<Unit> UnitIsCombatTransport = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return (ua.getIsCombatTransport() && ua.getIsSea());
+      return unit.getType().hasCapability(UnitAttachment.CAPABILITY_COMBAT_TRANSPORT);
     }
   };
   public static final Match<Unit> UnitIsNotCombatTransport = new InverseMatch<Unit>(UnitIsCombatTransport);
@@ -144,22 +141,19 @@ public class Matches {
   public static final Match<Unit> UnitIsDestroyer = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsDestroyer();
+      return unit.getType().hasCapability(UnitAttachment.CAPABILITY_DESTROYER);
     }
   };
   public static final Match<UnitType> UnitTypeIsDestroyer = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType type) {
-      final UnitAttachment ua = UnitAttachment.get(type);
-      return ua.getIsDestroyer();
+      return type.hasCapability(UnitAttachment.CAPABILITY_DESTROYER);
     }
   };
   public static final Match<Unit> UnitIsTransport = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return (ua.getTransportCapacity() != -1 && ua.getIsSea());
+      return unit.getType().hasCapability(UnitAttachment.CAPABILITY_TRANSPORT);
     }
   };
   public static final Match<Unit> UnitIsNotTransport = UnitIsTransport.invert();
@@ -173,11 +167,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsStrategicBomber = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      if (ua == null) {
-        return false;
-      }
-      return ua.getIsStrategicBomber();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_STRATEGIC_BOMBER);
     }
   };
   public static final Match<Unit> UnitIsStrategicBomber = new Match<Unit>() {
@@ -190,11 +180,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeCanLandOnCarrier = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      if (ua == null) {
-        return false;
-      }
-      return ua.getCarrierCost() != -1;
+      return obj.hasCapability(UnitAttachment.CAPABILITY_CAN_LAND_ON_CARRIER);
     }
   };
   public static final Match<UnitType> UnitTypeCannotLandOnCarrier =
@@ -266,23 +252,19 @@ public class Matches {
   public static final Match<Unit> UnitIsNotSea = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return !ua.getIsSea();
+      return !obj.getType().hasCapability(UnitAttachment.CAPABILITY_SEA);
     }
   };
   public static final Match<UnitType> UnitTypeIsSea = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      return ua.getIsSea();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_SEA);
     }
   };
   public static final Match<UnitType> UnitTypeIsNotSea = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType type) {
-      final UnitAttachment ua = UnitAttachment.get(type);
-      return !ua.getIsSea();
+      return !type.hasCapability(UnitAttachment.CAPABILITY_SEA);
     }
   };
   public static final Match<UnitType> UnitTypeIsSeaOrAir = new Match<UnitType>() {
@@ -295,22 +277,19 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsCarrier = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType type) {
-      final UnitAttachment ua = UnitAttachment.get(type);
-      return (ua.getCarrierCapacity() != -1);
+      return type.hasCapability(UnitAttachment.CAPABILITY_CARRIER);
     }
   };
   public static final Match<Unit> UnitIsAir = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsAir();
+      return unit.getType().hasCapability(UnitAttachment.CAPABILITY_AIR);
     }
   };
   public static final Match<Unit> UnitIsNotAir = new Match<Unit>() {
     @Override
     public boolean match(final Unit unit) {
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return !ua.getIsAir();
+      return !unit.getType().hasCapability(UnitAttachment.CAPABILITY_AIR);
     }
   };
 
@@ -523,8 +502,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsInfrastructure = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType ut) {
-      final UnitAttachment ua = UnitAttachment.get(ut);
-      return ua.getIsInfrastructure();
+      return ut.hasCapability(UnitAttachment.CAPABILITY_INFRASTRUCTURE);
     }
   };
 
@@ -638,9 +616,7 @@ public class Matches {
   public static final Match<Unit> UnitIsLandTransport = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsLandTransport();
+      return obj.getType().hasCapability(UnitAttachment.CAPABILITY_LAND_TRANSPORT);
     }
   };
 
@@ -660,25 +636,19 @@ public class Matches {
   public static final Match<Unit> UnitIsSuicide = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsSuicide();
+      return obj.getType().hasCapability(UnitAttachment.CAPABILITY_SUICIDE);
     }
   };
   public static final Match<Unit> UnitIsKamikaze = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getIsKamikaze();
+      return obj.getType().hasCapability(UnitAttachment.CAPABILITY_KAMIKAZE);
     }
   };
   public static final Match<UnitType> UnitTypeIsAir = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitType type = obj;
-      final UnitAttachment ua = UnitAttachment.get(type);
-      return ua.getIsAir();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_AIR);
     }
   };
   public static final Match<UnitType> UnitTypeIsNotAir = new Match<UnitType>() {
@@ -692,17 +662,13 @@ public class Matches {
   public static final Match<Unit> UnitCanLandOnCarrier = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getCarrierCost() != -1;
+      return obj.getType().hasCapability(UnitAttachment.CAPABILITY_CAN_LAND_ON_CARRIER);
     }
   };
   public static final Match<Unit> UnitIsCarrier = new Match<Unit>() {
     @Override
     public boolean match(final Unit obj) {
-      final Unit unit = obj;
-      final UnitAttachment ua = UnitAttachment.get(unit.getType());
-      return ua.getCarrierCapacity() != -1;
+      return obj.getType().hasCapability(UnitAttachment.CAPABILITY_CARRIER);
     }
   };
 
@@ -987,8 +953,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsAAforCombatOnly = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      return ua.getIsAAforCombatOnly();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_AA_FOR_COMBAT);
     }
   };
   public static final Match<Unit> UnitIsAAforBombingThisUnitOnly = new Match<Unit>() {
@@ -1000,8 +965,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsAAforBombingThisUnitOnly = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      return ua.getIsAAforBombingThisUnitOnly();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_AA_FOR_BOMBING);
     }
   };
   public static final Match<Unit> UnitIsAAforFlyOverOnly = new Match<Unit>() {
@@ -1013,8 +977,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsAAforFlyOverOnly = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      return ua.getIsAAforFlyOverOnly();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_AA_FOR_FLY_OVER);
     }
   };
   public static final Match<Unit> UnitIsAAforAnything = new Match<Unit>() {
@@ -1026,8 +989,7 @@ public class Matches {
   public static final Match<UnitType> UnitTypeIsAAforAnything = new Match<UnitType>() {
     @Override
     public boolean match(final UnitType obj) {
-      final UnitAttachment ua = UnitAttachment.get(obj);
-      return ua.getIsAAforBombingThisUnitOnly() || ua.getIsAAforCombatOnly() || ua.getIsAAforFlyOverOnly();
+      return obj.hasCapability(UnitAttachment.CAPABILITY_AA_FOR_ANYTHING);
     }
   };
   public static final Match<Unit> UnitIsNotAA = new InverseMatch<Unit>(UnitIsAAforAnything);
@@ -2430,9 +2392,18 @@ public class Matches {
     };
   }
 
-  public final static Match<Unit> UnitIsLand = new CompositeMatchAnd<Unit>(UnitIsNotSea, UnitIsNotAir);
-  public final static Match<UnitType> UnitTypeIsLand =
-      new CompositeMatchAnd<UnitType>(UnitTypeIsNotSea, UnitTypeIsNotAir);
+  public final static Match<Unit> UnitIsLand = new Match<Unit>() {
+    @Override
+    public boolean match(final Unit unit) {
+      return !unit.getType().hasCapability(UnitAttachment.CAPABILITY_SEA | UnitAttachment.CAPABILITY_AIR);
+    }
+  };
+  public final static Match<UnitType> UnitTypeIsLand = new Match<UnitType>() {
+    @Override
+    public boolean match(final UnitType type) {
+      return !type.hasCapability(UnitAttachment.CAPABILITY_SEA | UnitAttachment.CAPABILITY_AIR);
+    }
+  };
   public final static Match<Unit> UnitIsNotLand = new InverseMatch<Unit>(UnitIsLand);
 
   public static Match<Unit> unitIsOfType(final UnitType type) {
@@ -330,13 +330,7 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     removeUnitsThatNoLongerExist();
     // we have already started
     if (m_stack.isExecuting()) {
-      final ITripleaDisplay display = getDisplay(bridge);
-      display.showBattle(m_battleID, m_battleSite, getBattleTitle(),
-          removeNonCombatants(m_attackingUnits, true, m_attacker, false, false, false),
-          removeNonCombatants(m_defendingUnits, false, m_defender, false, false, false), m_killed,
-          m_attackingWaitingToDie, m_defendingWaitingToDie, m_dependentUnits, m_attacker, m_defender, isAmphibious(),
-          getBattleType(), m_amphibiousLandAttackers);
-      display.listBattleSteps(m_battleID, m_stepStrings);
+      showBattle(bridge);
       m_stack.execute(bridge);
       return;
     }
@@ -366,13 +360,7 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     updateDefendingAAUnits();
     // list the steps
     m_stepStrings = determineStepStrings(true, bridge);
-    final ITripleaDisplay display = getDisplay(bridge);
-    display.showBattle(m_battleID, m_battleSite, getBattleTitle(),
-        removeNonCombatants(m_attackingUnits, true, m_attacker, false, false, false),
-        removeNonCombatants(m_defendingUnits, false, m_defender, false, false, false), m_killed,
-        m_attackingWaitingToDie, m_defendingWaitingToDie, m_dependentUnits, m_attacker, m_defender, isAmphibious(),
-        getBattleType(), m_amphibiousLandAttackers);
-    display.listBattleSteps(m_battleID, m_stepStrings);
+    showBattle(bridge);
     if (!m_headless) {
       // take the casualties with least movement first
       if (isAmphibious()) {
@@ -402,6 +390,19 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     m_stack.execute(bridge);
   }
 
+  private void showBattle(final IDelegateBridge bridge) {
+    if (!bridge.hasObservers()) {
+      return;
+    }
+    final ITripleaDisplay display = getDisplay(bridge);
+    display.showBattle(m_battleID, m_battleSite, getBattleTitle(),
+        removeNonCombatants(m_attackingUnits, true, m_attacker, false, false, false),
+        removeNonCombatants(m_defendingUnits, false, m_defender, false, false, false), m_killed,
+        m_attackingWaitingToDie, m_defendingWaitingToDie, m_dependentUnits, m_attacker, m_defender, isAmphibious(),
+        getBattleType(), m_amphibiousLandAttackers);
+    display.listBattleSteps(m_battleID, m_stepStrings);
+  }
+
   private void writeUnitsToHistory(final IDelegateBridge bridge) {
     if (m_headless) {
       return;
@@ -1582,7 +1583,6 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
   }
 
   private void retreatPlanes(final Collection<Unit> retreating, final boolean defender, final IDelegateBridge bridge) {
-    final String transcriptText = MyFormatter.unitsToText(retreating) + " retreated";
     final Collection<Unit> units = defender ? m_defendingUnits : m_attackingUnits;
     final Collection<Unit> unitsRetreated = defender ? m_defendingUnitsRetreated : m_attackingUnitsRetreated;
     /**
@@ -1600,11 +1600,13 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     } else {
       getDisplay(bridge).notifyRetreat(m_battleID, retreating);
     }
-    bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(retreating));
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(MyFormatter.unitsToText(retreating) + " retreated",
+          new ArrayList<Unit>(retreating));
+    }
   }
 
   private void submergeUnits(final Collection<Unit> submerging, final boolean defender, final IDelegateBridge bridge) {
-    final String transcriptText = MyFormatter.unitsToText(submerging) + " Submerged";
     final Collection<Unit> units = defender ? m_defendingUnits : m_attackingUnits;
     final Collection<Unit> unitsRetreated = defender ? m_defendingUnitsRetreated : m_attackingUnitsRetreated;
     final CompositeChange change = new CompositeChange();
@@ -1617,7 +1619,10 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     if (!units.isEmpty() && !m_isOver) {
       getDisplay(bridge).notifyRetreat(m_battleID, submerging);
     }
-    bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(submerging));
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(MyFormatter.unitsToText(submerging) + " Submerged",
+          new ArrayList<Unit>(submerging));
+    }
   }
 
   private void retreatUnits(Collection<Unit> retreating, final Territory to, final boolean defender,
@@ -1627,14 +1632,16 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     final Match<Unit> notMyAir =
         new CompositeMatchOr<Unit>(Matches.UnitIsNotAir, new InverseMatch<Unit>(Matches.unitIsOwnedBy(m_attacker)));
     retreating = Match.getMatches(retreating, notMyAir);
-    String transcriptText;
-    // in WW2V1, defending subs can retreat so show owner
-    if (isWW2V2()) {
-      transcriptText = MyFormatter.unitsToTextNoOwner(retreating) + " retreated to " + to.getName();
-    } else {
-      transcriptText = MyFormatter.unitsToText(retreating) + " retreated to " + to.getName();
+    if (bridge.hasObservers()) {
+      String transcriptText;
+      // in WW2V1, defending subs can retreat so show owner
+      if (isWW2V2()) {
+        transcriptText = MyFormatter.unitsToTextNoOwner(retreating) + " retreated to " + to.getName();
+      } else {
+        transcriptText = MyFormatter.unitsToText(retreating) + " retreated to " + to.getName();
+      }
+      bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(retreating));
     }
-    bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(retreating));
     final CompositeChange change = new CompositeChange();
     change.add(ChangeFactory.moveUnits(m_battleSite, to, retreating));
     if (m_isOver) {
@@ -1677,8 +1684,11 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     final Match<Unit> notMyAir =
         new CompositeMatchOr<Unit>(Matches.UnitIsNotAir, new InverseMatch<Unit>(Matches.unitIsOwnedBy(m_attacker)));
     final Collection<Unit> nonAirRetreating = Match.getMatches(retreating, notMyAir);
-    final String transcriptText = MyFormatter.unitsToTextNoOwner(nonAirRetreating) + " retreated to " + to.getName();
-    bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(nonAirRetreating));
+    if (bridge.hasObservers()) {
+      final String transcriptText =
+          MyFormatter.unitsToTextNoOwner(nonAirRetreating) + " retreated to " + to.getName();
+      bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(nonAirRetreating));
+    }
     final CompositeChange change = new CompositeChange();
     change.add(ChangeFactory.moveUnits(m_battleSite, to, nonAirRetreating));
     if (m_isOver) {
@@ -2455,8 +2465,10 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     killed.addAll(dependent);
     final Change killedChange = ChangeFactory.removeUnits(battleSite, killed);
     m_killed.addAll(killed);
-    final String transcriptText = MyFormatter.unitsToText(killed) + " lost in " + battleSite.getName();
-    bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(killed));
+    if (bridge.hasObservers()) {
+      final String transcriptText = MyFormatter.unitsToText(killed) + " lost in " + battleSite.getName();
+      bridge.getHistoryWriter().addChildToEvent(transcriptText, new ArrayList<Unit>(killed));
+    }
     bridge.addChange(killedChange);
     final Collection<IBattle> dependentBattles = m_battleTracker.getBlocked(this);
     // If there are NO dependent battles, check for unloads in allied territories
@@ -2527,7 +2539,10 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
         m_battleTracker.takeOver(m_battleSite, m_defender, bridge, null, m_defendingUnits);
       }
     }
-    bridge.getHistoryWriter().addChildToEvent(m_defender.getName() + " win", new ArrayList<Unit>(m_defendingUnits));
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(m_defender.getName() + " win",
+          new ArrayList<Unit>(m_defendingUnits));
+    }
     m_battleResultDescription = BattleRecord.BattleResultDescription.LOST;
     showCasualties(bridge);
     if (!m_headless) {
@@ -2544,8 +2559,10 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
   private void nobodyWins(final IDelegateBridge bridge) {
     m_whoWon = WhoWon.DRAW;
     getDisplay(bridge).battleEnd(m_battleID, "Stalemate");
-    bridge.getHistoryWriter()
-        .addChildToEvent(m_defender.getName() + " and " + m_attacker.getName() + " reach a stalemate");
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter()
+          .addChildToEvent(m_defender.getName() + " and " + m_attacker.getName() + " reach a stalemate");
+    }
     m_battleResultDescription = BattleRecord.BattleResultDescription.STALEMATE;
     showCasualties(bridge);
     if (!m_headless) {
@@ -2587,7 +2604,10 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
         bridge.addChange(change);
       }
     }
-    bridge.getHistoryWriter().addChildToEvent(m_attacker.getName() + " win", new ArrayList<Unit>(m_attackingUnits));
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(m_attacker.getName() + " win",
+          new ArrayList<Unit>(m_attackingUnits));
+    }
     showCasualties(bridge);
     if (!m_headless) {
       m_battleTracker.getBattleRecords(m_data).addResultToBattle(m_attacker, m_battleID, m_defender, m_attackerLostTUV,
@@ -2700,9 +2720,11 @@ public class MustFightBattle extends AbstractBattle implements BattleStepStrings
     costs = BattleCalculator.getCostsForTUV(m_defender, m_data);
     final int tuvLostDefender = BattleCalculator.getTUV(m_killed, m_defender, costs, m_data);
     final int tuvChange = tuvLostDefender - tuvLostAttacker;
-    bridge.getHistoryWriter().addChildToEvent(
-        "Battle casualty summary: Battle score (TUV change) for attacker is " + tuvChange,
-        new ArrayList<Unit>(m_killed));
+    if (bridge.hasObservers()) {
+      bridge.getHistoryWriter().addChildToEvent(
+          "Battle casualty summary: Battle score (TUV change) for attacker is " + tuvChange,
+          new ArrayList<Unit>(m_killed));
+    }
     m_attackerLostTUV += tuvLostAttacker;
     m_defenderLostTUV += tuvLostDefender;
   }
@@ -14,21 +14,28 @@ import games.strategy.util.IntegerMap;
 public class UnitBattleComparator implements Comparator<Unit> {
   private final boolean m_defending;
   private final IntegerMap<UnitType> m_costs;
-  private final GameData m_data;
   private final boolean m_bonus;
   private final boolean m_ignorePrimaryPower;
-  private final Collection<TerritoryEffect> m_territoryEffects;
+  private final BattlePowerTable m_powerTable;
   private final Collection<UnitType> m_multiHitpointCanRepair = new HashSet<UnitType>();
 
   public UnitBattleComparator(final boolean defending, final IntegerMap<UnitType> costs,
       final Collection<TerritoryEffect> territoryEffects, final GameData data, final boolean bonus,
       final boolean ignorePrimaryPower) {
+    this(defending, costs, data, bonus, ignorePrimaryPower, new BattlePowerTable(data, territoryEffects));
+  }
+
+  /**
+   * @param powerTable
+   *        the unit values of the battle the units are in
+   */
+  public UnitBattleComparator(final boolean defending, final IntegerMap<UnitType> costs, final GameData data,
+      final boolean bonus, final boolean ignorePrimaryPower, final BattlePowerTable powerTable) {
     m_defending = defending;
     m_costs = costs;
-    m_data = data;
     m_bonus = bonus;
     m_ignorePrimaryPower = ignorePrimaryPower;
-    m_territoryEffects = territoryEffects;
+    m_powerTable = powerTable;
     if (games.strategy.triplea.Properties.getBattleshipsRepairAtEndOfRound(data)
         || games.strategy.triplea.Properties.getBattleshipsRepairAtBeginningOfRound(data)) {
       for (final UnitType ut : data.getUnitTypeList()) {
@@ -67,8 +74,8 @@ public class UnitBattleComparator implements Comparator<Unit> {
     final boolean multiHpCanRepair1 = m_multiHitpointCanRepair.contains(u1.getType());
     final boolean multiHpCanRepair2 = m_multiHitpointCanRepair.contains(u2.getType());
     if (!m_ignorePrimaryPower) {
-      int power1 = 8 * BattleCalculator.getUnitPowerForSorting(u1, m_defending, m_data, m_territoryEffects);
-      int power2 = 8 * BattleCalculator.getUnitPowerForSorting(u2, m_defending, m_data, m_territoryEffects);
+      int power1 = 8 * m_powerTable.getUnitPowerForSorting(u1, m_defending);
+      int power2 = 8 * m_powerTable.getUnitPowerForSorting(u2, m_defending);
       if (m_bonus) {
         if (subDestroyer1 && !subDestroyer2) {
           power1 += 4;
@@ -103,8 +110,8 @@ public class UnitBattleComparator implements Comparator<Unit> {
       }
     }
     {
-      int power1reverse = 8 * BattleCalculator.getUnitPowerForSorting(u1, !m_defending, m_data, m_territoryEffects);
-      int power2reverse = 8 * BattleCalculator.getUnitPowerForSorting(u2, !m_defending, m_data, m_territoryEffects);
+      int power1reverse = 8 * m_powerTable.getUnitPowerForSorting(u1, !m_defending);
+      int power2reverse = 8 * m_powerTable.getUnitPowerForSorting(u2, !m_defending);
       if (m_bonus) {
         if (subDestroyer1 && !subDestroyer2) {
           power1reverse += 4;
@@ -54,6 +54,8 @@ public final class TileImageFactory {
   private double m_scale = 1;
   // maps image name to ImageRef
   private HashMap<String, ImageRef> m_imageCache = new HashMap<String, ImageRef>();
+  // changed each time the cache is cleared, so a tile prefetched for another map or scale is not cached
+  private int m_generation = 0;
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -86,6 +88,7 @@ public final class TileImageFactory {
     synchronized (m_mutex) {
       m_scale = newScale;
       getM_imageCache().clear();
+      m_generation++;
     }
   }
 
@@ -146,6 +149,7 @@ public final class TileImageFactory {
         imageRef.clear();
       }
       getM_imageCache().clear();
+      m_generation++;
     }
   }
 
@@ -196,7 +200,7 @@ public final class TileImageFactory {
       // This is null if there is no image
       final URL url = m_resourceLoader.getResource(fileName);
 
-      if ((!s_showMapBlends || !s_showReliefImages || !transparent) && url == null) {
+      if (isMissing(url, transparent)) {
         return null;
       }
       loadImage(url, fileName, transparent, true, true);
@@ -204,6 +208,50 @@ public final class TileImageFactory {
     return getImage(fileName, transparent);
   }
 
+  /**
+   * @return whether there is no image to show for a tile file, a missing relief tile is still blended when map blends
+   *         are shown.
+   */
+  private static boolean isMissing(final URL url, final boolean transparent) {
+    return url == null && (!s_showMapBlends || !s_showReliefImages || !transparent);
+  }
+
+  /**
+   * Decodes the base tile and relief tile at x, y into the cache, if they are not there already.
+   * The lock is not held while decoding, so painting does not wait for prefetching.
+   *
+   * @return roughly how many bytes the decoded tiles take.
+   */
+  public long prefetchTile(final int x, final int y) {
+    long bytes = prefetchImage(getBaseTileImageName(x, y), false);
+    if (s_showReliefImages) {
+      bytes += prefetchImage(getReliefTileImageName(x, y), true);
+    }
+    return bytes;
+  }
+
+  private long prefetchImage(final String fileName, final boolean transparent) {
+    final int generation;
+    final URL url;
+    synchronized (m_mutex) {
+      if (isImageLoaded(fileName) != null) {
+        return 0;
+      }
+      url = m_resourceLoader.getResource(fileName);
+      generation = m_generation;
+    }
+    if (isMissing(url, transparent)) {
+      return 0;
+    }
+    final Image image = loadImage(url, fileName, transparent, false, true);
+    synchronized (m_mutex) {
+      if (generation == m_generation && isImageLoaded(fileName) == null) {
+        getM_imageCache().put(fileName, new ImageRef(image));
+      }
+    }
+    return 4L * image.getWidth(null) * image.getHeight(null);
+  }
+
   public Image getReliefTile(final int a, final int b) {
     final String fileName = getReliefTileImageName(a, b);
     return getImage(fileName, true);
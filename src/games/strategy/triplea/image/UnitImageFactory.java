@@ -38,7 +38,10 @@ public class UnitImageFactory {
   private static int UNIT_COUNTER_OFFSET_HEIGHT = UNIT_ICON_HEIGHT;
   private static final String FILE_NAME_BASE = "units/";
   // maps Point -> image
+  // the image prefetcher adds to it from its own thread, so it is only used while synchronized on it
   private final Map<String, Image> m_images = new HashMap<String, Image>();
+  // changed each time the images are cleared, so an image prefetched at another scale is not kept
+  private int m_generation = 0;
   // maps Point -> Icon
   private final Map<String, ImageIcon> m_icons = new HashMap<String, ImageIcon>();
   // Scaling factor for unit images
@@ -100,7 +103,10 @@ public class UnitImageFactory {
 
   // Clear the image and icon cache
   private void clearImageCache() {
-    m_images.clear();
+    synchronized (m_images) {
+      m_images.clear();
+      m_generation++;
+    }
     m_icons.clear();
   }
 
@@ -111,9 +117,50 @@ public class UnitImageFactory {
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, data, damaged, disabled);
     final String fullName = baseName + player.getName();
-    if (m_images.containsKey(fullName)) {
-      return m_images.get(fullName);
+    synchronized (m_images) {
+      final Image image = m_images.get(fullName);
+      if (image != null) {
+        return image;
+      }
+    }
+    final Image scaledImage = loadScaledImage(baseName, player);
+    synchronized (m_images) {
+      m_images.put(fullName, scaledImage);
     }
+    return scaledImage;
+  }
+
+  /**
+   * Decodes and scales the image of a unit into the cache, if it is not there already.
+   *
+   * @return roughly how many bytes the image takes, 0 if it was cached already.
+   */
+  public long prefetchImage(final UnitType type, final PlayerID player, final GameData data) {
+    final String baseName;
+    data.acquireReadLock();
+    try {
+      baseName = getBaseImageName(type, player, data, false, false);
+    } finally {
+      data.releaseReadLock();
+    }
+    final String fullName = baseName + player.getName();
+    final int generation;
+    synchronized (m_images) {
+      if (m_images.containsKey(fullName)) {
+        return 0;
+      }
+      generation = m_generation;
+    }
+    final Image scaledImage = loadScaledImage(baseName, player);
+    synchronized (m_images) {
+      if (generation == m_generation && !m_images.containsKey(fullName)) {
+        m_images.put(fullName, scaledImage);
+      }
+    }
+    return 4L * scaledImage.getWidth(null) * scaledImage.getHeight(null);
+  }
+
+  private Image loadScaledImage(final String baseName, final PlayerID player) {
     final Image baseImage = getBaseImage(baseName, player);
     // We want to scale units according to the given scale factor.
     // We use smooth scaling since the images are cached to allow
@@ -129,7 +176,6 @@ public class UnitImageFactory {
     } catch (final InterruptedException ex) {
       ex.printStackTrace();
     }
-    m_images.put(fullName, scaledImage);
     return scaledImage;
   }
 
@@ -6,14 +6,16 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,12 +31,19 @@ import games.strategy.util.CountUpAndDownLatch;
 /**
  * Concurrent wrapper class for the OddsCalculator. It spawns multiple worker threads and splits up the run count
  * across these workers. This is mainly to be used by AIs since they call the OddsCalculator a lot.
+ * The workers of all calculators run on one shared set of threads, sized to the number of processors, so that many AIs
+ * calculating at once do not each start their own set of threads. Each calculator has its own queue of workers and the
+ * threads serve the queues in turn, so a calculator with many runs waiting does not hold up the others.
  */
 public class ConcurrentOddsCalculator implements IOddsCalculator {
   private static final Logger s_logger = Logger.getLogger(ConcurrentOddsCalculator.class.getName());
   private static final int MAX_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+  private static final RoundRobinExecutor s_calcExecutor =
+      new RoundRobinExecutor(MAX_THREADS, new DaemonThreadFactory(true, "ConcurrentOddsCalculator Worker"));
+  private final Queue<Runnable> m_calcQueue = s_calcExecutor.createQueue();
   private int m_currentThreads = MAX_THREADS;
-  private final ExecutorService m_executor;
+  // used to copy the game data for the workers, its threads die off when idle
+  private final ThreadPoolExecutor m_executor;
   private final CopyOnWriteArrayList<OddsCalculator> m_workers = new CopyOnWriteArrayList<OddsCalculator>();
   // do not let calc be set up til data is set
   private volatile boolean m_isDataSet = false;
@@ -57,8 +66,10 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   private final List<OddsCalculatorListener> m_listeners = new ArrayList<OddsCalculatorListener>();
 
   public ConcurrentOddsCalculator(final String threadNamePrefix) {
-    m_executor = Executors.newFixedThreadPool(MAX_THREADS,
-        new DaemonThreadFactory(true, threadNamePrefix + " ConcurrentOddsCalculator Worker"));
+    m_executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(),
+        new DaemonThreadFactory(true, threadNamePrefix + " ConcurrentOddsCalculator"));
+    m_executor.allowCoreThreadTimeOut(true);
     s_logger.fine("Initialized executor thread pool with size: " + MAX_THREADS);
   }
 
@@ -277,7 +288,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
         }
         if (worker.getRunCount() > 0) {
           totalRunCount += worker.getRunCount();
-          final Future<AggregateResults> workerResult = m_executor.submit(worker);
+          final Future<AggregateResults> workerResult = s_calcExecutor.submit(m_calcQueue, worker);
           list.add(workerResult);
         }
       }
@@ -1,6 +1,7 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,7 +25,6 @@ import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitHitsChange;
 import games.strategy.engine.data.UnitType;
 import games.strategy.engine.data.UnitTypeList;
-import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.engine.display.IDisplay;
 import games.strategy.engine.framework.GameDataUtils;
 import games.strategy.engine.framework.IGameModifiedChannel;
@@ -32,15 +32,17 @@ import games.strategy.engine.gamePlayer.IRemotePlayer;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SplittableRandomSource;
 import games.strategy.net.GUID;
 import games.strategy.sound.DummySoundChannel;
 import games.strategy.sound.ISound;
 import games.strategy.triplea.ai.AIUtils;
 import games.strategy.triplea.ai.AbstractAI;
 import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.triplea.delegate.BattlePowerTable;
 import games.strategy.triplea.delegate.BattleTracker;
 import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.ISimulationDelegateBridge;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.MustFightBattle;
 import games.strategy.triplea.delegate.dataObjects.CasualtyDetails;
@@ -84,6 +86,8 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
   private volatile boolean m_isCalcSet = false;
   private volatile boolean m_isRunning = false;
   private final List<OddsCalculatorListener> m_listeners = new ArrayList<OddsCalculatorListener>();
+  // only one thread runs a calculator at a time, so it can keep its own dice
+  private final SplittableRandomSource m_randomSource = SplittableRandomSource.newSimulationSource();
 
   public OddsCalculator(final GameData data) {
     this(data, false);
@@ -257,17 +261,20 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
         OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data);
     final List<Unit> defenderOrderOfLosses =
         OddsCalculator.getUnitListByOrderOfLoss(m_defenderOrderOfLosses, m_defendingUnits, m_data);
+    // the unit values do not change from one run to the next
+    final BattlePowerTable powerTable = new BattlePowerTable(m_data, m_territoryEffects);
     for (int i = 0; i < count && !m_cancelled; i++) {
       final CompositeChange allChanges = new CompositeChange();
       final DummyDelegateBridge bridge1 = new DummyDelegateBridge(m_attacker, m_data, allChanges, attackerOrderOfLosses,
           defenderOrderOfLosses, m_keepOneAttackingLandUnit, m_retreatAfterRound, m_retreatAfterXUnitsLeft,
-          m_retreatWhenOnlyAirLeft, m_retreatWhenMetaPowerIsLower);
+          m_retreatWhenOnlyAirLeft, m_retreatWhenMetaPowerIsLower, m_randomSource);
       final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
       final MustFightBattle battle = new MustFightBattle(m_location, m_attacker, m_data, battleTracker);
       battle.setHeadless(true);
       battle.isAmphibious();
       battle.setUnits(m_defendingUnits, m_attackingUnits, m_bombardingUnits,
           (m_amphibious ? m_attackingUnits : new ArrayList<Unit>()), m_defender, m_territoryEffects);
+      battle.setPowerTable(powerTable);
       // battle.setAttackingFromAndMap(attackingFromMap);
       bridge1.setBattle(battle);
       battle.fight(bridge);
@@ -386,8 +393,10 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
 }
 
 
-class DummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource m_randomSource = new PlainRandomSource();
+class DummyDelegateBridge implements ISimulationDelegateBridge {
+  private final SplittableRandomSource m_randomSource;
+  // the arrays dice are rolled into, by roll count
+  private int[][] m_dice = new int[0][];
   private final DummyTripleaDisplay m_display = new DummyTripleaDisplay();
   private final DummySoundChannel m_soundChannel = new DummySoundChannel();
   private final DummyPlayer m_attackingPlayer;
@@ -402,7 +411,9 @@ class DummyDelegateBridge implements IDelegateBridge {
   public DummyDelegateBridge(final PlayerID attacker, final GameData data, final CompositeChange allChanges,
       final List<Unit> attackerOrderOfLosses, final List<Unit> defenderOrderOfLosses,
       final boolean attackerKeepOneLandUnit, final int retreatAfterRound, final int retreatAfterXUnitsLeft,
-      final boolean retreatWhenOnlyAirLeft, final boolean retreatWhenMetaPowerIsLower) {
+      final boolean retreatWhenOnlyAirLeft, final boolean retreatWhenMetaPowerIsLower,
+      final SplittableRandomSource randomSource) {
+    m_randomSource = randomSource;
     m_attackingPlayer =
         new DummyPlayer(this, true, "battle calc dummy", "None (AI)", attackerOrderOfLosses, attackerKeepOneLandUnit,
             retreatAfterRound, retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft, retreatWhenMetaPowerIsLower);
@@ -458,6 +469,18 @@ class DummyDelegateBridge implements IDelegateBridge {
     return m_randomSource.getRandom(max, annotation);
   }
 
+  @Override
+  public int[] getRandomInto(final int max, final int count, final PlayerID player, final DiceType diceType,
+      final String annotation) {
+    if (count >= m_dice.length) {
+      m_dice = Arrays.copyOf(m_dice, count + 1);
+    }
+    if (m_dice[count] == null) {
+      m_dice[count] = new int[count];
+    }
+    return m_randomSource.getRandom(max, m_dice[count], annotation);
+  }
+
   @Override
   public PlayerID getPlayerID() {
     return m_attacker;
@@ -478,6 +501,11 @@ class DummyDelegateBridge implements IDelegateBridge {
     return m_soundChannel;
   }
 
+  @Override
+  public boolean hasObservers() {
+    return false;
+  }
+
   @Override
   public void enterDelegateExecution() {}
 
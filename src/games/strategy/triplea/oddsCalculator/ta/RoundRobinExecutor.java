@@ -0,0 +1,71 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs tasks on a fixed number of threads, taking turns between queues. Each user of the executor submits to its own
+ * queue, and the threads take the next task of each queue that has tasks in turn, so a user with many tasks waiting
+ * does not hold up the others.
+ */
+class RoundRobinExecutor {
+  private final Object m_mutex = new Object();
+  // the queues that have tasks waiting, in the order they get their next turn
+  private final LinkedList<Queue<Runnable>> m_turns = new LinkedList<Queue<Runnable>>();
+
+  RoundRobinExecutor(final int threads, final ThreadFactory threadFactory) {
+    for (int i = 0; i < threads; i++) {
+      threadFactory.newThread(new Runnable() {
+        @Override
+        public void run() {
+          runTasks();
+        }
+      }).start();
+    }
+  }
+
+  /**
+   * @return a new queue, for one user to submit its tasks to.
+   */
+  Queue<Runnable> createQueue() {
+    return new LinkedList<Runnable>();
+  }
+
+  <T> Future<T> submit(final Queue<Runnable> queue, final Callable<T> task) {
+    final FutureTask<T> future = new FutureTask<T>(task);
+    synchronized (m_mutex) {
+      if (queue.isEmpty()) {
+        m_turns.addLast(queue);
+      }
+      queue.add(future);
+      m_mutex.notify();
+    }
+    return future;
+  }
+
+  private void runTasks() {
+    while (true) {
+      final Runnable task;
+      synchronized (m_mutex) {
+        while (m_turns.isEmpty()) {
+          try {
+            m_mutex.wait();
+          } catch (final InterruptedException e) {
+            return;
+          }
+        }
+        final Queue<Runnable> queue = m_turns.removeFirst();
+        task = queue.poll();
+        if (!queue.isEmpty()) {
+          m_turns.addLast(queue);
+        }
+      }
+      // a FutureTask keeps what the task threw for whoever waits on it
+      task.run();
+    }
+  }
+}
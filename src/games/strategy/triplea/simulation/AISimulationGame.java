@@ -0,0 +1,138 @@
+package games.strategy.triplea.simulation;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.events.GameStepListener;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.gamePlayer.IGamePlayer;
+import games.strategy.engine.message.DummyMessenger;
+import games.strategy.net.INode;
+import games.strategy.net.IServerMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.triplea.delegate.EndRoundDelegate;
+import games.strategy.util.IntegerMap;
+
+/**
+ * Plays one game between AIs, without any UI, network or saving, and reports who won and how the total unit value of
+ * each player changed over the rounds.
+ */
+public class AISimulationGame implements Callable<AISimulationResult> {
+  private static final Logger s_logger = Logger.getLogger(AISimulationGame.class.getName());
+  private final File m_gameFile;
+  private final int m_gameNumber;
+  private final Map<String, String> m_playerTypes;
+  private final int m_maxRounds;
+
+  /**
+   * @param gameFile
+   *        the game xml
+   * @param gameNumber
+   *        identifies the game in the result
+   * @param playerTypes
+   *        maps each player name to the player type (ie: TripleA.PRO_COMPUTER_PLAYER_TYPE) that plays it
+   * @param maxRounds
+   *        the game is stopped without a winner after this many rounds
+   */
+  public AISimulationGame(final File gameFile, final int gameNumber, final Map<String, String> playerTypes,
+      final int maxRounds) {
+    m_gameFile = gameFile;
+    m_gameNumber = gameNumber;
+    m_playerTypes = new HashMap<String, String>(playerTypes);
+    m_maxRounds = maxRounds;
+  }
+
+  @Override
+  public AISimulationResult call() {
+    final AISimulationResult result = new AISimulationResult(m_gameNumber);
+    final long start = System.currentTimeMillis();
+    try {
+      play(result);
+    } catch (final Throwable t) {
+      // the other games go on, the failed game is counted in the summary
+      s_logger.log(Level.SEVERE, "Simulated game " + m_gameNumber + " of " + m_gameFile.getName() + " failed", t);
+      result.setError(t.toString());
+    }
+    result.setTimeMillis(System.currentTimeMillis() - start);
+    return result;
+  }
+
+  private void play(final AISimulationResult result) throws Exception {
+    final GameData data;
+    try (InputStream input = new FileInputStream(m_gameFile)) {
+      data = new GameParser().parse(input, new AtomicReference<String>(), false);
+    }
+    final Set<IGamePlayer> gamePlayers = data.getGameLoader().createPlayers(m_playerTypes);
+    final IServerMessenger messenger = new DummyMessenger();
+    final ServerGame game = new ServerGame(data, gamePlayers, new HashMap<String, INode>(), new Messengers(messenger));
+    game.setReturnWhenGameSequenceStops(true);
+    game.setAutoSaveEnabled(false);
+    game.addGameStepListener(new GameStepListener() {
+      private int m_lastRound = -1;
+
+      @Override
+      public void gameStepChanged(final String stepName, final String delegateName, final PlayerID player,
+          final int round, final String displayName) {
+        if (round == m_lastRound) {
+          return;
+        }
+        m_lastRound = round;
+        if (round > m_maxRounds) {
+          game.stopGameSequence();
+          return;
+        }
+        result.setTUV(round, getTUVByPlayer(data));
+      }
+    });
+    try {
+      game.startGame();
+    } finally {
+      game.stopGame();
+      messenger.shutDown();
+    }
+    result.setRounds(Math.min(m_maxRounds, data.getSequence().getRound()));
+    final IDelegate endRound = data.getDelegateList().getDelegate("endRound");
+    if (endRound instanceof EndRoundDelegate && ((EndRoundDelegate) endRound).getWinners() != null) {
+      for (final PlayerID winner : ((EndRoundDelegate) endRound).getWinners()) {
+        result.addWinner(winner.getName());
+      }
+    }
+  }
+
+  /**
+   * @return the value of the units each player has on the map.
+   */
+  static Map<String, Integer> getTUVByPlayer(final GameData data) {
+    data.acquireReadLock();
+    try {
+      final Map<String, Integer> tuvByPlayer = new LinkedHashMap<String, Integer>();
+      for (final PlayerID player : data.getPlayerList().getPlayers()) {
+        final IntegerMap<UnitType> costs = BattleCalculator.getCostsForTUV(player, data);
+        final IntegerMap<UnitType> unitTypes = data.getPlayerStatsTracker().getUnitTypes(player);
+        int tuv = 0;
+        for (final UnitType unitType : unitTypes.keySet()) {
+          tuv += unitTypes.getInt(unitType) * costs.getInt(unitType);
+        }
+        tuvByPlayer.put(player.getName(), tuv);
+      }
+      return tuvByPlayer;
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+}
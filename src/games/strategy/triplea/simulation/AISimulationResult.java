@@ -0,0 +1,80 @@
+package games.strategy.triplea.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of one simulated AI game.
+ */
+public class AISimulationResult {
+  private final int m_gameNumber;
+  private final List<String> m_winners = new ArrayList<String>();
+  private int m_rounds = 0;
+  private long m_timeMillis = 0;
+  private String m_error = null;
+  // round -> player name -> total unit value of the player at the start of the round
+  private final Map<Integer, Map<String, Integer>> m_tuvByRound = new LinkedHashMap<Integer, Map<String, Integer>>();
+
+  public AISimulationResult(final int gameNumber) {
+    m_gameNumber = gameNumber;
+  }
+
+  public int getGameNumber() {
+    return m_gameNumber;
+  }
+
+  /**
+   * @return the names of the winning players, empty if the game ended without a winner.
+   */
+  public List<String> getWinners() {
+    return Collections.unmodifiableList(m_winners);
+  }
+
+  void addWinner(final String playerName) {
+    m_winners.add(playerName);
+  }
+
+  public int getRounds() {
+    return m_rounds;
+  }
+
+  void setRounds(final int rounds) {
+    m_rounds = rounds;
+  }
+
+  public long getTimeMillis() {
+    return m_timeMillis;
+  }
+
+  void setTimeMillis(final long timeMillis) {
+    m_timeMillis = timeMillis;
+  }
+
+  /**
+   * @return null if the game ran without errors.
+   */
+  public String getError() {
+    return m_error;
+  }
+
+  void setError(final String error) {
+    m_error = error;
+  }
+
+  public Map<Integer, Map<String, Integer>> getTUVByRound() {
+    return Collections.unmodifiableMap(m_tuvByRound);
+  }
+
+  void setTUV(final int round, final Map<String, Integer> tuvByPlayer) {
+    m_tuvByRound.put(round, tuvByPlayer);
+  }
+
+  @Override
+  public String toString() {
+    return "Game " + m_gameNumber + ": winners=" + m_winners + ", rounds=" + m_rounds + ", time=" + m_timeMillis
+        + "ms" + (m_error == null ? "" : ", error=" + m_error);
+  }
+}
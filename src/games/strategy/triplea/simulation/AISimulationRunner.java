@@ -0,0 +1,387 @@
+package games.strategy.triplea.simulation;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.framework.GameRunner2;
+import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
+import games.strategy.triplea.TripleA;
+import games.strategy.triplea.ui.AbstractUIContext;
+import games.strategy.util.IntegerMap;
+
+/**
+ * Runs many games between AIs in parallel, without any UI, network or saving, and writes the result of each game as
+ * CSV or JSON. Used to balance maps.
+ * <p>
+ * Arguments are given as property=value, for example:<br>
+ * triplea.simulation.game=maps/minimap/games/minimap.xml triplea.simulation.games=100
+ * triplea.simulation.ai=Hard triplea.simulation.ai.Germans=Medium triplea.simulation.output=minimap.csv
+ */
+public class AISimulationRunner {
+  public static final String GAME_PROPERTY = "triplea.simulation.game";
+  public static final String GAMES_PROPERTY = "triplea.simulation.games";
+  public static final String THREADS_PROPERTY = "triplea.simulation.threads";
+  public static final String MAX_ROUNDS_PROPERTY = "triplea.simulation.maxRounds";
+  // the AI used for all players, unless overridden with triplea.simulation.ai.<player name>
+  public static final String AI_PROPERTY = "triplea.simulation.ai";
+  public static final String OUTPUT_PROPERTY = "triplea.simulation.output";
+  // csv or json, defaults to the extension of the output file
+  public static final String FORMAT_PROPERTY = "triplea.simulation.format";
+  private static final String[] PROPERTIES = {GAME_PROPERTY, GAMES_PROPERTY, THREADS_PROPERTY, MAX_ROUNDS_PROPERTY,
+      AI_PROPERTY, OUTPUT_PROPERTY, FORMAT_PROPERTY};
+
+  private final File m_gameFile;
+  private final int m_games;
+  private final int m_threads;
+  private final int m_maxRounds;
+  private final Map<String, String> m_playerTypes;
+  private long m_totalTimeMillis = 0;
+
+  public AISimulationRunner(final File gameFile, final int games, final int threads, final int maxRounds,
+      final Map<String, String> playerTypes) {
+    m_gameFile = gameFile;
+    m_games = games;
+    m_threads = threads;
+    m_maxRounds = maxRounds;
+    m_playerTypes = new LinkedHashMap<String, String>(playerTypes);
+  }
+
+  public static void main(final String[] args) {
+    if (!handleCommandLineArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    // nobody is watching, so end games when they are won, and do not pause between AI moves
+    System.setProperty(HeadlessGameServer.TRIPLEA_HEADLESS, "true");
+    System.setProperty(AbstractUIContext.AI_PAUSE_DURATION_PROPERTY, "0");
+    try {
+      final File gameFile = getGameFile(System.getProperty(GAME_PROPERTY));
+      final AISimulationRunner runner = new AISimulationRunner(gameFile, Integer.getInteger(GAMES_PROPERTY, 1),
+          Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+          Integer.getInteger(MAX_ROUNDS_PROPERTY, 50), getPlayerTypes(gameFile));
+      final List<AISimulationResult> results = runner.run();
+      System.out.println(runner.getSummary(results));
+      final String output = System.getProperty(OUTPUT_PROPERTY);
+      if (output != null) {
+        final String format =
+            System.getProperty(FORMAT_PROPERTY, output.toLowerCase().endsWith(".json") ? "json" : "csv");
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(output), "UTF-8"))) {
+          if (format.equalsIgnoreCase("json")) {
+            runner.writeJson(results, writer);
+          } else {
+            runner.writeCsv(results, writer);
+          }
+        }
+        System.out.println("Results written to " + output);
+      }
+    } catch (final Exception e) {
+      e.printStackTrace();
+      System.exit(-1);
+    }
+    // the messengers leave non daemon threads behind
+    System.exit(0);
+  }
+
+  /**
+   * Plays all the games and waits for them to finish.
+   *
+   * @return the results, in game number order.
+   */
+  public List<AISimulationResult> run() throws InterruptedException {
+    final long start = System.currentTimeMillis();
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, m_threads));
+    try {
+      final List<Future<AISimulationResult>> futures = new ArrayList<Future<AISimulationResult>>();
+      for (int i = 1; i <= m_games; i++) {
+        futures.add(executor.submit(new AISimulationGame(m_gameFile, i, m_playerTypes, m_maxRounds)));
+      }
+      final List<AISimulationResult> results = new ArrayList<AISimulationResult>();
+      for (final Future<AISimulationResult> future : futures) {
+        try {
+          final AISimulationResult result = future.get();
+          System.out.println(result);
+          results.add(result);
+        } catch (final ExecutionException e) {
+          // AISimulationGame catches everything itself
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+      return results;
+    } finally {
+      executor.shutdown();
+      m_totalTimeMillis = System.currentTimeMillis() - start;
+    }
+  }
+
+  public String getSummary(final List<AISimulationResult> results) {
+    final IntegerMap<String> wins = getWins(results);
+    long gameTime = 0;
+    int rounds = 0;
+    final List<String> failed = new ArrayList<String>();
+    for (final AISimulationResult result : results) {
+      gameTime += result.getTimeMillis();
+      rounds += result.getRounds();
+      if (result.getError() != null) {
+        failed.add("game " + result.getGameNumber() + ": " + result.getError());
+      }
+    }
+    final int games = Math.max(1, results.size());
+    return "Played " + results.size() + " games of " + m_gameFile.getName() + " on " + m_threads + " threads in "
+        + m_totalTimeMillis + "ms (" + String.format("%.1f", getGamesPerHour(results.size())) + " games per hour)"
+        + "\nAverage game time " + (gameTime / games) + "ms, average rounds "
+        + String.format("%.1f", (double) rounds / games)
+        + ", failed " + failed.size() + "\nWins " + getWinsText(wins)
+        + (failed.isEmpty() ? "" : "\nFailed " + join(failed, ", "));
+  }
+
+  private static String getWinsText(final IntegerMap<String> wins) {
+    final List<String> text = new ArrayList<String>();
+    for (final String winner : wins.keySet()) {
+      text.add(winner + ": " + wins.getInt(winner));
+    }
+    return join(text, ", ");
+  }
+
+  private double getGamesPerHour(final int games) {
+    return games * 3600000.0 / Math.max(1, m_totalTimeMillis);
+  }
+
+  private static IntegerMap<String> getWins(final List<AISimulationResult> results) {
+    final IntegerMap<String> wins = new IntegerMap<String>();
+    for (final AISimulationResult result : results) {
+      if (result.getError() != null) {
+        continue;
+      }
+      if (result.getWinners().isEmpty()) {
+        wins.add("none", 1);
+      }
+      for (final String winner : result.getWinners()) {
+        wins.add(winner, 1);
+      }
+    }
+    return wins;
+  }
+
+  /**
+   * One row per game. The TUV of each player is given per round, separated by '|'.
+   */
+  public void writeCsv(final List<AISimulationResult> results, final PrintWriter writer) {
+    final StringBuilder header = new StringBuilder("game,winners,rounds,timeMillis,error");
+    for (final String player : m_playerTypes.keySet()) {
+      header.append(',').append(csv(player + " TUV"));
+    }
+    writer.println(header);
+    for (final AISimulationResult result : results) {
+      final StringBuilder row = new StringBuilder();
+      row.append(result.getGameNumber()).append(',');
+      row.append(csv(join(result.getWinners(), "|"))).append(',');
+      row.append(result.getRounds()).append(',');
+      row.append(result.getTimeMillis()).append(',');
+      row.append(result.getError() == null ? "" : csv(result.getError()));
+      for (final String player : m_playerTypes.keySet()) {
+        final List<String> tuv = new ArrayList<String>();
+        for (final Map<String, Integer> tuvByPlayer : result.getTUVByRound().values()) {
+          tuv.add(String.valueOf(tuvByPlayer.get(player)));
+        }
+        row.append(',').append(join(tuv, "|"));
+      }
+      writer.println(row);
+    }
+  }
+
+  public void writeJson(final List<AISimulationResult> results, final PrintWriter writer) {
+    writer.println("{");
+    writer.println("  \"game\": " + json(m_gameFile.getName()) + ",");
+    writer.println("  \"games\": " + results.size() + ",");
+    writer.println("  \"threads\": " + m_threads + ",");
+    writer.println("  \"maxRounds\": " + m_maxRounds + ",");
+    writer.println("  \"totalTimeMillis\": " + m_totalTimeMillis + ",");
+    writer.println("  \"gamesPerHour\": " + String.format("%.1f", getGamesPerHour(results.size())) + ",");
+    final StringBuilder players = new StringBuilder();
+    for (final Iterator<Entry<String, String>> iter = m_playerTypes.entrySet().iterator(); iter.hasNext();) {
+      final Entry<String, String> entry = iter.next();
+      players.append(json(entry.getKey())).append(": ").append(json(entry.getValue()));
+      players.append(iter.hasNext() ? ", " : "");
+    }
+    writer.println("  \"players\": {" + players + "},");
+    final IntegerMap<String> wins = getWins(results);
+    final StringBuilder winsJson = new StringBuilder();
+    for (final Iterator<String> iter = wins.keySet().iterator(); iter.hasNext();) {
+      final String winner = iter.next();
+      winsJson.append(json(winner)).append(": ").append(wins.getInt(winner)).append(iter.hasNext() ? ", " : "");
+    }
+    writer.println("  \"wins\": {" + winsJson + "},");
+    writer.println("  \"results\": [");
+    for (final Iterator<AISimulationResult> iter = results.iterator(); iter.hasNext();) {
+      final AISimulationResult result = iter.next();
+      final List<String> winners = new ArrayList<String>();
+      for (final String winner : result.getWinners()) {
+        winners.add(json(winner));
+      }
+      final List<String> rounds = new ArrayList<String>();
+      for (final Entry<Integer, Map<String, Integer>> round : result.getTUVByRound().entrySet()) {
+        final List<String> tuv = new ArrayList<String>();
+        for (final Entry<String, Integer> entry : round.getValue().entrySet()) {
+          tuv.add(json(entry.getKey()) + ": " + entry.getValue());
+        }
+        rounds.add(json(String.valueOf(round.getKey())) + ": {" + join(tuv, ", ") + "}");
+      }
+      writer.println("    {\"game\": " + result.getGameNumber() + ", \"winners\": [" + join(winners, ", ")
+          + "], \"rounds\": " + result.getRounds() + ", \"timeMillis\": " + result.getTimeMillis() + ", \"error\": "
+          + (result.getError() == null ? "null" : json(result.getError())) + ",");
+      writer.println("      \"tuv\": {" + join(rounds, ", ") + "}}" + (iter.hasNext() ? "," : ""));
+    }
+    writer.println("  ]");
+    writer.println("}");
+  }
+
+  private static String join(final List<String> values, final String separator) {
+    final StringBuilder sb = new StringBuilder();
+    for (final String value : values) {
+      if (sb.length() > 0) {
+        sb.append(separator);
+      }
+      sb.append(value);
+    }
+    return sb.toString();
+  }
+
+  private static String csv(final String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  private static String json(final String value) {
+    final StringBuilder sb = new StringBuilder("\"");
+    for (final char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.append('"').toString();
+  }
+
+  private static File getGameFile(final String game) throws IOException {
+    if (game == null) {
+      throw new IllegalArgumentException("No game given, use " + GAME_PROPERTY + "=");
+    }
+    File gameFile = new File(game);
+    if (!gameFile.exists()) {
+      // relative to the triplea folder, ie: maps/minimap/games/minimap.xml
+      gameFile = new File(GameRunner2.getRootFolder(), game);
+    }
+    if (!gameFile.exists()) {
+      throw new IOException("Game file not found: " + game);
+    }
+    return gameFile;
+  }
+
+  /**
+   * Parses the game once to find its players, and picks the AI for each of them.
+   */
+  private static Map<String, String> getPlayerTypes(final File gameFile) throws Exception {
+    final GameData data;
+    try (InputStream input = new FileInputStream(gameFile)) {
+      data = new GameParser().parse(input, new AtomicReference<String>(), false);
+    }
+    final String defaultType = getPlayerType(System.getProperty(AI_PROPERTY, "Hard"));
+    final Map<String, String> playerTypes = new LinkedHashMap<String, String>();
+    for (final PlayerID player : data.getPlayerList().getPlayers()) {
+      final String type = System.getProperty(AI_PROPERTY + "." + player.getName());
+      playerTypes.put(player.getName(), type == null ? defaultType : getPlayerType(type));
+    }
+    return playerTypes;
+  }
+
+  /**
+   * Accepts the short names (Hard, Medium, Easy, or Pro, Strong, Weak) as well as the full player type names.
+   */
+  private static String getPlayerType(final String name) {
+    if (name.equalsIgnoreCase("Hard") || name.equalsIgnoreCase("Pro") || name.equalsIgnoreCase("ProAI")) {
+      return TripleA.PRO_COMPUTER_PLAYER_TYPE;
+    } else if (name.equalsIgnoreCase("Medium") || name.equalsIgnoreCase("Strong")
+        || name.equalsIgnoreCase("StrongAI")) {
+      return TripleA.STRONG_COMPUTER_PLAYER_TYPE;
+    } else if (name.equalsIgnoreCase("Easy") || name.equalsIgnoreCase("Weak") || name.equalsIgnoreCase("WeakAI")) {
+      return TripleA.WEAK_COMPUTER_PLAYER_TYPE;
+    } else if (name.equalsIgnoreCase("DoesNothing")) {
+      return TripleA.DOESNOTHINGAI_COMPUTER_PLAYER_TYPE;
+    }
+    for (final String type : new String[] {TripleA.PRO_COMPUTER_PLAYER_TYPE, TripleA.STRONG_COMPUTER_PLAYER_TYPE,
+        TripleA.WEAK_COMPUTER_PLAYER_TYPE, TripleA.DOESNOTHINGAI_COMPUTER_PLAYER_TYPE}) {
+      if (type.equalsIgnoreCase(name)) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Not an AI: " + name);
+  }
+
+  /**
+   * Move command line arguments to System.properties
+   *
+   * @return false if an argument is not recognized.
+   */
+  private static boolean handleCommandLineArgs(final String[] args) {
+    boolean allFound = true;
+    for (final String arg : args) {
+      final int indexOf = arg.indexOf('=');
+      boolean found = false;
+      if (indexOf > 0) {
+        final String key = arg.substring(0, indexOf);
+        for (final String property : PROPERTIES) {
+          if (key.equals(property)) {
+            found = true;
+            break;
+          }
+        }
+        // the AI for a single player
+        found |= key.startsWith(AI_PROPERTY + ".");
+        if (found) {
+          System.setProperty(key, arg.substring(indexOf + 1));
+        }
+      }
+      if (!found) {
+        System.out.println("Unrecogized argument: " + arg);
+        allFound = false;
+      }
+    }
+    return allFound && System.getProperty(GAME_PROPERTY) != null;
+  }
+
+  private static void usage() {
+    System.out.println("Arguments\n"
+        + "   " + GAME_PROPERTY + "=<game xml, absolute or relative to the triplea folder>\n"
+        + "   " + GAMES_PROPERTY + "=<number of games to play, default 1>\n"
+        + "   " + THREADS_PROPERTY + "=<number of games to play at once, default the number of processors>\n"
+        + "   " + MAX_ROUNDS_PROPERTY + "=<stop a game without a winner after this many rounds, default 50>\n"
+        + "   " + AI_PROPERTY + "=<Hard, Medium or Easy, default Hard>\n"
+        + "   " + AI_PROPERTY + ".<player name>=<Hard, Medium or Easy, for a single player>\n"
+        + "   " + OUTPUT_PROPERTY + "=<results file>\n"
+        + "   " + FORMAT_PROPERTY + "=<csv or json, default from the output file extension>\n");
+  }
+}
@@ -40,6 +40,7 @@ public abstract class AbstractUIContext implements IUIContext {
   protected static final String SHOW_TRIGGERED_CHANCE_FAILURE = "ShowTriggeredChanceFailure";
   protected static final String SHOW_BATTLES_BETWEEN_AIS = "ShowBattlesBetweenAIs";
   protected static final String AI_PAUSE_DURATION = "AIPauseDuration";
+  public static final String AI_PAUSE_DURATION_PROPERTY = "triplea.ai.pauseDuration";
   protected static ResourceLoader m_resourceLoader;
   // instance
   protected boolean m_isShutDown = false;
@@ -54,6 +55,11 @@ public abstract class AbstractUIContext implements IUIContext {
   }
 
   public static int getAIPauseDuration() {
+    // a system property overrides the preference, without changing it
+    final Integer pauseDuration = Integer.getInteger(AI_PAUSE_DURATION_PROPERTY);
+    if (pauseDuration != null) {
+      return pauseDuration;
+    }
     final Preferences prefs = Preferences.userNodeForPackage(AbstractUIContext.class);
     return prefs.getInt(AI_PAUSE_DURATION, 400);
   }
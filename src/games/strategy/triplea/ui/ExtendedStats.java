@@ -8,17 +8,12 @@ import java.util.List;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Resource;
-import games.strategy.engine.data.Territory;
-import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
 import games.strategy.engine.stats.AbstractStat;
 import games.strategy.engine.stats.IStat;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.attatchments.TechAttachment;
-import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TechAdvance;
-import games.strategy.util.CompositeMatchAnd;
-import games.strategy.util.Match;
 
 public class ExtendedStats extends StatPanel {
   private static final long serialVersionUID = 2502397606419491543L;
@@ -205,13 +200,7 @@ public class ExtendedStats extends StatPanel {
 
     @Override
     public double getValue(final PlayerID player, final GameData data) {
-      int rVal = 0;
-      final Match<Unit> ownedBy =
-          new CompositeMatchAnd<Unit>(Matches.unitIsOwnedBy(player), Matches.unitIsOfType(m_ut));
-      for (final Territory place : data.getMap().getTerritories()) {
-        rVal += place.getUnits().countMatches(ownedBy);
-      }
-      return rVal;
+      return data.getPlayerStatsTracker().getUnitCount(player, m_ut);
     }
   }
   class TechTokenStat extends ResourceStat {
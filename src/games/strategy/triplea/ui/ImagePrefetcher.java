@@ -0,0 +1,152 @@
+package games.strategy.triplea.ui;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.attatchments.TerritoryAttachment;
+import games.strategy.triplea.image.TileImageFactory;
+import games.strategy.triplea.image.UnitImageFactory;
+import games.strategy.triplea.ui.screen.TileManager;
+
+/**
+ * Decodes the images a new game is likely to show first on a background thread, so that painting them the first time
+ * does not have to wait.
+ * <p>
+ * The unit images of every player are decoded first, as they are small and seen everywhere. Then the map tiles are
+ * decoded, those nearest a capital first, or nearest the middle of the map if there are no capitals. Decoding stops
+ * when the decoded images take up the byte budget. The caches only keep soft references, so prefetched images can
+ * still be reclaimed if memory runs short.
+ */
+class ImagePrefetcher implements Runnable {
+  private static final Logger s_logger = Logger.getLogger(ImagePrefetcher.class.getName());
+  // the budget is a part of the memory the vm may use, but no more than this
+  private static final long MAX_BYTES = 64L * 1024 * 1024;
+  private final GameData m_data;
+  private final MapData m_mapData;
+  private final TileImageFactory m_tileImageFactory;
+  private final UnitImageFactory m_unitImageFactory;
+  private final long m_bytesBudget;
+  private volatile boolean m_cancelled = false;
+
+  ImagePrefetcher(final GameData data, final MapData mapData, final TileImageFactory tileImageFactory,
+      final UnitImageFactory unitImageFactory) {
+    m_data = data;
+    m_mapData = mapData;
+    m_tileImageFactory = tileImageFactory;
+    m_unitImageFactory = unitImageFactory;
+    m_bytesBudget = Math.min(MAX_BYTES, Runtime.getRuntime().maxMemory() / 8);
+  }
+
+  void start() {
+    final Thread thread = new Thread(this, "Triplea image prefetcher");
+    thread.setDaemon(true);
+    thread.setPriority(Thread.MIN_PRIORITY);
+    thread.start();
+  }
+
+  /**
+   * Stops prefetching, images already decoded stay in the caches.
+   */
+  void cancel() {
+    m_cancelled = true;
+  }
+
+  @Override
+  public void run() {
+    final long start = System.currentTimeMillis();
+    final List<PlayerID> players;
+    final List<UnitType> unitTypes;
+    final List<Point> capitals = new ArrayList<Point>();
+    m_data.acquireReadLock();
+    try {
+      players = new ArrayList<PlayerID>(m_data.getPlayerList().getPlayers());
+      unitTypes = new ArrayList<UnitType>(m_data.getUnitTypeList().getAllUnitTypes());
+      for (final Territory territory : m_data.getMap().getTerritories()) {
+        final TerritoryAttachment ta = TerritoryAttachment.get(territory);
+        if (ta != null && ta.getCapital() != null) {
+          capitals.add(m_mapData.getCenter(territory));
+        }
+      }
+    } catch (final RuntimeException e) {
+      // a map with data missing, the images will just be decoded when they are painted
+      s_logger.log(Level.FINE, "Not prefetching images", e);
+      return;
+    } finally {
+      m_data.releaseReadLock();
+    }
+    final List<Point> tiles = getTilesNearestFirst(capitals);
+    int images = 0;
+    long unitBytes = 0;
+    for (final PlayerID player : players) {
+      for (final UnitType unitType : unitTypes) {
+        if (m_cancelled || unitBytes >= m_bytesBudget) {
+          break;
+        }
+        try {
+          unitBytes += m_unitImageFactory.prefetchImage(unitType, player, m_data);
+        } catch (final IllegalStateException e) {
+          // not every player has an image for every unit type
+        }
+        images++;
+      }
+    }
+    long tileBytes = 0;
+    for (final Point tile : tiles) {
+      if (m_cancelled || unitBytes + tileBytes >= m_bytesBudget) {
+        break;
+      }
+      tileBytes += m_tileImageFactory.prefetchTile(tile.x, tile.y);
+      images++;
+    }
+    s_logger.fine("Prefetched " + images + " images, " + unitBytes / 1024 + " KB of units and "
+        + tileBytes / 1024 + " KB of tiles in " + (System.currentTimeMillis() - start) + " ms");
+  }
+
+  /**
+   * @return the tiles of the map, the tiles nearest a capital first, or nearest the middle of the map if there are no
+   *         capitals.
+   */
+  private List<Point> getTilesNearestFirst(final List<Point> capitals) {
+    final List<Point> tiles = new ArrayList<Point>();
+    final Dimension size = m_mapData.getMapDimensions();
+    final List<Point> centres =
+        capitals.isEmpty() ? Collections.singletonList(new Point(size.width / 2, size.height / 2)) : capitals;
+    for (int x = 0; x * TileManager.TILE_SIZE < size.width; x++) {
+      for (int y = 0; y * TileManager.TILE_SIZE < size.height; y++) {
+        tiles.add(new Point(x, y));
+      }
+    }
+    Collections.sort(tiles, new Comparator<Point>() {
+      @Override
+      public int compare(final Point tile1, final Point tile2) {
+        return Long.compare(getDistanceToCapital(tile1, centres), getDistanceToCapital(tile2, centres));
+      }
+    });
+    return tiles;
+  }
+
+  /**
+   * @return the square of the distance from the middle of the tile to the nearest capital.
+   */
+  private static long getDistanceToCapital(final Point tile, final List<Point> capitals) {
+    final long x = tile.x * TileManager.TILE_SIZE + TileManager.TILE_SIZE / 2;
+    final long y = tile.y * TileManager.TILE_SIZE + TileManager.TILE_SIZE / 2;
+    long nearest = Long.MAX_VALUE;
+    for (final Point capital : capitals) {
+      final long dx = capital.x - x;
+      final long dy = capital.y - y;
+      nearest = Math.min(nearest, dx * dx + dy * dy);
+    }
+    return nearest;
+  }
+}
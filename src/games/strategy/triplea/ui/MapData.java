@@ -22,6 +22,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.imageio.ImageIO;
 
@@ -87,6 +92,7 @@ public class MapData {
   public static final String TERRITORY_NAME_PLACE_FILE = "name_place.txt";
   public static final String KAMIKAZE_FILE = "kamikaze_place.txt";
   public static final String DECORATIONS_FILE = "decorations.txt";
+  private static final int LOADING_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
   // default colour if none is defined.
   private final List<Color> m_defaultColours = new ArrayList<Color>(Arrays.asList(new Color[] {Color.RED, Color.MAGENTA,
       Color.YELLOW, Color.ORANGE, Color.CYAN, Color.GREEN, Color.PINK, Color.GRAY}));
@@ -153,26 +159,40 @@ public class MapData {
    */
   public MapData(final ResourceLoader loader) {
     m_resourceLoader = loader;
+    // the files do not depend on each other, so they are read at the same time
+    final ExecutorService executor = Executors.newFixedThreadPool(LOADING_THREADS);
     try {
-      final String prefix = "";
-      m_place = PointFileReaderWriter.readOneToMany(loader.getResourceAsStream(prefix + PLACEMENT_FILE));
-      m_territoryEffects =
-          PointFileReaderWriter.readOneToMany(loader.getResourceAsStream(prefix + TERRITORY_EFFECT_FILE));
-      m_polys = PointFileReaderWriter.readOneToManyPolygons(loader.getResourceAsStream(prefix + POLYGON_FILE));
-      m_centers = PointFileReaderWriter.readOneToOneCenters(loader.getResourceAsStream(prefix + CENTERS_FILE));
-      m_vcPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + VC_MARKERS));
-      m_convoyPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + CONVOY_MARKERS));
-      m_commentPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + COMMENT_MARKERS));
-      m_blockadePlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + BLOCKADE_MARKERS));
-      m_capitolPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + CAPITAL_MARKERS));
-      m_PUPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + PU_PLACE_FILE));
-      m_namePlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + TERRITORY_NAME_PLACE_FILE));
-      m_kamikazePlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + KAMIKAZE_FILE));
+      final Future<Map<String, List<Point>>> place = readOneToMany(executor, PLACEMENT_FILE);
+      final Future<Map<String, List<Point>>> territoryEffects = readOneToMany(executor, TERRITORY_EFFECT_FILE);
+      final Future<Map<String, List<Polygon>>> polys = executor.submit(new Callable<Map<String, List<Polygon>>>() {
+        @Override
+        public Map<String, List<Polygon>> call() throws IOException {
+          return PointFileReaderWriter.readOneToManyPolygons(loader.getResourceAsStream(POLYGON_FILE));
+        }
+      });
+      final Future<Map<String, Point>> centers = executor.submit(new Callable<Map<String, Point>>() {
+        @Override
+        public Map<String, Point> call() throws IOException {
+          return PointFileReaderWriter.readOneToOneCenters(loader.getResourceAsStream(CENTERS_FILE));
+        }
+      });
+      final Future<Map<String, Point>> vcPlace = readOneToOne(executor, VC_MARKERS);
+      final Future<Map<String, Point>> convoyPlace = readOneToOne(executor, CONVOY_MARKERS);
+      final Future<Map<String, Point>> commentPlace = readOneToOne(executor, COMMENT_MARKERS);
+      final Future<Map<String, Point>> blockadePlace = readOneToOne(executor, BLOCKADE_MARKERS);
+      final Future<Map<String, Point>> capitolPlace = readOneToOne(executor, CAPITAL_MARKERS);
+      final Future<Map<String, Point>> puPlace = readOneToOne(executor, PU_PLACE_FILE);
+      final Future<Map<String, Point>> namePlace = readOneToOne(executor, TERRITORY_NAME_PLACE_FILE);
+      final Future<Map<String, Point>> kamikazePlace = readOneToOne(executor, KAMIKAZE_FILE);
+      final Future<Map<Image, List<Point>>> decorations = executor.submit(new Callable<Map<Image, List<Point>>>() {
+        @Override
+        public Map<Image, List<Point>> call() throws IOException {
+          return loadDecorations();
+        }
+      });
       m_mapProperties = new Properties();
-      loadDecorations();
-      loadTerritoryNames();
       try {
-        final URL url = loader.getResource(prefix + MAP_PROPERTIES);
+        final URL url = loader.getResource(MAP_PROPERTIES);
         if (url == null) {
           throw new IllegalStateException("No map.properties file defined");
         }
@@ -180,9 +200,68 @@ public class MapData {
       } catch (final Exception e) {
         System.out.println("Error reading map.properties:" + e);
       }
+      m_centers = get(centers);
+      // the territory name images are loaded here while the other files are still being read
+      loadTerritoryNames();
+      m_place = get(place);
+      m_territoryEffects = get(territoryEffects);
+      m_polys = get(polys);
+      m_vcPlace = get(vcPlace);
+      m_convoyPlace = get(convoyPlace);
+      m_commentPlace = get(commentPlace);
+      m_blockadePlace = get(blockadePlace);
+      m_capitolPlace = get(capitolPlace);
+      m_PUPlace = get(puPlace);
+      m_namePlace = get(namePlace);
+      m_kamikazePlace = get(kamikazePlace);
+      m_decorations = get(decorations);
       initializeContains();
     } catch (final IOException ex) {
       ex.printStackTrace();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private Future<Map<String, Point>> readOneToOne(final ExecutorService executor, final String file) {
+    return executor.submit(new Callable<Map<String, Point>>() {
+      @Override
+      public Map<String, Point> call() throws IOException {
+        return PointFileReaderWriter.readOneToOne(m_resourceLoader.getResourceAsStream(file));
+      }
+    });
+  }
+
+  private Future<Map<String, List<Point>>> readOneToMany(final ExecutorService executor, final String file) {
+    return executor.submit(new Callable<Map<String, List<Point>>>() {
+      @Override
+      public Map<String, List<Point>> call() throws IOException {
+        return PointFileReaderWriter.readOneToMany(m_resourceLoader.getResourceAsStream(file));
+      }
+    });
+  }
+
+  /**
+   * Waits for a file to be read, throwing what reading it threw.
+   */
+  private static <T> T get(final Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while loading map data", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
     }
   }
 
@@ -207,20 +286,20 @@ public class MapData {
     }
   }
 
-  private void loadDecorations() throws IOException {
+  private Map<Image, List<Point>> loadDecorations() throws IOException {
     final URL decorations = m_resourceLoader.getResource(DECORATIONS_FILE);
     if (decorations == null) {
-      m_decorations = Collections.emptyMap();
-      return;
+      return Collections.emptyMap();
     }
-    m_decorations = new HashMap<Image, List<Point>>();
+    final Map<Image, List<Point>> images = new HashMap<Image, List<Point>>();
     try (InputStream stream = decorations.openStream()) {
       final Map<String, List<Point>> points = PointFileReaderWriter.readOneToMany(stream);
       for (final String name : points.keySet()) {
         final Image img = loadImage("misc/" + name);
-        m_decorations.put(img, points.get(name));
+        images.put(img, points.get(name));
       }
     }
+    return images;
   }
 
   public double getDefaultUnitScale() {
@@ -370,30 +449,48 @@ public class MapData {
   }
 
   private void initializeContains() {
-    m_contains = new HashMap<String, List<String>>();
-    final Iterator<String> seaIter = getTerritories().iterator();
-    while (seaIter.hasNext()) {
-      final List<String> contained = new ArrayList<String>();
-      final String seaTerritory = seaIter.next();
-      if (!(seaTerritory.endsWith("Sea Zone") || seaTerritory.startsWith("Sea Zone"))) {
-        continue;
+    m_contains = getContains(m_polys, true);
+  }
+
+  /**
+   * Finds the land territories inside each sea zone.
+   *
+   * @param pruneByBounds
+   *        whether to skip the land territories outside the bounds of a sea zone before testing its polygon, only
+   *        turned off to test that both find the same territories
+   * @return the land territories in each sea zone that has any
+   */
+  static Map<String, List<String>> getContains(final Map<String, List<Polygon>> polygons,
+      final boolean pruneByBounds) {
+    final Map<String, List<String>> contains = new HashMap<String, List<String>>();
+    final List<String> seaTerritories = new ArrayList<String>();
+    final List<String> landTerritories = new ArrayList<String>();
+    for (final String territory : polygons.keySet()) {
+      if (territory.endsWith("Sea Zone") || territory.startsWith("Sea Zone")) {
+        seaTerritories.add(territory);
+      } else {
+        landTerritories.add(territory);
       }
-      final Iterator<String> landIter = getTerritories().iterator();
-      while (landIter.hasNext()) {
-        final String landTerritory = landIter.next();
-        if (landTerritory.endsWith("Sea Zone") || landTerritory.startsWith("Sea Zone")) {
-          continue;
-        }
-        final Polygon landPoly = getPolygons(landTerritory).iterator().next();
-        final Polygon seaPoly = getPolygons(seaTerritory).iterator().next();
-        if (seaPoly.contains(landPoly.getBounds())) {
-          contained.add(landTerritory);
+    }
+    final Rectangle[] landBounds = new Rectangle[landTerritories.size()];
+    for (int i = 0; i < landBounds.length; i++) {
+      landBounds[i] = polygons.get(landTerritories.get(i)).iterator().next().getBounds();
+    }
+    for (final String seaTerritory : seaTerritories) {
+      final List<String> contained = new ArrayList<String>();
+      final Polygon seaPoly = polygons.get(seaTerritory).iterator().next();
+      final Rectangle seaBounds = seaPoly.getBounds();
+      for (int i = 0; i < landBounds.length; i++) {
+        // a land territory outside the bounds of the sea zone can not be in it, and that is much quicker to test
+        if ((!pruneByBounds || seaBounds.contains(landBounds[i])) && seaPoly.contains(landBounds[i])) {
+          contained.add(landTerritories.get(i));
         }
       }
       if (!contained.isEmpty()) {
-        m_contains.put(seaTerritory, contained);
+        contains.put(seaTerritory, contained);
       }
     }
+    return contains;
   }
 
   public boolean getBooleanProperty(final String propertiesKey) {
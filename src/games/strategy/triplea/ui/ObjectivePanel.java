@@ -614,6 +614,11 @@ class ObjectivePanelDummyDelegateBridge implements IDelegateBridge {
     return m_soundChannel;
   }
 
+  @Override
+  public boolean hasObservers() {
+    return false;
+  }
+
   @Override
   public void enterDelegateExecution() {}
 
@@ -0,0 +1,200 @@
+package games.strategy.triplea.ui;
+
+import java.awt.Component;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.swing.ProgressMonitor;
+import javax.swing.SwingUtilities;
+import javax.swing.tree.DefaultMutableTreeNode;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.history.HistoryNode;
+import games.strategy.engine.history.Round;
+import games.strategy.engine.history.Step;
+import games.strategy.engine.stats.IStat;
+
+/**
+ * Writes the stats of each player and alliance at every turn (or phase) of the game history to a csv file.
+ * Runs in the background with a progress monitor which can cancel it, writing each line as it goes.
+ * The history is replayed forward once, on a copy of the game data, so each step only performs the changes made since
+ * the step before it.
+ */
+class StatsExporter implements Runnable {
+  private final Component m_parent;
+  private final GameData m_data;
+  private final IStat[] m_stats;
+  private final PlayerID[] m_players;
+  private final String[] m_alliances;
+  private final boolean m_showPhaseStats;
+  private final File m_file;
+  private final String m_header;
+  private volatile boolean m_canceled = false;
+  private ProgressMonitor m_monitor;
+
+  /**
+   * @param data
+   *        a copy of the game data, which will be moved through its history
+   * @param players
+   *        the players of the copy
+   * @param header
+   *        written before the stats
+   */
+  StatsExporter(final Component parent, final GameData data, final IStat[] stats, final PlayerID[] players,
+      final String[] alliances, final boolean showPhaseStats, final File file, final String header) {
+    m_parent = parent;
+    m_data = data;
+    m_stats = stats;
+    m_players = players;
+    m_alliances = alliances;
+    m_showPhaseStats = showPhaseStats;
+    m_file = file;
+    m_header = header;
+  }
+
+  /**
+   * Call from the swing event thread.
+   */
+  void start() {
+    m_monitor = new ProgressMonitor(m_parent, "Exporting game stats to " + m_file.getName(), null, 0, 1);
+    m_monitor.setMillisToDecideToPopup(250);
+    final Thread t = new Thread(this, "Export game stats");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  @Override
+  public void run() {
+    boolean done = false;
+    try (final Writer writer = new BufferedWriter(new FileWriter(m_file))) {
+      writer.write(m_header);
+      done = writeStats(writer);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly(e);
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly(e);
+    } finally {
+      if (!done) {
+        m_file.delete();
+      }
+      SwingUtilities.invokeLater(new Runnable() {
+        @Override
+        public void run() {
+          m_monitor.close();
+        }
+      });
+    }
+  }
+
+  /**
+   * @return false if canceled.
+   */
+  private boolean writeStats(final Writer writer) throws IOException {
+    final List<Step> steps = new ArrayList<Step>();
+    final List<Integer> rounds = new ArrayList<Integer>();
+    m_data.getHistory().gotoNode(m_data.getHistory().getLastNode());
+    @SuppressWarnings("rawtypes")
+    final Enumeration nodes = ((DefaultMutableTreeNode) m_data.getHistory().getRoot()).preorderEnumeration();
+    PlayerID currentPlayer = null;
+    int round = 0;
+    while (nodes.hasMoreElements()) {
+      // we want to export on change of turn
+      final HistoryNode element = (HistoryNode) nodes.nextElement();
+      if (element instanceof Round) {
+        round++;
+      }
+      if (!(element instanceof Step)) {
+        continue;
+      }
+      final Step step = (Step) element;
+      if (step.getPlayerID() == null || step.getPlayerID().isNull()) {
+        continue;
+      }
+      // this is to stop from having multiple entries for each players turn.
+      if (!m_showPhaseStats) {
+        if (step.getPlayerID() == currentPlayer) {
+          continue;
+        }
+      }
+      currentPlayer = step.getPlayerID();
+      steps.add(step);
+      rounds.add(round);
+    }
+    final StringBuilder text = new StringBuilder(1000);
+    for (int i = 0; i < steps.size(); i++) {
+      if (m_canceled) {
+        return false;
+      }
+      updateProgress(i, steps.size());
+      final Step step = steps.get(i);
+      m_data.getHistory().gotoNode(step);
+      text.setLength(0);
+      text.append(rounds.get(i)).append(",").append(step.getPlayerID().getName() + ": ").append(",")
+          .append(getStepName(step.getStepName())).append(",");
+      for (final IStat stat : m_stats) {
+        for (final PlayerID player : m_players) {
+          text.append(stat.getFormatter().format(stat.getValue(player, m_data)));
+          text.append(",");
+        }
+        for (final String alliance : m_alliances) {
+          text.append(stat.getFormatter().format(stat.getValue(alliance, m_data)));
+          text.append(",");
+        }
+      }
+      text.append("\n");
+      writer.write(text.toString());
+    }
+    return true;
+  }
+
+  private void updateProgress(final int step, final int steps) {
+    SwingUtilities.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        if (m_monitor.isCanceled()) {
+          m_canceled = true;
+          return;
+        }
+        m_monitor.setMaximum(steps);
+        m_monitor.setProgress(step);
+        m_monitor.setNote("Step " + (step + 1) + " of " + steps);
+      }
+    });
+  }
+
+  // copied directly from TripleAPlayer, will probably have to be updated in the future if more delegates are made
+  private static String getStepName(final String stepName) {
+    if (stepName.endsWith("Bid")) {
+      return "Bid";
+    } else if (stepName.endsWith("Tech")) {
+      return "Tech";
+    } else if (stepName.endsWith("TechActivation")) {
+      return "TechActivation";
+    } else if (stepName.endsWith("Purchase")) {
+      return "Purchase";
+    } else if (stepName.endsWith("NonCombatMove")) {
+      return "NonCombatMove";
+    } else if (stepName.endsWith("Move")) {
+      return "Move";
+    } else if (stepName.endsWith("Battle")) {
+      return "Battle";
+    } else if (stepName.endsWith("BidPlace")) {
+      return "BidPlace";
+    } else if (stepName.endsWith("Place")) {
+      return "Place";
+    } else if (stepName.endsWith("Politics")) {
+      return "Politics";
+    } else if (stepName.endsWith("EndTurn")) {
+      return "EndTurn";
+    }
+    return "";
+  }
+}
@@ -1839,24 +1839,9 @@ public class TripleAFrame extends MainGameFrame {
     m_inHistory = true;
     m_inGame = false;
     setWidgetActivation();
-    final GameData clonedGameData;
-    m_data.acquireReadLock();
-    try {
-      // we want to use a clone of the data, so we can make changes to it
-      // as we walk up and down the history
-      clonedGameData = GameDataUtils.cloneGameData(m_data);
-      if (clonedGameData == null) {
-        return;
-      }
-      m_data.removeDataChangeListener(m_dataChangeListener);
-      clonedGameData.testLocksOnRead();
-      if (m_historySyncher != null) {
-        throw new IllegalStateException("Two history synchers?");
-      }
-      m_historySyncher = new HistorySynchronizer(clonedGameData, m_game);
-      clonedGameData.addDataChangeListener(m_dataChangeListener);
-    } finally {
-      m_data.releaseReadLock();
+    final GameData clonedGameData = getHistoryData();
+    if (clonedGameData == null) {
+      return;
     }
     m_statsPanel.setGameData(clonedGameData);
     m_economyPanel.setGameData(clonedGameData);
@@ -2008,12 +1993,7 @@ public class TripleAFrame extends MainGameFrame {
     // Are we coming from showHistory mode or showMapOnly mode?
     if (m_inHistory) {
       m_inHistory = false;
-      if (m_historySyncher != null) {
-        m_historySyncher.deactivate();
-        m_historySyncher = null;
-      }
-      m_historyPanel.goToEnd();
-      m_historyPanel = null;
+      closeHistoryPanel();
       m_mapPanel.getData().removeDataChangeListener(m_dataChangeListener);
       m_statsPanel.setGameData(m_data);
       m_economyPanel.setGameData(m_data);
@@ -2050,16 +2030,57 @@ public class TripleAFrame extends MainGameFrame {
     validate();
   }
 
+  /**
+   * @return the copy of the game data to show the history with, the copy of the last visit if it is still kept, or
+   *         null if the data could not be copied.
+   */
+  private GameData getHistoryData() {
+    GameData historyData = null;
+    if (m_historySyncher != null) {
+      // bring the copy up to date with what happened since the last visit
+      historyData = m_historySyncher.resume();
+      if (historyData == null) {
+        m_historySyncher = null;
+      }
+    }
+    m_data.acquireReadLock();
+    try {
+      if (historyData == null) {
+        // we want to use a clone of the data, so we can make changes to it
+        // as we walk up and down the history
+        historyData = GameDataUtils.cloneGameData(m_data);
+        if (historyData == null) {
+          return null;
+        }
+        historyData.testLocksOnRead();
+        m_historySyncher = new HistorySynchronizer(historyData, m_game);
+      }
+      m_data.removeDataChangeListener(m_dataChangeListener);
+      historyData.addDataChangeListener(m_dataChangeListener);
+    } finally {
+      m_data.releaseReadLock();
+    }
+    return historyData;
+  }
+
+  /**
+   * Pauses the history synchronizer, which keeps the copy of the game data the history was shown with for the next
+   * visit, as long as memory allows.
+   */
+  private void closeHistoryPanel() {
+    m_historyPanel.goToEnd();
+    m_historyPanel.close();
+    m_historyPanel = null;
+    if (m_historySyncher != null) {
+      m_historySyncher.pause();
+    }
+  }
+
   public void showMapOnly() {
     // Are we coming from showHistory mode or showGame mode?
     if (m_inHistory) {
       m_inHistory = false;
-      if (m_historySyncher != null) {
-        m_historySyncher.deactivate();
-        m_historySyncher = null;
-      }
-      m_historyPanel.goToEnd();
-      m_historyPanel = null;
+      closeHistoryPanel();
       m_mapPanel.getData().removeDataChangeListener(m_dataChangeListener);
       m_mapPanel.setGameData(m_data);
       m_data.addDataChangeListener(m_dataChangeListener);
@@ -59,7 +59,6 @@ import javax.swing.SpinnerNumberModel;
 import javax.swing.WindowConstants;
 import javax.swing.event.MenuEvent;
 import javax.swing.event.MenuListener;
-import javax.swing.tree.DefaultMutableTreeNode;
 
 import games.strategy.common.ui.BasicGameMenuBar;
 import games.strategy.debug.ClientLogger;
@@ -76,9 +75,6 @@ import games.strategy.engine.data.properties.PropertiesUI;
 import games.strategy.engine.framework.ClientGame;
 import games.strategy.engine.framework.GameDataUtils;
 import games.strategy.engine.gamePlayer.IGamePlayer;
-import games.strategy.engine.history.HistoryNode;
-import games.strategy.engine.history.Round;
-import games.strategy.engine.history.Step;
 import games.strategy.engine.random.IRandomStats;
 import games.strategy.engine.random.RandomStatsDetails;
 import games.strategy.engine.stats.IStat;
@@ -938,10 +934,10 @@ public class TripleaMenu extends BasicGameMenuBar<TripleAFrame> {
       return;
     }
     final StringBuilder text = new StringBuilder(1000);
-    GameData clone;
+    final StatsExporter exporter;
     try {
       getData().acquireReadLock();
-      clone = GameDataUtils.cloneGameData(getData());
+      final GameData clone = GameDataUtils.cloneGameData(getData());
       final IStat[] stats = statPanel.getStats();
       // extended stats covers stuff that doesn't show up in the game stats menu bar, like custom resources or tech
       // tokens or # techs, etc.
@@ -1079,91 +1075,16 @@ public class TripleaMenu extends BasicGameMenuBar<TripleAFrame> {
         }
       }
       text.append("\n");
-      clone.getHistory().gotoNode(clone.getHistory().getLastNode());
-      @SuppressWarnings("rawtypes")
-      final Enumeration nodes = ((DefaultMutableTreeNode) clone.getHistory().getRoot()).preorderEnumeration();
-      PlayerID currentPlayer = null;
-      int round = 0;
-      while (nodes.hasMoreElements()) {
-        // we want to export on change of turn
-        final HistoryNode element = (HistoryNode) nodes.nextElement();
-        if (element instanceof Round) {
-          round++;
-        }
-        if (!(element instanceof Step)) {
-          continue;
-        }
-        final Step step = (Step) element;
-        if (step.getPlayerID() == null || step.getPlayerID().isNull()) {
-          continue;
-        }
-        // this is to stop from having multiple entries for each players turn.
-        if (!showPhaseStats) {
-          if (step.getPlayerID() == currentPlayer) {
-            continue;
-          }
-        }
-        currentPlayer = step.getPlayerID();
-        clone.getHistory().gotoNode(element);
-        final String playerName = step.getPlayerID() == null ? "" : step.getPlayerID().getName() + ": ";
-        String stepName = step.getStepName();
-        // copied directly from TripleAPlayer, will probably have to be updated in the future if more delegates are made
-        if (stepName.endsWith("Bid")) {
-          stepName = "Bid";
-        } else if (stepName.endsWith("Tech")) {
-          stepName = "Tech";
-        } else if (stepName.endsWith("TechActivation")) {
-          stepName = "TechActivation";
-        } else if (stepName.endsWith("Purchase")) {
-          stepName = "Purchase";
-        } else if (stepName.endsWith("NonCombatMove")) {
-          stepName = "NonCombatMove";
-        } else if (stepName.endsWith("Move")) {
-          stepName = "Move";
-        } else if (stepName.endsWith("Battle")) {
-          stepName = "Battle";
-        } else if (stepName.endsWith("BidPlace")) {
-          stepName = "BidPlace";
-        } else if (stepName.endsWith("Place")) {
-          stepName = "Place";
-        } else if (stepName.endsWith("Politics")) {
-          stepName = "Politics";
-        } else if (stepName.endsWith("EndTurn")) {
-          stepName = "EndTurn";
-        } else {
-          stepName = "";
-        }
-        text.append(round).append(",").append(playerName).append(",").append(stepName).append(",");
-        for (final IStat stat : stats) {
-          for (final PlayerID player : players) {
-            text.append(stat.getFormatter().format(stat.getValue(player, clone)));
-            text.append(",");
-          }
-          for (final String alliance : alliances) {
-            text.append(stat.getFormatter().format(stat.getValue(alliance, clone)));
-            text.append(",");
-          }
-        }
-        for (final IStat element2 : statsExtended) {
-          for (final PlayerID player : players) {
-            text.append(element2.getFormatter().format(element2.getValue(player, clone)));
-            text.append(",");
-          }
-          for (final String alliance : alliances) {
-            text.append(element2.getFormatter().format(element2.getValue(alliance, clone)));
-            text.append(",");
-          }
-        }
-        text.append("\n");
-      }
+      final IStat[] allStats = new IStat[stats.length + statsExtended.length];
+      System.arraycopy(stats, 0, allStats, 0, stats.length);
+      System.arraycopy(statsExtended, 0, allStats, stats.length, statsExtended.length);
+      exporter = new StatsExporter(m_frame, clone, allStats, players, alliances, showPhaseStats,
+          chooser.getSelectedFile(), text.toString());
     } finally {
       getData().releaseReadLock();
     }
-    try (final FileWriter writer = new FileWriter(chooser.getSelectedFile())) {
-      writer.write(text.toString());
-    } catch (final IOException e1) {
-      ClientLogger.logQuietly(e1);
-    }
+    // moving through the history takes a while for long games, so do it in the background
+    exporter.start();
   }
 
   private void addExportUnitStats(final JMenu parentMenu) {
@@ -43,6 +43,7 @@ public class UIContext extends AbstractUIContext implements IUIContext {
   protected OptionalExtraBorderLevel m_extraTerritoryBorderLevel = OptionalExtraBorderLevel.LOW;
   // protected final MainGameFrame m_frame;
   protected Cursor m_cursor = Cursor.getDefaultCursor();
+  private ImagePrefetcher m_imagePrefetcher;
 
   public UIContext() {
     super();
@@ -100,6 +101,12 @@ public class UIContext extends AbstractUIContext implements IUIContext {
       }
     };
     (new Thread(loadSounds, "Triplea sound loader")).start();
+    // decode the unit images and the tiles around the capitals before they are first painted
+    if (m_imagePrefetcher != null) {
+      m_imagePrefetcher.cancel();
+    }
+    m_imagePrefetcher = new ImagePrefetcher(data, m_mapData, m_tileImageFactory, m_unitImageFactory);
+    m_imagePrefetcher.start();
     // load a new cursor
     m_cursor = Cursor.getDefaultCursor();
     final Toolkit toolkit = Toolkit.getDefaultToolkit();
@@ -162,6 +169,9 @@ public class UIContext extends AbstractUIContext implements IUIContext {
   @Override
   public void shutDown() {
     super.shutDown();
+    if (m_imagePrefetcher != null) {
+      m_imagePrefetcher.cancel();
+    }
     m_mapData.close();
   }
 
@@ -371,6 +371,15 @@ public class HistoryPanel extends JPanel {
     }
   }
 
+  /**
+   * Stops showing the history, the game data and its history can be shown again by a new panel.
+   */
+  public void close() {
+    m_data.getHistory().setTreePanel(null);
+    // stop listening to the history
+    m_tree.setModel(null);
+  }
+
   public void goToEnd() {
     final HistoryNode last;
     try {
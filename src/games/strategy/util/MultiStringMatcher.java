@@ -0,0 +1,96 @@
+package games.strategy.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds whether any of a set of strings occurs in a text, looking at each character of the text once, however many
+ * strings there are (the Aho-Corasick algorithm).
+ * <p>
+ * Matching is case sensitive. Instances are immutable, and can be shared by threads.
+ */
+public class MultiStringMatcher {
+  // m_next[state] maps a character to the state reached by reading it
+  private final Map<Character, Integer>[] m_next;
+  // the state to fall back to when a character can not be read from a state
+  private final int[] m_fail;
+  // true if reaching the state means a string has been found
+  private final boolean[] m_found;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public MultiStringMatcher(final Collection<String> strings) {
+    final List<Map<Character, Integer>> next = new ArrayList<Map<Character, Integer>>();
+    final List<Boolean> found = new ArrayList<Boolean>();
+    next.add(new HashMap<Character, Integer>());
+    found.add(false);
+    for (final String s : strings) {
+      int state = 0;
+      for (int i = 0; i < s.length(); i++) {
+        Integer nextState = next.get(state).get(s.charAt(i));
+        if (nextState == null) {
+          nextState = next.size();
+          next.add(new HashMap<Character, Integer>());
+          found.add(false);
+          next.get(state).put(s.charAt(i), nextState);
+        }
+        state = nextState;
+      }
+      found.set(state, true);
+    }
+    m_next = next.toArray(new Map[next.size()]);
+    m_found = new boolean[found.size()];
+    for (int i = 0; i < m_found.length; i++) {
+      m_found[i] = found.get(i);
+    }
+    m_fail = new int[m_next.length];
+    // visit the states breadth first, so the state we fall back to always has its own fall back set
+    final LinkedList<Integer> queue = new LinkedList<Integer>();
+    queue.add(0);
+    while (!queue.isEmpty()) {
+      final int state = queue.removeFirst();
+      for (final Map.Entry<Character, Integer> entry : m_next[state].entrySet()) {
+        final int child = entry.getValue();
+        queue.add(child);
+        if (state == 0) {
+          continue;
+        }
+        int fail = m_fail[state];
+        while (fail != 0 && !m_next[fail].containsKey(entry.getKey())) {
+          fail = m_fail[fail];
+        }
+        final Integer failChild = m_next[fail].get(entry.getKey());
+        m_fail[child] = failChild == null ? 0 : failChild;
+        // a string ending at the fall back state also ends here
+        m_found[child] |= m_found[m_fail[child]];
+      }
+    }
+  }
+
+  /**
+   * @return true if any of the strings occurs in the text.
+   */
+  public boolean containsAny(final CharSequence text) {
+    // an empty string occurs in every text
+    if (m_found[0]) {
+      return true;
+    }
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      Integer nextState = m_next[state].get(c);
+      while (nextState == null && state != 0) {
+        state = m_fail[state];
+        nextState = m_next[state].get(c);
+      }
+      state = nextState == null ? 0 : nextState;
+      if (m_found[state]) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -5,8 +5,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.attatchments.UnitAttachment;
+import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.xml.LoadGameUtil;
 import junit.framework.TestCase;
 
@@ -82,4 +89,65 @@ public class ChangeTripleATest extends TestCase {
     changePerformer.perform(change.invert());
     assertEquals(can.getUnits().getUnitCount(), 2);
   }
+
+  public void testUnitPropertyChanges() throws Exception {
+    final Territory can = m_data.getMap().getTerritory("Western Canada");
+    final TripleAUnit unit = (TripleAUnit) can.getUnits().getUnits().iterator().next();
+    final TripleAUnit transport = (TripleAUnit) m_data.getUnitTypeList().getUnitType("transport")
+        .create(1, m_data.getPlayerList().getPlayerID("Americans")).get(0);
+    final CompositeChange change = new CompositeChange();
+    change.add(ChangeFactory.unitPropertyChange(unit, 2, TripleAUnit.ALREADY_MOVED));
+    change.add(ChangeFactory.unitPropertyChange(unit, true, TripleAUnit.WAS_IN_COMBAT));
+    change.add(ChangeFactory.unitPropertyChange(unit, transport, TripleAUnit.TRANSPORTED_BY));
+    final ChangePerformer changePerformer = new ChangePerformer(m_data);
+    changePerformer.perform(serialize(change));
+    assertEquals(2, unit.getAlreadyMoved());
+    assertTrue(unit.getWasInCombat());
+    assertEquals(transport, unit.getTransportedBy());
+    changePerformer.perform(serialize(change.invert()));
+    assertEquals(0, unit.getAlreadyMoved());
+    assertFalse(unit.getWasInCombat());
+    assertNull(unit.getTransportedBy());
+  }
+
+  public void testUnitTypeCapabilitiesFollowAttachmentChanges() {
+    final UnitType infantry = m_data.getUnitTypeList().getUnitType("infantry");
+    assertTrue(Matches.UnitTypeIsLand.match(infantry));
+    assertFalse(infantry.hasCapability(UnitAttachment.CAPABILITY_AIR));
+    final Change change =
+        ChangeFactory.attachmentPropertyChange(infantry.getAttachment(Constants.UNIT_ATTACHMENT_NAME), true, "isAir");
+    final ChangePerformer changePerformer = new ChangePerformer(m_data);
+    changePerformer.perform(change);
+    assertTrue(infantry.hasCapability(UnitAttachment.CAPABILITY_AIR));
+    assertFalse(Matches.UnitTypeIsLand.match(infantry));
+    changePerformer.perform(change.invert());
+    assertTrue(Matches.UnitTypeIsLand.match(infantry));
+  }
+
+  public void testUnitLocationTracker() {
+    final Territory sz1 = m_data.getMap().getTerritory("SZ 1 Hudson Bay");
+    final Territory sz2 = m_data.getMap().getTerritory("SZ 2 Labrador Sea");
+    final PlayerID americans = m_data.getPlayerList().getPlayerID("Americans");
+    final TripleAUnit transport =
+        (TripleAUnit) m_data.getUnitTypeList().getUnitType("transport").create(1, americans).get(0);
+    final TripleAUnit infantry =
+        (TripleAUnit) m_data.getUnitTypeList().getUnitType("infantry").create(1, americans).get(0);
+    final UnitLocationTracker tracker = m_data.getUnitLocationTracker();
+    assertNull(tracker.getTerritory(transport));
+    final ChangePerformer changePerformer = new ChangePerformer(m_data);
+    final List<Unit> units = new ArrayList<Unit>();
+    units.add(transport);
+    units.add(infantry);
+    changePerformer.perform(ChangeFactory.addUnits(sz1, units));
+    changePerformer.perform(ChangeFactory.unitPropertyChange(infantry, transport, TripleAUnit.TRANSPORTED_BY));
+    assertEquals(sz1, tracker.getTerritory(transport));
+    assertEquals(Collections.singletonList(infantry), transport.getTransporting());
+    changePerformer.perform(ChangeFactory.moveUnits(sz1, sz2, Collections.<Unit>singletonList(transport)));
+    assertEquals(sz2, tracker.getTerritory(transport));
+    assertTrue(transport.getTransporting().isEmpty());
+    changePerformer.perform(ChangeFactory.moveUnits(sz1, sz2, Collections.<Unit>singletonList(infantry)));
+    assertEquals(Collections.singletonList(infantry), transport.getTransporting());
+    changePerformer.perform(ChangeFactory.unitPropertyChange(infantry, null, TripleAUnit.TRANSPORTED_BY));
+    assertTrue(transport.getTransporting().isEmpty());
+  }
 }
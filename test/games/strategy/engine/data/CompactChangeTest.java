@@ -0,0 +1,195 @@
+package games.strategy.engine.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.util.IntegerMap;
+import junit.framework.TestCase;
+
+public class CompactChangeTest extends TestCase {
+  private GameData m_data;
+  private PlayerID m_bush;
+  private PlayerID m_castro;
+  private UnitType m_inf;
+  private Territory m_canada;
+  private Territory m_us;
+
+  @Override
+  public void setUp() throws Exception {
+    final URL url = CompactChangeTest.class.getResource("Test.xml");
+    final InputStream input = url.openStream();
+    m_data = (new GameParser()).parse(input, new AtomicReference<String>(), false);
+    m_bush = m_data.getPlayerList().getPlayerID("bush");
+    m_castro = m_data.getPlayerList().getPlayerID("castro");
+    m_inf = m_data.getUnitTypeList().getUnitType("inf");
+    m_canada = m_data.getMap().getTerritory("canada");
+    m_us = m_data.getMap().getTerritory("us");
+  }
+
+  /**
+   * Writes the changes the way they were written before they had a compact form.
+   */
+  private static class DefaultOutputStream extends GameObjectOutputStream {
+    DefaultOutputStream(final OutputStream output) throws IOException {
+      super(output);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) throws IOException {
+      if (obj instanceof Change) {
+        return obj;
+      }
+      return super.replaceObject(obj);
+    }
+  }
+
+  private static byte[] write(final Object object, final boolean compact) throws IOException {
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    final ObjectOutputStream output = compact ? new GameObjectOutputStream(sink) : new DefaultOutputStream(sink);
+    output.writeObject(object);
+    output.close();
+    return sink.toByteArray();
+  }
+
+  private static Object read(final byte[] bytes, final GameData data) throws Exception {
+    final ObjectInputStream input =
+        new GameObjectInputStream(new GameObjectStreamFactory(data), new ByteArrayInputStream(bytes));
+    final Object object = input.readObject();
+    input.close();
+    return object;
+  }
+
+  private Change roundTrip(final Change change) throws Exception {
+    final Object read = read(write(change, true), m_data);
+    assertEquals(change.getClass(), read.getClass());
+    return (Change) read;
+  }
+
+  public void testUnits() throws Exception {
+    final List<Unit> units = m_inf.create(3, m_bush);
+    final Change add = roundTrip(ChangeFactory.addUnits(m_canada, units));
+    new ChangePerformer(m_data).perform(add);
+    assertEquals(8, m_canada.getUnits().size());
+    assertTrue(m_canada.getUnits().getUnits().containsAll(units));
+    final Change move = roundTrip(ChangeFactory.moveUnits(m_canada, m_us, units));
+    new ChangePerformer(m_data).perform(move);
+    assertEquals(5, m_canada.getUnits().size());
+    assertEquals(153, m_us.getUnits().size());
+    final Change owner = roundTrip(ChangeFactory.changeOwner(units, m_castro, m_us));
+    new ChangePerformer(m_data).perform(owner);
+    assertSame(m_castro, units.get(0).getOwner());
+    new ChangePerformer(m_data).perform(roundTrip(owner.invert()));
+    assertSame(m_bush, units.get(0).getOwner());
+  }
+
+  public void testHitsAndProperties() throws Exception {
+    final Unit unit = m_us.getUnits().getUnits().iterator().next();
+    final IntegerMap<Unit> hits = new IntegerMap<Unit>();
+    hits.put(unit, 1);
+    new ChangePerformer(m_data).perform(roundTrip(ChangeFactory.unitsHit(hits)));
+    assertEquals(1, unit.getHits());
+    new ChangePerformer(m_data).perform(roundTrip(ChangeFactory.unitPropertyChange(unit, 0, "hits")));
+    assertEquals(0, unit.getHits());
+    new ChangePerformer(m_data).perform(roundTrip(ChangeFactory.changeOwner(m_canada, m_castro)));
+    assertSame(m_castro, m_canada.getOwner());
+    final Resource gold = m_data.getResourceList().getResource("gold");
+    final int quantity = m_bush.getResources().getQuantity(gold);
+    new ChangePerformer(m_data).perform(roundTrip(ChangeFactory.changeResourcesChange(m_bush, gold, 7)));
+    assertEquals(quantity + 7, m_bush.getResources().getQuantity(gold));
+  }
+
+  public void testCompositeWithNewUnits() throws Exception {
+    // the new units are referenced before they are added, and the reader does not know them yet
+    final List<Unit> units = m_inf.create(2, m_bush);
+    final IntegerMap<Unit> hits = new IntegerMap<Unit>();
+    hits.put(units.get(0), 1);
+    final CompositeChange change = new CompositeChange();
+    change.add(ChangeFactory.unitsHit(hits));
+    change.add(ChangeFactory.addUnits(m_canada, units));
+    change.add(ChangeFactory.changeProductionFrontier(m_bush,
+        m_data.getProductionFrontierList().getProductionFrontier("canProd")));
+    final GameData sink = new GameParser().parse(CompactChangeTest.class.getResource("Test.xml").openStream(),
+        new AtomicReference<String>(), false);
+    final CompositeChange read = (CompositeChange) read(write(change, true), sink);
+    assertEquals(3, read.getChanges().size());
+    new ChangePerformer(sink).perform(read);
+    final Territory canada = sink.getMap().getTerritory("canada");
+    assertEquals(7, canada.getUnits().size());
+    assertEquals(1, sink.getUnits().get(units.get(0).getID()).getHits());
+    assertEquals("canProd",
+        sink.getPlayerList().getPlayerID("bush").getProductionFrontier().getName());
+  }
+
+  public void testUnknownUnit() throws Exception {
+    final IntegerMap<Unit> hits = new IntegerMap<Unit>();
+    hits.put(m_inf.create(1, m_bush).get(0), 1);
+    final GameData sink = new GameParser().parse(CompactChangeTest.class.getResource("Test.xml").openStream(),
+        new AtomicReference<String>(), false);
+    try {
+      read(write(ChangeFactory.unitsHit(hits), true), sink);
+      fail("the unit is not known to the sink");
+    } catch (final IOException e) {
+      // expected
+    }
+  }
+
+  public void testSmaller() throws Exception {
+    final Change change = createTurnChange();
+    assertTrue(write(change, true).length < write(change, false).length);
+  }
+
+  /**
+   * A change like those of a typical move or battle.
+   */
+  private Change createTurnChange() {
+    final List<Unit> units = new ArrayList<Unit>(m_us.getUnits().getUnits()).subList(0, 10);
+    final CompositeChange change = new CompositeChange();
+    change.add(ChangeFactory.moveUnits(m_us, m_canada, units));
+    final IntegerMap<Unit> hits = new IntegerMap<Unit>();
+    for (final Unit unit : units.subList(0, 3)) {
+      hits.put(unit, 1);
+    }
+    change.add(ChangeFactory.unitsHit(hits));
+    change.add(ChangeFactory.removeUnits(m_canada, units.subList(3, 5)));
+    change.add(ChangeFactory.changeOwner(m_canada, m_bush));
+    change.add(ChangeFactory.changeResourcesChange(m_bush,
+        m_data.getResourceList().getResource("gold"), 3));
+    return change;
+  }
+
+  /**
+   * Prints the size and the time to write and read a typical change, in the default and the compact form.
+   */
+  public static void main(final String[] args) throws Exception {
+    final CompactChangeTest test = new CompactChangeTest();
+    test.setUp();
+    final Change change = test.createTurnChange();
+    final int iterations = 20000;
+    for (final boolean compact : new boolean[] {false, true}) {
+      // warm up
+      for (int i = 0; i < iterations; i++) {
+        read(write(change, compact), test.m_data);
+      }
+      final long start = System.nanoTime();
+      int bytes = 0;
+      for (int i = 0; i < iterations; i++) {
+        final byte[] written = write(change, compact);
+        bytes = written.length;
+        read(written, test.m_data);
+      }
+      final long micros = (System.nanoTime() - start) / 1000 / iterations;
+      System.out.println((compact ? "compact" : "default") + ": " + bytes + " bytes, " + micros
+          + " microseconds to write and read");
+    }
+  }
+}
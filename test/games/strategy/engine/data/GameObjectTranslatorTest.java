@@ -0,0 +1,84 @@
+package games.strategy.engine.data;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import games.strategy.engine.framework.GameDataUtils;
+import junit.framework.TestCase;
+
+public class GameObjectTranslatorTest extends TestCase {
+  private GameData m_dataSource;
+  private GameData m_dataSink;
+
+  @Override
+  public void setUp() throws Exception {
+    final URL url = this.getClass().getResource("Test.xml");
+    InputStream input = url.openStream();
+    m_dataSource = (new GameParser()).parse(input, new AtomicReference<String>(), false);
+    input = url.openStream();
+    m_dataSink = (new GameParser()).parse(input, new AtomicReference<String>(), false);
+  }
+
+  public void testTranslateNamed() {
+    assertSame(m_dataSink.getPlayerList().getPlayerID("chretian"),
+        GameDataUtils.translateIntoOtherGameData(m_dataSource.getPlayerList().getPlayerID("chretian"), m_dataSink));
+    assertSame(m_dataSink.getMap().getTerritory("canada"),
+        GameDataUtils.translateIntoOtherGameData(m_dataSource.getMap().getTerritory("canada"), m_dataSink));
+    assertSame(m_dataSink.getUnitTypeList().getUnitType("inf"),
+        GameDataUtils.translateIntoOtherGameData(m_dataSource.getUnitTypeList().getUnitType("inf"), m_dataSink));
+    assertSame(PlayerID.NULL_PLAYERID, GameDataUtils.translateIntoOtherGameData(PlayerID.NULL_PLAYERID, m_dataSink));
+  }
+
+  public void testTranslateUnits() {
+    final PlayerID bush = m_dataSource.getPlayerList().getPlayerID("bush");
+    final List<Unit> units = m_dataSource.getUnitTypeList().getUnitType("inf").create(2, bush);
+    units.get(1).setHits(1);
+    // the same unit twice must give the same copy
+    units.add(units.get(0));
+    @SuppressWarnings("unchecked")
+    final List<Unit> copies = (List<Unit>) GameDataUtils.translateIntoOtherGameData(units, m_dataSink);
+    assertEquals(3, copies.size());
+    assertNotSame(units.get(0), copies.get(0));
+    assertSame(copies.get(0), copies.get(2));
+    assertEquals(units.get(0).getID(), copies.get(0).getID());
+    assertEquals(1, copies.get(1).getHits());
+    assertSame(m_dataSink.getPlayerList().getPlayerID("bush"), copies.get(0).getOwner());
+    assertSame(m_dataSink.getUnitTypeList().getUnitType("inf"), copies.get(0).getType());
+    assertSame(m_dataSink, copies.get(0).getData());
+    // the copies are now part of the sink, and are found by id
+    @SuppressWarnings("unchecked")
+    final List<Unit> again = (List<Unit>) GameDataUtils.translateIntoOtherGameData(units, m_dataSink);
+    assertSame(copies.get(0), again.get(0));
+    assertSame(copies.get(1), again.get(1));
+  }
+
+  public void testTranslateMap() {
+    final Map<Territory, List<PlayerID>> map = new HashMap<Territory, List<PlayerID>>();
+    final List<PlayerID> players = new ArrayList<PlayerID>();
+    players.add(m_dataSource.getPlayerList().getPlayerID("castro"));
+    players.add(null);
+    map.put(m_dataSource.getMap().getTerritory("us"), players);
+    @SuppressWarnings("unchecked")
+    final Map<Territory, List<PlayerID>> translated =
+        (Map<Territory, List<PlayerID>>) GameDataUtils.translateIntoOtherGameData(map, m_dataSink);
+    final List<PlayerID> translatedPlayers = translated.get(m_dataSink.getMap().getTerritory("us"));
+    assertEquals(2, translatedPlayers.size());
+    assertSame(m_dataSink.getPlayerList().getPlayerID("castro"), translatedPlayers.get(0));
+    assertNull(translatedPlayers.get(1));
+  }
+
+  public void testTranslateBySerialization() {
+    final Territory canada = m_dataSource.getMap().getTerritory("canada");
+    final Change change =
+        ChangeFactory.changeOwner(canada, m_dataSource.getPlayerList().getPlayerID("bush"));
+    final Change translated = (Change) GameDataUtils.translateIntoOtherGameData(change, m_dataSink);
+    assertNotSame(change, translated);
+    new ChangePerformer(m_dataSink).perform(translated);
+    assertSame(m_dataSink.getPlayerList().getPlayerID("bush"), m_dataSink.getMap().getTerritory("canada").getOwner());
+  }
+}
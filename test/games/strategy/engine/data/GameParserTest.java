@@ -0,0 +1,104 @@
+package games.strategy.engine.data;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.data.properties.IEditableProperty;
+import games.strategy.util.Tuple;
+import junit.framework.TestCase;
+
+public class GameParserTest extends TestCase {
+  private static List<File> getGameFiles() {
+    final List<File> games = new ArrayList<File>();
+    final File[] maps = new File("maps").listFiles();
+    if (maps == null) {
+      return games;
+    }
+    for (final File map : maps) {
+      final File[] files = new File(map, "games").listFiles();
+      if (files == null) {
+        continue;
+      }
+      for (final File file : files) {
+        if (file.getName().toLowerCase().endsWith(".xml")) {
+          games.add(file);
+        }
+      }
+    }
+    return games;
+  }
+
+  private static GameData parse(final GameParser parser, final File file, final boolean delayParsing)
+      throws Exception {
+    try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+      return parser.parse(input, null, delayParsing);
+    }
+  }
+
+  private static List<String> getAttachmentValues(final GameData data) {
+    final List<String> values = new ArrayList<String>();
+    for (final Tuple<IAttachment, ArrayList<Tuple<String, String>>> attachment : data
+        .getAttachmentOrderAndValues()) {
+      values.add(attachment.getFirst().getClass().getName() + " " + attachment.getFirst().getName() + " "
+          + attachment.getFirst().getAttachedTo() + " " + attachment.getSecond());
+    }
+    return values;
+  }
+
+  private static List<String> getHeader(final GameData data) {
+    final List<String> header = new ArrayList<String>();
+    header.add(data.getGameName() + " " + data.getGameVersion() + " " + data.getGameLoader().getClass().getName() + " "
+        + data.getDiceSides());
+    for (final PlayerID player : data.getPlayerList()) {
+      header.add(player.getName() + " " + player.getOptional() + " " + player.getCanBeDisabled() + " "
+          + data.getAllianceTracker().getAlliancesPlayerIsIn(player));
+    }
+    for (final IEditableProperty property : data.getProperties().getEditableProperties()) {
+      header.add(property.getName() + " " + property.getValue());
+    }
+    return header;
+  }
+
+  /**
+   * A delayed parse streams the xml instead of building the whole document, and reads the same name, players and
+   * properties as a full parse.
+   */
+  public void testDelayedParseReadsHeader() throws Exception {
+    for (final File file : getGameFiles()) {
+      final GameData delayed = parse(new GameParser(), file, true);
+      final GameData full = parse(new GameParser(), file, false);
+      assertEquals(file.getName(), getHeader(full), getHeader(delayed));
+      assertTrue(file.getName(), delayed.getMap().getTerritories().isEmpty());
+      assertTrue(file.getName(), delayed.getAttachmentOrderAndValues().isEmpty());
+    }
+  }
+
+  /**
+   * Every game in the maps folder parses, and parsing it again, with the option setters already looked up, gives the
+   * same game.
+   */
+  public void testAllMapsParse() throws Exception {
+    final List<File> games = getGameFiles();
+    assertFalse(games.isEmpty());
+    for (final File file : games) {
+      final GameParser parser = new GameParser();
+      final GameData delayed = parse(parser, file, true);
+      assertTrue(parser.getSectionTimes().containsKey("players and properties"));
+      assertFalse(parser.getSectionTimes().containsKey("attachments"));
+      final GameData first = parse(parser, file, false);
+      final Map<String, Long> sectionTimes = parser.getSectionTimes();
+      assertTrue(file.getName(), sectionTimes.containsKey("attachments"));
+      assertTrue(file.getName(), sectionTimes.containsKey("validation"));
+      final GameData second = parse(new GameParser(), file, false);
+      assertEquals(file.getName(), delayed.getGameName(), first.getGameName());
+      assertEquals(file.getName(), delayed.getPlayerList().size(), first.getPlayerList().size());
+      assertEquals(file.getName(), first.getMap().getTerritories().size(), second.getMap().getTerritories().size());
+      assertEquals(file.getName(), getAttachmentValues(first), getAttachmentValues(second));
+    }
+  }
+}
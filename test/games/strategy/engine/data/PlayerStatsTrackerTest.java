@@ -0,0 +1,104 @@
+package games.strategy.engine.data;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.TestCase;
+
+public class PlayerStatsTrackerTest extends TestCase {
+  private GameData m_data;
+  private PlayerID m_bush;
+  private PlayerID m_castro;
+  private UnitType m_inf;
+  private Territory m_canada;
+  private Territory m_us;
+
+  @Override
+  public void setUp() throws Exception {
+    final URL url = this.getClass().getResource("Test.xml");
+    final InputStream input = url.openStream();
+    m_data = (new GameParser()).parse(input, new AtomicReference<String>(), false);
+    m_bush = m_data.getPlayerList().getPlayerID("bush");
+    m_castro = m_data.getPlayerList().getPlayerID("castro");
+    m_inf = m_data.getUnitTypeList().getUnitType("inf");
+    m_canada = m_data.getMap().getTerritory("canada");
+    m_us = m_data.getMap().getTerritory("us");
+  }
+
+  private void perform(final Change change) {
+    new ChangePerformer(m_data).perform(change);
+  }
+
+  private int countOnMap(final PlayerID player) {
+    int count = 0;
+    for (final Territory t : m_data.getMap().getTerritories()) {
+      for (final Unit u : t.getUnits()) {
+        if (u.getOwner() == player) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private void assertMatchesMap() {
+    final PlayerStatsTracker tracker = m_data.getPlayerStatsTracker();
+    for (final PlayerID player : m_data.getPlayerList().getPlayers()) {
+      assertEquals(countOnMap(player), tracker.getUnitCount(player));
+      assertEquals(countOnMap(player), tracker.getUnitCount(player, m_inf));
+      for (final Territory t : m_data.getMap().getTerritories()) {
+        assertEquals(t.getOwner() == player, tracker.getTerritories(player).contains(t));
+      }
+    }
+  }
+
+  public void testUnitsAddedAndRemoved() {
+    assertMatchesMap();
+    final Collection<Unit> units = m_inf.create(3, m_bush);
+    perform(ChangeFactory.addUnits(m_canada, units));
+    assertMatchesMap();
+    // units held by a player are not on the map
+    perform(ChangeFactory.addUnits(m_bush, m_inf.create(2, m_bush)));
+    assertMatchesMap();
+    perform(ChangeFactory.moveUnits(m_canada, m_us, units));
+    assertMatchesMap();
+    perform(ChangeFactory.removeUnits(m_us, units));
+    assertMatchesMap();
+  }
+
+  public void testUnitOwnerChanged() {
+    final Collection<Unit> units = m_inf.create(2, m_bush);
+    perform(ChangeFactory.addUnits(m_canada, units));
+    assertMatchesMap();
+    final Change changeOwner = ChangeFactory.changeOwner(units, m_castro, m_canada);
+    perform(changeOwner);
+    assertMatchesMap();
+    perform(changeOwner.invert());
+    assertMatchesMap();
+  }
+
+  public void testTerritoryOwnerChanged() {
+    assertMatchesMap();
+    final Change changeOwner = ChangeFactory.changeOwner(m_canada, m_castro);
+    perform(changeOwner);
+    assertMatchesMap();
+    assertTrue(m_data.getPlayerStatsTracker().getTerritories(m_castro).contains(m_canada));
+    perform(changeOwner.invert());
+    assertMatchesMap();
+  }
+
+  public void testCompositeChange() {
+    assertMatchesMap();
+    final Collection<Unit> units = m_inf.create(2, m_bush);
+    final CompositeChange change = new CompositeChange();
+    change.add(ChangeFactory.addUnits(m_canada, units));
+    change.add(ChangeFactory.changeOwner(m_canada, m_bush));
+    change.add(ChangeFactory.changeOwner(units, m_castro, m_canada));
+    perform(change);
+    assertMatchesMap();
+    perform(change.invert());
+    assertMatchesMap();
+  }
+}
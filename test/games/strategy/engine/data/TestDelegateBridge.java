@@ -145,6 +145,11 @@ public class TestDelegateBridge implements ITestDelegateBridge {
     return m_soundChannel;
   }
 
+  @Override
+  public boolean hasObservers() {
+    return true;
+  }
+
   @Override
   public Properties getStepProperties() {
     return new Properties();
@@ -0,0 +1,93 @@
+package games.strategy.engine.framework;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeFactory;
+import games.strategy.engine.data.ChangePerformer;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import junit.framework.TestCase;
+
+public class ChangeBatcherTest extends TestCase {
+  private GameData m_data;
+  private PlayerID m_bush;
+  private final List<Object> m_sent = new ArrayList<Object>();
+  private ChangeBatcher m_batcher;
+
+  @Override
+  public void setUp() throws Exception {
+    m_data = new GameParser().parse(
+        GameData.class.getResourceAsStream("Test.xml"), new AtomicReference<String>(), false);
+    m_bush = m_data.getPlayerList().getPlayerID("bush");
+    m_data.getHistory().getHistoryWriter().startNextStep("usMove", "move", m_bush, "move");
+    final IGameModifiedChannel broadcaster = new IGameModifiedChannel() {
+      @Override
+      public void gameDataChanged(final Change aChange) {
+        assertTrue(m_batcher.isSending());
+        m_sent.add(aChange);
+      }
+
+      @Override
+      public void startHistoryEvent(final String event, final Object renderingData) {
+        m_sent.add(event);
+      }
+
+      @Override
+      public void startHistoryEvent(final String event) {
+        m_sent.add(event);
+      }
+
+      @Override
+      public void addChildToEvent(final String text, final Object renderingData) {
+        m_sent.add(text);
+      }
+
+      @Override
+      public void stepChanged(final String stepName, final String delegateName, final PlayerID player,
+          final int round, final String displayName, final boolean loadedFromSavedGame) {
+        m_sent.add(stepName);
+      }
+
+      @Override
+      public void shutDown() {}
+    };
+    m_batcher = new ChangeBatcher(m_data, new ChangePerformer(m_data), broadcaster);
+  }
+
+  public void testChangesPerformedRightAwayAndSentTogether() {
+    final Territory canada = m_data.getMap().getTerritory("canada");
+    final Territory us = m_data.getMap().getTerritory("us");
+    m_batcher.gameDataChanged(ChangeFactory.changeOwner(canada, m_bush));
+    m_batcher.gameDataChanged(ChangeFactory.changeOwner(us, m_bush));
+    assertSame(m_bush, canada.getOwner());
+    assertSame(m_bush, us.getOwner());
+    assertTrue(m_sent.isEmpty());
+    m_batcher.flush();
+    assertEquals(1, m_sent.size());
+    assertEquals(2, ((CompositeChange) m_sent.get(0)).getChanges().size());
+    // nothing left to send
+    m_batcher.flush();
+    assertEquals(1, m_sent.size());
+    assertFalse(m_batcher.isSending());
+    assertEquals(2, m_batcher.getChangeCount());
+    assertEquals(1, m_batcher.getMessageCount());
+  }
+
+  public void testFlushedBeforeHistory() {
+    final Change change = ChangeFactory.changeOwner(m_data.getMap().getTerritory("canada"), m_bush);
+    m_batcher.gameDataChanged(change);
+    m_batcher.startHistoryEvent("event");
+    m_batcher.gameDataChanged(change.invert());
+    m_batcher.addChildToEvent("child", null);
+    assertEquals(4, m_sent.size());
+    assertSame(change, m_sent.get(0));
+    assertEquals("event", m_sent.get(1));
+    assertEquals("child", m_sent.get(3));
+  }
+}
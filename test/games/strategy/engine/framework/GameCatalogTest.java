@@ -0,0 +1,75 @@
+package games.strategy.engine.framework;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URI;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.LoadGameUtil;
+import junit.framework.TestCase;
+
+public class GameCatalogTest extends TestCase {
+  private File m_catalogFile;
+  private File m_gameFile;
+  private File m_otherGameFile;
+  private GameData m_data;
+
+  @Override
+  public void setUp() throws Exception {
+    m_catalogFile = File.createTempFile("catalog", ".cache");
+    m_catalogFile.delete();
+    m_gameFile = createGameFile();
+    m_otherGameFile = createGameFile();
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+  }
+
+  private static File createGameFile() throws Exception {
+    final File file = File.createTempFile("game", ".xml");
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write("<game/>".getBytes());
+    }
+    return file;
+  }
+
+  @Override
+  public void tearDown() {
+    m_catalogFile.delete();
+    m_gameFile.delete();
+    m_otherGameFile.delete();
+  }
+
+  public void testGameKept() {
+    final URI uri = m_gameFile.toURI();
+    final GameCatalog catalog = new GameCatalog(m_catalogFile);
+    assertNull(catalog.get(uri, m_gameFile));
+    catalog.put(uri, m_gameFile, m_data);
+    catalog.writeToDisk();
+    final GameCatalog.Game game = new GameCatalog(m_catalogFile).get(uri, m_gameFile);
+    assertEquals(m_data.getGameName(), game.getGameName());
+    assertEquals("World War II Revised Test", game.getMapName());
+    assertEquals(m_data.getPlayerList().size(), game.getPlayerNames().size());
+  }
+
+  public void testChangedFileParsedAgain() {
+    final URI uri = m_gameFile.toURI();
+    final GameCatalog catalog = new GameCatalog(m_catalogFile);
+    catalog.put(uri, m_gameFile, m_data);
+    assertNotNull(catalog.get(uri, m_gameFile));
+    m_gameFile.setLastModified(m_gameFile.lastModified() - 60 * 1000);
+    assertNull(catalog.get(uri, m_gameFile));
+  }
+
+  public void testRemovedGameLeftOut() {
+    final GameCatalog catalog = new GameCatalog(m_catalogFile);
+    catalog.put(m_gameFile.toURI(), m_gameFile, m_data);
+    catalog.put(m_otherGameFile.toURI(), m_otherGameFile, m_data);
+    catalog.writeToDisk();
+    // the next start only finds the first game
+    final GameCatalog next = new GameCatalog(m_catalogFile);
+    assertNotNull(next.get(m_gameFile.toURI(), m_gameFile));
+    next.writeToDisk();
+    final GameCatalog last = new GameCatalog(m_catalogFile);
+    assertNotNull(last.get(m_gameFile.toURI(), m_gameFile));
+    assertNull(last.get(m_otherGameFile.toURI(), m_otherGameFile));
+  }
+}
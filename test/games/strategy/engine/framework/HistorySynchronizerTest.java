@@ -0,0 +1,91 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import games.strategy.engine.data.ChangeFactory;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.message.IChannelMessenger;
+import games.strategy.engine.message.IChannelSubscribor;
+import games.strategy.triplea.xml.LoadGameUtil;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HistorySynchronizerTest {
+  @Mock
+  private IGame mockGame;
+  @Mock
+  private IChannelMessenger mockChannelMessenger;
+
+  private GameData gameData;
+  private GameData historyData;
+  private HistorySynchronizer synchronizer;
+  private IGameModifiedChannel channel;
+
+  @Before
+  public void setUp() throws Exception {
+    gameData = LoadGameUtil.loadTestGame("revised_test.xml");
+    historyData = GameDataUtils.cloneGameData(gameData);
+    Mockito.when(mockGame.getData()).thenReturn(gameData);
+    Mockito.when(mockGame.getChannelMessenger()).thenReturn(mockChannelMessenger);
+    synchronizer = new HistorySynchronizer(historyData, mockGame);
+    final ArgumentCaptor<IChannelSubscribor> subscriber = ArgumentCaptor.forClass(IChannelSubscribor.class);
+    Mockito.verify(mockChannelMessenger).registerChannelSubscriber(subscriber.capture(),
+        Mockito.eq(IGame.GAME_MODIFICATION_CHANNEL));
+    channel = (IGameModifiedChannel) subscriber.getValue();
+    final PlayerID russians = gameData.getPlayerList().getPlayerID("Russians");
+    channel.stepChanged("russianCombatMove", "move", russians, 1, "Combat Move", false);
+    channel.startHistoryEvent("Conquer");
+    flushEventThread();
+  }
+
+  private static void flushEventThread() throws Exception {
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {}
+    });
+  }
+
+  private String getHistoryOwner(final String territory) {
+    return historyData.getMap().getTerritory(territory).getOwner().getName();
+  }
+
+  @Test
+  public void changesAppliedWhenResumed() throws Exception {
+    final Territory karelia = gameData.getMap().getTerritory("Karelia S.S.R.");
+    final PlayerID germans = gameData.getPlayerList().getPlayerID("Germans");
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {
+        synchronizer.pause();
+      }
+    });
+    channel.gameDataChanged(ChangeFactory.changeOwner(karelia, germans));
+    flushEventThread();
+    assertEquals("Russians", getHistoryOwner("Karelia S.S.R."));
+    final GameData[] resumed = new GameData[1];
+    SwingUtilities.invokeAndWait(new Runnable() {
+      @Override
+      public void run() {
+        resumed[0] = synchronizer.resume();
+      }
+    });
+    assertSame(historyData, resumed[0]);
+    assertEquals("Germans", getHistoryOwner("Karelia S.S.R."));
+    // applied as they come again
+    channel.gameDataChanged(ChangeFactory.changeOwner(karelia, gameData.getPlayerList().getPlayerID("Russians")));
+    flushEventThread();
+    assertEquals("Russians", getHistoryOwner("Karelia S.S.R."));
+  }
+}
@@ -0,0 +1,190 @@
+package games.strategy.engine.lobby.server;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.lobby.server.GameDescription.GameStatus;
+import games.strategy.engine.message.ChannelMessenger;
+import games.strategy.engine.message.DummyMessenger;
+import games.strategy.engine.message.MessageContext;
+import games.strategy.engine.message.UnifiedMessenger;
+import games.strategy.net.ClientMessenger;
+import games.strategy.net.GUID;
+import games.strategy.net.INode;
+import games.strategy.net.MacFinder;
+import games.strategy.net.Node;
+import games.strategy.net.ServerMessenger;
+import games.strategy.test.TestUtil;
+import junit.framework.TestCase;
+
+public class LobbyGameControllerTest extends TestCase {
+  private static final long UPDATE_WINDOW_MILLIS = 50;
+  private DummyMessenger m_messenger;
+  private Broadcaster m_broadcaster;
+  private LobbyGameController m_controller;
+  private INode m_host;
+
+  @Override
+  public void setUp() throws Exception {
+    m_messenger = new DummyMessenger();
+    m_broadcaster = new Broadcaster();
+    m_controller = new LobbyGameController(m_broadcaster, m_messenger, UPDATE_WINDOW_MILLIS);
+    m_host = new Node("host", InetAddress.getLocalHost(), 3300);
+    MessageContext.setSenderNodeForThread(m_host);
+  }
+
+  private static GameDescription createGame(final INode host) {
+    return new GameDescription(host, host.getPort(), new Date(), "Big World : 1942", 2, GameStatus.WAITING_FOR_PLAYERS,
+        "-", host.getName(), "", false, "1.8.0.9", "1");
+  }
+
+  private void waitForRounds(final Map<GUID, String> rounds) throws InterruptedException {
+    final long end = System.currentTimeMillis() + 10 * 1000;
+    while (!rounds.equals(m_broadcaster.getLastRounds()) && System.currentTimeMillis() < end) {
+      Thread.sleep(10);
+    }
+  }
+
+  public void testNewGameBroadcastAtOnce() {
+    final GUID gameID = new GUID();
+    m_controller.postGame(gameID, createGame(m_host));
+    assertEquals(1, m_broadcaster.getUpdateCount());
+    assertEquals(1, m_controller.listGames().size());
+  }
+
+  public void testUnchangedGameNotBroadcast() throws InterruptedException {
+    final GUID gameID = new GUID();
+    final GameDescription game = createGame(m_host);
+    m_controller.postGame(gameID, game);
+    final GameDescription update = (GameDescription) game.clone();
+    update.setRound("-");
+    m_controller.updateGame(gameID, update);
+    Thread.sleep(UPDATE_WINDOW_MILLIS * 4);
+    assertEquals(1, m_broadcaster.getUpdateCount());
+    assertEquals(update.getVersion(), m_controller.listGames().get(gameID).getVersion());
+  }
+
+  public void testRemovedGameNotUpdated() throws InterruptedException {
+    final GUID gameID = new GUID();
+    final GameDescription game = createGame(m_host);
+    m_controller.postGame(gameID, game);
+    final GameDescription update = (GameDescription) game.clone();
+    update.setRound("2");
+    m_controller.updateGame(gameID, update);
+    m_messenger.removeConnection(m_host);
+    Thread.sleep(UPDATE_WINDOW_MILLIS * 4);
+    assertEquals(1, m_broadcaster.getUpdateCount());
+    assertEquals(1, m_broadcaster.getRemoveCount());
+    assertTrue(m_controller.listGames().isEmpty());
+  }
+
+  /**
+   * Bots that each update their game many times in quick succession only have their latest description broadcast,
+   * at most once per update window.
+   */
+  public void testBotUpdatesCoalesced() throws Exception {
+    assertBotUpdatesCoalesced(m_controller);
+  }
+
+  /**
+   * The same bots, with the broadcasts sent through a lobby server messenger to a connected client.
+   */
+  public void testBotUpdatesCoalescedOverLoopback() throws Exception {
+    final int port = TestUtil.getUniquePort();
+    final ServerMessenger server = new ServerMessenger("lobby", port);
+    server.setAcceptNewConnections(true);
+    final ClientMessenger client = new ClientMessenger("localhost", port, "client", MacFinder.GetHashedMacAddress());
+    try {
+      final UnifiedMessenger serverMessenger = new UnifiedMessenger(server);
+      new ChannelMessenger(new UnifiedMessenger(client)).registerChannelSubscriber(m_broadcaster,
+          ILobbyGameBroadcaster.GAME_BROADCASTER_CHANNEL);
+      final ILobbyGameBroadcaster broadcaster = (ILobbyGameBroadcaster) new ChannelMessenger(serverMessenger)
+          .getChannelBroadcastor(ILobbyGameBroadcaster.GAME_BROADCASTER_CHANNEL);
+      // the client subscribes asynchronously, broadcast until it gets one
+      final long end = System.currentTimeMillis() + 10 * 1000;
+      while (m_broadcaster.getRemoveCount() == 0 && System.currentTimeMillis() < end) {
+        broadcaster.gameRemoved(new GUID());
+        Thread.sleep(10);
+      }
+      assertBotUpdatesCoalesced(new LobbyGameController(broadcaster, server, UPDATE_WINDOW_MILLIS));
+    } finally {
+      client.shutDown();
+      server.shutDown();
+    }
+  }
+
+  private void assertBotUpdatesCoalesced(final LobbyGameController controller) throws Exception {
+    final int bots = 20;
+    final int rounds = 200;
+    final Thread[] threads = new Thread[bots];
+    final Map<GUID, String> lastRounds = new HashMap<GUID, String>();
+    final long start = System.currentTimeMillis();
+    for (int i = 0; i < bots; i++) {
+      final INode bot = new Node("bot" + i, InetAddress.getLocalHost(), 4000 + i);
+      final GUID gameID = new GUID();
+      lastRounds.put(gameID, "" + rounds);
+      threads[i] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          MessageContext.setSenderNodeForThread(bot);
+          final GameDescription game = createGame(bot);
+          controller.postGame(gameID, (GameDescription) game.clone());
+          for (int round = 1; round <= rounds; round++) {
+            game.setRound("" + round);
+            game.setStatus(round % 2 == 0 ? GameStatus.IN_PROGRESS : GameStatus.WAITING_FOR_PLAYERS);
+            controller.updateGame(gameID, (GameDescription) game.clone());
+          }
+        }
+      });
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    final long updateWindows = (System.currentTimeMillis() - start) / UPDATE_WINDOW_MILLIS + 1;
+    waitForRounds(lastRounds);
+    assertEquals(lastRounds, m_broadcaster.getLastRounds());
+    final int broadcasts = m_broadcaster.getUpdateCount();
+    assertTrue("broadcasts:" + broadcasts, broadcasts <= bots * (updateWindows + 2));
+    assertTrue("broadcasts:" + broadcasts, broadcasts < bots * rounds / 4);
+  }
+
+  private static class Broadcaster implements ILobbyGameBroadcaster {
+    private final List<GUID> m_updated = new ArrayList<GUID>();
+    private final List<GUID> m_removed = new ArrayList<GUID>();
+    private final Map<GUID, String> m_lastRounds = new HashMap<GUID, String>();
+
+    @Override
+    public synchronized void gameUpdated(final GUID gameId, final GameDescription description) {
+      m_updated.add(gameId);
+      m_lastRounds.put(gameId, description.getRound());
+    }
+
+    @Override
+    @Deprecated
+    public void gameAdded(final GUID gameId, final GameDescription description) {
+      gameUpdated(gameId, description);
+    }
+
+    @Override
+    public synchronized void gameRemoved(final GUID gameId) {
+      m_removed.add(gameId);
+    }
+
+    synchronized int getUpdateCount() {
+      return m_updated.size();
+    }
+
+    synchronized int getRemoveCount() {
+      return m_removed.size();
+    }
+
+    synchronized Map<GUID, String> getLastRounds() {
+      return new HashMap<GUID, String>(m_lastRounds);
+    }
+  }
+}
@@ -4,8 +4,13 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import games.strategy.engine.lobby.server.LobbyServer;
 import games.strategy.engine.lobby.server.userDB.BadWordController;
@@ -112,4 +117,42 @@ public class LobbyLoginValidatorTest extends TestCase {
     assertTrue((new LobbyLoginValidator().verifyConnection(validator.getChallengeProperties(name, address), properties,
         name, mac, address)).indexOf(LobbyLoginValidator.YOU_HAVE_BEEN_BANNED) != -1);
   }
+
+  public void testConcurrentLogins() throws Exception {
+    final int threads = 8;
+    final int loginsPerThread = 10;
+    final String mac = MacFinder.GetHashedMacAddress();
+    final List<String> errors = Collections.synchronizedList(new ArrayList<String>());
+    final CountDownLatch done = new CountDownLatch(threads);
+    for (int i = 0; i < threads; i++) {
+      final int thread = i;
+      new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for (int j = 0; j < loginsPerThread; j++) {
+              final LobbyLoginValidator validator = new LobbyLoginValidator();
+              final SocketAddress address = new InetSocketAddress(5000 + thread);
+              final String name = "c" + thread + "_" + j + Util.createUniqueTimeStamp();
+              final Map<String, String> properties = new HashMap<String, String>();
+              properties.put(LobbyLoginValidator.ANONYMOUS_LOGIN, Boolean.TRUE.toString());
+              properties.put(LobbyLoginValidator.LOBBY_VERSION, LobbyServer.LOBBY_VERSION.toString());
+              final String error = validator.verifyConnection(validator.getChallengeProperties(name, address),
+                  properties, name, mac, address);
+              if (error != null) {
+                errors.add(error);
+              }
+            }
+          } catch (final RuntimeException e) {
+            errors.add(e.toString());
+          } finally {
+            done.countDown();
+          }
+        }
+      }).start();
+    }
+    assertTrue(done.await(60, TimeUnit.SECONDS));
+    assertEquals(Collections.<String>emptyList(), errors);
+    assertTrue(LobbyLoginValidator.getLoginStatistics().startsWith("Logins checked:"));
+  }
 }
@@ -0,0 +1,120 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+public class ConnectionPoolTest extends TestCase {
+  private static final AtomicInteger s_databaseCount = new AtomicInteger();
+  private final AtomicInteger m_opened = new AtomicInteger();
+  private ConnectionPool m_pool;
+
+  @Override
+  public void setUp() throws Exception {
+    final String url = "jdbc:derby:memory:pool" + s_databaseCount.incrementAndGet() + ";create=true";
+    // let the lobby database set up derby, so derby puts its files where the other tests expect
+    Database.getConnection().close();
+    m_pool = new ConnectionPool(new ConnectionPool.IConnectionFactory() {
+      @Override
+      public Connection create() throws SQLException {
+        m_opened.incrementAndGet();
+        return DriverManager.getConnection(url);
+      }
+    }, 2, 100);
+    final Connection con = m_pool.getConnection();
+    final Statement s = con.createStatement();
+    s.execute("create table words (word varchar(40) NOT NULL PRIMARY KEY)");
+    s.execute("insert into words values ('foo')");
+    con.close();
+  }
+
+  @Override
+  public void tearDown() {
+    m_pool.closeIdle();
+  }
+
+  public void testConnectionReused() throws Exception {
+    final Connection first = m_pool.getConnection();
+    first.close();
+    assertTrue(first.isClosed());
+    final Connection second = m_pool.getConnection();
+    assertFalse(second.isClosed());
+    second.close();
+    assertEquals(1, m_opened.get());
+    assertEquals(1, m_pool.getIdleCount());
+    try {
+      first.createStatement();
+      fail("closed connection used");
+    } catch (final SQLException expected) {
+      // expected
+    }
+  }
+
+  public void testStatementReused() throws Exception {
+    final String sql = "select word from words where word = ?";
+    final Connection first = m_pool.getConnection();
+    final PreparedStatement firstStatement = first.prepareStatement(sql);
+    firstStatement.setString(1, "foo");
+    final ResultSet rs = firstStatement.executeQuery();
+    assertTrue(rs.next());
+    rs.close();
+    firstStatement.close();
+    // the same sql on the same connection gets the same statement
+    final PreparedStatement again = first.prepareStatement(sql);
+    again.setString(1, "bar");
+    assertFalse(again.executeQuery().next());
+    // the first handle was closed, it can not use the statement again
+    assertTrue(firstStatement.isClosed());
+    try {
+      firstStatement.executeQuery();
+      fail("closed statement used");
+    } catch (final SQLException expected) {
+      // expected
+    }
+    // while one is in use, preparing the sql again gives a new statement
+    final PreparedStatement other = first.prepareStatement(sql);
+    other.setString(1, "foo");
+    assertTrue(other.executeQuery().next());
+    // returning the connection frees the statements left open
+    first.close();
+    final Connection second = m_pool.getConnection();
+    second.prepareStatement(sql).close();
+    second.close();
+    assertTrue(m_pool.getStatistics(), m_pool.getStatistics().contains("statements prepared: 2, reused: 2"));
+  }
+
+  public void testBounded() throws Exception {
+    final Connection first = m_pool.getConnection();
+    final Connection second = m_pool.getConnection();
+    // the pool is empty, so after waiting we get a connection outside the pool
+    final Connection third = m_pool.getConnection();
+    assertEquals(3, m_opened.get());
+    third.close();
+    assertTrue(third.isClosed());
+    assertEquals(0, m_pool.getIdleCount());
+    first.close();
+    second.close();
+    assertEquals(2, m_pool.getIdleCount());
+    assertTrue(m_pool.getStatistics().contains("opened outside pool: 1"));
+  }
+
+  public void testUncommittedWorkRolledBack() throws Exception {
+    final Connection first = m_pool.getConnection();
+    first.setAutoCommit(false);
+    final Statement s = first.createStatement();
+    s.execute("insert into words values ('bar')");
+    first.close();
+    final Connection second = m_pool.getConnection();
+    assertTrue(second.getAutoCommit());
+    final ResultSet rs = second.createStatement().executeQuery("select count(*) from words");
+    rs.next();
+    assertEquals(1, rs.getInt(1));
+    second.close();
+  }
+}
@@ -0,0 +1,54 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Date;
+
+import games.strategy.util.Util;
+import junit.framework.TestCase;
+
+public class ModerationCacheTest extends TestCase {
+  public void testBadWords() {
+    final String word = "bad" + Util.createUniqueTimeStamp();
+    assertFalse(ModerationCache.getInstance().containsBadWord("x" + word + "x"));
+    new BadWordController().addBadWord(word);
+    assertTrue(ModerationCache.getInstance().containsBadWord("x" + word.toUpperCase() + "x"));
+    new BadWordController().removeBannedWord(word);
+    assertFalse(ModerationCache.getInstance().containsBadWord("x" + word + "x"));
+  }
+
+  public void testMutes() {
+    final String mac = Util.createUniqueTimeStamp();
+    assertFalse(ModerationCache.getInstance().isMacMuted(mac));
+    new MutedMacController().addMutedMac(mac, new Date(System.currentTimeMillis() + 60 * 1000));
+    assertTrue(ModerationCache.getInstance().isMacMuted(mac));
+    new MutedMacController().addMutedMac(mac, new Date(System.currentTimeMillis() - 1000));
+    assertFalse(ModerationCache.getInstance().isMacMuted(mac));
+    assertEquals(-1, new MutedMacController().getMacUnmuteTime(mac));
+    // a permanent mute
+    final String username = Util.createUniqueTimeStamp();
+    new MutedUsernameController().addMutedUsername(username);
+    assertTrue(ModerationCache.getInstance().isUsernameMuted(username));
+    assertTrue(new MutedUsernameController().isUsernameMuted(username));
+  }
+
+  public void testLoadSeesChangesMadeOutsideTheControllers() throws Exception {
+    final String ip = Util.createUniqueTimeStamp();
+    final Connection con = Database.getConnection();
+    try {
+      final PreparedStatement ps = con.prepareStatement("insert into banned_ips (ip, ban_till) values (?, ?)");
+      ps.setString(1, ip);
+      ps.setTimestamp(2, null);
+      ps.execute();
+      ps.close();
+      con.commit();
+    } finally {
+      con.close();
+    }
+    ModerationCache.getInstance().load();
+    assertTrue(new BannedIpController().isIpBanned(ip).getFirst());
+    new BannedIpController().removeBannedIp(ip);
+    ModerationCache.getInstance().load();
+    assertFalse(new BannedIpController().isIpBanned(ip).getFirst());
+  }
+}
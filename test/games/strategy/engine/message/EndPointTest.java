@@ -1,7 +1,14 @@
 package games.strategy.engine.message;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import junit.framework.TestCase;
 
@@ -21,4 +28,33 @@ public class EndPointTest extends TestCase {
     assertEquals(results.size(), 1);
     assertEquals(2, (results.iterator().next()).getRVal());
   }
+
+  // EndPoint is declared in UnifiedMessenger.java
+  @SuppressWarnings("auxiliaryclass")
+  public void testSingleThreadedExecuteInOrder() throws Exception {
+    final EndPoint endPoint = new EndPoint("", Comparator.class, true);
+    final ExecutorService executor = Executors.newCachedThreadPool();
+    final List<Long> run = Collections.synchronizedList(new ArrayList<Long>());
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final int count = 200;
+    final CountDownLatch done = new CountDownLatch(count);
+    for (int i = 0; i < count; i++) {
+      endPoint.execute(executor, new EndPoint.Invocation() {
+        @Override
+        public void run(final long number) {
+          maxRunning.set(Math.max(maxRunning.get(), running.incrementAndGet()));
+          run.add(number);
+          running.decrementAndGet();
+          done.countDown();
+        }
+      });
+    }
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    executor.shutdown();
+    assertEquals(1, maxRunning.get());
+    for (int i = 0; i < count; i++) {
+      assertEquals(Long.valueOf(i), run.get(i));
+    }
+  }
 }
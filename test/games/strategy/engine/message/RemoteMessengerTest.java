@@ -1,5 +1,11 @@
 package games.strategy.engine.message;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -133,6 +139,68 @@ public class RemoteMessengerTest extends TestCase {
     }
   }
 
+  public void testAsyncMethodCall() throws Exception {
+    final TestRemote testRemote = new TestRemote();
+    final RemoteName test = new RemoteName(ITestRemote.class, "test");
+    m_remoteMessenger.registerRemote(testRemote, test);
+    final ITestRemote remote = (ITestRemote) m_remoteMessenger.getRemoteAsync(test);
+    assertEquals(0, remote.increment(1));
+    final Future<Integer> rVal = RemoteFuture.of(remote.increment(1));
+    // local calls are already done
+    assertTrue(rVal.isDone());
+    assertEquals(Integer.valueOf(2), rVal.get());
+    remote.throwException();
+    try {
+      RemoteFuture.last().get();
+      fail("No exception thrown");
+    } catch (final ExecutionException e) {
+      assertEquals(TestRemote.EXCEPTION_STRING, e.getCause().getMessage());
+    }
+  }
+
+  public void testAsyncRemoteCall() throws Exception {
+    final RemoteName test = new RemoteName(ITestRemote.class, "test");
+    ServerMessenger server = null;
+    ClientMessenger client = null;
+    try {
+      server = new ServerMessenger("server", SERVER_PORT);
+      server.setAcceptNewConnections(true);
+      final String mac = MacFinder.GetHashedMacAddress();
+      client = new ClientMessenger("localhost", SERVER_PORT, "client", mac);
+      final UnifiedMessenger serverUM = new UnifiedMessenger(server);
+      m_hub = serverUM.getHub();
+      final RemoteMessenger serverRM = new RemoteMessenger(serverUM);
+      final RemoteMessenger clientRM = new RemoteMessenger(new UnifiedMessenger(client));
+      serverRM.registerRemote(new TestRemote(), test);
+      int waitCount = 0;
+      while (!m_hub.hasImplementors(test.getName()) && waitCount < 20) {
+        waitCount++;
+        Thread.sleep(50);
+      }
+      final ITestRemote remote = (ITestRemote) clientRM.getRemoteAsync(test);
+      // send them all before waiting for any
+      final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+      for (int i = 0; i < 10; i++) {
+        results.add(RemoteFuture.of(remote.increment(i)));
+      }
+      for (int i = 0; i < 10; i++) {
+        assertEquals(Integer.valueOf(i + 1), results.get(i).get(10, TimeUnit.SECONDS));
+      }
+      final Future<Integer> cancelled = RemoteFuture.of(remote.increment(1));
+      if (cancelled.cancel(true)) {
+        assertTrue(cancelled.isCancelled());
+        try {
+          cancelled.get();
+          fail("No exception thrown");
+        } catch (final CancellationException e) {
+          // this is what we expect
+        }
+      }
+    } finally {
+      shutdownServerAndClient(server, client);
+    }
+  }
+
   private static void shutdownServerAndClient(ServerMessenger server, ClientMessenger client) {
     if (server != null) {
       server.shutDown();
@@ -0,0 +1,66 @@
+package games.strategy.engine.random;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class SplittableRandomSourceTest extends TestCase {
+  public void testSameSeedSameNumbers() {
+    final int[] first = new SplittableRandomSource(42).getRandom(6, 100, "test");
+    final int[] second = new SplittableRandomSource(42).getRandom(6, 100, "test");
+    assertTrue(Arrays.equals(first, second));
+  }
+
+  public void testSplitsAreRepeatableAndIndependent() {
+    final SplittableRandomSource master = new SplittableRandomSource(42);
+    final int[] first = master.split().getRandom(1000, 50, "test");
+    final int[] second = master.split().getRandom(1000, 50, "test");
+    assertFalse(Arrays.equals(first, second));
+    final SplittableRandomSource again = new SplittableRandomSource(42);
+    assertTrue(Arrays.equals(first, again.split().getRandom(1000, 50, "test")));
+    assertTrue(Arrays.equals(second, again.split().getRandom(1000, 50, "test")));
+  }
+
+  public void testInRange() {
+    final int[] counts = new int[6];
+    for (final int number : new SplittableRandomSource().getRandom(6, 6000, "test")) {
+      counts[number]++;
+    }
+    for (final int count : counts) {
+      assertTrue(count > 0);
+    }
+  }
+
+  public void testFillsArray() {
+    final int[] numbers = new int[20];
+    Arrays.fill(numbers, -1);
+    final SplittableRandomSource source = new SplittableRandomSource(7);
+    assertSame(numbers, source.getRandom(3, numbers, "test"));
+    for (final int number : numbers) {
+      assertTrue(number >= 0 && number < 3);
+    }
+  }
+
+  public void testSeedProperty() {
+    final int[] seeded = SplittableRandomSource.createMaster("42").getRandom(1000, 50, "test");
+    assertTrue(Arrays.equals(new SplittableRandomSource(42).getRandom(1000, 50, "test"), seeded));
+    // not a number, falls back to a random seed
+    assertEquals(50, SplittableRandomSource.createMaster("forty two").getRandom(1000, 50, "test").length);
+  }
+
+  public void testBadArguments() {
+    final SplittableRandomSource source = new SplittableRandomSource();
+    try {
+      source.getRandom(0, "test");
+      fail("max of 0 allowed");
+    } catch (final IllegalArgumentException expected) {
+      // expected
+    }
+    try {
+      source.getRandom(6, 0, "test");
+      fail("count of 0 allowed");
+    } catch (final IllegalArgumentException expected) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package games.strategy.net;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import games.strategy.test.TestUtil;
+import junit.framework.TestCase;
+
+/**
+ * A server messenger reading and decoding with many threads.
+ */
+public class ServerMessengerThreadsTest extends TestCase {
+  private ServerMessenger m_server;
+  private final List<IMessenger> m_clients = Collections.synchronizedList(new ArrayList<IMessenger>());
+  private final Map<INode, List<Integer>> m_received = new ConcurrentHashMap<INode, List<Integer>>();
+  private final AtomicInteger m_receivedCount = new AtomicInteger();
+
+  @Override
+  public void setUp() throws Exception {
+    m_server = startServer(TestUtil.getUniquePort(), 4, 4);
+  }
+
+  @Override
+  public void tearDown() {
+    for (final IMessenger client : m_clients) {
+      client.shutDown();
+    }
+    m_server.shutDown();
+  }
+
+  private ServerMessenger startServer(final int port, final int selectorThreads, final int decoderThreads)
+      throws Exception {
+    final ServerMessenger server =
+        new ServerMessenger("Server", port, new DefaultObjectStreamFactory(), selectorThreads, decoderThreads, 256);
+    server.addMessageListener(new IMessageListener() {
+      @Override
+      public void messageReceived(final Serializable msg, final INode from) {
+        List<Integer> received = m_received.get(from);
+        if (received == null) {
+          m_received.put(from, received = Collections.synchronizedList(new ArrayList<Integer>()));
+        }
+        received.add((Integer) msg);
+        m_receivedCount.incrementAndGet();
+      }
+    });
+    server.setAcceptNewConnections(true);
+    return server;
+  }
+
+  /**
+   * Connects clients from many threads at once, all asking for the same name.
+   */
+  private long connect(final int clients, final String name) throws Exception {
+    final String mac = MacFinder.GetHashedMacAddress();
+    final CountDownLatch done = new CountDownLatch(clients);
+    final List<Exception> errors = Collections.synchronizedList(new ArrayList<Exception>());
+    final int port = m_server.getLocalNode().getPort();
+    final long start = System.nanoTime();
+    for (int i = 0; i < clients; i++) {
+      new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            m_clients.add(new ClientMessenger("localhost", port, name, mac));
+          } catch (final Exception e) {
+            errors.add(e);
+          } finally {
+            done.countDown();
+          }
+        }
+      }).start();
+    }
+    assertTrue(done.await(60, TimeUnit.SECONDS));
+    if (!errors.isEmpty()) {
+      throw errors.get(0);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private void sendFromEachClient(final int messages) {
+    for (int i = 0; i < messages; i++) {
+      for (final IMessenger client : m_clients) {
+        client.send(i, m_server.getLocalNode());
+      }
+    }
+  }
+
+  private void waitForMessages(final int count) throws InterruptedException {
+    final long end = System.currentTimeMillis() + 60 * 1000;
+    while (m_receivedCount.get() < count && System.currentTimeMillis() < end) {
+      Thread.sleep(5);
+    }
+    assertEquals(count, m_receivedCount.get());
+  }
+
+  public void testLoginsAtTheSameTimeGetUniqueNames() throws Exception {
+    connect(20, "client");
+    final Set<String> names = new HashSet<String>();
+    for (final IMessenger client : m_clients) {
+      assertTrue(names.add(client.getLocalNode().getName()));
+    }
+    assertEquals(21, m_server.getNodes().size());
+  }
+
+  public void testMessagesFromAClientStayInOrder() throws Exception {
+    connect(10, "client");
+    sendFromEachClient(200);
+    waitForMessages(10 * 200);
+    assertEquals(10, m_received.size());
+    for (final List<Integer> received : m_received.values()) {
+      for (int i = 0; i < 200; i++) {
+        assertEquals(i, received.get(i).intValue());
+      }
+    }
+  }
+
+  /**
+   * A load generator, connects many clients over the loopback interface, and sends messages from all of them.
+   * Arguments are the number of clients, the messages each sends, and the selector and decoder threads for the server.
+   */
+  public static void main(final String[] args) throws Exception {
+    final int clients = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    final int messages = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    final int processors = Runtime.getRuntime().availableProcessors();
+    final int selectorThreads = args.length > 2 ? Integer.parseInt(args[2]) : processors;
+    final int decoderThreads = args.length > 3 ? Integer.parseInt(args[3]) : processors;
+    final ServerMessengerThreadsTest test = new ServerMessengerThreadsTest();
+    test.m_server = test.startServer(TestUtil.getUniquePort(), selectorThreads, decoderThreads);
+    try {
+      final long connectTime = test.connect(clients, "load");
+      System.out.println(String.format("%d clients, %d selector threads, %d decoder threads", clients,
+          selectorThreads, decoderThreads));
+      System.out.println(String.format("logins: %.0f ms, %.1f per second", connectTime / 1000000.0,
+          clients / (connectTime / 1000000000.0)));
+      final long start = System.nanoTime();
+      test.sendFromEachClient(messages);
+      test.waitForMessages(clients * messages);
+      final long messageTime = System.nanoTime() - start;
+      System.out.println(String.format("messages: %d in %.0f ms, %.0f per second", clients * messages,
+          messageTime / 1000000.0, clients * messages / (messageTime / 1000000000.0)));
+    } finally {
+      test.tearDown();
+    }
+  }
+}
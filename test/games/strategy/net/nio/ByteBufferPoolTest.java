@@ -0,0 +1,58 @@
+package games.strategy.net.nio;
+
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+
+public class ByteBufferPoolTest extends TestCase {
+  public void testSizes() {
+    final ByteBufferPool pool = new ByteBufferPool();
+    final ByteBuffer four = pool.acquire(4);
+    assertEquals(4, four.capacity());
+    assertEquals(4, four.limit());
+    final ByteBuffer hundred = pool.acquire(100);
+    assertEquals(128, hundred.capacity());
+    assertEquals(100, hundred.limit());
+    assertTrue(hundred.isDirect());
+    assertEquals(ByteBufferPool.MAX_SIZE, pool.acquire(ByteBufferPool.MAX_SIZE).capacity());
+    // too large to pool
+    final ByteBuffer large = pool.acquire(ByteBufferPool.MAX_SIZE + 1);
+    assertFalse(large.isDirect());
+    pool.release(large);
+  }
+
+  public void testReuse() {
+    final ByteBufferPool pool = new ByteBufferPool();
+    final ByteBuffer buffer = pool.acquire(100);
+    buffer.put((byte) 1);
+    pool.release(buffer);
+    assertEquals(1, pool.getPooledCount(100));
+    final ByteBuffer again = pool.acquire(70);
+    assertSame(buffer, again);
+    assertEquals(0, again.position());
+    assertEquals(70, again.limit());
+    assertEquals(0, pool.getPooledCount(100));
+  }
+
+  public void testMaxPooled() {
+    final ByteBufferPool pool = new ByteBufferPool();
+    for (int i = 0; i < ByteBufferPool.MAX_PER_SIZE + 5; i++) {
+      pool.release(ByteBuffer.allocateDirect(16));
+    }
+    assertEquals(ByteBufferPool.MAX_PER_SIZE, pool.getPooledCount(16));
+  }
+
+  public void testInputStream() throws Exception {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+    buffer.put(new byte[] {1, 2, (byte) 200});
+    buffer.flip();
+    final ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+    assertEquals(3, in.available());
+    assertEquals(1, in.read());
+    final byte[] read = new byte[5];
+    assertEquals(2, in.read(read, 0, 5));
+    assertEquals(2, read[0]);
+    assertEquals(200, read[1] & 0xFF);
+    assertEquals(-1, in.read());
+  }
+}
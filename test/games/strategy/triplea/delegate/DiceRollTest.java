@@ -112,6 +112,27 @@ public class DiceRollTest extends TestCase {
     assertEquals(2, roll.getHits());
   }
 
+  public void testArtillerySupportWithKeptPowerTable() {
+    final Territory westRussia = m_data.getMap().getTerritory("West Russia");
+    final MockBattle battle = new MockBattle(westRussia);
+    battle.setPowerTable(new BattlePowerTable(m_data, TerritoryEffectHelper.getEffects(westRussia)));
+    final PlayerID russians = m_data.getPlayerList().getPlayerID("Russians");
+    final ITestDelegateBridge bridge = getDelegateBridge(russians);
+    final UnitType infantryType = m_data.getUnitTypeList().getUnitType("infantry");
+    final List<Unit> units = infantryType.create(1, russians);
+    final UnitType artillery = m_data.getUnitTypeList().getUnitType("artillery");
+    units.addAll(artillery.create(1, russians));
+    bridge.setRandomSource(new ScriptedRandomSource(new int[] {1, 1}));
+    final DiceRoll roll = DiceRoll.rollDice(units, false, russians, bridge, battle, "",
+        TerritoryEffectHelper.getEffects(westRussia), null);
+    assertEquals(2, roll.getHits());
+    // the artillery is gone, so the table kept by the battle must not support the infantry any more
+    bridge.setRandomSource(new ScriptedRandomSource(new int[] {1}));
+    final DiceRoll infantryRoll = DiceRoll.rollDice(infantryType.create(1, russians), false, russians, bridge, battle,
+        "", TerritoryEffectHelper.getEffects(westRussia), null);
+    assertEquals(0, infantryRoll.getHits());
+  }
+
   public void testVariableArtillerySupport() {
     final Territory westRussia = m_data.getMap().getTerritory("West Russia");
     final MockBattle battle = new MockBattle(westRussia);
@@ -163,6 +184,15 @@ public class DiceRollTest extends TestCase {
     }
   }
 
+  public void testSharedDice() {
+    final Die die = Die.getDie(2, 3, DieType.HIT);
+    assertSame(die, Die.getDie(2, 3, DieType.HIT));
+    assertEquals(new Die(2, 3, DieType.HIT), die);
+    assertEquals(new Die(2, -1, DieType.MISS), Die.getDie(2, -1, DieType.MISS));
+    assertEquals(new Die(200, 3, DieType.IGNORED), Die.getDie(200, 3, DieType.IGNORED));
+    assertEquals(DieType.MISS, Die.getDie(2, 3, DieType.MISS).getType());
+  }
+
   private void makeGameLowLuck() {
     for (final IEditableProperty property : m_data.getProperties().getEditableProperties()) {
       if (property.getName().equals(Constants.LOW_LUCK)) {
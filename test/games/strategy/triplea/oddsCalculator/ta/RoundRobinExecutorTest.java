@@ -0,0 +1,61 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import junit.framework.TestCase;
+
+public class RoundRobinExecutorTest extends TestCase {
+  private final List<String> m_ran = Collections.synchronizedList(new ArrayList<String>());
+
+  private Callable<String> createTask(final String name) {
+    return new Callable<String>() {
+      @Override
+      public String call() {
+        m_ran.add(name);
+        return name;
+      }
+    };
+  }
+
+  /**
+   * A queue with many tasks waiting does not keep a queue submitted to later from running.
+   */
+  public void testQueuesTakeTurns() throws Exception {
+    final RoundRobinExecutor executor = new RoundRobinExecutor(1, new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r, "Round robin test");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    final CountDownLatch blocked = new CountDownLatch(1);
+    // keep the thread busy until both queues have their tasks
+    executor.submit(executor.createQueue(), new Callable<Object>() {
+      @Override
+      public Object call() throws InterruptedException {
+        blocked.await();
+        return null;
+      }
+    });
+    final Queue<Runnable> first = executor.createQueue();
+    final Queue<Runnable> second = executor.createQueue();
+    for (int i = 0; i < 3; i++) {
+      executor.submit(first, createTask("a" + i));
+    }
+    Future<String> last = null;
+    for (int i = 0; i < 3; i++) {
+      last = executor.submit(second, createTask("b" + i));
+    }
+    blocked.countDown();
+    assertEquals("b2", last.get());
+    assertEquals("[a0, b0, a1, b1, a2, b2]", m_ran.toString());
+  }
+}
@@ -0,0 +1,77 @@
+package games.strategy.triplea.simulation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
+import games.strategy.engine.random.SplittableRandomSource;
+import games.strategy.triplea.TripleA;
+import games.strategy.triplea.ui.AbstractUIContext;
+import junit.framework.TestCase;
+
+public class AISimulationRunnerTest extends TestCase {
+  private final File m_gameFile = new File("maps/minimap/games/minimap.xml");
+  private final Map<String, String> m_playerTypes = new LinkedHashMap<String, String>();
+
+  @Override
+  public void setUp() {
+    m_playerTypes.put("Russians", TripleA.PRO_COMPUTER_PLAYER_TYPE);
+    m_playerTypes.put("Italians", TripleA.PRO_COMPUTER_PLAYER_TYPE);
+    System.setProperty(SplittableRandomSource.SEED_PROPERTY, "42");
+    System.setProperty(HeadlessGameServer.TRIPLEA_HEADLESS, "true");
+    System.setProperty(AbstractUIContext.AI_PAUSE_DURATION_PROPERTY, "0");
+  }
+
+  @Override
+  public void tearDown() {
+    System.clearProperty(SplittableRandomSource.SEED_PROPERTY);
+    System.clearProperty(HeadlessGameServer.TRIPLEA_HEADLESS);
+    System.clearProperty(AbstractUIContext.AI_PAUSE_DURATION_PROPERTY);
+  }
+
+  public void testResultsAggregated() throws Exception {
+    final AISimulationRunner runner = new AISimulationRunner(m_gameFile, 2, 1, 1, m_playerTypes);
+    final List<AISimulationResult> results = runner.run();
+    assertEquals(2, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      final AISimulationResult result = results.get(i);
+      assertEquals(i + 1, result.getGameNumber());
+      assertNull(result.getError());
+      assertEquals(1, result.getRounds());
+      assertTrue(result.getWinners().isEmpty());
+      assertEquals(m_playerTypes.keySet(), result.getTUVByRound().get(1).keySet());
+    }
+    final String summary = runner.getSummary(results);
+    assertTrue(summary, summary.startsWith("Played 2 games of minimap.xml on 1 threads"));
+    assertTrue(summary, summary.contains("average rounds 1.0, failed 0"));
+    assertTrue(summary, summary.contains("Wins none: 2"));
+    final StringWriter csv = new StringWriter();
+    runner.writeCsv(results, new PrintWriter(csv));
+    final String[] rows = csv.toString().split("\\r?\\n");
+    assertEquals(3, rows.length);
+    assertEquals("game,winners,rounds,timeMillis,error,Russians TUV,Italians TUV", rows[0]);
+    assertTrue(rows[1], rows[1].startsWith("1,,1,"));
+  }
+
+  public void testFailedGameCounted() throws Exception {
+    final File gameFile = File.createTempFile("game", ".xml");
+    try {
+      try (FileOutputStream out = new FileOutputStream(gameFile)) {
+        out.write("<game/>".getBytes());
+      }
+      final AISimulationRunner runner = new AISimulationRunner(gameFile, 1, 1, 1, m_playerTypes);
+      final List<AISimulationResult> results = runner.run();
+      assertNotNull(results.get(0).getError());
+      final String summary = runner.getSummary(results);
+      assertTrue(summary, summary.contains("failed 1"));
+      assertTrue(summary, summary.contains("Failed game 1: "));
+    } finally {
+      gameFile.delete();
+    }
+  }
+}
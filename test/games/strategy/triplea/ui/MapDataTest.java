@@ -0,0 +1,34 @@
+package games.strategy.triplea.ui;
+
+import java.awt.Polygon;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.util.PointFileReaderWriter;
+import junit.framework.TestCase;
+
+public class MapDataTest extends TestCase {
+  /**
+   * Skipping the land territories outside the bounds of a sea zone finds the same territories as testing them all.
+   */
+  public void testContainsPrunedByBounds() throws Exception {
+    int seaZonesWithLand = 0;
+    for (final File map : new File("maps").listFiles()) {
+      final File polygonFile = new File(map, MapData.POLYGON_FILE);
+      if (!polygonFile.exists()) {
+        continue;
+      }
+      final Map<String, List<Polygon>> polygons;
+      try (InputStream in = new FileInputStream(polygonFile)) {
+        polygons = PointFileReaderWriter.readOneToManyPolygons(in);
+      }
+      final Map<String, List<String>> contains = MapData.getContains(polygons, true);
+      assertEquals(map.getName(), MapData.getContains(polygons, false), contains);
+      seaZonesWithLand += contains.size();
+    }
+    assertTrue(seaZonesWithLand > 0);
+  }
+}
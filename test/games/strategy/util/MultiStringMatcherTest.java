@@ -0,0 +1,35 @@
+package games.strategy.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+public class MultiStringMatcherTest extends TestCase {
+  public void testContainsAny() {
+    final MultiStringMatcher matcher = new MultiStringMatcher(Arrays.asList("he", "she", "his", "hers"));
+    assertTrue(matcher.containsAny("ushers"));
+    assertTrue(matcher.containsAny("this"));
+    assertTrue(matcher.containsAny("he"));
+    assertFalse(matcher.containsAny("hi s"));
+    assertFalse(matcher.containsAny("h"));
+    assertFalse(matcher.containsAny(""));
+    // matching is case sensitive
+    assertFalse(matcher.containsAny("HE"));
+  }
+
+  public void testFallBack() {
+    // reading "abcd" fails after "abc", and must fall back to "bc" to find "bcd"
+    final MultiStringMatcher matcher = new MultiStringMatcher(Arrays.asList("abce", "bcd"));
+    assertTrue(matcher.containsAny("xabcd"));
+    assertFalse(matcher.containsAny("abcx"));
+    // a string inside another one is found, even when the longer one is not
+    final MultiStringMatcher inside = new MultiStringMatcher(Arrays.asList("abcdef", "cd"));
+    assertTrue(inside.containsAny("abcdx"));
+  }
+
+  public void testEmpty() {
+    assertFalse(new MultiStringMatcher(Collections.<String>emptyList()).containsAny("anything"));
+    assertTrue(new MultiStringMatcher(Arrays.asList("")).containsAny("anything"));
+  }
+}